@@ -0,0 +1,281 @@
+/*
+ * Copyright 2002-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.batch.extensions.bigquery.reader.readapi;
+
+import com.google.api.gax.rpc.ServerStream;
+import com.google.cloud.bigquery.storage.v1.BigQueryReadClient;
+import com.google.cloud.bigquery.storage.v1.ReadRowsRequest;
+import com.google.cloud.bigquery.storage.v1.ReadRowsResponse;
+import com.google.cloud.bigquery.storage.v1.ReadSession;
+import com.google.cloud.bigquery.storage.v1.ReadStream;
+import com.google.cloud.bigquery.storage.v1.TableName;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericDatumReader;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.avro.io.BinaryDecoder;
+import org.apache.avro.io.DecoderFactory;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.batch.infrastructure.item.ExecutionContext;
+import org.springframework.batch.infrastructure.item.ItemStreamException;
+import org.springframework.batch.infrastructure.item.ItemStreamReader;
+import org.springframework.batch.infrastructure.item.ReaderNotOpenException;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * BigQuery {@link ItemStreamReader} based on the Storage Read API.
+ * <p>
+ * Rows are streamed in the Avro format from the streams of a read session, instead of
+ * being paged through {@code tabledata.list}. When the step execution context contains
+ * streams assigned by {@link BigQueryReadSessionPartitioner}, only those are read.
+ * Otherwise a session is created on {@link #open(ExecutionContext)}, with a single stream
+ * by default, and all its streams are read one after another.
+ * <p>
+ * The current stream and the number of rows read from it are saved in the execution
+ * context, and a restarted step resumes from that offset. A read session expires after
+ * six hours, so does the possibility to restart.
+ * <p>
+ * Requires {@code org.apache.avro:avro} on the classpath.
+ *
+ * @param <T> your DTO type
+ * @author Volodymyr Perebykivskyi
+ * @since 0.2.0
+ * @see <a href="https://cloud.google.com/bigquery/docs/reference/storage">BigQuery
+ * Storage Read API</a>
+ */
+public class BigQueryReadApiItemReader<T> implements ItemStreamReader<T>, InitializingBean {
+
+	/**
+	 * Key of the index of the stream being read in the execution context.
+	 */
+	public static final String STREAM_INDEX_KEY = "bigquery.read.streamIndex";
+
+	/**
+	 * Key of the number of rows read from the current stream in the execution context.
+	 */
+	public static final String OFFSET_KEY = "bigquery.read.offset";
+
+	private final Log logger = LogFactory.getLog(getClass());
+
+	private BigQueryReadClient bigQueryReadClient;
+
+	private Converter<GenericRecord, T> rowMapper;
+
+	private TableName tableName;
+
+	private List<String> selectedFields;
+
+	private String rowRestriction;
+
+	private int maxStreamCount = 1;
+
+	private List<String> streams;
+
+	private String avroSchema;
+
+	private GenericDatumReader<GenericRecord> datumReader;
+
+	private int streamIndex;
+
+	private long offset;
+
+	private ServerStream<ReadRowsResponse> serverStream;
+
+	private Iterator<ReadRowsResponse> responses;
+
+	private BinaryDecoder decoder;
+
+	private long remainingRows;
+
+	/**
+	 * Default constructor
+	 */
+	public BigQueryReadApiItemReader() {
+	}
+
+	@Override
+	public void open(final ExecutionContext executionContext) throws ItemStreamException {
+		if (executionContext.containsKey(BigQueryReadSessionPartitioner.READ_STREAMS_KEY)) {
+			final String readStreams = executionContext.getString(BigQueryReadSessionPartitioner.READ_STREAMS_KEY);
+			streams = List.of(StringUtils.commaDelimitedListToStringArray(readStreams));
+			avroSchema = executionContext.getString(BigQueryReadSessionPartitioner.AVRO_SCHEMA_KEY);
+		}
+		else {
+			if (tableName == null) {
+				throw new ItemStreamException("Table name must be provided when no read streams are assigned");
+			}
+			try {
+				final ReadSession session = bigQueryReadClient
+					.createReadSession(ReadSessions.request(tableName, selectedFields, rowRestriction, maxStreamCount));
+				streams = session.getStreamsList().stream().map(ReadStream::getName).toList();
+				avroSchema = session.getAvroSchema().getSchema();
+
+				if (logger.isDebugEnabled()) {
+					logger.debug("Created a session=%s with %d streams".formatted(session.getName(), streams.size()));
+				}
+			}
+			catch (Exception e) {
+				logger.error("BigQuery error", e);
+				throw new ItemStreamException("Error on stream open happened", e);
+			}
+		}
+
+		if (!streams.isEmpty()) {
+			datumReader = new GenericDatumReader<>(new Schema.Parser().parse(avroSchema));
+		}
+		streamIndex = executionContext.getInt(STREAM_INDEX_KEY, 0);
+		offset = executionContext.getLong(OFFSET_KEY, 0L);
+	}
+
+	@Override
+	public T read() throws IOException {
+		if (streams == null) {
+			throw new ReaderNotOpenException("Reader must be open before it can be read");
+		}
+
+		while (true) {
+			if (remainingRows > 0) {
+				final GenericRecord row = datumReader.read(null, decoder);
+				remainingRows--;
+				offset++;
+				return rowMapper.convert(row);
+			}
+			if (responses != null && responses.hasNext()) {
+				final ReadRowsResponse response = responses.next();
+				decoder = DecoderFactory.get()
+					.binaryDecoder(response.getAvroRows().getSerializedBinaryRows().toByteArray(), decoder);
+				remainingRows = response.getRowCount();
+			}
+			else if (responses != null) {
+				// current stream is exhausted
+				responses = null;
+				serverStream = null;
+				streamIndex++;
+				offset = 0;
+			}
+			else if (streamIndex < streams.size()) {
+				openStream();
+			}
+			else {
+				return null;
+			}
+		}
+	}
+
+	private void openStream() {
+		final String stream = streams.get(streamIndex);
+		if (logger.isDebugEnabled()) {
+			logger.debug("Reading stream=%s from offset=%d".formatted(stream, offset));
+		}
+		serverStream = bigQueryReadClient.readRowsCallable()
+			.call(ReadRowsRequest.newBuilder().setReadStream(stream).setOffset(offset).build());
+		responses = serverStream.iterator();
+	}
+
+	@Override
+	public void update(final ExecutionContext executionContext) throws ItemStreamException {
+		if (streams == null) {
+			return;
+		}
+		// a restarted step reads the same session
+		executionContext.putString(BigQueryReadSessionPartitioner.READ_STREAMS_KEY,
+				StringUtils.collectionToCommaDelimitedString(streams));
+		executionContext.putString(BigQueryReadSessionPartitioner.AVRO_SCHEMA_KEY, avroSchema);
+		executionContext.putInt(STREAM_INDEX_KEY, streamIndex);
+		executionContext.putLong(OFFSET_KEY, offset);
+	}
+
+	@Override
+	public void close() throws ItemStreamException {
+		if (serverStream != null) {
+			serverStream.cancel();
+		}
+		serverStream = null;
+		responses = null;
+		decoder = null;
+		remainingRows = 0;
+		datumReader = null;
+		streams = null;
+	}
+
+	@Override
+	public void afterPropertiesSet() {
+		Assert.notNull(this.bigQueryReadClient, "BigQuery read client must be provided");
+		Assert.notNull(this.rowMapper, "Row mapper must be provided");
+		Assert.isTrue(this.maxStreamCount > 0, "Max stream count must be positive");
+	}
+
+	/**
+	 * GRPC client that wraps communication with BigQuery.
+	 * @param bigQueryReadClient a client
+	 */
+	public void setBigQueryReadClient(final BigQueryReadClient bigQueryReadClient) {
+		this.bigQueryReadClient = bigQueryReadClient;
+	}
+
+	/**
+	 * Row mapper which transforms single Avro row into a desired type.
+	 * @param rowMapper your row mapper
+	 */
+	public void setRowMapper(final Converter<GenericRecord, T> rowMapper) {
+		this.rowMapper = rowMapper;
+	}
+
+	/**
+	 * A full path to the BigQuery table. Only needed when the streams are not assigned by
+	 * {@link BigQueryReadSessionPartitioner}.
+	 * @param tableName a name
+	 */
+	public void setTableName(final TableName tableName) {
+		this.tableName = tableName;
+	}
+
+	/**
+	 * Names of the columns to read, all columns are read when not set.
+	 * @param selectedFields column names
+	 * @see BigQueryReadSessionPartitioner#setSelectedFields(List)
+	 */
+	public void setSelectedFields(final List<String> selectedFields) {
+		this.selectedFields = selectedFields;
+	}
+
+	/**
+	 * SQL filter applied by BigQuery, for example {@code age > 18}.
+	 * @param rowRestriction a filter
+	 * @see BigQueryReadSessionPartitioner#setRowRestriction(String)
+	 */
+	public void setRowRestriction(final String rowRestriction) {
+		this.rowRestriction = rowRestriction;
+	}
+
+	/**
+	 * Maximum number of streams requested for a session created by this reader. The
+	 * streams are read one after another. Defaults to 1.
+	 * @param maxStreamCount a number of streams
+	 */
+	public void setMaxStreamCount(final int maxStreamCount) {
+		this.maxStreamCount = maxStreamCount;
+	}
+
+}
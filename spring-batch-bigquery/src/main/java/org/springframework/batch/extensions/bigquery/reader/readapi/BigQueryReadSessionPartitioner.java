@@ -0,0 +1,166 @@
+/*
+ * Copyright 2002-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.batch.extensions.bigquery.reader.readapi;
+
+import com.google.cloud.bigquery.storage.v1.BigQueryReadClient;
+import com.google.cloud.bigquery.storage.v1.ReadSession;
+import com.google.cloud.bigquery.storage.v1.ReadStream;
+import com.google.cloud.bigquery.storage.v1.TableName;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.batch.core.partition.Partitioner;
+import org.springframework.batch.infrastructure.item.ExecutionContext;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@link Partitioner} that creates a single BigQuery read session and splits its streams
+ * between partitions.
+ * <p>
+ * The session is requested with as many streams as the grid size, unless
+ * {@link #setMaxStreamCount(int)} is set. BigQuery may return fewer streams than
+ * requested, in which case fewer partitions are created. Streams are assigned to
+ * partitions in a round-robin fashion. Every partition gets the names of its streams and
+ * the Avro schema of the session, which {@link BigQueryReadApiItemReader} picks up from
+ * the step execution context.
+ * <p>
+ * Columns and rows are filtered by BigQuery, see {@link #setSelectedFields(List)} and
+ * {@link #setRowRestriction(String)}.
+ *
+ * @author Volodymyr Perebykivskyi
+ * @since 0.2.0
+ * @see <a href="https://cloud.google.com/bigquery/docs/reference/storage">BigQuery
+ * Storage Read API</a>
+ */
+public class BigQueryReadSessionPartitioner implements Partitioner, InitializingBean {
+
+	/**
+	 * Key of the comma separated stream names in a partition execution context.
+	 */
+	public static final String READ_STREAMS_KEY = "bigquery.read.streams";
+
+	/**
+	 * Key of the Avro schema of the session in a partition execution context.
+	 */
+	public static final String AVRO_SCHEMA_KEY = "bigquery.read.avroSchema";
+
+	private static final String PARTITION_KEY = "partition";
+
+	private final Log logger = LogFactory.getLog(getClass());
+
+	private BigQueryReadClient bigQueryReadClient;
+
+	private TableName tableName;
+
+	private List<String> selectedFields;
+
+	private String rowRestriction;
+
+	private int maxStreamCount;
+
+	/**
+	 * Default constructor
+	 */
+	public BigQueryReadSessionPartitioner() {
+	}
+
+	@Override
+	public Map<String, ExecutionContext> partition(final int gridSize) {
+		final int streamCount = maxStreamCount > 0 ? maxStreamCount : gridSize;
+		final ReadSession session = bigQueryReadClient
+			.createReadSession(ReadSessions.request(tableName, selectedFields, rowRestriction, streamCount));
+
+		if (logger.isDebugEnabled()) {
+			logger
+				.debug("Created a session=%s with %d streams".formatted(session.getName(), session.getStreamsCount()));
+		}
+
+		// an empty table has no streams, one partition still completes the step
+		final int partitionCount = Math.max(1, Math.min(gridSize, session.getStreamsCount()));
+		final List<List<String>> streams = new ArrayList<>(partitionCount);
+		for (int i = 0; i < partitionCount; i++) {
+			streams.add(new ArrayList<>());
+		}
+		final List<ReadStream> readStreams = session.getStreamsList();
+		for (int i = 0; i < readStreams.size(); i++) {
+			streams.get(i % partitionCount).add(readStreams.get(i).getName());
+		}
+
+		final Map<String, ExecutionContext> partitions = new HashMap<>(partitionCount);
+		for (int i = 0; i < partitionCount; i++) {
+			final ExecutionContext context = new ExecutionContext();
+			context.putString(READ_STREAMS_KEY, StringUtils.collectionToCommaDelimitedString(streams.get(i)));
+			context.putString(AVRO_SCHEMA_KEY, session.getAvroSchema().getSchema());
+			partitions.put(PARTITION_KEY + i, context);
+		}
+		return partitions;
+	}
+
+	@Override
+	public void afterPropertiesSet() {
+		Assert.notNull(this.bigQueryReadClient, "BigQuery read client must be provided");
+		Assert.notNull(this.tableName, "Table name must be provided");
+		Assert.isTrue(this.maxStreamCount >= 0, "Max stream count must not be negative");
+	}
+
+	/**
+	 * GRPC client that wraps communication with BigQuery.
+	 * @param bigQueryReadClient a client
+	 */
+	public void setBigQueryReadClient(final BigQueryReadClient bigQueryReadClient) {
+		this.bigQueryReadClient = bigQueryReadClient;
+	}
+
+	/**
+	 * A full path to the BigQuery table.
+	 * @param tableName a name
+	 */
+	public void setTableName(final TableName tableName) {
+		this.tableName = tableName;
+	}
+
+	/**
+	 * Names of the columns to read, all columns are read when not set.
+	 * @param selectedFields column names
+	 */
+	public void setSelectedFields(final List<String> selectedFields) {
+		this.selectedFields = selectedFields;
+	}
+
+	/**
+	 * SQL filter applied by BigQuery, for example {@code age > 18}.
+	 * @param rowRestriction a filter
+	 */
+	public void setRowRestriction(final String rowRestriction) {
+		this.rowRestriction = rowRestriction;
+	}
+
+	/**
+	 * Maximum number of streams requested for the session. Defaults to the grid size.
+	 * @param maxStreamCount a number of streams
+	 */
+	public void setMaxStreamCount(final int maxStreamCount) {
+		this.maxStreamCount = maxStreamCount;
+	}
+
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright 2002-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.batch.extensions.bigquery.reader.readapi;
+
+import com.google.cloud.bigquery.storage.v1.CreateReadSessionRequest;
+import com.google.cloud.bigquery.storage.v1.DataFormat;
+import com.google.cloud.bigquery.storage.v1.ReadSession;
+import com.google.cloud.bigquery.storage.v1.TableName;
+import org.springframework.util.CollectionUtils;
+import org.springframework.util.StringUtils;
+
+import java.util.List;
+
+/**
+ * Builds read session requests shared by the reader and the partitioner.
+ *
+ * @author Volodymyr Perebykivskyi
+ * @since 0.2.0
+ */
+final class ReadSessions {
+
+	private ReadSessions() {
+	}
+
+	static CreateReadSessionRequest request(final TableName tableName, final List<String> selectedFields,
+			final String rowRestriction, final int maxStreamCount) {
+		final ReadSession.TableReadOptions.Builder readOptions = ReadSession.TableReadOptions.newBuilder();
+		if (!CollectionUtils.isEmpty(selectedFields)) {
+			readOptions.addAllSelectedFields(selectedFields);
+		}
+		if (StringUtils.hasText(rowRestriction)) {
+			readOptions.setRowRestriction(rowRestriction);
+		}
+
+		final ReadSession readSession = ReadSession.newBuilder()
+			.setTable(tableName.toString())
+			.setDataFormat(DataFormat.AVRO)
+			.setReadOptions(readOptions)
+			.build();
+
+		return CreateReadSessionRequest.newBuilder()
+			.setParent("projects/" + tableName.getProject())
+			.setReadSession(readSession)
+			.setMaxStreamCount(maxStreamCount)
+			.build();
+	}
+
+}
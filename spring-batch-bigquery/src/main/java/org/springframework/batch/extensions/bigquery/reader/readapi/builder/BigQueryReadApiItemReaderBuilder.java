@@ -0,0 +1,145 @@
+/*
+ * Copyright 2002-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.batch.extensions.bigquery.reader.readapi.builder;
+
+import com.google.cloud.bigquery.storage.v1.BigQueryReadClient;
+import com.google.cloud.bigquery.storage.v1.TableName;
+import org.apache.avro.generic.GenericRecord;
+import org.springframework.batch.extensions.bigquery.reader.readapi.BigQueryReadApiItemReader;
+import org.springframework.core.convert.converter.Converter;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * A builder for {@link BigQueryReadApiItemReader}.
+ *
+ * @param <T> your DTO type
+ * @author Volodymyr Perebykivskyi
+ * @since 0.2.0
+ */
+public class BigQueryReadApiItemReaderBuilder<T> {
+
+	private BigQueryReadClient bigQueryReadClient;
+
+	private Converter<GenericRecord, T> rowMapper;
+
+	private TableName tableName;
+
+	private List<String> selectedFields;
+
+	private String rowRestriction;
+
+	private Integer maxStreamCount;
+
+	/**
+	 * Default constructor
+	 */
+	public BigQueryReadApiItemReaderBuilder() {
+	}
+
+	/**
+	 * GRPC client that will be responsible for communication with BigQuery.
+	 * @param bigQueryReadClient a client
+	 * @return {@link BigQueryReadApiItemReaderBuilder}
+	 * @see BigQueryReadApiItemReader#setBigQueryReadClient(BigQueryReadClient)
+	 */
+	public BigQueryReadApiItemReaderBuilder<T> bigQueryReadClient(final BigQueryReadClient bigQueryReadClient) {
+		this.bigQueryReadClient = bigQueryReadClient;
+		return this;
+	}
+
+	/**
+	 * Row mapper which transforms single Avro row into a desired type.
+	 * @param rowMapper your row mapper
+	 * @return {@link BigQueryReadApiItemReaderBuilder}
+	 * @see BigQueryReadApiItemReader#setRowMapper(Converter)
+	 */
+	public BigQueryReadApiItemReaderBuilder<T> rowMapper(final Converter<GenericRecord, T> rowMapper) {
+		this.rowMapper = rowMapper;
+		return this;
+	}
+
+	/**
+	 * A table name along with a full path.
+	 * @param tableName a name
+	 * @return {@link BigQueryReadApiItemReaderBuilder}
+	 * @see BigQueryReadApiItemReader#setTableName(TableName)
+	 */
+	public BigQueryReadApiItemReaderBuilder<T> tableName(final TableName tableName) {
+		this.tableName = tableName;
+		return this;
+	}
+
+	/**
+	 * Names of the columns to read.
+	 * @param selectedFields column names
+	 * @return {@link BigQueryReadApiItemReaderBuilder}
+	 * @see BigQueryReadApiItemReader#setSelectedFields(List)
+	 */
+	public BigQueryReadApiItemReaderBuilder<T> selectedFields(final List<String> selectedFields) {
+		this.selectedFields = selectedFields;
+		return this;
+	}
+
+	/**
+	 * SQL filter applied by BigQuery.
+	 * @param rowRestriction a filter
+	 * @return {@link BigQueryReadApiItemReaderBuilder}
+	 * @see BigQueryReadApiItemReader#setRowRestriction(String)
+	 */
+	public BigQueryReadApiItemReaderBuilder<T> rowRestriction(final String rowRestriction) {
+		this.rowRestriction = rowRestriction;
+		return this;
+	}
+
+	/**
+	 * Maximum number of streams requested for a session created by the reader.
+	 * @param maxStreamCount a number of streams
+	 * @return {@link BigQueryReadApiItemReaderBuilder}
+	 * @see BigQueryReadApiItemReader#setMaxStreamCount(int)
+	 */
+	public BigQueryReadApiItemReaderBuilder<T> maxStreamCount(final int maxStreamCount) {
+		this.maxStreamCount = maxStreamCount;
+		return this;
+	}
+
+	/**
+	 * Please remember about {@link BigQueryReadApiItemReader#afterPropertiesSet()}.
+	 * @return {@link BigQueryReadApiItemReader}
+	 * @throws IOException in case when {@link BigQueryReadClient} failed to be created
+	 * automatically
+	 */
+	public BigQueryReadApiItemReader<T> build() throws IOException {
+		final BigQueryReadApiItemReader<T> reader = new BigQueryReadApiItemReader<>();
+
+		reader.setBigQueryReadClient(
+				this.bigQueryReadClient == null ? BigQueryReadClient.create() : this.bigQueryReadClient);
+
+		reader.setRowMapper(rowMapper);
+		reader.setTableName(tableName);
+		reader.setSelectedFields(selectedFields);
+		reader.setRowRestriction(rowRestriction);
+
+		if (maxStreamCount != null) {
+			reader.setMaxStreamCount(maxStreamCount);
+		}
+
+		return reader;
+	}
+
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright 2002-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.batch.extensions.bigquery.reader.readapi.builder;
+
+import com.google.cloud.bigquery.storage.v1.BigQueryReadClient;
+import com.google.cloud.bigquery.storage.v1.TableName;
+import org.springframework.batch.extensions.bigquery.reader.readapi.BigQueryReadSessionPartitioner;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * A builder for {@link BigQueryReadSessionPartitioner}.
+ *
+ * @author Volodymyr Perebykivskyi
+ * @since 0.2.0
+ */
+public class BigQueryReadSessionPartitionerBuilder {
+
+	private BigQueryReadClient bigQueryReadClient;
+
+	private TableName tableName;
+
+	private List<String> selectedFields;
+
+	private String rowRestriction;
+
+	private int maxStreamCount;
+
+	/**
+	 * Default constructor
+	 */
+	public BigQueryReadSessionPartitionerBuilder() {
+	}
+
+	/**
+	 * GRPC client that will be responsible for communication with BigQuery.
+	 * @param bigQueryReadClient a client
+	 * @return {@link BigQueryReadSessionPartitionerBuilder}
+	 * @see BigQueryReadSessionPartitioner#setBigQueryReadClient(BigQueryReadClient)
+	 */
+	public BigQueryReadSessionPartitionerBuilder bigQueryReadClient(final BigQueryReadClient bigQueryReadClient) {
+		this.bigQueryReadClient = bigQueryReadClient;
+		return this;
+	}
+
+	/**
+	 * A table name along with a full path.
+	 * @param tableName a name
+	 * @return {@link BigQueryReadSessionPartitionerBuilder}
+	 * @see BigQueryReadSessionPartitioner#setTableName(TableName)
+	 */
+	public BigQueryReadSessionPartitionerBuilder tableName(final TableName tableName) {
+		this.tableName = tableName;
+		return this;
+	}
+
+	/**
+	 * Names of the columns to read.
+	 * @param selectedFields column names
+	 * @return {@link BigQueryReadSessionPartitionerBuilder}
+	 * @see BigQueryReadSessionPartitioner#setSelectedFields(List)
+	 */
+	public BigQueryReadSessionPartitionerBuilder selectedFields(final List<String> selectedFields) {
+		this.selectedFields = selectedFields;
+		return this;
+	}
+
+	/**
+	 * SQL filter applied by BigQuery.
+	 * @param rowRestriction a filter
+	 * @return {@link BigQueryReadSessionPartitionerBuilder}
+	 * @see BigQueryReadSessionPartitioner#setRowRestriction(String)
+	 */
+	public BigQueryReadSessionPartitionerBuilder rowRestriction(final String rowRestriction) {
+		this.rowRestriction = rowRestriction;
+		return this;
+	}
+
+	/**
+	 * Maximum number of streams requested for the session.
+	 * @param maxStreamCount a number of streams
+	 * @return {@link BigQueryReadSessionPartitionerBuilder}
+	 * @see BigQueryReadSessionPartitioner#setMaxStreamCount(int)
+	 */
+	public BigQueryReadSessionPartitionerBuilder maxStreamCount(final int maxStreamCount) {
+		this.maxStreamCount = maxStreamCount;
+		return this;
+	}
+
+	/**
+	 * Please remember about {@link BigQueryReadSessionPartitioner#afterPropertiesSet()}.
+	 * @return {@link BigQueryReadSessionPartitioner}
+	 * @throws IOException in case when {@link BigQueryReadClient} failed to be created
+	 * automatically
+	 */
+	public BigQueryReadSessionPartitioner build() throws IOException {
+		final BigQueryReadSessionPartitioner partitioner = new BigQueryReadSessionPartitioner();
+
+		partitioner.setBigQueryReadClient(
+				this.bigQueryReadClient == null ? BigQueryReadClient.create() : this.bigQueryReadClient);
+
+		partitioner.setTableName(tableName);
+		partitioner.setSelectedFields(selectedFields);
+		partitioner.setRowRestriction(rowRestriction);
+		partitioner.setMaxStreamCount(maxStreamCount);
+
+		return partitioner;
+	}
+
+}
@@ -0,0 +1,30 @@
+/*
+ * Copyright 2002-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/**
+ * {@link com.google.cloud.bigquery.storage.v1.ReadSession}
+ *
+ * <p>
+ * Supported formats:
+ * <ul>
+ * <li>Avro</li>
+ * </ul>
+ *
+ * <p>
+ * Streams of a session are split between partitioned steps by
+ * {@link org.springframework.batch.extensions.bigquery.reader.readapi.BigQueryReadSessionPartitioner}.
+ */
+package org.springframework.batch.extensions.bigquery.reader.readapi;
@@ -0,0 +1,119 @@
+/*
+ * Copyright 2002-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.batch.extensions.bigquery.writer.writeapi;
+
+import com.google.api.core.ApiFuture;
+import com.google.cloud.bigquery.storage.v1.AppendRowsResponse;
+import org.springframework.util.Assert;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Bounded window of {@code AppendRows} futures that were sent to a stream but not
+ * confirmed yet. Appends are awaited in the order they were sent, which is the order a
+ * stream applies them in.
+ *
+ * @author Volodymyr Perebykivskyi
+ * @since 0.2.0
+ */
+public class InFlightAppends {
+
+	private final Deque<Append> appends = new ArrayDeque<>();
+
+	private final int maxInFlight;
+
+	private long confirmedRows;
+
+	/**
+	 * Create a window of at most {@code maxInFlight} appends.
+	 * @param maxInFlight the maximum number of appends in flight
+	 */
+	public InFlightAppends(final int maxInFlight) {
+		Assert.isTrue(maxInFlight > 0, "Max in-flight appends must be positive");
+		this.maxInFlight = maxInFlight;
+	}
+
+	/**
+	 * Wait for the oldest appends until another one can be sent.
+	 * @throws InterruptedException if interrupted while waiting
+	 * @throws ExecutionException if an append failed, in which case the appends sent
+	 * after it are discarded
+	 */
+	public void awaitCapacity() throws InterruptedException, ExecutionException {
+		while (appends.size() >= maxInFlight) {
+			awaitOldest();
+		}
+	}
+
+	/**
+	 * Track an append that was just sent.
+	 * @param future the response of the append
+	 * @param rowCount the number of rows of the append
+	 */
+	public void add(final ApiFuture<AppendRowsResponse> future, final long rowCount) {
+		appends.addLast(new Append(future, rowCount));
+	}
+
+	/**
+	 * Wait for all the appends in flight.
+	 * @throws InterruptedException if interrupted while waiting
+	 * @throws ExecutionException if an append failed, in which case the appends sent
+	 * after it are discarded
+	 */
+	public void awaitAll() throws InterruptedException, ExecutionException {
+		while (!appends.isEmpty()) {
+			awaitOldest();
+		}
+	}
+
+	/**
+	 * Number of appends sent but not confirmed yet.
+	 * @return a number of appends
+	 */
+	public int size() {
+		return appends.size();
+	}
+
+	/**
+	 * Number of rows of all the confirmed appends. As appends are confirmed in order, it
+	 * is also the offset after the last row known to be written.
+	 * @return a number of rows
+	 */
+	public long getConfirmedRows() {
+		return confirmedRows;
+	}
+
+	private void awaitOldest() throws InterruptedException, ExecutionException {
+		final Append append = appends.getFirst();
+		try {
+			append.future().get();
+		}
+		catch (ExecutionException e) {
+			// a stream rejects every append after a failed one
+			appends.clear();
+			throw e;
+		}
+		appends.removeFirst();
+		confirmedRows += append.rowCount();
+	}
+
+	private record Append(ApiFuture<AppendRowsResponse> future, long rowCount) {
+	}
+
+}
@@ -0,0 +1,257 @@
+/*
+ * Copyright 2002-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.batch.extensions.bigquery.writer.writeapi;
+
+import com.google.api.core.ApiFuture;
+import com.google.api.core.ApiFutureCallback;
+import com.google.api.core.ApiFutures;
+import com.google.cloud.bigquery.storage.v1.AppendRowsResponse;
+import com.google.cloud.bigquery.storage.v1.BigQueryWriteClient;
+import com.google.cloud.bigquery.storage.v1.CreateWriteStreamRequest;
+import com.google.cloud.bigquery.storage.v1.Exceptions;
+import com.google.cloud.bigquery.storage.v1.GetWriteStreamRequest;
+import com.google.cloud.bigquery.storage.v1.TableName;
+import com.google.cloud.bigquery.storage.v1.WriteStream;
+import com.google.cloud.bigquery.storage.v1.WriteStreamView;
+import com.google.common.util.concurrent.MoreExecutors;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.util.Assert;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A stream of the Storage Write API that is appended to by one item writer, from
+ * {@link #open(StreamWriterFactory)} to {@link #close()}.
+ * <p>
+ * Either a new {@link WriteStream.Type#COMMITTED} stream is created and finalized on
+ * {@link #close()}, or the {@code _default} stream of the table is used. Every append to
+ * a committed stream carries its offset, and an append rejected because its offset
+ * already exists is treated as written by a previous attempt.
+ * <p>
+ * Up to {@code maxInFlightAppends} appends are sent without waiting for the previous ones
+ * to be confirmed. When appends are joined on chunk commit, every append is confirmed
+ * before {@link #append(Appender, long)} returns and a failed append can be retried at
+ * the same offset. Otherwise a failed append is detected after its chunk was committed,
+ * so the stream refuses every later append and fails on {@link #close()}.
+ *
+ * @param <W> type of the client stream writer, e.g.
+ * {@link com.google.cloud.bigquery.storage.v1.StreamWriter}
+ * @author Volodymyr Perebykivskyi
+ * @since 0.2.0
+ */
+public class WriteApiStream<W extends AutoCloseable> {
+
+	/**
+	 * Logger that can be reused
+	 */
+	private final Log logger = LogFactory.getLog(getClass());
+
+	private final AtomicLong bigQueryWriteCounter = new AtomicLong();
+
+	private final BigQueryWriteClient bigQueryWriteClient;
+
+	private final TableName tableName;
+
+	private final boolean useDefaultStream;
+
+	private final boolean joinAppendsOnChunkCommit;
+
+	private final ApiFutureCallback<AppendRowsResponse> apiFutureCallback;
+
+	private final Executor executor;
+
+	private final InFlightAppends inFlightAppends;
+
+	private W streamWriter;
+
+	private String streamName;
+
+	private long offset;
+
+	private boolean appendFailed;
+
+	/**
+	 * Create a stream that is not opened yet.
+	 * @param bigQueryWriteClient a client
+	 * @param tableName a table to write to
+	 * @param useDefaultStream whether the {@code _default} stream is used
+	 * @param maxInFlightAppends maximum number of appends sent and not confirmed yet
+	 * @param joinAppendsOnChunkCommit whether every append is confirmed before
+	 * {@link #append(Appender, long)} returns
+	 * @param apiFutureCallback an optional callback of every append
+	 * @param executor an executor of the callback
+	 */
+	public WriteApiStream(final BigQueryWriteClient bigQueryWriteClient, final TableName tableName,
+			final boolean useDefaultStream, final int maxInFlightAppends, final boolean joinAppendsOnChunkCommit,
+			final ApiFutureCallback<AppendRowsResponse> apiFutureCallback, final Executor executor) {
+		this.bigQueryWriteClient = bigQueryWriteClient;
+		this.tableName = tableName;
+		this.useDefaultStream = useDefaultStream;
+		this.joinAppendsOnChunkCommit = joinAppendsOnChunkCommit;
+		this.apiFutureCallback = apiFutureCallback;
+		this.executor = executor;
+		this.inFlightAppends = new InFlightAppends(maxInFlightAppends);
+	}
+
+	/**
+	 * Create a committed stream or look up the {@code _default} stream, then create the
+	 * writer appending to it.
+	 * @param streamWriterFactory creates the writer of the stream
+	 * @throws Exception if the stream or its writer could not be created
+	 */
+	public void open(final StreamWriterFactory<W> streamWriterFactory) throws Exception {
+		final WriteStream writeStream;
+		if (useDefaultStream) {
+			writeStream = bigQueryWriteClient.getWriteStream(GetWriteStreamRequest.newBuilder()
+				.setName(tableName.toString() + "/streams/_default")
+				.setView(WriteStreamView.FULL)
+				.build());
+		}
+		else {
+			final CreateWriteStreamRequest createStreamRequest = CreateWriteStreamRequest.newBuilder()
+				.setParent(tableName.toString())
+				.setWriteStream(WriteStream.newBuilder().setType(WriteStream.Type.COMMITTED).build())
+				.build();
+
+			writeStream = bigQueryWriteClient.createWriteStream(createStreamRequest);
+			streamName = writeStream.getName();
+
+			if (logger.isDebugEnabled()) {
+				logger.debug("Created a stream=" + streamName);
+			}
+		}
+		streamWriter = streamWriterFactory.create(writeStream);
+	}
+
+	/**
+	 * Send an append at the current offset of the stream.
+	 * @param appender sends the rows with the writer of the stream
+	 * @param rowCount the number of rows of the append
+	 * @throws Exception if the append or an earlier one failed
+	 */
+	public void append(final Appender<W> appender, final long rowCount) throws Exception {
+		Assert.state(!appendFailed, "An append failed after its chunk was committed");
+		try {
+			inFlightAppends.awaitCapacity();
+
+			if (logger.isDebugEnabled()) {
+				logger.debug("Writing data to BigQuery at offset=" + offset);
+			}
+			final ApiFuture<AppendRowsResponse> future = useDefaultStream ? appender.append(streamWriter, -1)
+					: ignoreAlreadyWritten(appender.append(streamWriter, offset), offset);
+
+			if (apiFutureCallback != null) {
+				ApiFutures.addCallback(future, apiFutureCallback, executor);
+			}
+			inFlightAppends.add(future, rowCount);
+			offset += rowCount;
+
+			if (joinAppendsOnChunkCommit) {
+				inFlightAppends.awaitAll();
+			}
+
+			if (logger.isDebugEnabled()) {
+				logger.debug("Write operation submitted: " + bigQueryWriteCounter.incrementAndGet());
+			}
+		}
+		catch (ExecutionException e) {
+			if (joinAppendsOnChunkCommit) {
+				// only this chunk was in flight, its retry reuses the offset
+				offset = inFlightAppends.getConfirmedRows();
+			}
+			else {
+				// the failed append may belong to a committed chunk
+				appendFailed = true;
+			}
+			throw e;
+		}
+	}
+
+	/**
+	 * Wait for the appends in flight, close the writer and finalize a committed stream.
+	 * @throws Exception if an append failed or the stream could not be finalized
+	 */
+	public void close() throws Exception {
+		try {
+			inFlightAppends.awaitAll();
+		}
+		finally {
+			streamWriter.close();
+		}
+
+		if (streamName != null) {
+			final long rowCount = bigQueryWriteClient.finalizeWriteStream(streamName).getRowCount();
+			if (offset != rowCount) {
+				logger.warn("Finalized response row count=%d is not the same as written row count=%d"
+					.formatted(rowCount, offset));
+			}
+		}
+
+		Assert.state(!appendFailed, "An append failed after its chunk was committed");
+	}
+
+	private ApiFuture<AppendRowsResponse> ignoreAlreadyWritten(final ApiFuture<AppendRowsResponse> future,
+			final long appendOffset) {
+		return ApiFutures.catching(future, Exceptions.OffsetAlreadyExists.class, e -> {
+			// a previous attempt of this append reached the stream
+			logger.warn("Rows at offset=%d were already written".formatted(appendOffset));
+			return AppendRowsResponse.getDefaultInstance();
+		}, MoreExecutors.directExecutor());
+	}
+
+	/**
+	 * Creates the client writer of an opened stream.
+	 *
+	 * @param <W> type of the client stream writer
+	 */
+	@FunctionalInterface
+	public interface StreamWriterFactory<W> {
+
+		/**
+		 * Create the writer.
+		 * @param writeStream the stream, with its table schema
+		 * @return a writer appending to the stream
+		 * @throws Exception if the writer could not be created
+		 */
+		W create(WriteStream writeStream) throws Exception;
+
+	}
+
+	/**
+	 * Sends the rows of a chunk with the client writer of the stream.
+	 *
+	 * @param <W> type of the client stream writer
+	 */
+	@FunctionalInterface
+	public interface Appender<W> {
+
+		/**
+		 * Send the rows.
+		 * @param streamWriter the writer of the stream
+		 * @param offset the offset of the first row, or {@code -1} for the
+		 * {@code _default} stream, which does not support offsets
+		 * @return the response of the append
+		 * @throws Exception if the rows could not be sent
+		 */
+		ApiFuture<AppendRowsResponse> append(W streamWriter, long offset) throws Exception;
+
+	}
+
+}
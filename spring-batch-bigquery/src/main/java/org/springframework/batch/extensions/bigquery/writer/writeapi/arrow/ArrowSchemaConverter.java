@@ -0,0 +1,86 @@
+/*
+ * Copyright 2002-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.batch.extensions.bigquery.writer.writeapi.arrow;
+
+import com.google.cloud.bigquery.storage.v1.TableFieldSchema;
+import com.google.cloud.bigquery.storage.v1.TableSchema;
+import org.apache.arrow.vector.types.DateUnit;
+import org.apache.arrow.vector.types.FloatingPointPrecision;
+import org.apache.arrow.vector.types.TimeUnit;
+import org.apache.arrow.vector.types.pojo.ArrowType;
+import org.apache.arrow.vector.types.pojo.Field;
+import org.apache.arrow.vector.types.pojo.FieldType;
+import org.apache.arrow.vector.types.pojo.Schema;
+
+/**
+ * Converts a BigQuery table schema into an Arrow schema.
+ * <p>
+ * Supported types:
+ * <ul>
+ * <li>{@code STRING}, {@code JSON} and {@code GEOGRAPHY} as {@code Utf8}</li>
+ * <li>{@code INT64} as a signed 64-bit {@code Int}</li>
+ * <li>{@code FLOAT64} as a double precision {@code FloatingPoint}</li>
+ * <li>{@code BOOL} as {@code Bool}</li>
+ * <li>{@code BYTES} as {@code Binary}</li>
+ * <li>{@code DATE} as a {@code Date} in days</li>
+ * <li>{@code TIMESTAMP} as a UTC {@code Timestamp} in microseconds</li>
+ * <li>{@code NUMERIC} as a {@code Decimal(38, 9)}</li>
+ * </ul>
+ * {@code REPEATED} fields and other types are not supported.
+ *
+ * @author Volodymyr Perebykivskyi
+ * @since 0.2.0
+ * @see <a href=
+ * "https://cloud.google.com/bigquery/docs/write-api#data_type_conversions">Data type
+ * conversions</a>
+ */
+public final class ArrowSchemaConverter {
+
+	private ArrowSchemaConverter() {
+	}
+
+	/**
+	 * Convert a table schema.
+	 * @param tableSchema a BigQuery table schema
+	 * @return {@link Schema}
+	 * @throws IllegalArgumentException if a field is not supported
+	 */
+	public static Schema convert(final TableSchema tableSchema) {
+		return new Schema(tableSchema.getFieldsList().stream().map(ArrowSchemaConverter::convert).toList());
+	}
+
+	private static Field convert(final TableFieldSchema field) {
+		if (field.getMode() == TableFieldSchema.Mode.REPEATED) {
+			throw new IllegalArgumentException("Repeated field " + field.getName() + " is not supported");
+		}
+		final ArrowType type = switch (field.getType()) {
+			case STRING, JSON, GEOGRAPHY -> ArrowType.Utf8.INSTANCE;
+			case INT64 -> new ArrowType.Int(64, true);
+			case DOUBLE -> new ArrowType.FloatingPoint(FloatingPointPrecision.DOUBLE);
+			case BOOL -> ArrowType.Bool.INSTANCE;
+			case BYTES -> ArrowType.Binary.INSTANCE;
+			case DATE -> new ArrowType.Date(DateUnit.DAY);
+			case TIMESTAMP -> new ArrowType.Timestamp(TimeUnit.MICROSECOND, "UTC");
+			case NUMERIC -> new ArrowType.Decimal(38, 9, 128);
+			default -> throw new IllegalArgumentException(
+					"Field " + field.getName() + " of type " + field.getType() + " is not supported");
+		};
+		final boolean nullable = field.getMode() != TableFieldSchema.Mode.REQUIRED;
+		return new Field(field.getName(), new FieldType(nullable, type, null), null);
+	}
+
+}
@@ -0,0 +1,42 @@
+/*
+ * Copyright 2002-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.batch.extensions.bigquery.writer.writeapi.arrow;
+
+import org.apache.arrow.vector.VectorSchemaRoot;
+
+/**
+ * Writes an item into a row of the Arrow vectors a chunk is buffered in.
+ *
+ * @param <T> your DTO type
+ * @author Volodymyr Perebykivskyi
+ * @since 0.2.0
+ * @see PropertyArrowVectorMapper
+ */
+@FunctionalInterface
+public interface ArrowVectorMapper<T> {
+
+	/**
+	 * Write an item into the vectors. Vectors must be written with their {@code setSafe}
+	 * methods, as their capacity is not known in advance. Vectors left unset hold
+	 * {@code null} in this row.
+	 * @param item an item to write
+	 * @param index the index of the row in the vectors
+	 * @param root the vectors of the chunk
+	 */
+	void map(T item, int index, VectorSchemaRoot root);
+
+}
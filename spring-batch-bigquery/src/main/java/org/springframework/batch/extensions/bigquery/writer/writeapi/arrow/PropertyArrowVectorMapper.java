@@ -0,0 +1,170 @@
+/*
+ * Copyright 2002-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.batch.extensions.bigquery.writer.writeapi.arrow;
+
+import org.apache.arrow.vector.BigIntVector;
+import org.apache.arrow.vector.BitVector;
+import org.apache.arrow.vector.DateDayVector;
+import org.apache.arrow.vector.DecimalVector;
+import org.apache.arrow.vector.FieldVector;
+import org.apache.arrow.vector.Float4Vector;
+import org.apache.arrow.vector.Float8Vector;
+import org.apache.arrow.vector.IntVector;
+import org.apache.arrow.vector.TimeStampVector;
+import org.apache.arrow.vector.VarBinaryVector;
+import org.apache.arrow.vector.VarCharVector;
+import org.apache.arrow.vector.VectorSchemaRoot;
+import org.apache.arrow.vector.types.pojo.Schema;
+import org.springframework.beans.BeanUtils;
+import org.springframework.util.Assert;
+import org.springframework.util.ReflectionUtils;
+
+import java.beans.PropertyDescriptor;
+import java.lang.reflect.Method;
+import java.lang.reflect.RecordComponent;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * An {@link ArrowVectorMapper} which writes the components of a Java record, or the
+ * readable properties of a Java bean, into the vectors of the same name, ignoring case.
+ * Properties without a vector are ignored. {@code null} values of nullable vectors are
+ * left unset, while a {@code null} value of a non-nullable vector, i.e. of a
+ * {@code REQUIRED} column, is rejected.
+ * <p>
+ * Supported conversions:
+ * <ul>
+ * <li>{@link Number} to integer and floating point vectors</li>
+ * <li>{@link Boolean} to {@link BitVector}</li>
+ * <li>{@link LocalDate} to {@link DateDayVector}</li>
+ * <li>{@link Instant} to microsecond {@link TimeStampVector}</li>
+ * <li>{@link BigDecimal} to {@link DecimalVector}, without rounding</li>
+ * <li>{@code byte[]} to {@link VarBinaryVector}</li>
+ * <li>any value to {@link VarCharVector}, using {@link Object#toString()}</li>
+ * </ul>
+ * Not thread-safe, like the writer it is used by.
+ *
+ * @param <T> your DTO type
+ * @author Volodymyr Perebykivskyi
+ * @since 0.2.0
+ */
+public final class PropertyArrowVectorMapper<T> implements ArrowVectorMapper<T> {
+
+	private Class<?> type;
+
+	private Schema schema;
+
+	private List<PropertyAccessor> accessors;
+
+	/**
+	 * Default constructor
+	 */
+	public PropertyArrowVectorMapper() {
+	}
+
+	@Override
+	public void map(final T item, final int index, final VectorSchemaRoot root) {
+		if (item.getClass() != type || root.getSchema() != schema) {
+			accessors = resolve(item.getClass(), root.getSchema());
+			type = item.getClass();
+			schema = root.getSchema();
+		}
+		for (final PropertyAccessor accessor : accessors) {
+			final Object value = ReflectionUtils.invokeMethod(accessor.method(), item);
+			final FieldVector vector = root.getVector(accessor.vectorIndex());
+			if (value == null) {
+				Assert.isTrue(vector.getField().isNullable(), "Required field " + vector.getName() + " cannot be null");
+				continue;
+			}
+			setValue(vector, index, value);
+		}
+	}
+
+	private static void setValue(final FieldVector vector, final int index, final Object value) {
+		if (vector instanceof IntVector intVector) {
+			intVector.setSafe(index, ((Number) value).intValue());
+		}
+		else if (vector instanceof BigIntVector bigIntVector) {
+			bigIntVector.setSafe(index, ((Number) value).longValue());
+		}
+		else if (vector instanceof Float4Vector float4Vector) {
+			float4Vector.setSafe(index, ((Number) value).floatValue());
+		}
+		else if (vector instanceof Float8Vector float8Vector) {
+			float8Vector.setSafe(index, ((Number) value).doubleValue());
+		}
+		else if (vector instanceof BitVector bitVector) {
+			bitVector.setSafe(index, ((Boolean) value) ? 1 : 0);
+		}
+		else if (vector instanceof DateDayVector dateDayVector) {
+			dateDayVector.setSafe(index, Math.toIntExact(((LocalDate) value).toEpochDay()));
+		}
+		else if (vector instanceof TimeStampVector timeStampVector) {
+			timeStampVector.setSafe(index, ChronoUnit.MICROS.between(Instant.EPOCH, (Instant) value));
+		}
+		else if (vector instanceof DecimalVector decimalVector) {
+			decimalVector.setSafe(index, ((BigDecimal) value).setScale(decimalVector.getScale()));
+		}
+		else if (vector instanceof VarBinaryVector varBinaryVector) {
+			varBinaryVector.setSafe(index, (byte[]) value);
+		}
+		else if (vector instanceof VarCharVector varCharVector) {
+			varCharVector.setSafe(index, value.toString().getBytes(StandardCharsets.UTF_8));
+		}
+		else {
+			throw new IllegalArgumentException("Vector " + vector.getName() + " of type "
+					+ vector.getClass().getSimpleName() + " is not supported");
+		}
+	}
+
+	private static List<PropertyAccessor> resolve(final Class<?> type, final Schema schema) {
+		final List<PropertyAccessor> accessors = new ArrayList<>();
+		if (type.isRecord()) {
+			for (final RecordComponent component : type.getRecordComponents()) {
+				addAccessor(accessors, schema, component.getName(), component.getAccessor());
+			}
+		}
+		else {
+			for (final PropertyDescriptor property : BeanUtils.getPropertyDescriptors(type)) {
+				if (property.getReadMethod() != null && !"class".equals(property.getName())) {
+					addAccessor(accessors, schema, property.getName(), property.getReadMethod());
+				}
+			}
+		}
+		return accessors;
+	}
+
+	private static void addAccessor(final List<PropertyAccessor> accessors, final Schema schema, final String name,
+			final Method method) {
+		for (int i = 0; i < schema.getFields().size(); i++) {
+			if (schema.getFields().get(i).getName().equalsIgnoreCase(name)) {
+				ReflectionUtils.makeAccessible(method);
+				accessors.add(new PropertyAccessor(method, i));
+				return;
+			}
+		}
+	}
+
+	private record PropertyAccessor(Method method, int vectorIndex) {
+	}
+
+}
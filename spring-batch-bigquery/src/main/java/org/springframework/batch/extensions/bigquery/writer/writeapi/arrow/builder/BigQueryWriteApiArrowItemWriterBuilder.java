@@ -0,0 +1,202 @@
+/*
+ * Copyright 2002-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.batch.extensions.bigquery.writer.writeapi.arrow.builder;
+
+import com.google.api.core.ApiFutureCallback;
+import com.google.cloud.bigquery.storage.v1.AppendRowsResponse;
+import com.google.cloud.bigquery.storage.v1.BigQueryWriteClient;
+import com.google.cloud.bigquery.storage.v1.TableName;
+import com.google.common.util.concurrent.MoreExecutors;
+import org.apache.arrow.vector.types.pojo.Schema;
+import org.springframework.batch.extensions.bigquery.writer.writeapi.arrow.ArrowVectorMapper;
+import org.springframework.batch.extensions.bigquery.writer.writeapi.arrow.BigQueryWriteApiArrowItemWriter;
+import org.springframework.batch.extensions.bigquery.writer.writeapi.arrow.PropertyArrowVectorMapper;
+
+import java.io.IOException;
+import java.util.concurrent.Executor;
+
+/**
+ * A builder for {@link BigQueryWriteApiArrowItemWriter}.
+ *
+ * @param <T> your DTO type
+ * @author Volodymyr Perebykivskyi
+ * @since 0.2.0
+ */
+public class BigQueryWriteApiArrowItemWriterBuilder<T> {
+
+	private BigQueryWriteClient bigQueryWriteClient;
+
+	private TableName tableName;
+
+	private ArrowVectorMapper<T> vectorMapper;
+
+	private Schema arrowSchema;
+
+	private ApiFutureCallback<AppendRowsResponse> apiFutureCallback;
+
+	private Executor executor;
+
+	private boolean useDefaultStream;
+
+	private Integer maxInFlightAppends;
+
+	private Boolean joinAppendsOnChunkCommit;
+
+	/**
+	 * Default constructor
+	 */
+	public BigQueryWriteApiArrowItemWriterBuilder() {
+	}
+
+	/**
+	 * GRPC client that will be responsible for communication with BigQuery.
+	 * @param bigQueryWriteClient a client
+	 * @return {@link BigQueryWriteApiArrowItemWriterBuilder}
+	 * @see BigQueryWriteApiArrowItemWriter#setBigQueryWriteClient(BigQueryWriteClient)
+	 */
+	public BigQueryWriteApiArrowItemWriterBuilder<T> bigQueryWriteClient(
+			final BigQueryWriteClient bigQueryWriteClient) {
+		this.bigQueryWriteClient = bigQueryWriteClient;
+		return this;
+	}
+
+	/**
+	 * A table name along with a full path.
+	 * @param tableName a name
+	 * @return {@link BigQueryWriteApiArrowItemWriterBuilder}
+	 * @see BigQueryWriteApiArrowItemWriter#setTableName(TableName)
+	 */
+	public BigQueryWriteApiArrowItemWriterBuilder<T> tableName(final TableName tableName) {
+		this.tableName = tableName;
+		return this;
+	}
+
+	/**
+	 * Writes your DTO into Arrow vectors.
+	 * @param vectorMapper your mapper
+	 * @return {@link BigQueryWriteApiArrowItemWriterBuilder}
+	 * @see BigQueryWriteApiArrowItemWriter#setVectorMapper(ArrowVectorMapper)
+	 */
+	public BigQueryWriteApiArrowItemWriterBuilder<T> vectorMapper(final ArrowVectorMapper<T> vectorMapper) {
+		this.vectorMapper = vectorMapper;
+		return this;
+	}
+
+	/**
+	 * Arrow schema of the rows, when it is not derived from the table schema.
+	 * @param arrowSchema a schema
+	 * @return {@link BigQueryWriteApiArrowItemWriterBuilder}
+	 * @see BigQueryWriteApiArrowItemWriter#setArrowSchema(Schema)
+	 */
+	public BigQueryWriteApiArrowItemWriterBuilder<T> arrowSchema(final Schema arrowSchema) {
+		this.arrowSchema = arrowSchema;
+		return this;
+	}
+
+	/**
+	 * A {@link ApiFutureCallback} that will be called on successful or failed event.
+	 * @param apiFutureCallback a callback
+	 * @return {@link BigQueryWriteApiArrowItemWriterBuilder}
+	 * @see BigQueryWriteApiArrowItemWriter#setApiFutureCallback(ApiFutureCallback)
+	 */
+	public BigQueryWriteApiArrowItemWriterBuilder<T> apiFutureCallback(
+			final ApiFutureCallback<AppendRowsResponse> apiFutureCallback) {
+		this.apiFutureCallback = apiFutureCallback;
+		return this;
+	}
+
+	/**
+	 * {@link Executor} that will be used for {@link ApiFutureCallback}.
+	 * @param executor an executor
+	 * @return {@link BigQueryWriteApiArrowItemWriterBuilder}
+	 * @see BigQueryWriteApiArrowItemWriter#setExecutor(Executor)
+	 */
+	public BigQueryWriteApiArrowItemWriterBuilder<T> executor(final Executor executor) {
+		this.executor = executor;
+		return this;
+	}
+
+	/**
+	 * Write all chunks to the {@code _default} stream of the table.
+	 * @param useDefaultStream whether the {@code _default} stream should be used
+	 * @return {@link BigQueryWriteApiArrowItemWriterBuilder}
+	 * @see BigQueryWriteApiArrowItemWriter#setUseDefaultStream(boolean)
+	 */
+	public BigQueryWriteApiArrowItemWriterBuilder<T> useDefaultStream(final boolean useDefaultStream) {
+		this.useDefaultStream = useDefaultStream;
+		return this;
+	}
+
+	/**
+	 * Maximum number of appends sent and not confirmed yet. Requires
+	 * {@link #joinAppendsOnChunkCommit(boolean)} to be disabled.
+	 * @param maxInFlightAppends a number of appends
+	 * @return {@link BigQueryWriteApiArrowItemWriterBuilder}
+	 * @see BigQueryWriteApiArrowItemWriter#setMaxInFlightAppends(int)
+	 */
+	public BigQueryWriteApiArrowItemWriterBuilder<T> maxInFlightAppends(final int maxInFlightAppends) {
+		this.maxInFlightAppends = maxInFlightAppends;
+		return this;
+	}
+
+	/**
+	 * Whether the appends of a chunk are confirmed before the chunk is committed, or only
+	 * at the end of the step.
+	 * @param joinAppendsOnChunkCommit whether appends are awaited on every chunk
+	 * @return {@link BigQueryWriteApiArrowItemWriterBuilder}
+	 * @see BigQueryWriteApiArrowItemWriter#setJoinAppendsOnChunkCommit(boolean)
+	 */
+	public BigQueryWriteApiArrowItemWriterBuilder<T> joinAppendsOnChunkCommit(final boolean joinAppendsOnChunkCommit) {
+		this.joinAppendsOnChunkCommit = joinAppendsOnChunkCommit;
+		return this;
+	}
+
+	/**
+	 * Please remember about {@link BigQueryWriteApiArrowItemWriter#afterPropertiesSet()}.
+	 * @return {@link BigQueryWriteApiArrowItemWriter}
+	 * @throws IOException in case when {@link BigQueryWriteClient} failed to be created
+	 * automatically
+	 */
+	public BigQueryWriteApiArrowItemWriter<T> build() throws IOException {
+		final BigQueryWriteApiArrowItemWriter<T> writer = new BigQueryWriteApiArrowItemWriter<>();
+
+		writer.setVectorMapper(this.vectorMapper == null ? new PropertyArrowVectorMapper<>() : this.vectorMapper);
+
+		writer.setBigQueryWriteClient(
+				this.bigQueryWriteClient == null ? BigQueryWriteClient.create() : this.bigQueryWriteClient);
+
+		if (apiFutureCallback != null) {
+			writer.setApiFutureCallback(apiFutureCallback);
+			writer.setExecutor(this.executor == null ? MoreExecutors.directExecutor() : this.executor);
+		}
+
+		writer.setTableName(tableName);
+		writer.setArrowSchema(arrowSchema);
+		writer.setUseDefaultStream(useDefaultStream);
+
+		if (maxInFlightAppends != null) {
+			writer.setMaxInFlightAppends(maxInFlightAppends);
+		}
+
+		if (joinAppendsOnChunkCommit != null) {
+			writer.setJoinAppendsOnChunkCommit(joinAppendsOnChunkCommit);
+		}
+
+		return writer;
+	}
+
+}
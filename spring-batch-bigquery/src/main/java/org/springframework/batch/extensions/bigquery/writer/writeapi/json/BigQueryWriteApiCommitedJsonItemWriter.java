@@ -30,8 +30,11 @@ import org.apache.commons.logging.LogFactory;
 import org.json.JSONArray;
 import org.json.JSONObject;
 import org.springframework.batch.extensions.bigquery.writer.BigQueryItemWriterException;
+import org.springframework.batch.extensions.bigquery.writer.writeapi.WriteApiStream;
 import org.springframework.batch.infrastructure.item.Chunk;
-import org.springframework.batch.infrastructure.item.ItemWriter;
+import org.springframework.batch.infrastructure.item.ExecutionContext;
+import org.springframework.batch.infrastructure.item.ItemStreamException;
+import org.springframework.batch.infrastructure.item.ItemStreamWriter;
 import org.springframework.batch.infrastructure.item.json.JsonObjectMarshaller;
 import org.springframework.beans.factory.InitializingBean;
 import org.springframework.util.Assert;
@@ -43,6 +46,26 @@ import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * JSON writer for BigQuery using Storage Write API.
+ * <p>
+ * By default a new stream is created, appended to and finalized for every chunk. When
+ * {@link #setReuseStream(boolean)} is enabled a single stream is created on
+ * {@link #open(ExecutionContext)}, every chunk is appended to it with the same
+ * {@link JsonStreamWriter} and the stream is finalized on {@link #close()}. Appends carry
+ * their offset in the stream, so an append retried after its response was lost is
+ * rejected by BigQuery instead of duplicating rows. With
+ * {@link #setUseDefaultStream(boolean)} the rows are appended to the {@code _default}
+ * stream of the table instead, which needs neither creation nor finalization but does not
+ * support offsets.
+ * <p>
+ * When the stream is reused, every chunk is sent as a single append. By default the
+ * append of a chunk is confirmed before {@link #write(Chunk)} returns, so a failed append
+ * fails its chunk, which can be retried at the same offset. With
+ * {@link #setJoinAppendsOnChunkCommit(boolean)} disabled up to
+ * {@link #setMaxInFlightAppends(int)} appends are sent without waiting for the previous
+ * ones to be confirmed, overlapping the network round trips with the reading and
+ * processing of the next chunks. A failed append is then detected after its chunk was
+ * committed, so the writer stops appending: the current and every later
+ * {@link #write(Chunk)} fail, and so does {@link #close()}.
  *
  * @param <T> your DTO type
  * @author Volodymyr Perebykivskyi
@@ -51,7 +74,7 @@ import java.util.concurrent.atomic.AtomicLong;
  * type storage write API</a>
  * @since 0.2.0
  */
-public class BigQueryWriteApiCommitedJsonItemWriter<T> implements ItemWriter<T>, InitializingBean {
+public class BigQueryWriteApiCommitedJsonItemWriter<T> implements ItemStreamWriter<T>, InitializingBean {
 
 	/**
 	 * Logger that can be reused
@@ -72,29 +95,56 @@ public class BigQueryWriteApiCommitedJsonItemWriter<T> implements ItemWriter<T>,
 
 	private boolean writeFailed;
 
+	private boolean reuseStream;
+
+	private boolean useDefaultStream;
+
+	private int maxInFlightAppends = 1;
+
+	private boolean joinAppendsOnChunkCommit = true;
+
+	private WriteApiStream<JsonStreamWriter> stream;
+
 	/**
 	 * Default constructor
 	 */
 	public BigQueryWriteApiCommitedJsonItemWriter() {
 	}
 
+	@Override
+	public void open(final ExecutionContext executionContext) throws ItemStreamException {
+		if (!isStreamReused()) {
+			return;
+		}
+		final WriteApiStream<JsonStreamWriter> writeApiStream = new WriteApiStream<>(bigQueryWriteClient, tableName,
+				useDefaultStream, maxInFlightAppends, joinAppendsOnChunkCommit, apiFutureCallback, executor);
+		try {
+			// the schema is returned with the stream, no need to fetch it again
+			writeApiStream.open(
+					writeStream -> writeStream.hasTableSchema()
+							? JsonStreamWriter
+								.newBuilder(writeStream.getName(), writeStream.getTableSchema(), bigQueryWriteClient)
+								.build()
+							: JsonStreamWriter.newBuilder(writeStream.getName(), bigQueryWriteClient).build());
+		}
+		catch (Exception e) {
+			logger.error("BigQuery error", e);
+			throw new ItemStreamException("Error on stream open happened", e);
+		}
+		stream = writeApiStream;
+	}
+
 	@Override
 	public void write(final Chunk<? extends T> chunk) throws Exception {
-		if (!chunk.isEmpty()) {
+		if (!chunk.isEmpty() && isStreamReused()) {
+			append(chunk.getItems());
+		}
+		else if (!chunk.isEmpty()) {
 			final List<? extends T> items = chunk.getItems();
 			String streamName = null;
 
 			try {
-				final WriteStream writeStreamToCreate = WriteStream.newBuilder()
-					.setType(WriteStream.Type.COMMITTED)
-					.build();
-
-				final CreateWriteStreamRequest createStreamRequest = CreateWriteStreamRequest.newBuilder()
-					.setParent(tableName.toString())
-					.setWriteStream(writeStreamToCreate)
-					.build();
-
-				final WriteStream writeStream = bigQueryWriteClient.createWriteStream(createStreamRequest);
+				final WriteStream writeStream = createWriteStream();
 				streamName = writeStream.getName();
 
 				if (logger.isDebugEnabled()) {
@@ -109,8 +159,7 @@ public class BigQueryWriteApiCommitedJsonItemWriter<T> implements ItemWriter<T>,
 					if (logger.isDebugEnabled()) {
 						logger.debug(String.format("Mapping %d elements", items.size()));
 					}
-					final JSONArray array = new JSONArray();
-					items.stream().map(marshaller::marshal).map(JSONObject::new).forEach(array::put);
+					final JSONArray array = toJsonArray(items);
 
 					if (logger.isDebugEnabled()) {
 						logger.debug("Writing data to BigQuery");
@@ -143,6 +192,62 @@ public class BigQueryWriteApiCommitedJsonItemWriter<T> implements ItemWriter<T>,
 		}
 	}
 
+	@Override
+	public void close() throws ItemStreamException {
+		if (stream == null) {
+			return;
+		}
+		try {
+			stream.close();
+		}
+		catch (Exception e) {
+			logger.error("BigQuery error", e);
+			throw new ItemStreamException("Error on stream close happened", e);
+		}
+		finally {
+			stream = null;
+		}
+	}
+
+	private void append(final List<? extends T> items) {
+		if (stream == null) {
+			throw new BigQueryItemWriterException("Stream is not opened, open() must be called first");
+		}
+		try {
+			if (logger.isDebugEnabled()) {
+				logger.debug(String.format("Mapping %d elements", items.size()));
+			}
+			final JSONArray array = toJsonArray(items);
+			stream.append((streamWriter, offset) -> streamWriter.append(array, offset), items.size());
+		}
+		catch (Exception e) {
+			writeFailed = true;
+			logger.error("BigQuery error", e);
+			throw new BigQueryItemWriterException("Error on write happened", e);
+		}
+	}
+
+	private WriteStream createWriteStream() {
+		final WriteStream writeStreamToCreate = WriteStream.newBuilder().setType(WriteStream.Type.COMMITTED).build();
+
+		final CreateWriteStreamRequest createStreamRequest = CreateWriteStreamRequest.newBuilder()
+			.setParent(tableName.toString())
+			.setWriteStream(writeStreamToCreate)
+			.build();
+
+		return bigQueryWriteClient.createWriteStream(createStreamRequest);
+	}
+
+	private JSONArray toJsonArray(final List<? extends T> items) {
+		final JSONArray array = new JSONArray();
+		items.stream().map(marshaller::marshal).map(JSONObject::new).forEach(array::put);
+		return array;
+	}
+
+	private boolean isStreamReused() {
+		return reuseStream || useDefaultStream;
+	}
+
 	@Override
 	public void afterPropertiesSet() throws Exception {
 		Assert.notNull(this.bigQueryWriteClient, "BigQuery write client must be provided");
@@ -152,6 +257,10 @@ public class BigQueryWriteApiCommitedJsonItemWriter<T> implements ItemWriter<T>,
 		if (this.apiFutureCallback != null) {
 			Assert.notNull(this.executor, "Executor must be provided");
 		}
+
+		Assert.isTrue(this.maxInFlightAppends > 0, "Max in-flight appends must be positive");
+		Assert.isTrue(this.maxInFlightAppends == 1 || !this.joinAppendsOnChunkCommit,
+				"Max in-flight appends requires appends not to be joined on chunk commit");
 	}
 
 	/**
@@ -197,4 +306,49 @@ public class BigQueryWriteApiCommitedJsonItemWriter<T> implements ItemWriter<T>,
 		this.executor = executor;
 	}
 
+	/**
+	 * Write all chunks to a single stream, created on {@link #open(ExecutionContext)} and
+	 * finalized on {@link #close()}, instead of creating a stream for every chunk.
+	 * @param reuseStream whether the stream should be reused across chunks
+	 * @see BigQueryWriteApiCommitedJsonItemWriter#setUseDefaultStream(boolean)
+	 */
+	public void setReuseStream(final boolean reuseStream) {
+		this.reuseStream = reuseStream;
+	}
+
+	/**
+	 * Write all chunks to the {@code _default} stream of the table. Implies
+	 * {@link #setReuseStream(boolean)}. The {@code _default} stream provides
+	 * at-least-once semantics, as appends to it do not carry offsets.
+	 * @param useDefaultStream whether the {@code _default} stream should be used
+	 * @see <a href=
+	 * "https://cloud.google.com/bigquery/docs/write-api#default_stream">Default
+	 * stream</a>
+	 */
+	public void setUseDefaultStream(final boolean useDefaultStream) {
+		this.useDefaultStream = useDefaultStream;
+	}
+
+	/**
+	 * Maximum number of appends sent to a reused stream and not confirmed yet. When it is
+	 * reached, the next append waits for the oldest one. Defaults to 1. As every chunk is
+	 * a single append, a value above 1 requires
+	 * {@link #setJoinAppendsOnChunkCommit(boolean)} to be disabled.
+	 * @param maxInFlightAppends a number of appends
+	 * @see BigQueryWriteApiCommitedJsonItemWriter#setReuseStream(boolean)
+	 */
+	public void setMaxInFlightAppends(final int maxInFlightAppends) {
+		this.maxInFlightAppends = maxInFlightAppends;
+	}
+
+	/**
+	 * Whether the appends of a chunk are confirmed before the chunk is committed, or only
+	 * on {@link #close()}. Defaults to {@code true}.
+	 * @param joinAppendsOnChunkCommit whether appends are awaited on every chunk
+	 * @see BigQueryWriteApiCommitedJsonItemWriter#setMaxInFlightAppends(int)
+	 */
+	public void setJoinAppendsOnChunkCommit(final boolean joinAppendsOnChunkCommit) {
+		this.joinAppendsOnChunkCommit = joinAppendsOnChunkCommit;
+	}
+
 }
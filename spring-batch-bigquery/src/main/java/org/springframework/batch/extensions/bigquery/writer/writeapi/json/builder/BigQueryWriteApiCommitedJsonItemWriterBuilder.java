@@ -49,6 +49,14 @@ public class BigQueryWriteApiCommitedJsonItemWriterBuilder<T> {
 
 	private Executor executor;
 
+	private boolean reuseStream;
+
+	private boolean useDefaultStream;
+
+	private Integer maxInFlightAppends;
+
+	private Boolean joinAppendsOnChunkCommit;
+
 	/**
 	 * Default constructor
 	 */
@@ -113,6 +121,53 @@ public class BigQueryWriteApiCommitedJsonItemWriterBuilder<T> {
 		return this;
 	}
 
+	/**
+	 * Write all chunks to a single stream that lives as long as the step.
+	 * @param reuseStream whether the stream should be reused across chunks
+	 * @return {@link BigQueryWriteApiCommitedJsonItemWriterBuilder}
+	 * @see BigQueryWriteApiCommitedJsonItemWriter#setReuseStream(boolean)
+	 */
+	public BigQueryWriteApiCommitedJsonItemWriterBuilder<T> reuseStream(final boolean reuseStream) {
+		this.reuseStream = reuseStream;
+		return this;
+	}
+
+	/**
+	 * Write all chunks to the {@code _default} stream of the table.
+	 * @param useDefaultStream whether the {@code _default} stream should be used
+	 * @return {@link BigQueryWriteApiCommitedJsonItemWriterBuilder}
+	 * @see BigQueryWriteApiCommitedJsonItemWriter#setUseDefaultStream(boolean)
+	 */
+	public BigQueryWriteApiCommitedJsonItemWriterBuilder<T> useDefaultStream(final boolean useDefaultStream) {
+		this.useDefaultStream = useDefaultStream;
+		return this;
+	}
+
+	/**
+	 * Maximum number of appends sent to a reused stream and not confirmed yet. Requires
+	 * {@link #joinAppendsOnChunkCommit(boolean)} to be disabled.
+	 * @param maxInFlightAppends a number of appends
+	 * @return {@link BigQueryWriteApiCommitedJsonItemWriterBuilder}
+	 * @see BigQueryWriteApiCommitedJsonItemWriter#setMaxInFlightAppends(int)
+	 */
+	public BigQueryWriteApiCommitedJsonItemWriterBuilder<T> maxInFlightAppends(final int maxInFlightAppends) {
+		this.maxInFlightAppends = maxInFlightAppends;
+		return this;
+	}
+
+	/**
+	 * Whether the appends of a chunk are confirmed before the chunk is committed, or only
+	 * at the end of the step.
+	 * @param joinAppendsOnChunkCommit whether appends are awaited on every chunk
+	 * @return {@link BigQueryWriteApiCommitedJsonItemWriterBuilder}
+	 * @see BigQueryWriteApiCommitedJsonItemWriter#setJoinAppendsOnChunkCommit(boolean)
+	 */
+	public BigQueryWriteApiCommitedJsonItemWriterBuilder<T> joinAppendsOnChunkCommit(
+			final boolean joinAppendsOnChunkCommit) {
+		this.joinAppendsOnChunkCommit = joinAppendsOnChunkCommit;
+		return this;
+	}
+
 	/**
 	 * Please remember about
 	 * {@link BigQueryWriteApiCommitedJsonItemWriter#afterPropertiesSet()}.
@@ -134,6 +189,16 @@ public class BigQueryWriteApiCommitedJsonItemWriterBuilder<T> {
 		}
 
 		writer.setTableName(tableName);
+		writer.setReuseStream(reuseStream);
+		writer.setUseDefaultStream(useDefaultStream);
+
+		if (maxInFlightAppends != null) {
+			writer.setMaxInFlightAppends(maxInFlightAppends);
+		}
+
+		if (joinAppendsOnChunkCommit != null) {
+			writer.setJoinAppendsOnChunkCommit(joinAppendsOnChunkCommit);
+		}
 
 		return writer;
 	}
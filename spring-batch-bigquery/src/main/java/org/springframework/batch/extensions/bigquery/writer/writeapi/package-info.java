@@ -26,6 +26,8 @@
  * Supported formats:
  * <ul>
  * <li>JSON</li>
+ * <li>Protobuf</li>
+ * <li>Apache Arrow</li>
  * </ul>
  */
 package org.springframework.batch.extensions.bigquery.writer.writeapi;
\ No newline at end of file
@@ -0,0 +1,269 @@
+/*
+ * Copyright 2002-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.batch.extensions.bigquery.writer.writeapi.proto;
+
+import com.google.api.core.ApiFutureCallback;
+import com.google.cloud.bigquery.storage.v1.AppendRowsResponse;
+import com.google.cloud.bigquery.storage.v1.BQTableSchemaToProtoDescriptor;
+import com.google.cloud.bigquery.storage.v1.BigQueryWriteClient;
+import com.google.cloud.bigquery.storage.v1.ProtoRows;
+import com.google.cloud.bigquery.storage.v1.ProtoSchemaConverter;
+import com.google.cloud.bigquery.storage.v1.StreamWriter;
+import com.google.cloud.bigquery.storage.v1.TableName;
+import com.google.cloud.bigquery.storage.v1.WriteStream;
+import com.google.protobuf.Descriptors;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.batch.extensions.bigquery.writer.BigQueryItemWriterException;
+import org.springframework.batch.extensions.bigquery.writer.writeapi.WriteApiStream;
+import org.springframework.batch.infrastructure.item.Chunk;
+import org.springframework.batch.infrastructure.item.ExecutionContext;
+import org.springframework.batch.infrastructure.item.ItemStreamException;
+import org.springframework.batch.infrastructure.item.ItemStreamWriter;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.util.Assert;
+
+import java.util.List;
+import java.util.concurrent.Executor;
+
+/**
+ * Protobuf writer for BigQuery using Storage Write API.
+ * <p>
+ * Items are converted by a {@link ProtoMessageMapper} straight into protobuf messages and
+ * appended as {@link ProtoRows} with a {@link StreamWriter}, without the JSON
+ * representation the JSON writers go through. The descriptor of the rows is derived from
+ * the table schema, unless one is set with
+ * {@link #setDescriptor(Descriptors.Descriptor)}, e.g. the descriptor of a generated
+ * message.
+ * <p>
+ * A single {@link WriteStream.Type#COMMITTED} stream is created on
+ * {@link #open(ExecutionContext)} and finalized on {@link #close()}, or the
+ * {@code _default} stream of the table is used with
+ * {@link #setUseDefaultStream(boolean)}. Appends are pipelined and acknowledged by a
+ * {@link WriteApiStream}, like in
+ * {@link org.springframework.batch.extensions.bigquery.writer.writeapi.json.BigQueryWriteApiCommitedJsonItemWriter}
+ * with a reused stream.
+ *
+ * @param <T> your DTO type
+ * @author Volodymyr Perebykivskyi
+ * @see <a href="https://protobuf.dev/">Protocol Buffers</a>
+ * @see <a href="https://cloud.google.com/bigquery/docs/write-api-streaming">Stream data
+ * using the Storage Write API</a>
+ * @since 0.2.0
+ */
+public class BigQueryWriteApiProtoItemWriter<T> implements ItemStreamWriter<T>, InitializingBean {
+
+	/**
+	 * Logger that can be reused
+	 */
+	private final Log logger = LogFactory.getLog(getClass());
+
+	private BigQueryWriteClient bigQueryWriteClient;
+
+	private TableName tableName;
+
+	private ProtoMessageMapper<T> messageMapper;
+
+	private Descriptors.Descriptor descriptor;
+
+	private ApiFutureCallback<AppendRowsResponse> apiFutureCallback;
+
+	private Executor executor;
+
+	private boolean useDefaultStream;
+
+	private int maxInFlightAppends = 1;
+
+	private boolean joinAppendsOnChunkCommit = true;
+
+	private Descriptors.Descriptor rowDescriptor;
+
+	private WriteApiStream<StreamWriter> stream;
+
+	/**
+	 * Default constructor
+	 */
+	public BigQueryWriteApiProtoItemWriter() {
+	}
+
+	@Override
+	public void open(final ExecutionContext executionContext) throws ItemStreamException {
+		final WriteApiStream<StreamWriter> writeApiStream = new WriteApiStream<>(bigQueryWriteClient, tableName,
+				useDefaultStream, maxInFlightAppends, joinAppendsOnChunkCommit, apiFutureCallback, executor);
+		try {
+			writeApiStream.open(writeStream -> {
+				rowDescriptor = descriptor != null ? descriptor : BQTableSchemaToProtoDescriptor
+					.convertBQTableSchemaToProtoDescriptor(writeStream.getTableSchema());
+
+				return StreamWriter.newBuilder(writeStream.getName(), bigQueryWriteClient)
+					.setWriterSchema(ProtoSchemaConverter.convert(rowDescriptor))
+					.build();
+			});
+		}
+		catch (Exception e) {
+			logger.error("BigQuery error", e);
+			throw new ItemStreamException("Error on stream open happened", e);
+		}
+		stream = writeApiStream;
+	}
+
+	@Override
+	public void write(final Chunk<? extends T> chunk) throws Exception {
+		if (chunk.isEmpty()) {
+			return;
+		}
+		if (stream == null) {
+			throw new BigQueryItemWriterException("Stream is not opened, open() must be called first");
+		}
+
+		final List<? extends T> items = chunk.getItems();
+		try {
+			if (logger.isDebugEnabled()) {
+				logger.debug(String.format("Mapping %d elements", items.size()));
+			}
+			final ProtoRows.Builder rows = ProtoRows.newBuilder();
+			for (final T item : items) {
+				rows.addSerializedRows(messageMapper.map(item, rowDescriptor).toByteString());
+			}
+			stream.append((streamWriter, offset) -> streamWriter.append(rows.build(), offset), items.size());
+		}
+		catch (Exception e) {
+			logger.error("BigQuery error", e);
+			throw new BigQueryItemWriterException("Error on write happened", e);
+		}
+	}
+
+	@Override
+	public void close() throws ItemStreamException {
+		if (stream == null) {
+			return;
+		}
+		try {
+			stream.close();
+		}
+		catch (Exception e) {
+			logger.error("BigQuery error", e);
+			throw new ItemStreamException("Error on stream close happened", e);
+		}
+		finally {
+			stream = null;
+		}
+	}
+
+	@Override
+	public void afterPropertiesSet() throws Exception {
+		Assert.notNull(this.bigQueryWriteClient, "BigQuery write client must be provided");
+		Assert.notNull(this.tableName, "Table name must be provided");
+		Assert.notNull(this.messageMapper, "Message mapper must be provided");
+
+		if (this.apiFutureCallback != null) {
+			Assert.notNull(this.executor, "Executor must be provided");
+		}
+
+		Assert.isTrue(this.maxInFlightAppends > 0, "Max in-flight appends must be positive");
+		Assert.isTrue(this.maxInFlightAppends == 1 || !this.joinAppendsOnChunkCommit,
+				"Max in-flight appends requires appends not to be joined on chunk commit");
+	}
+
+	/**
+	 * GRPC client that wraps communication with BigQuery.
+	 * @param bigQueryWriteClient a client
+	 */
+	public void setBigQueryWriteClient(final BigQueryWriteClient bigQueryWriteClient) {
+		this.bigQueryWriteClient = bigQueryWriteClient;
+	}
+
+	/**
+	 * A full path to the BigQuery table.
+	 * @param tableName a name
+	 */
+	public void setTableName(final TableName tableName) {
+		this.tableName = tableName;
+	}
+
+	/**
+	 * Converter that transforms a single row into a protobuf message.
+	 * @param messageMapper your protobuf mapper
+	 * @see RecordProtoMessageMapper
+	 */
+	public void setMessageMapper(final ProtoMessageMapper<T> messageMapper) {
+		this.messageMapper = messageMapper;
+	}
+
+	/**
+	 * Descriptor of the rows, e.g. of a generated message. When not set it is derived
+	 * from the table schema.
+	 * @param descriptor a descriptor
+	 */
+	public void setDescriptor(final Descriptors.Descriptor descriptor) {
+		this.descriptor = descriptor;
+	}
+
+	/**
+	 * {@link ApiFutureCallback} that will be called in case of successful of failed
+	 * response.
+	 * @param apiFutureCallback a callback
+	 * @see BigQueryWriteApiProtoItemWriter#setExecutor(Executor)
+	 */
+	public void setApiFutureCallback(final ApiFutureCallback<AppendRowsResponse> apiFutureCallback) {
+		this.apiFutureCallback = apiFutureCallback;
+	}
+
+	/**
+	 * An {@link Executor} that will be calling a {@link ApiFutureCallback}.
+	 * @param executor an executor
+	 * @see BigQueryWriteApiProtoItemWriter#setApiFutureCallback(ApiFutureCallback)
+	 */
+	public void setExecutor(final Executor executor) {
+		this.executor = executor;
+	}
+
+	/**
+	 * Write all chunks to the {@code _default} stream of the table instead of a
+	 * {@link WriteStream.Type#COMMITTED} stream. The {@code _default} stream provides
+	 * at-least-once semantics, as appends to it do not carry offsets.
+	 * @param useDefaultStream whether the {@code _default} stream should be used
+	 * @see <a href=
+	 * "https://cloud.google.com/bigquery/docs/write-api#default_stream">Default
+	 * stream</a>
+	 */
+	public void setUseDefaultStream(final boolean useDefaultStream) {
+		this.useDefaultStream = useDefaultStream;
+	}
+
+	/**
+	 * Maximum number of appends sent and not confirmed yet. When it is reached, the next
+	 * append waits for the oldest one. Defaults to 1. As every chunk is a single append,
+	 * a value above 1 requires {@link #setJoinAppendsOnChunkCommit(boolean)} to be
+	 * disabled.
+	 * @param maxInFlightAppends a number of appends
+	 */
+	public void setMaxInFlightAppends(final int maxInFlightAppends) {
+		this.maxInFlightAppends = maxInFlightAppends;
+	}
+
+	/**
+	 * Whether the appends of a chunk are confirmed before the chunk is committed, or only
+	 * on {@link #close()}. Defaults to {@code true}.
+	 * @param joinAppendsOnChunkCommit whether appends are awaited on every chunk
+	 * @see BigQueryWriteApiProtoItemWriter#setMaxInFlightAppends(int)
+	 */
+	public void setJoinAppendsOnChunkCommit(final boolean joinAppendsOnChunkCommit) {
+		this.joinAppendsOnChunkCommit = joinAppendsOnChunkCommit;
+	}
+
+}
@@ -0,0 +1,43 @@
+/*
+ * Copyright 2002-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.batch.extensions.bigquery.writer.writeapi.proto;
+
+import com.google.protobuf.Descriptors;
+import com.google.protobuf.Message;
+
+/**
+ * Converts an item into a protobuf {@link Message} that is appended to a BigQuery stream
+ * as is, without an intermediate representation.
+ *
+ * @param <T> your DTO type
+ * @author Volodymyr Perebykivskyi
+ * @since 0.2.0
+ * @see RecordProtoMessageMapper
+ */
+@FunctionalInterface
+public interface ProtoMessageMapper<T> {
+
+	/**
+	 * Convert an item into a message.
+	 * @param item an item to convert
+	 * @param descriptor the descriptor of the rows of the stream, e.g. to build a
+	 * {@link com.google.protobuf.DynamicMessage}. Generated messages can ignore it.
+	 * @return a message matching the descriptor
+	 */
+	Message map(T item, Descriptors.Descriptor descriptor);
+
+}
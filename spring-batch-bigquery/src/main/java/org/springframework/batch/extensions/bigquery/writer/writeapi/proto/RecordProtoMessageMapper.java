@@ -0,0 +1,169 @@
+/*
+ * Copyright 2002-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.batch.extensions.bigquery.writer.writeapi.proto;
+
+import com.google.cloud.bigquery.storage.v1.BigDecimalByteStringEncoder;
+import com.google.protobuf.ByteString;
+import com.google.protobuf.Descriptors;
+import com.google.protobuf.DynamicMessage;
+import com.google.protobuf.Message;
+import org.springframework.util.Assert;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.RecordComponent;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * A {@link ProtoMessageMapper} which converts a Java record into a
+ * {@link DynamicMessage}. Record components are matched to the fields of the descriptor
+ * by name, ignoring case. {@code null} values of {@code NULLABLE} fields are left unset,
+ * while a {@code null} value of a {@code REQUIRED} field is rejected.
+ * <p>
+ * Supported conversions:
+ * <ul>
+ * <li>{@link Number} to integer and floating point fields</li>
+ * <li>{@link Boolean} to boolean fields</li>
+ * <li>{@link LocalDate} to {@code DATE} fields</li>
+ * <li>{@link Instant} to {@code TIMESTAMP} fields</li>
+ * <li>{@link BigDecimal} to {@code NUMERIC} fields, or to {@code BIGNUMERIC} fields named
+ * with {@link #setBigNumericFields(Collection)}</li>
+ * <li>{@code byte[]} to {@code BYTES} fields</li>
+ * <li>{@link Collection} to {@code REPEATED} fields</li>
+ * <li>nested records to {@code STRUCT} fields</li>
+ * <li>any other value to {@code STRING} fields, using {@link Object#toString()}</li>
+ * </ul>
+ * <p>
+ * A descriptor derived from the table schema makes both {@code NUMERIC} and
+ * {@code BIGNUMERIC} columns {@code BYTES} fields, so the mapper cannot tell them apart:
+ * a {@link BigDecimal} is encoded as {@code NUMERIC} unless its field is named as
+ * {@code BIGNUMERIC}.
+ *
+ * @param <T> Java record type
+ * @author Volodymyr Perebykivskyi
+ * @since 0.2.0
+ */
+public final class RecordProtoMessageMapper<T> implements ProtoMessageMapper<T> {
+
+	private final Map<Mapping, List<FieldAccessor>> accessors = new ConcurrentHashMap<>();
+
+	private Set<String> bigNumericFields = Set.of();
+
+	/**
+	 * Default constructor
+	 */
+	public RecordProtoMessageMapper() {
+	}
+
+	@Override
+	public Message map(final T item, final Descriptors.Descriptor descriptor) {
+		return toMessage(item, descriptor);
+	}
+
+	private DynamicMessage toMessage(final Object record, final Descriptors.Descriptor descriptor) {
+		final DynamicMessage.Builder builder = DynamicMessage.newBuilder(descriptor);
+		for (final FieldAccessor accessor : accessors.computeIfAbsent(new Mapping(record.getClass(), descriptor),
+				RecordProtoMessageMapper::resolve)) {
+			final Object value = ReflectionUtils.invokeMethod(accessor.method(), record);
+			final Descriptors.FieldDescriptor field = accessor.field();
+			if (value == null) {
+				Assert.isTrue(!field.isRequired(), "Required field " + field.getName() + " cannot be null");
+				continue;
+			}
+			if (field.isRepeated()) {
+				Assert.isInstanceOf(Collection.class, value,
+						"Repeated field " + field.getName() + " needs a collection");
+				for (final Object element : (Collection<?>) value) {
+					builder.addRepeatedField(field, convert(element, field));
+				}
+			}
+			else {
+				builder.setField(field, convert(value, field));
+			}
+		}
+		return builder.build();
+	}
+
+	private Object convert(final Object value, final Descriptors.FieldDescriptor field) {
+		return switch (field.getJavaType()) {
+			case INT -> (value instanceof LocalDate date) ? (int) date.toEpochDay() : ((Number) value).intValue();
+			case LONG -> (value instanceof Instant instant) ? ChronoUnit.MICROS.between(Instant.EPOCH, instant)
+					: ((Number) value).longValue();
+			case FLOAT -> ((Number) value).floatValue();
+			case DOUBLE -> ((Number) value).doubleValue();
+			case BOOLEAN -> value;
+			case BYTE_STRING ->
+				(value instanceof BigDecimal decimal) ? encode(decimal, field) : ByteString.copyFrom((byte[]) value);
+			case MESSAGE -> toMessage(value, field.getMessageType());
+			default -> value.toString();
+		};
+	}
+
+	private ByteString encode(final BigDecimal decimal, final Descriptors.FieldDescriptor field) {
+		return bigNumericFields.contains(field.getName().toLowerCase(Locale.ROOT))
+				? BigDecimalByteStringEncoder.encodeToBigNumericByteString(decimal)
+				: BigDecimalByteStringEncoder.encodeToNumericByteString(decimal);
+	}
+
+	/**
+	 * Fields of {@code BIGNUMERIC} columns. Their {@link BigDecimal} values are encoded
+	 * as {@code BIGNUMERIC} rather than {@code NUMERIC}.
+	 * @param bigNumericFields names of the fields, ignoring case
+	 */
+	public void setBigNumericFields(final Collection<String> bigNumericFields) {
+		this.bigNumericFields = bigNumericFields.stream()
+			.map(name -> name.toLowerCase(Locale.ROOT))
+			.collect(Collectors.toUnmodifiableSet());
+	}
+
+	private static List<FieldAccessor> resolve(final Mapping mapping) {
+		Assert.isTrue(mapping.type().isRecord(), "Only Java record supported");
+		final List<FieldAccessor> accessors = new ArrayList<>();
+		for (final RecordComponent component : mapping.type().getRecordComponents()) {
+			final Descriptors.FieldDescriptor field = mapping.descriptor()
+				.getFields()
+				.stream()
+				.filter(candidate -> candidate.getName().equalsIgnoreCase(component.getName()))
+				.findFirst()
+				.orElse(null);
+			if (field != null) {
+				final Method method = component.getAccessor();
+				ReflectionUtils.makeAccessible(method);
+				accessors.add(new FieldAccessor(method, field));
+			}
+		}
+		return accessors;
+	}
+
+	private record Mapping(Class<?> type, Descriptors.Descriptor descriptor) {
+	}
+
+	private record FieldAccessor(Method method, Descriptors.FieldDescriptor field) {
+	}
+
+}
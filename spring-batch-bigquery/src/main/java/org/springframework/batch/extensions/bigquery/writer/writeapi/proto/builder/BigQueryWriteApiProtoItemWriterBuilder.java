@@ -0,0 +1,202 @@
+/*
+ * Copyright 2002-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.batch.extensions.bigquery.writer.writeapi.proto.builder;
+
+import com.google.api.core.ApiFutureCallback;
+import com.google.cloud.bigquery.storage.v1.AppendRowsResponse;
+import com.google.cloud.bigquery.storage.v1.BigQueryWriteClient;
+import com.google.cloud.bigquery.storage.v1.TableName;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.google.protobuf.Descriptors;
+import org.springframework.batch.extensions.bigquery.writer.writeapi.proto.BigQueryWriteApiProtoItemWriter;
+import org.springframework.batch.extensions.bigquery.writer.writeapi.proto.ProtoMessageMapper;
+import org.springframework.batch.extensions.bigquery.writer.writeapi.proto.RecordProtoMessageMapper;
+
+import java.io.IOException;
+import java.util.concurrent.Executor;
+
+/**
+ * A builder for {@link BigQueryWriteApiProtoItemWriter}.
+ *
+ * @param <T> your DTO type
+ * @author Volodymyr Perebykivskyi
+ * @since 0.2.0
+ */
+public class BigQueryWriteApiProtoItemWriterBuilder<T> {
+
+	private BigQueryWriteClient bigQueryWriteClient;
+
+	private TableName tableName;
+
+	private ProtoMessageMapper<T> messageMapper;
+
+	private Descriptors.Descriptor descriptor;
+
+	private ApiFutureCallback<AppendRowsResponse> apiFutureCallback;
+
+	private Executor executor;
+
+	private boolean useDefaultStream;
+
+	private Integer maxInFlightAppends;
+
+	private Boolean joinAppendsOnChunkCommit;
+
+	/**
+	 * Default constructor
+	 */
+	public BigQueryWriteApiProtoItemWriterBuilder() {
+	}
+
+	/**
+	 * GRPC client that will be responsible for communication with BigQuery.
+	 * @param bigQueryWriteClient a client
+	 * @return {@link BigQueryWriteApiProtoItemWriterBuilder}
+	 * @see BigQueryWriteApiProtoItemWriter#setBigQueryWriteClient(BigQueryWriteClient)
+	 */
+	public BigQueryWriteApiProtoItemWriterBuilder<T> bigQueryWriteClient(
+			final BigQueryWriteClient bigQueryWriteClient) {
+		this.bigQueryWriteClient = bigQueryWriteClient;
+		return this;
+	}
+
+	/**
+	 * A table name along with a full path.
+	 * @param tableName a name
+	 * @return {@link BigQueryWriteApiProtoItemWriterBuilder}
+	 * @see BigQueryWriteApiProtoItemWriter#setTableName(TableName)
+	 */
+	public BigQueryWriteApiProtoItemWriterBuilder<T> tableName(final TableName tableName) {
+		this.tableName = tableName;
+		return this;
+	}
+
+	/**
+	 * Converts your DTO into a protobuf message.
+	 * @param messageMapper your mapper
+	 * @return {@link BigQueryWriteApiProtoItemWriterBuilder}
+	 * @see BigQueryWriteApiProtoItemWriter#setMessageMapper(ProtoMessageMapper)
+	 */
+	public BigQueryWriteApiProtoItemWriterBuilder<T> messageMapper(final ProtoMessageMapper<T> messageMapper) {
+		this.messageMapper = messageMapper;
+		return this;
+	}
+
+	/**
+	 * Descriptor of the rows, when they are not derived from the table schema.
+	 * @param descriptor a descriptor
+	 * @return {@link BigQueryWriteApiProtoItemWriterBuilder}
+	 * @see BigQueryWriteApiProtoItemWriter#setDescriptor(Descriptors.Descriptor)
+	 */
+	public BigQueryWriteApiProtoItemWriterBuilder<T> descriptor(final Descriptors.Descriptor descriptor) {
+		this.descriptor = descriptor;
+		return this;
+	}
+
+	/**
+	 * A {@link ApiFutureCallback} that will be called on successful or failed event.
+	 * @param apiFutureCallback a callback
+	 * @return {@link BigQueryWriteApiProtoItemWriterBuilder}
+	 * @see BigQueryWriteApiProtoItemWriter#setApiFutureCallback(ApiFutureCallback)
+	 */
+	public BigQueryWriteApiProtoItemWriterBuilder<T> apiFutureCallback(
+			final ApiFutureCallback<AppendRowsResponse> apiFutureCallback) {
+		this.apiFutureCallback = apiFutureCallback;
+		return this;
+	}
+
+	/**
+	 * {@link Executor} that will be used for {@link ApiFutureCallback}.
+	 * @param executor an executor
+	 * @return {@link BigQueryWriteApiProtoItemWriterBuilder}
+	 * @see BigQueryWriteApiProtoItemWriter#setExecutor(Executor)
+	 */
+	public BigQueryWriteApiProtoItemWriterBuilder<T> executor(final Executor executor) {
+		this.executor = executor;
+		return this;
+	}
+
+	/**
+	 * Write all chunks to the {@code _default} stream of the table.
+	 * @param useDefaultStream whether the {@code _default} stream should be used
+	 * @return {@link BigQueryWriteApiProtoItemWriterBuilder}
+	 * @see BigQueryWriteApiProtoItemWriter#setUseDefaultStream(boolean)
+	 */
+	public BigQueryWriteApiProtoItemWriterBuilder<T> useDefaultStream(final boolean useDefaultStream) {
+		this.useDefaultStream = useDefaultStream;
+		return this;
+	}
+
+	/**
+	 * Maximum number of appends sent and not confirmed yet. Requires
+	 * {@link #joinAppendsOnChunkCommit(boolean)} to be disabled.
+	 * @param maxInFlightAppends a number of appends
+	 * @return {@link BigQueryWriteApiProtoItemWriterBuilder}
+	 * @see BigQueryWriteApiProtoItemWriter#setMaxInFlightAppends(int)
+	 */
+	public BigQueryWriteApiProtoItemWriterBuilder<T> maxInFlightAppends(final int maxInFlightAppends) {
+		this.maxInFlightAppends = maxInFlightAppends;
+		return this;
+	}
+
+	/**
+	 * Whether the appends of a chunk are confirmed before the chunk is committed, or only
+	 * at the end of the step.
+	 * @param joinAppendsOnChunkCommit whether appends are awaited on every chunk
+	 * @return {@link BigQueryWriteApiProtoItemWriterBuilder}
+	 * @see BigQueryWriteApiProtoItemWriter#setJoinAppendsOnChunkCommit(boolean)
+	 */
+	public BigQueryWriteApiProtoItemWriterBuilder<T> joinAppendsOnChunkCommit(final boolean joinAppendsOnChunkCommit) {
+		this.joinAppendsOnChunkCommit = joinAppendsOnChunkCommit;
+		return this;
+	}
+
+	/**
+	 * Please remember about {@link BigQueryWriteApiProtoItemWriter#afterPropertiesSet()}.
+	 * @return {@link BigQueryWriteApiProtoItemWriter}
+	 * @throws IOException in case when {@link BigQueryWriteClient} failed to be created
+	 * automatically
+	 */
+	public BigQueryWriteApiProtoItemWriter<T> build() throws IOException {
+		final BigQueryWriteApiProtoItemWriter<T> writer = new BigQueryWriteApiProtoItemWriter<>();
+
+		writer.setMessageMapper(this.messageMapper == null ? new RecordProtoMessageMapper<>() : this.messageMapper);
+
+		writer.setBigQueryWriteClient(
+				this.bigQueryWriteClient == null ? BigQueryWriteClient.create() : this.bigQueryWriteClient);
+
+		if (apiFutureCallback != null) {
+			writer.setApiFutureCallback(apiFutureCallback);
+			writer.setExecutor(this.executor == null ? MoreExecutors.directExecutor() : this.executor);
+		}
+
+		writer.setTableName(tableName);
+		writer.setDescriptor(descriptor);
+		writer.setUseDefaultStream(useDefaultStream);
+
+		if (maxInFlightAppends != null) {
+			writer.setMaxInFlightAppends(maxInFlightAppends);
+		}
+
+		if (joinAppendsOnChunkCommit != null) {
+			writer.setJoinAppendsOnChunkCommit(joinAppendsOnChunkCommit);
+		}
+
+		return writer;
+	}
+
+}
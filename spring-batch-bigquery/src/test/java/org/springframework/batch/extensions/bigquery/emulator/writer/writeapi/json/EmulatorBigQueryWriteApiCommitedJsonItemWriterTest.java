@@ -16,6 +16,7 @@ import org.springframework.batch.extensions.bigquery.common.TestConstants;
 import org.springframework.batch.extensions.bigquery.emulator.writer.base.EmulatorBaseItemWriterTest;
 import org.springframework.batch.extensions.bigquery.writer.writeapi.json.BigQueryWriteApiCommitedJsonItemWriter;
 import org.springframework.batch.infrastructure.item.Chunk;
+import org.springframework.batch.infrastructure.item.ExecutionContext;
 import org.springframework.batch.infrastructure.item.json.JacksonJsonObjectMarshaller;
 
 import java.util.concurrent.Executors;
@@ -55,4 +56,26 @@ class EmulatorBigQueryWriteApiCommitedJsonItemWriterTest extends EmulatorBaseIte
 		Assertions.assertTrue(consumerCalled.get());
 	}
 
+	@Test
+	void testWrite_ReuseStream() throws Exception {
+		TableId tableId = TableId.of(TestConstants.PROJECT, TestConstants.DATASET,
+				NameUtils.generateTableName(TestConstants.JSON));
+		TableDefinition tableDefinition = StandardTableDefinition.of(PersonDto.getBigQuerySchema());
+		bigQuery.create(TableInfo.of(tableId, tableDefinition));
+
+		Chunk<PersonDto> expected = TestConstants.JAVA_RECORD_CHUNK;
+
+		BigQueryWriteApiCommitedJsonItemWriter<Object> writer = new BigQueryWriteApiCommitedJsonItemWriter<>();
+		writer.setBigQueryWriteClient(bigQueryWriteClient);
+		writer.setTableName(TableName.of(tableId.getProject(), tableId.getDataset(), tableId.getTable()));
+		writer.setMarshaller(new JacksonJsonObjectMarshaller<>());
+		writer.setReuseStream(true);
+
+		writer.open(new ExecutionContext());
+		writer.write(expected);
+		writer.close();
+
+		ResultVerifier.verifyJavaRecordTableResult(expected, bigQuery.listTableData(tableId));
+	}
+
 }
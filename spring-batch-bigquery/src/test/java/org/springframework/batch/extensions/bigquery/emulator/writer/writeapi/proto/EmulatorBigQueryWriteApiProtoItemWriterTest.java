@@ -0,0 +1,42 @@
+package org.springframework.batch.extensions.bigquery.emulator.writer.writeapi.proto;
+
+import com.google.cloud.bigquery.StandardTableDefinition;
+import com.google.cloud.bigquery.TableDefinition;
+import com.google.cloud.bigquery.TableId;
+import com.google.cloud.bigquery.TableInfo;
+import com.google.cloud.bigquery.storage.v1.TableName;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.extensions.bigquery.common.NameUtils;
+import org.springframework.batch.extensions.bigquery.common.PersonDto;
+import org.springframework.batch.extensions.bigquery.common.ResultVerifier;
+import org.springframework.batch.extensions.bigquery.common.TestConstants;
+import org.springframework.batch.extensions.bigquery.emulator.writer.base.EmulatorBaseItemWriterTest;
+import org.springframework.batch.extensions.bigquery.writer.writeapi.proto.BigQueryWriteApiProtoItemWriter;
+import org.springframework.batch.extensions.bigquery.writer.writeapi.proto.RecordProtoMessageMapper;
+import org.springframework.batch.infrastructure.item.Chunk;
+import org.springframework.batch.infrastructure.item.ExecutionContext;
+
+class EmulatorBigQueryWriteApiProtoItemWriterTest extends EmulatorBaseItemWriterTest {
+
+	@Test
+	void testWrite() throws Exception {
+		TableId tableId = TableId.of(TestConstants.PROJECT, TestConstants.DATASET,
+				NameUtils.generateTableName(TestConstants.JSON));
+		TableDefinition tableDefinition = StandardTableDefinition.of(PersonDto.getBigQuerySchema());
+		bigQuery.create(TableInfo.of(tableId, tableDefinition));
+
+		Chunk<PersonDto> expected = TestConstants.JAVA_RECORD_CHUNK;
+
+		BigQueryWriteApiProtoItemWriter<PersonDto> writer = new BigQueryWriteApiProtoItemWriter<>();
+		writer.setBigQueryWriteClient(bigQueryWriteClient);
+		writer.setTableName(TableName.of(tableId.getProject(), tableId.getDataset(), tableId.getTable()));
+		writer.setMessageMapper(new RecordProtoMessageMapper<>());
+
+		writer.open(new ExecutionContext());
+		writer.write(expected);
+		writer.close();
+
+		ResultVerifier.verifyJavaRecordTableResult(expected, bigQuery.listTableData(tableId));
+	}
+
+}
@@ -0,0 +1,177 @@
+/*
+ * Copyright 2002-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.batch.extensions.bigquery.unit.base;
+
+import com.google.api.gax.core.NoCredentialsProvider;
+import com.google.api.gax.grpc.GrpcTransportChannel;
+import com.google.api.gax.rpc.FixedTransportChannelProvider;
+import com.google.cloud.bigquery.storage.v1.AppendRowsRequest;
+import com.google.cloud.bigquery.storage.v1.AppendRowsResponse;
+import com.google.cloud.bigquery.storage.v1.BigQueryWriteClient;
+import com.google.cloud.bigquery.storage.v1.BigQueryWriteGrpc;
+import com.google.cloud.bigquery.storage.v1.BigQueryWriteSettings;
+import com.google.cloud.bigquery.storage.v1.CreateWriteStreamRequest;
+import com.google.cloud.bigquery.storage.v1.FinalizeWriteStreamRequest;
+import com.google.cloud.bigquery.storage.v1.FinalizeWriteStreamResponse;
+import com.google.cloud.bigquery.storage.v1.GetWriteStreamRequest;
+import com.google.cloud.bigquery.storage.v1.StorageError;
+import com.google.cloud.bigquery.storage.v1.TableSchema;
+import com.google.cloud.bigquery.storage.v1.WriteStream;
+import com.google.protobuf.Any;
+import com.google.protobuf.Int64Value;
+import com.google.rpc.Code;
+import com.google.rpc.Status;
+import io.grpc.ManagedChannel;
+import io.grpc.Server;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.stub.StreamObserver;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * In-process BigQuery Storage Write API, so that writers can be tested with a real
+ * {@link BigQueryWriteClient} and stream writer. Every append is recorded and answered by
+ * a responder that confirms it by default.
+ */
+public final class InProcessBigQueryWrite extends BigQueryWriteGrpc.BigQueryWriteImplBase implements AutoCloseable {
+
+	private final List<AppendRowsRequest> appendRequests = new CopyOnWriteArrayList<>();
+
+	private final AtomicLong rowCount = new AtomicLong();
+
+	private final TableSchema tableSchema;
+
+	private final Server server;
+
+	private final ManagedChannel channel;
+
+	private volatile Function<AppendRowsRequest, AppendRowsResponse> responder = InProcessBigQueryWrite::confirm;
+
+	public InProcessBigQueryWrite(TableSchema tableSchema) throws IOException {
+		this.tableSchema = tableSchema;
+		String serverName = InProcessServerBuilder.generateName();
+		this.server = InProcessServerBuilder.forName(serverName).directExecutor().addService(this).build().start();
+		this.channel = InProcessChannelBuilder.forName(serverName).directExecutor().build();
+	}
+
+	public BigQueryWriteClient createClient() throws IOException {
+		return BigQueryWriteClient.create(BigQueryWriteSettings.newBuilder()
+			.setCredentialsProvider(NoCredentialsProvider.create())
+			.setTransportChannelProvider(FixedTransportChannelProvider.create(GrpcTransportChannel.create(channel)))
+			.build());
+	}
+
+	public void setResponder(Function<AppendRowsRequest, AppendRowsResponse> responder) {
+		this.responder = responder;
+	}
+
+	public List<AppendRowsRequest> getAppendRequests() {
+		return appendRequests;
+	}
+
+	public List<Long> getAppendOffsets() {
+		return appendRequests.stream().map(request -> request.getOffset().getValue()).toList();
+	}
+
+	public static AppendRowsResponse confirm(AppendRowsRequest request) {
+		return AppendRowsResponse.newBuilder()
+			.setAppendResult(AppendRowsResponse.AppendResult.newBuilder()
+				.setOffset(Int64Value.of(request.getOffset().getValue())))
+			.build();
+	}
+
+	public static AppendRowsResponse reject(AppendRowsRequest request, StorageError.StorageErrorCode errorCode) {
+		StorageError storageError = StorageError.newBuilder()
+			.setCode(errorCode)
+			.setEntity(request.getWriteStream())
+			.setErrorMessage(errorCode.name())
+			.build();
+		return AppendRowsResponse.newBuilder()
+			.setError(Status.newBuilder()
+				.setCode(errorCode == StorageError.StorageErrorCode.OFFSET_ALREADY_EXISTS ? Code.ALREADY_EXISTS_VALUE
+						: Code.INVALID_ARGUMENT_VALUE)
+				.setMessage(errorCode.name())
+				.addDetails(Any.pack(storageError)))
+			.build();
+	}
+
+	@Override
+	public void createWriteStream(CreateWriteStreamRequest request, StreamObserver<WriteStream> responseObserver) {
+		responseObserver.onNext(WriteStream.newBuilder()
+			.setName(request.getParent() + "/streams/test-stream-1")
+			.setType(request.getWriteStream().getType())
+			.setTableSchema(tableSchema)
+			.build());
+		responseObserver.onCompleted();
+	}
+
+	@Override
+	public void getWriteStream(GetWriteStreamRequest request, StreamObserver<WriteStream> responseObserver) {
+		responseObserver
+			.onNext(WriteStream.newBuilder().setName(request.getName()).setTableSchema(tableSchema).build());
+		responseObserver.onCompleted();
+	}
+
+	@Override
+	public void finalizeWriteStream(FinalizeWriteStreamRequest request,
+			StreamObserver<FinalizeWriteStreamResponse> responseObserver) {
+		responseObserver.onNext(FinalizeWriteStreamResponse.newBuilder().setRowCount(rowCount.get()).build());
+		responseObserver.onCompleted();
+	}
+
+	@Override
+	public StreamObserver<AppendRowsRequest> appendRows(StreamObserver<AppendRowsResponse> responseObserver) {
+		return new StreamObserver<>() {
+
+			@Override
+			public void onNext(AppendRowsRequest request) {
+				appendRequests.add(request);
+				AppendRowsResponse response = responder.apply(request);
+				if (!response.hasError()) {
+					rowCount.addAndGet(request.hasArrowRows() ? request.getArrowRows().getRows().getRowCount()
+							: request.getProtoRows().getRows().getSerializedRowsCount());
+				}
+				responseObserver.onNext(response);
+			}
+
+			@Override
+			public void onError(Throwable t) {
+			}
+
+			@Override
+			public void onCompleted() {
+				responseObserver.onCompleted();
+			}
+
+		};
+	}
+
+	@Override
+	public void close() throws InterruptedException {
+		channel.shutdownNow();
+		server.shutdownNow();
+		channel.awaitTermination(5, TimeUnit.SECONDS);
+		server.awaitTermination(5, TimeUnit.SECONDS);
+	}
+
+}
@@ -0,0 +1,219 @@
+package org.springframework.batch.extensions.bigquery.unit.reader.readapi;
+
+import com.google.api.gax.rpc.ServerStream;
+import com.google.api.gax.rpc.ServerStreamingCallable;
+import com.google.cloud.bigquery.storage.v1.AvroRows;
+import com.google.cloud.bigquery.storage.v1.AvroSchema;
+import com.google.cloud.bigquery.storage.v1.BigQueryReadClient;
+import com.google.cloud.bigquery.storage.v1.CreateReadSessionRequest;
+import com.google.cloud.bigquery.storage.v1.ReadRowsRequest;
+import com.google.cloud.bigquery.storage.v1.ReadRowsResponse;
+import com.google.cloud.bigquery.storage.v1.ReadSession;
+import com.google.cloud.bigquery.storage.v1.ReadStream;
+import com.google.cloud.bigquery.storage.v1.TableName;
+import com.google.protobuf.ByteString;
+import org.apache.avro.generic.GenericDatumWriter;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.avro.io.BinaryEncoder;
+import org.apache.avro.io.EncoderFactory;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.batch.extensions.bigquery.common.PersonDto;
+import org.springframework.batch.extensions.bigquery.common.TestConstants;
+import org.springframework.batch.extensions.bigquery.reader.readapi.BigQueryReadApiItemReader;
+import org.springframework.batch.extensions.bigquery.reader.readapi.BigQueryReadSessionPartitioner;
+import org.springframework.batch.infrastructure.item.ExecutionContext;
+import org.springframework.batch.infrastructure.item.ItemStreamException;
+import org.springframework.batch.infrastructure.item.ReaderNotOpenException;
+import org.springframework.core.convert.converter.Converter;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.List;
+
+class BigQueryReadApiItemReaderTest {
+
+	private static final TableName TABLE_NAME = TableName.of(TestConstants.PROJECT, TestConstants.DATASET, "persons");
+
+	private static final Converter<GenericRecord, PersonDto> ROW_MAPPER = row -> new PersonDto(
+			row.get(TestConstants.NAME).toString(), (Integer) row.get(TestConstants.AGE));
+
+	@Test
+	void testRead_NotOpened() {
+		BigQueryReadApiItemReader<PersonDto> reader = new BigQueryReadApiItemReader<>();
+		Assertions.assertThrows(ReaderNotOpenException.class, reader::read);
+	}
+
+	@Test
+	void testRead_AssignedStreams() throws IOException {
+		BigQueryReadClient readClient = Mockito.mock(BigQueryReadClient.class);
+		ServerStreamingCallable<ReadRowsRequest, ReadRowsResponse> callable = mockReadRows(readClient);
+		List<GenericRecord> rows = TestConstants.AVRO_GENERIC_CHUNK.getItems();
+		// the streams are stubbed before the outer stubbing starts
+		ServerStream<ReadRowsResponse> firstStream = mockServerStream(response(rows.get(0)));
+		ServerStream<ReadRowsResponse> secondStream = mockServerStream(response(rows.get(1)));
+		Mockito.when(callable.call(Mockito.any(ReadRowsRequest.class))).thenReturn(firstStream, secondStream);
+
+		BigQueryReadApiItemReader<PersonDto> reader = new BigQueryReadApiItemReader<>();
+		reader.setBigQueryReadClient(readClient);
+		reader.setRowMapper(ROW_MAPPER);
+
+		ExecutionContext executionContext = partitionContext("s1,s2");
+		reader.open(executionContext);
+
+		Assertions.assertEquals(rows.get(0).get(TestConstants.NAME).toString(), reader.read().name());
+		Assertions.assertEquals(rows.get(1).get(TestConstants.NAME).toString(), reader.read().name());
+		Assertions.assertNull(reader.read());
+
+		reader.update(executionContext);
+		reader.close();
+
+		Mockito.verify(callable).call(ReadRowsRequest.newBuilder().setReadStream("s1").setOffset(0).build());
+		Mockito.verify(callable).call(ReadRowsRequest.newBuilder().setReadStream("s2").setOffset(0).build());
+		Mockito.verify(readClient, Mockito.never()).createReadSession(Mockito.any(CreateReadSessionRequest.class));
+		Assertions.assertEquals(2, executionContext.getInt(BigQueryReadApiItemReader.STREAM_INDEX_KEY));
+	}
+
+	@Test
+	void testRead_Restart() throws IOException {
+		BigQueryReadClient readClient = Mockito.mock(BigQueryReadClient.class);
+		ServerStreamingCallable<ReadRowsRequest, ReadRowsResponse> callable = mockReadRows(readClient);
+		List<GenericRecord> rows = TestConstants.AVRO_GENERIC_CHUNK.getItems();
+		ServerStream<ReadRowsResponse> serverStream = mockServerStream(response(rows.get(1)));
+		Mockito.when(callable.call(Mockito.any(ReadRowsRequest.class))).thenReturn(serverStream);
+
+		BigQueryReadApiItemReader<PersonDto> reader = new BigQueryReadApiItemReader<>();
+		reader.setBigQueryReadClient(readClient);
+		reader.setRowMapper(ROW_MAPPER);
+
+		ExecutionContext executionContext = partitionContext("s1,s2");
+		executionContext.putInt(BigQueryReadApiItemReader.STREAM_INDEX_KEY, 1);
+		executionContext.putLong(BigQueryReadApiItemReader.OFFSET_KEY, 5L);
+		reader.open(executionContext);
+
+		Assertions.assertEquals(rows.get(1).get(TestConstants.NAME).toString(), reader.read().name());
+		reader.update(executionContext);
+
+		Mockito.verify(callable).call(ReadRowsRequest.newBuilder().setReadStream("s2").setOffset(5).build());
+		Assertions.assertEquals(1, executionContext.getInt(BigQueryReadApiItemReader.STREAM_INDEX_KEY));
+		Assertions.assertEquals(6L, executionContext.getLong(BigQueryReadApiItemReader.OFFSET_KEY));
+	}
+
+	@Test
+	void testRead_NoStreamsAssigned() throws IOException {
+		BigQueryReadClient readClient = Mockito.mock(BigQueryReadClient.class);
+
+		BigQueryReadApiItemReader<PersonDto> reader = new BigQueryReadApiItemReader<>();
+		reader.setBigQueryReadClient(readClient);
+		reader.setRowMapper(ROW_MAPPER);
+
+		reader.open(partitionContext(""));
+
+		Assertions.assertNull(reader.read());
+		Mockito.verifyNoInteractions(readClient);
+	}
+
+	@Test
+	void testOpen_CreatesSession() {
+		BigQueryReadClient readClient = Mockito.mock(BigQueryReadClient.class);
+		Mockito.when(readClient.createReadSession(Mockito.any(CreateReadSessionRequest.class)))
+			.thenReturn(ReadSession.newBuilder()
+				.setAvroSchema(AvroSchema.newBuilder().setSchema(PersonDto.getAvroSchema().toString()))
+				.addStreams(ReadStream.newBuilder().setName("s1"))
+				.build());
+
+		BigQueryReadApiItemReader<PersonDto> reader = new BigQueryReadApiItemReader<>();
+		reader.setBigQueryReadClient(readClient);
+		reader.setRowMapper(ROW_MAPPER);
+		reader.setTableName(TABLE_NAME);
+		reader.setSelectedFields(List.of(TestConstants.NAME, TestConstants.AGE));
+		reader.setRowRestriction("age > 18");
+
+		ExecutionContext executionContext = new ExecutionContext();
+		reader.open(executionContext);
+		reader.update(executionContext);
+
+		Mockito.verify(readClient)
+			.createReadSession(Mockito.<CreateReadSessionRequest>argThat(request -> request.getMaxStreamCount() == 1
+					&& request.getReadSession().getReadOptions().getRowRestriction().equals("age > 18")
+					&& request.getReadSession().getReadOptions().getSelectedFieldsCount() == 2));
+		Assertions.assertEquals("s1", executionContext.getString(BigQueryReadSessionPartitioner.READ_STREAMS_KEY));
+	}
+
+	@Test
+	void testOpen_NoTableName() {
+		BigQueryReadApiItemReader<PersonDto> reader = new BigQueryReadApiItemReader<>();
+		reader.setBigQueryReadClient(Mockito.mock(BigQueryReadClient.class));
+
+		ItemStreamException ex = Assertions.assertThrows(ItemStreamException.class,
+				() -> reader.open(new ExecutionContext()));
+		Assertions.assertEquals("Table name must be provided when no read streams are assigned", ex.getMessage());
+	}
+
+	@Test
+	void testAfterPropertiesSet() {
+		BigQueryReadApiItemReader<PersonDto> reader = new BigQueryReadApiItemReader<>();
+
+		// bigQueryReadClient
+		IllegalArgumentException ex = Assertions.assertThrows(IllegalArgumentException.class,
+				reader::afterPropertiesSet);
+		Assertions.assertEquals("BigQuery read client must be provided", ex.getMessage());
+
+		// rowMapper
+		reader.setBigQueryReadClient(Mockito.mock(BigQueryReadClient.class));
+		ex = Assertions.assertThrows(IllegalArgumentException.class, reader::afterPropertiesSet);
+		Assertions.assertEquals("Row mapper must be provided", ex.getMessage());
+
+		// maxStreamCount
+		reader.setRowMapper(ROW_MAPPER);
+		reader.setMaxStreamCount(0);
+		ex = Assertions.assertThrows(IllegalArgumentException.class, reader::afterPropertiesSet);
+		Assertions.assertEquals("Max stream count must be positive", ex.getMessage());
+
+		// All good
+		reader.setMaxStreamCount(1);
+		Assertions.assertDoesNotThrow(reader::afterPropertiesSet);
+	}
+
+	private static ExecutionContext partitionContext(String streams) {
+		ExecutionContext executionContext = new ExecutionContext();
+		executionContext.putString(BigQueryReadSessionPartitioner.READ_STREAMS_KEY, streams);
+		executionContext.putString(BigQueryReadSessionPartitioner.AVRO_SCHEMA_KEY,
+				PersonDto.getAvroSchema().toString());
+		return executionContext;
+	}
+
+	@SuppressWarnings("unchecked")
+	private static ServerStreamingCallable<ReadRowsRequest, ReadRowsResponse> mockReadRows(
+			BigQueryReadClient readClient) {
+		ServerStreamingCallable<ReadRowsRequest, ReadRowsResponse> callable = Mockito
+			.mock(ServerStreamingCallable.class);
+		Mockito.when(readClient.readRowsCallable()).thenReturn(callable);
+		return callable;
+	}
+
+	@SuppressWarnings("unchecked")
+	private static ServerStream<ReadRowsResponse> mockServerStream(ReadRowsResponse... responses) {
+		ServerStream<ReadRowsResponse> serverStream = Mockito.mock(ServerStream.class);
+		Iterator<ReadRowsResponse> iterator = List.of(responses).iterator();
+		Mockito.when(serverStream.iterator()).thenReturn(iterator);
+		return serverStream;
+	}
+
+	private static ReadRowsResponse response(GenericRecord... rows) throws IOException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		BinaryEncoder encoder = EncoderFactory.get().binaryEncoder(out, null);
+		GenericDatumWriter<GenericRecord> writer = new GenericDatumWriter<>(PersonDto.getAvroSchema());
+		for (GenericRecord row : rows) {
+			writer.write(row, encoder);
+		}
+		encoder.flush();
+		return ReadRowsResponse.newBuilder()
+			.setAvroRows(AvroRows.newBuilder().setSerializedBinaryRows(ByteString.copyFrom(out.toByteArray())))
+			.setRowCount(rows.length)
+			.build();
+	}
+
+}
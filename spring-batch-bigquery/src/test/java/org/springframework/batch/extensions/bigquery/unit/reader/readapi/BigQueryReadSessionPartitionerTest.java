@@ -0,0 +1,140 @@
+package org.springframework.batch.extensions.bigquery.unit.reader.readapi;
+
+import com.google.cloud.bigquery.storage.v1.AvroSchema;
+import com.google.cloud.bigquery.storage.v1.BigQueryReadClient;
+import com.google.cloud.bigquery.storage.v1.CreateReadSessionRequest;
+import com.google.cloud.bigquery.storage.v1.DataFormat;
+import com.google.cloud.bigquery.storage.v1.ReadSession;
+import com.google.cloud.bigquery.storage.v1.ReadStream;
+import com.google.cloud.bigquery.storage.v1.TableName;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.springframework.batch.extensions.bigquery.common.PersonDto;
+import org.springframework.batch.extensions.bigquery.common.TestConstants;
+import org.springframework.batch.extensions.bigquery.reader.readapi.BigQueryReadSessionPartitioner;
+import org.springframework.batch.infrastructure.item.ExecutionContext;
+
+import java.util.List;
+import java.util.Map;
+
+class BigQueryReadSessionPartitionerTest {
+
+	private static final TableName TABLE_NAME = TableName.of(TestConstants.PROJECT, TestConstants.DATASET, "persons");
+
+	@Test
+	void testPartition() {
+		BigQueryReadClient readClient = mockReadClient("s1", "s2", "s3");
+
+		BigQueryReadSessionPartitioner partitioner = new BigQueryReadSessionPartitioner();
+		partitioner.setBigQueryReadClient(readClient);
+		partitioner.setTableName(TABLE_NAME);
+		partitioner.setSelectedFields(List.of(TestConstants.NAME));
+		partitioner.setRowRestriction("age > 18");
+
+		Map<String, ExecutionContext> partitions = partitioner.partition(2);
+
+		Assertions.assertEquals(2, partitions.size());
+		Assertions.assertEquals("s1,s3",
+				partitions.get("partition0").getString(BigQueryReadSessionPartitioner.READ_STREAMS_KEY));
+		Assertions.assertEquals("s2",
+				partitions.get("partition1").getString(BigQueryReadSessionPartitioner.READ_STREAMS_KEY));
+		Assertions.assertEquals(PersonDto.getAvroSchema().toString(),
+				partitions.get("partition1").getString(BigQueryReadSessionPartitioner.AVRO_SCHEMA_KEY));
+
+		ArgumentCaptor<CreateReadSessionRequest> captor = ArgumentCaptor.forClass(CreateReadSessionRequest.class);
+		Mockito.verify(readClient).createReadSession(captor.capture());
+		CreateReadSessionRequest request = captor.getValue();
+
+		Assertions.assertEquals("projects/" + TestConstants.PROJECT, request.getParent());
+		Assertions.assertEquals(2, request.getMaxStreamCount());
+		Assertions.assertEquals(TABLE_NAME.toString(), request.getReadSession().getTable());
+		Assertions.assertEquals(DataFormat.AVRO, request.getReadSession().getDataFormat());
+		Assertions.assertEquals(List.of(TestConstants.NAME),
+				request.getReadSession().getReadOptions().getSelectedFieldsList());
+		Assertions.assertEquals("age > 18", request.getReadSession().getReadOptions().getRowRestriction());
+	}
+
+	@Test
+	void testPartition_FewerStreams() {
+		BigQueryReadSessionPartitioner partitioner = new BigQueryReadSessionPartitioner();
+		partitioner.setBigQueryReadClient(mockReadClient("s1"));
+		partitioner.setTableName(TABLE_NAME);
+
+		Map<String, ExecutionContext> partitions = partitioner.partition(4);
+
+		Assertions.assertEquals(1, partitions.size());
+		Assertions.assertEquals("s1",
+				partitions.get("partition0").getString(BigQueryReadSessionPartitioner.READ_STREAMS_KEY));
+	}
+
+	@Test
+	void testPartition_NoStreams() {
+		BigQueryReadSessionPartitioner partitioner = new BigQueryReadSessionPartitioner();
+		partitioner.setBigQueryReadClient(mockReadClient());
+		partitioner.setTableName(TABLE_NAME);
+
+		Map<String, ExecutionContext> partitions = partitioner.partition(4);
+
+		Assertions.assertEquals(1, partitions.size());
+		Assertions.assertEquals("",
+				partitions.get("partition0").getString(BigQueryReadSessionPartitioner.READ_STREAMS_KEY));
+	}
+
+	@Test
+	void testPartition_MaxStreamCount() {
+		BigQueryReadClient readClient = mockReadClient("s1", "s2");
+
+		BigQueryReadSessionPartitioner partitioner = new BigQueryReadSessionPartitioner();
+		partitioner.setBigQueryReadClient(readClient);
+		partitioner.setTableName(TABLE_NAME);
+		partitioner.setMaxStreamCount(8);
+
+		partitioner.partition(2);
+
+		ArgumentCaptor<CreateReadSessionRequest> captor = ArgumentCaptor.forClass(CreateReadSessionRequest.class);
+		Mockito.verify(readClient).createReadSession(captor.capture());
+		Assertions.assertEquals(8, captor.getValue().getMaxStreamCount());
+	}
+
+	@Test
+	void testAfterPropertiesSet() {
+		BigQueryReadSessionPartitioner partitioner = new BigQueryReadSessionPartitioner();
+
+		// bigQueryReadClient
+		IllegalArgumentException ex = Assertions.assertThrows(IllegalArgumentException.class,
+				partitioner::afterPropertiesSet);
+		Assertions.assertEquals("BigQuery read client must be provided", ex.getMessage());
+
+		// tableName
+		partitioner.setBigQueryReadClient(Mockito.mock(BigQueryReadClient.class));
+		ex = Assertions.assertThrows(IllegalArgumentException.class, partitioner::afterPropertiesSet);
+		Assertions.assertEquals("Table name must be provided", ex.getMessage());
+
+		// maxStreamCount
+		partitioner.setTableName(TABLE_NAME);
+		partitioner.setMaxStreamCount(-1);
+		ex = Assertions.assertThrows(IllegalArgumentException.class, partitioner::afterPropertiesSet);
+		Assertions.assertEquals("Max stream count must not be negative", ex.getMessage());
+
+		// All good
+		partitioner.setMaxStreamCount(0);
+		Assertions.assertDoesNotThrow(partitioner::afterPropertiesSet);
+	}
+
+	private static BigQueryReadClient mockReadClient(String... streams) {
+		ReadSession.Builder session = ReadSession.newBuilder()
+			.setName("projects/" + TestConstants.PROJECT + "/locations/us/sessions/session-1")
+			.setAvroSchema(AvroSchema.newBuilder().setSchema(PersonDto.getAvroSchema().toString()));
+		for (String stream : streams) {
+			session.addStreams(ReadStream.newBuilder().setName(stream));
+		}
+
+		BigQueryReadClient readClient = Mockito.mock(BigQueryReadClient.class);
+		Mockito.when(readClient.createReadSession(Mockito.any(CreateReadSessionRequest.class)))
+			.thenReturn(session.build());
+		return readClient;
+	}
+
+}
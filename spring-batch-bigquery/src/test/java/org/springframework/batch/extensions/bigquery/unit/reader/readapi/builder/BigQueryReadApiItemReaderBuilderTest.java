@@ -0,0 +1,75 @@
+package org.springframework.batch.extensions.bigquery.unit.reader.readapi.builder;
+
+import com.google.cloud.bigquery.storage.v1.BigQueryReadClient;
+import com.google.cloud.bigquery.storage.v1.TableName;
+import org.apache.avro.generic.GenericRecord;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.batch.extensions.bigquery.common.PersonDto;
+import org.springframework.batch.extensions.bigquery.common.TestConstants;
+import org.springframework.batch.extensions.bigquery.reader.readapi.BigQueryReadApiItemReader;
+import org.springframework.batch.extensions.bigquery.reader.readapi.builder.BigQueryReadApiItemReaderBuilder;
+import org.springframework.core.convert.converter.Converter;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.util.List;
+
+class BigQueryReadApiItemReaderBuilderTest {
+
+	@Test
+	void testBuild() throws IOException, IllegalAccessException, NoSuchFieldException {
+		MethodHandles.Lookup handle = MethodHandles.privateLookupIn(BigQueryReadApiItemReader.class,
+				MethodHandles.lookup());
+
+		BigQueryReadClient expectedReadClient = Mockito.mock(BigQueryReadClient.class);
+		TableName expectedTableName = TableName.of(TestConstants.PROJECT, TestConstants.DATASET, "persons");
+		Converter<GenericRecord, PersonDto> expectedRowMapper = row -> new PersonDto(
+				row.get(TestConstants.NAME).toString(), (Integer) row.get(TestConstants.AGE));
+		List<String> expectedSelectedFields = List.of(TestConstants.NAME);
+
+		BigQueryReadApiItemReader<PersonDto> reader = new BigQueryReadApiItemReaderBuilder<PersonDto>()
+			.bigQueryReadClient(expectedReadClient)
+			.rowMapper(expectedRowMapper)
+			.tableName(expectedTableName)
+			.selectedFields(expectedSelectedFields)
+			.rowRestriction("age > 18")
+			.maxStreamCount(4)
+			.build();
+
+		Assertions.assertNotNull(reader);
+
+		BigQueryReadClient actualReadClient = (BigQueryReadClient) handle
+			.findVarHandle(BigQueryReadApiItemReader.class, "bigQueryReadClient", BigQueryReadClient.class)
+			.get(reader);
+
+		Converter<GenericRecord, PersonDto> actualRowMapper = (Converter<GenericRecord, PersonDto>) handle
+			.findVarHandle(BigQueryReadApiItemReader.class, "rowMapper", Converter.class)
+			.get(reader);
+
+		TableName actualTableName = (TableName) handle
+			.findVarHandle(BigQueryReadApiItemReader.class, "tableName", TableName.class)
+			.get(reader);
+
+		List<String> actualSelectedFields = (List<String>) handle
+			.findVarHandle(BigQueryReadApiItemReader.class, "selectedFields", List.class)
+			.get(reader);
+
+		String actualRowRestriction = (String) handle
+			.findVarHandle(BigQueryReadApiItemReader.class, "rowRestriction", String.class)
+			.get(reader);
+
+		int actualMaxStreamCount = (int) handle
+			.findVarHandle(BigQueryReadApiItemReader.class, "maxStreamCount", int.class)
+			.get(reader);
+
+		Assertions.assertEquals(expectedReadClient, actualReadClient);
+		Assertions.assertEquals(expectedRowMapper, actualRowMapper);
+		Assertions.assertEquals(expectedTableName, actualTableName);
+		Assertions.assertEquals(expectedSelectedFields, actualSelectedFields);
+		Assertions.assertEquals("age > 18", actualRowRestriction);
+		Assertions.assertEquals(4, actualMaxStreamCount);
+	}
+
+}
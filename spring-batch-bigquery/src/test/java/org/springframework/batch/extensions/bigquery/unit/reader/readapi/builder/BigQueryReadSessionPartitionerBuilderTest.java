@@ -0,0 +1,56 @@
+package org.springframework.batch.extensions.bigquery.unit.reader.readapi.builder;
+
+import com.google.cloud.bigquery.storage.v1.BigQueryReadClient;
+import com.google.cloud.bigquery.storage.v1.TableName;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.batch.extensions.bigquery.common.TestConstants;
+import org.springframework.batch.extensions.bigquery.reader.readapi.BigQueryReadSessionPartitioner;
+import org.springframework.batch.extensions.bigquery.reader.readapi.builder.BigQueryReadSessionPartitionerBuilder;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+
+class BigQueryReadSessionPartitionerBuilderTest {
+
+	@Test
+	void testBuild() throws IOException, IllegalAccessException, NoSuchFieldException {
+		MethodHandles.Lookup handle = MethodHandles.privateLookupIn(BigQueryReadSessionPartitioner.class,
+				MethodHandles.lookup());
+
+		BigQueryReadClient expectedReadClient = Mockito.mock(BigQueryReadClient.class);
+		TableName expectedTableName = TableName.of(TestConstants.PROJECT, TestConstants.DATASET, "persons");
+
+		BigQueryReadSessionPartitioner partitioner = new BigQueryReadSessionPartitionerBuilder()
+			.bigQueryReadClient(expectedReadClient)
+			.tableName(expectedTableName)
+			.rowRestriction("age > 18")
+			.maxStreamCount(8)
+			.build();
+
+		Assertions.assertNotNull(partitioner);
+
+		BigQueryReadClient actualReadClient = (BigQueryReadClient) handle
+			.findVarHandle(BigQueryReadSessionPartitioner.class, "bigQueryReadClient", BigQueryReadClient.class)
+			.get(partitioner);
+
+		TableName actualTableName = (TableName) handle
+			.findVarHandle(BigQueryReadSessionPartitioner.class, "tableName", TableName.class)
+			.get(partitioner);
+
+		String actualRowRestriction = (String) handle
+			.findVarHandle(BigQueryReadSessionPartitioner.class, "rowRestriction", String.class)
+			.get(partitioner);
+
+		int actualMaxStreamCount = (int) handle
+			.findVarHandle(BigQueryReadSessionPartitioner.class, "maxStreamCount", int.class)
+			.get(partitioner);
+
+		Assertions.assertEquals(expectedReadClient, actualReadClient);
+		Assertions.assertEquals(expectedTableName, actualTableName);
+		Assertions.assertEquals("age > 18", actualRowRestriction);
+		Assertions.assertEquals(8, actualMaxStreamCount);
+	}
+
+}
@@ -0,0 +1,67 @@
+package org.springframework.batch.extensions.bigquery.unit.writer.writeapi;
+
+import com.google.api.core.ApiFutures;
+import com.google.api.core.SettableApiFuture;
+import com.google.cloud.bigquery.storage.v1.AppendRowsResponse;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.extensions.bigquery.writer.writeapi.InFlightAppends;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+class InFlightAppendsTest {
+
+	@Test
+	void testAwaitAll() throws Exception {
+		InFlightAppends appends = new InFlightAppends(2);
+
+		appends.add(ApiFutures.immediateFuture(AppendRowsResponse.getDefaultInstance()), 3);
+		appends.add(ApiFutures.immediateFuture(AppendRowsResponse.getDefaultInstance()), 2);
+		Assertions.assertEquals(2, appends.size());
+
+		appends.awaitAll();
+
+		Assertions.assertEquals(0, appends.size());
+		Assertions.assertEquals(5, appends.getConfirmedRows());
+	}
+
+	@Test
+	void testAwaitCapacity() throws Exception {
+		InFlightAppends appends = new InFlightAppends(2);
+		SettableApiFuture<AppendRowsResponse> oldest = SettableApiFuture.create();
+
+		appends.add(oldest, 3);
+		appends.add(SettableApiFuture.create(), 2);
+
+		Executors.newSingleThreadScheduledExecutor()
+			.schedule(() -> oldest.set(AppendRowsResponse.getDefaultInstance()), 100, TimeUnit.MILLISECONDS);
+		appends.awaitCapacity();
+
+		Assertions.assertEquals(1, appends.size());
+		Assertions.assertEquals(3, appends.getConfirmedRows());
+	}
+
+	@Test
+	void testAwaitAll_Failure() {
+		InFlightAppends appends = new InFlightAppends(3);
+
+		appends.add(ApiFutures.immediateFuture(AppendRowsResponse.getDefaultInstance()), 3);
+		appends.add(ApiFutures.immediateFailedFuture(new IllegalStateException("append failed")), 2);
+		appends.add(SettableApiFuture.create(), 4);
+
+		ExecutionException ex = Assertions.assertThrows(ExecutionException.class, appends::awaitAll);
+		Assertions.assertEquals("append failed", ex.getCause().getMessage());
+		Assertions.assertEquals(0, appends.size());
+		Assertions.assertEquals(3, appends.getConfirmedRows());
+	}
+
+	@Test
+	void testMaxInFlight() {
+		IllegalArgumentException ex = Assertions.assertThrows(IllegalArgumentException.class,
+				() -> new InFlightAppends(0));
+		Assertions.assertEquals("Max in-flight appends must be positive", ex.getMessage());
+	}
+
+}
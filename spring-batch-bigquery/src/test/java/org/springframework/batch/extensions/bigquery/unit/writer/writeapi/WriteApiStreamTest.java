@@ -0,0 +1,123 @@
+package org.springframework.batch.extensions.bigquery.unit.writer.writeapi;
+
+import com.google.api.core.ApiFuture;
+import com.google.api.core.ApiFutures;
+import com.google.cloud.bigquery.storage.v1.AppendRowsResponse;
+import com.google.cloud.bigquery.storage.v1.BigQueryWriteClient;
+import com.google.cloud.bigquery.storage.v1.CreateWriteStreamRequest;
+import com.google.cloud.bigquery.storage.v1.FinalizeWriteStreamResponse;
+import com.google.cloud.bigquery.storage.v1.GetWriteStreamRequest;
+import com.google.cloud.bigquery.storage.v1.TableName;
+import com.google.cloud.bigquery.storage.v1.WriteStream;
+import com.google.cloud.bigquery.storage.v1.WriteStreamView;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.batch.extensions.bigquery.common.TestConstants;
+import org.springframework.batch.extensions.bigquery.writer.writeapi.WriteApiStream;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+
+class WriteApiStreamTest {
+
+	private static final TableName TABLE_NAME = TableName.of(TestConstants.PROJECT, TestConstants.DATASET,
+			TestConstants.JSON);
+
+	private static final String STREAM_NAME = TABLE_NAME + "/streams/test-stream-1";
+
+	private final List<Long> offsets = new ArrayList<>();
+
+	@Test
+	void testAppend_CommittedStream() throws Exception {
+		BigQueryWriteClient writeClient = mockWriteClient(3);
+		AutoCloseable streamWriter = Mockito.mock(AutoCloseable.class);
+
+		WriteApiStream<AutoCloseable> stream = new WriteApiStream<>(writeClient, TABLE_NAME, false, 1, true, null,
+				null);
+		stream.open(writeStream -> streamWriter);
+		stream.append(this::confirm, 2);
+		stream.append(this::confirm, 1);
+		stream.close();
+
+		Assertions.assertEquals(List.of(0L, 2L), offsets);
+		Mockito.verify(writeClient).createWriteStream(Mockito.any(CreateWriteStreamRequest.class));
+		Mockito.verify(writeClient).finalizeWriteStream(STREAM_NAME);
+		Mockito.verify(streamWriter).close();
+	}
+
+	@Test
+	void testAppend_DefaultStream() throws Exception {
+		BigQueryWriteClient writeClient = Mockito.mock(BigQueryWriteClient.class);
+		Mockito.when(writeClient.getWriteStream(Mockito.any(GetWriteStreamRequest.class)))
+			.thenReturn(WriteStream.newBuilder().setName(TABLE_NAME + "/streams/_default").build());
+
+		WriteApiStream<AutoCloseable> stream = new WriteApiStream<>(writeClient, TABLE_NAME, true, 1, true, null, null);
+		stream.open(writeStream -> Mockito.mock(AutoCloseable.class));
+		stream.append(this::confirm, 2);
+		stream.close();
+
+		Assertions.assertEquals(List.of(-1L), offsets);
+		Mockito.verify(writeClient)
+			.getWriteStream(GetWriteStreamRequest.newBuilder()
+				.setName(TABLE_NAME + "/streams/_default")
+				.setView(WriteStreamView.FULL)
+				.build());
+		Mockito.verify(writeClient, Mockito.never()).finalizeWriteStream(Mockito.anyString());
+	}
+
+	@Test
+	void testAppend_JoinedFailure() throws Exception {
+		WriteApiStream<AutoCloseable> stream = new WriteApiStream<>(mockWriteClient(2), TABLE_NAME, false, 1, true,
+				null, null);
+		stream.open(writeStream -> Mockito.mock(AutoCloseable.class));
+
+		Assertions.assertThrows(ExecutionException.class, () -> stream.append(this::reject, 2));
+		stream.append(this::confirm, 2);
+		stream.close();
+
+		// the failed append is retried at its offset
+		Assertions.assertEquals(List.of(0L, 0L), offsets);
+	}
+
+	@Test
+	void testAppend_NotJoinedFailure() throws Exception {
+		BigQueryWriteClient writeClient = mockWriteClient(2);
+		WriteApiStream<AutoCloseable> stream = new WriteApiStream<>(writeClient, TABLE_NAME, false, 2, false, null,
+				null);
+		stream.open(writeStream -> Mockito.mock(AutoCloseable.class));
+
+		stream.append(this::reject, 2);
+		stream.append(this::confirm, 2);
+		Assertions.assertThrows(ExecutionException.class, () -> stream.append(this::confirm, 2));
+
+		IllegalStateException ex = Assertions.assertThrows(IllegalStateException.class,
+				() -> stream.append(this::confirm, 2));
+		Assertions.assertEquals("An append failed after its chunk was committed", ex.getMessage());
+		Assertions.assertThrows(IllegalStateException.class, stream::close);
+
+		Assertions.assertEquals(List.of(0L, 2L), offsets);
+		Mockito.verify(writeClient).finalizeWriteStream(STREAM_NAME);
+	}
+
+	private ApiFuture<AppendRowsResponse> confirm(AutoCloseable streamWriter, long offset) {
+		offsets.add(offset);
+		return ApiFutures.immediateFuture(AppendRowsResponse.getDefaultInstance());
+	}
+
+	private ApiFuture<AppendRowsResponse> reject(AutoCloseable streamWriter, long offset) {
+		offsets.add(offset);
+		return ApiFutures.immediateFailedFuture(new IllegalStateException("Rejected"));
+	}
+
+	private static BigQueryWriteClient mockWriteClient(long rowCount) {
+		BigQueryWriteClient writeClient = Mockito.mock(BigQueryWriteClient.class);
+		Mockito.when(writeClient.createWriteStream(Mockito.any(CreateWriteStreamRequest.class)))
+			.thenReturn(WriteStream.newBuilder().setName(STREAM_NAME).build());
+		Mockito.when(writeClient.finalizeWriteStream(STREAM_NAME))
+			.thenReturn(FinalizeWriteStreamResponse.newBuilder().setRowCount(rowCount).build());
+		return writeClient;
+	}
+
+}
@@ -0,0 +1,80 @@
+package org.springframework.batch.extensions.bigquery.unit.writer.writeapi.arrow;
+
+import com.google.cloud.bigquery.storage.v1.TableFieldSchema;
+import com.google.cloud.bigquery.storage.v1.TableSchema;
+import org.apache.arrow.vector.types.DateUnit;
+import org.apache.arrow.vector.types.FloatingPointPrecision;
+import org.apache.arrow.vector.types.TimeUnit;
+import org.apache.arrow.vector.types.pojo.ArrowType;
+import org.apache.arrow.vector.types.pojo.Schema;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.extensions.bigquery.common.PersonDto;
+import org.springframework.batch.extensions.bigquery.common.TestConstants;
+import org.springframework.batch.extensions.bigquery.writer.writeapi.arrow.ArrowSchemaConverter;
+
+class ArrowSchemaConverterTest {
+
+	@Test
+	void testConvert() {
+		Schema schema = ArrowSchemaConverter.convert(PersonDto.getWriteApiSchema());
+
+		Assertions.assertEquals(2, schema.getFields().size());
+		Assertions.assertEquals(ArrowType.Utf8.INSTANCE, schema.findField(TestConstants.NAME).getType());
+		Assertions.assertEquals(new ArrowType.Int(64, true), schema.findField(TestConstants.AGE).getType());
+		Assertions.assertFalse(schema.findField(TestConstants.NAME).isNullable());
+	}
+
+	@Test
+	void testConvert_AllTypes() {
+		TableSchema tableSchema = TableSchema.newBuilder()
+			.addFields(field("double", TableFieldSchema.Type.DOUBLE))
+			.addFields(field("bool", TableFieldSchema.Type.BOOL))
+			.addFields(field("bytes", TableFieldSchema.Type.BYTES))
+			.addFields(field("date", TableFieldSchema.Type.DATE))
+			.addFields(field("timestamp", TableFieldSchema.Type.TIMESTAMP))
+			.addFields(field("numeric", TableFieldSchema.Type.NUMERIC))
+			.addFields(field("json", TableFieldSchema.Type.JSON))
+			.build();
+
+		Schema schema = ArrowSchemaConverter.convert(tableSchema);
+
+		Assertions.assertEquals(new ArrowType.FloatingPoint(FloatingPointPrecision.DOUBLE),
+				schema.findField("double").getType());
+		Assertions.assertEquals(ArrowType.Bool.INSTANCE, schema.findField("bool").getType());
+		Assertions.assertEquals(ArrowType.Binary.INSTANCE, schema.findField("bytes").getType());
+		Assertions.assertEquals(new ArrowType.Date(DateUnit.DAY), schema.findField("date").getType());
+		Assertions.assertEquals(new ArrowType.Timestamp(TimeUnit.MICROSECOND, "UTC"),
+				schema.findField("timestamp").getType());
+		Assertions.assertEquals(new ArrowType.Decimal(38, 9, 128), schema.findField("numeric").getType());
+		Assertions.assertEquals(ArrowType.Utf8.INSTANCE, schema.findField("json").getType());
+		Assertions.assertTrue(schema.findField("json").isNullable());
+	}
+
+	@Test
+	void testConvert_Repeated() {
+		TableSchema tableSchema = TableSchema.newBuilder()
+			.addFields(field("tags", TableFieldSchema.Type.STRING).toBuilder().setMode(TableFieldSchema.Mode.REPEATED))
+			.build();
+
+		IllegalArgumentException ex = Assertions.assertThrows(IllegalArgumentException.class,
+				() -> ArrowSchemaConverter.convert(tableSchema));
+		Assertions.assertEquals("Repeated field tags is not supported", ex.getMessage());
+	}
+
+	@Test
+	void testConvert_UnsupportedType() {
+		TableSchema tableSchema = TableSchema.newBuilder()
+			.addFields(field("address", TableFieldSchema.Type.STRUCT))
+			.build();
+
+		IllegalArgumentException ex = Assertions.assertThrows(IllegalArgumentException.class,
+				() -> ArrowSchemaConverter.convert(tableSchema));
+		Assertions.assertEquals("Field address of type STRUCT is not supported", ex.getMessage());
+	}
+
+	private static TableFieldSchema field(String name, TableFieldSchema.Type type) {
+		return TableFieldSchema.newBuilder().setName(name).setType(type).build();
+	}
+
+}
@@ -0,0 +1,163 @@
+package org.springframework.batch.extensions.bigquery.unit.writer.writeapi.arrow;
+
+import com.google.cloud.bigquery.storage.v1.AppendRowsRequest;
+import com.google.cloud.bigquery.storage.v1.BigQueryWriteClient;
+import com.google.cloud.bigquery.storage.v1.CreateWriteStreamRequest;
+import com.google.cloud.bigquery.storage.v1.TableName;
+import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.memory.RootAllocator;
+import org.apache.arrow.vector.VectorLoader;
+import org.apache.arrow.vector.VectorSchemaRoot;
+import org.apache.arrow.vector.ipc.ReadChannel;
+import org.apache.arrow.vector.ipc.message.ArrowRecordBatch;
+import org.apache.arrow.vector.ipc.message.MessageSerializer;
+import org.apache.arrow.vector.types.pojo.Schema;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.batch.extensions.bigquery.common.PersonDto;
+import org.springframework.batch.extensions.bigquery.common.TestConstants;
+import org.springframework.batch.extensions.bigquery.unit.base.InProcessBigQueryWrite;
+import org.springframework.batch.extensions.bigquery.writer.BigQueryItemWriterException;
+import org.springframework.batch.extensions.bigquery.writer.writeapi.arrow.ArrowSchemaConverter;
+import org.springframework.batch.extensions.bigquery.writer.writeapi.arrow.BigQueryWriteApiArrowItemWriter;
+import org.springframework.batch.extensions.bigquery.writer.writeapi.arrow.PropertyArrowVectorMapper;
+import org.springframework.batch.infrastructure.item.Chunk;
+import org.springframework.batch.infrastructure.item.ExecutionContext;
+import org.springframework.batch.infrastructure.item.ItemStreamException;
+
+import java.io.ByteArrayInputStream;
+import java.nio.channels.Channels;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+
+class BigQueryWriteApiArrowItemWriterTest {
+
+	private static final TableName TABLE_NAME = TableName.of(TestConstants.PROJECT, TestConstants.DATASET,
+			TestConstants.JSON);
+
+	@Test
+	void testWrite_Empty() throws Exception {
+		BigQueryWriteClient writeClient = Mockito.mock(BigQueryWriteClient.class);
+		BigQueryWriteApiArrowItemWriter<PersonDto> writer = new BigQueryWriteApiArrowItemWriter<>();
+		writer.setBigQueryWriteClient(writeClient);
+
+		writer.write(Chunk.of());
+
+		Mockito.verifyNoInteractions(writeClient);
+	}
+
+	@Test
+	void testWrite_NotOpened() {
+		BigQueryItemWriterException ex = Assertions.assertThrows(BigQueryItemWriterException.class,
+				() -> new BigQueryWriteApiArrowItemWriter<PersonDto>().write(TestConstants.JAVA_RECORD_CHUNK));
+		Assertions.assertEquals("Stream is not opened, open() must be called first", ex.getMessage());
+	}
+
+	@Test
+	void testWrite() throws Exception {
+		try (InProcessBigQueryWrite bigQueryWrite = new InProcessBigQueryWrite(PersonDto.getWriteApiSchema());
+				BigQueryWriteClient writeClient = bigQueryWrite.createClient()) {
+			BigQueryWriteApiArrowItemWriter<PersonDto> writer = new BigQueryWriteApiArrowItemWriter<>();
+			writer.setTableName(TABLE_NAME);
+			writer.setBigQueryWriteClient(writeClient);
+			writer.setVectorMapper(new PropertyArrowVectorMapper<>());
+
+			// the second chunk is smaller, so rows of the first one must not leak into it
+			writer.open(new ExecutionContext());
+			writer.write(TestConstants.JAVA_RECORD_CHUNK);
+			writer.write(Chunk.of(new PersonDto("Oleksandr", 30)));
+			writer.close();
+
+			long rowCount = TestConstants.JAVA_RECORD_CHUNK.size();
+			Assertions.assertEquals(List.of(0L, rowCount), bigQueryWrite.getAppendOffsets());
+
+			List<AppendRowsRequest> requests = bigQueryWrite.getAppendRequests();
+			Assertions.assertEquals(TestConstants.JAVA_RECORD_CHUNK.getItems(), decode(requests.get(0)));
+			Assertions.assertEquals(List.of(new PersonDto("Oleksandr", 30)), decode(requests.get(1)));
+		}
+	}
+
+	@Test
+	void testOpen_Failure() {
+		BigQueryWriteClient writeClient = Mockito.mock(BigQueryWriteClient.class);
+		Mockito.when(writeClient.createWriteStream(Mockito.any(CreateWriteStreamRequest.class)))
+			.thenThrow(new IllegalStateException("Unavailable"));
+
+		BigQueryWriteApiArrowItemWriter<PersonDto> writer = new BigQueryWriteApiArrowItemWriter<>();
+		writer.setTableName(TABLE_NAME);
+		writer.setBigQueryWriteClient(writeClient);
+		writer.setVectorMapper(new PropertyArrowVectorMapper<>());
+
+		ItemStreamException ex = Assertions.assertThrows(ItemStreamException.class,
+				() -> writer.open(new ExecutionContext()));
+		Assertions.assertEquals("Error on stream open happened", ex.getMessage());
+
+		// nothing to close, as the stream was not opened
+		Assertions.assertDoesNotThrow(writer::close);
+	}
+
+	@Test
+	void testAfterPropertiesSet() {
+		BigQueryWriteApiArrowItemWriter<PersonDto> writer = new BigQueryWriteApiArrowItemWriter<>();
+
+		// bigQueryWriteClient
+		IllegalArgumentException ex = Assertions.assertThrows(IllegalArgumentException.class,
+				writer::afterPropertiesSet);
+		Assertions.assertEquals("BigQuery write client must be provided", ex.getMessage());
+
+		// tableName
+		writer.setBigQueryWriteClient(Mockito.mock(BigQueryWriteClient.class));
+		ex = Assertions.assertThrows(IllegalArgumentException.class, writer::afterPropertiesSet);
+		Assertions.assertEquals("Table name must be provided", ex.getMessage());
+
+		// vectorMapper
+		writer.setTableName(TABLE_NAME);
+		ex = Assertions.assertThrows(IllegalArgumentException.class, writer::afterPropertiesSet);
+		Assertions.assertEquals("Vector mapper must be provided", ex.getMessage());
+
+		// executor
+		writer.setVectorMapper(new PropertyArrowVectorMapper<>());
+		writer.setApiFutureCallback(Mockito.mock());
+		ex = Assertions.assertThrows(IllegalArgumentException.class, writer::afterPropertiesSet);
+		Assertions.assertEquals("Executor must be provided", ex.getMessage());
+
+		// maxInFlightAppends
+		writer.setExecutor(Executors.newSingleThreadExecutor());
+		writer.setMaxInFlightAppends(0);
+		ex = Assertions.assertThrows(IllegalArgumentException.class, writer::afterPropertiesSet);
+		Assertions.assertEquals("Max in-flight appends must be positive", ex.getMessage());
+
+		// joinAppendsOnChunkCommit
+		writer.setMaxInFlightAppends(2);
+		ex = Assertions.assertThrows(IllegalArgumentException.class, writer::afterPropertiesSet);
+		Assertions.assertEquals("Max in-flight appends requires appends not to be joined on chunk commit",
+				ex.getMessage());
+
+		// All good
+		writer.setJoinAppendsOnChunkCommit(false);
+		Assertions.assertDoesNotThrow(writer::afterPropertiesSet);
+	}
+
+	private static List<PersonDto> decode(AppendRowsRequest request) throws Exception {
+		Schema schema = ArrowSchemaConverter.convert(PersonDto.getWriteApiSchema());
+		byte[] serializedBatch = request.getArrowRows().getRows().getSerializedRecordBatch().toByteArray();
+
+		try (BufferAllocator allocator = new RootAllocator();
+				VectorSchemaRoot root = VectorSchemaRoot.create(schema, allocator);
+				ArrowRecordBatch recordBatch = MessageSerializer.deserializeRecordBatch(
+						new ReadChannel(Channels.newChannel(new ByteArrayInputStream(serializedBatch))), allocator)) {
+			new VectorLoader(root).load(recordBatch);
+			Assertions.assertEquals(request.getArrowRows().getRows().getRowCount(), root.getRowCount());
+
+			List<PersonDto> rows = new ArrayList<>();
+			for (int i = 0; i < root.getRowCount(); i++) {
+				rows.add(new PersonDto(root.getVector(TestConstants.NAME).getObject(i).toString(),
+						((Long) root.getVector(TestConstants.AGE).getObject(i)).intValue()));
+			}
+			return rows;
+		}
+	}
+
+}
@@ -0,0 +1,145 @@
+package org.springframework.batch.extensions.bigquery.unit.writer.writeapi.arrow;
+
+import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.memory.RootAllocator;
+import org.apache.arrow.vector.BigIntVector;
+import org.apache.arrow.vector.DateDayVector;
+import org.apache.arrow.vector.DecimalVector;
+import org.apache.arrow.vector.TimeStampVector;
+import org.apache.arrow.vector.VarCharVector;
+import org.apache.arrow.vector.VectorSchemaRoot;
+import org.apache.arrow.vector.types.DateUnit;
+import org.apache.arrow.vector.types.TimeUnit;
+import org.apache.arrow.vector.types.pojo.ArrowType;
+import org.apache.arrow.vector.types.pojo.Field;
+import org.apache.arrow.vector.types.pojo.FieldType;
+import org.apache.arrow.vector.types.pojo.Schema;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.extensions.bigquery.common.PersonDto;
+import org.springframework.batch.extensions.bigquery.common.TestConstants;
+import org.springframework.batch.extensions.bigquery.writer.writeapi.arrow.ArrowSchemaConverter;
+import org.springframework.batch.extensions.bigquery.writer.writeapi.arrow.PropertyArrowVectorMapper;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+
+class PropertyArrowVectorMapperTest {
+
+	@Test
+	void testMap_Record() {
+		Schema schema = new Schema(List.of(nullable(TestConstants.NAME, ArrowType.Utf8.INSTANCE),
+				nullable(TestConstants.AGE, new ArrowType.Int(64, true))));
+		PropertyArrowVectorMapper<PersonDto> mapper = new PropertyArrowVectorMapper<>();
+
+		try (BufferAllocator allocator = new RootAllocator();
+				VectorSchemaRoot root = VectorSchemaRoot.create(schema, allocator)) {
+			root.allocateNew();
+			mapper.map(new PersonDto("Volodymyr", 27), 0, root);
+			mapper.map(new PersonDto("Oleksandra", null), 1, root);
+			root.setRowCount(2);
+
+			VarCharVector names = (VarCharVector) root.getVector(TestConstants.NAME);
+			BigIntVector ages = (BigIntVector) root.getVector(TestConstants.AGE);
+
+			Assertions.assertEquals("Volodymyr", names.getObject(0).toString());
+			Assertions.assertEquals("Oleksandra", names.getObject(1).toString());
+			Assertions.assertEquals(27L, ages.get(0));
+			Assertions.assertTrue(ages.isNull(1));
+		}
+	}
+
+	@Test
+	void testMap_NullRequiredValue() {
+		Schema schema = ArrowSchemaConverter.convert(PersonDto.getWriteApiSchema());
+		PropertyArrowVectorMapper<PersonDto> mapper = new PropertyArrowVectorMapper<>();
+
+		try (BufferAllocator allocator = new RootAllocator();
+				VectorSchemaRoot root = VectorSchemaRoot.create(schema, allocator)) {
+			root.allocateNew();
+			IllegalArgumentException ex = Assertions.assertThrows(IllegalArgumentException.class,
+					() -> mapper.map(new PersonDto("Volodymyr", null), 0, root));
+			Assertions.assertEquals("Required field age cannot be null", ex.getMessage());
+		}
+	}
+
+	@Test
+	void testMap_Bean() {
+		Schema schema = new Schema(List.of(nullable("day", new ArrowType.Date(DateUnit.DAY)),
+				nullable("createdAt", new ArrowType.Timestamp(TimeUnit.MICROSECOND, "UTC")),
+				nullable("amount", new ArrowType.Decimal(38, 9, 128))));
+		PropertyArrowVectorMapper<Event> mapper = new PropertyArrowVectorMapper<>();
+
+		Event event = new Event();
+		event.setDay(LocalDate.of(2025, 1, 2));
+		event.setCreatedAt(Instant.ofEpochSecond(10, 5_000));
+		event.setAmount(new BigDecimal("1.5"));
+
+		try (BufferAllocator allocator = new RootAllocator();
+				VectorSchemaRoot root = VectorSchemaRoot.create(schema, allocator)) {
+			root.allocateNew();
+			mapper.map(event, 0, root);
+			root.setRowCount(1);
+
+			Assertions.assertEquals((int) event.getDay().toEpochDay(), ((DateDayVector) root.getVector("day")).get(0));
+			Assertions.assertEquals(10_000_005L, ((TimeStampVector) root.getVector("createdAt")).get(0));
+			Assertions.assertEquals(new BigDecimal("1.500000000"),
+					((DecimalVector) root.getVector("amount")).getObject(0));
+		}
+	}
+
+	@Test
+	void testMap_UnsupportedVector() {
+		Schema schema = new Schema(List.of(nullable(TestConstants.NAME, new ArrowType.Int(16, true))));
+		PropertyArrowVectorMapper<PersonDto> mapper = new PropertyArrowVectorMapper<>();
+
+		try (BufferAllocator allocator = new RootAllocator();
+				VectorSchemaRoot root = VectorSchemaRoot.create(schema, allocator)) {
+			root.allocateNew();
+			IllegalArgumentException ex = Assertions.assertThrows(IllegalArgumentException.class,
+					() -> mapper.map(new PersonDto("Volodymyr", 27), 0, root));
+			Assertions.assertEquals("Vector name of type SmallIntVector is not supported", ex.getMessage());
+		}
+	}
+
+	private static Field nullable(String name, ArrowType type) {
+		return new Field(name, FieldType.nullable(type), null);
+	}
+
+	public static class Event {
+
+		private LocalDate day;
+
+		private Instant createdAt;
+
+		private BigDecimal amount;
+
+		public LocalDate getDay() {
+			return day;
+		}
+
+		public void setDay(LocalDate day) {
+			this.day = day;
+		}
+
+		public Instant getCreatedAt() {
+			return createdAt;
+		}
+
+		public void setCreatedAt(Instant createdAt) {
+			this.createdAt = createdAt;
+		}
+
+		public BigDecimal getAmount() {
+			return amount;
+		}
+
+		public void setAmount(BigDecimal amount) {
+			this.amount = amount;
+		}
+
+	}
+
+}
@@ -0,0 +1,101 @@
+package org.springframework.batch.extensions.bigquery.unit.writer.writeapi.arrow.builder;
+
+import com.google.cloud.bigquery.storage.v1.BigQueryWriteClient;
+import com.google.cloud.bigquery.storage.v1.TableName;
+import org.apache.arrow.vector.types.pojo.Schema;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.batch.extensions.bigquery.common.PersonDto;
+import org.springframework.batch.extensions.bigquery.common.TestConstants;
+import org.springframework.batch.extensions.bigquery.writer.writeapi.arrow.ArrowSchemaConverter;
+import org.springframework.batch.extensions.bigquery.writer.writeapi.arrow.ArrowVectorMapper;
+import org.springframework.batch.extensions.bigquery.writer.writeapi.arrow.BigQueryWriteApiArrowItemWriter;
+import org.springframework.batch.extensions.bigquery.writer.writeapi.arrow.PropertyArrowVectorMapper;
+import org.springframework.batch.extensions.bigquery.writer.writeapi.arrow.builder.BigQueryWriteApiArrowItemWriterBuilder;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+
+class BigQueryWriteApiArrowItemWriterBuilderTest {
+
+	private static final TableName TABLE_NAME = TableName.of(TestConstants.PROJECT, TestConstants.DATASET,
+			TestConstants.JSON);
+
+	@Test
+	void testBuild_Defaults() throws IOException, IllegalAccessException, NoSuchFieldException {
+		MethodHandles.Lookup handle = MethodHandles.privateLookupIn(BigQueryWriteApiArrowItemWriter.class,
+				MethodHandles.lookup());
+
+		BigQueryWriteApiArrowItemWriter<PersonDto> writer = new BigQueryWriteApiArrowItemWriterBuilder<PersonDto>()
+			.bigQueryWriteClient(Mockito.mock(BigQueryWriteClient.class))
+			.tableName(TABLE_NAME)
+			.build();
+
+		ArrowVectorMapper<PersonDto> actualMapper = (ArrowVectorMapper<PersonDto>) handle
+			.findVarHandle(BigQueryWriteApiArrowItemWriter.class, "vectorMapper", ArrowVectorMapper.class)
+			.get(writer);
+
+		Schema actualSchema = (Schema) handle
+			.findVarHandle(BigQueryWriteApiArrowItemWriter.class, "arrowSchema", Schema.class)
+			.get(writer);
+
+		int actualMaxInFlightAppends = (int) handle
+			.findVarHandle(BigQueryWriteApiArrowItemWriter.class, "maxInFlightAppends", int.class)
+			.get(writer);
+
+		boolean actualJoinAppendsOnChunkCommit = (boolean) handle
+			.findVarHandle(BigQueryWriteApiArrowItemWriter.class, "joinAppendsOnChunkCommit", boolean.class)
+			.get(writer);
+
+		Assertions.assertInstanceOf(PropertyArrowVectorMapper.class, actualMapper);
+		// derived from the table schema on open
+		Assertions.assertNull(actualSchema);
+		Assertions.assertEquals(1, actualMaxInFlightAppends);
+		Assertions.assertTrue(actualJoinAppendsOnChunkCommit);
+		Assertions.assertDoesNotThrow(writer::afterPropertiesSet);
+	}
+
+	@Test
+	void testBuild() throws IOException, IllegalAccessException, NoSuchFieldException {
+		MethodHandles.Lookup handle = MethodHandles.privateLookupIn(BigQueryWriteApiArrowItemWriter.class,
+				MethodHandles.lookup());
+
+		ArrowVectorMapper<PersonDto> expectedMapper = (item, index, root) -> {
+		};
+		Schema expectedSchema = ArrowSchemaConverter.convert(PersonDto.getWriteApiSchema());
+
+		BigQueryWriteApiArrowItemWriter<PersonDto> writer = new BigQueryWriteApiArrowItemWriterBuilder<PersonDto>()
+			.bigQueryWriteClient(Mockito.mock(BigQueryWriteClient.class))
+			.tableName(TABLE_NAME)
+			.vectorMapper(expectedMapper)
+			.arrowSchema(expectedSchema)
+			.useDefaultStream(true)
+			.maxInFlightAppends(4)
+			.joinAppendsOnChunkCommit(false)
+			.build();
+
+		ArrowVectorMapper<PersonDto> actualMapper = (ArrowVectorMapper<PersonDto>) handle
+			.findVarHandle(BigQueryWriteApiArrowItemWriter.class, "vectorMapper", ArrowVectorMapper.class)
+			.get(writer);
+
+		Schema actualSchema = (Schema) handle
+			.findVarHandle(BigQueryWriteApiArrowItemWriter.class, "arrowSchema", Schema.class)
+			.get(writer);
+
+		boolean actualUseDefaultStream = (boolean) handle
+			.findVarHandle(BigQueryWriteApiArrowItemWriter.class, "useDefaultStream", boolean.class)
+			.get(writer);
+
+		int actualMaxInFlightAppends = (int) handle
+			.findVarHandle(BigQueryWriteApiArrowItemWriter.class, "maxInFlightAppends", int.class)
+			.get(writer);
+
+		Assertions.assertSame(expectedMapper, actualMapper);
+		Assertions.assertSame(expectedSchema, actualSchema);
+		Assertions.assertTrue(actualUseDefaultStream);
+		Assertions.assertEquals(4, actualMaxInFlightAppends);
+		Assertions.assertDoesNotThrow(writer::afterPropertiesSet);
+	}
+
+}
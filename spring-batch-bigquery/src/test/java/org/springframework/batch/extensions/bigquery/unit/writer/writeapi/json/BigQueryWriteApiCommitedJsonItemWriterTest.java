@@ -8,6 +8,7 @@ import com.google.cloud.bigquery.storage.v1.BigQueryWriteSettings;
 import com.google.cloud.bigquery.storage.v1.CreateWriteStreamRequest;
 import com.google.cloud.bigquery.storage.v1.FinalizeWriteStreamResponse;
 import com.google.cloud.bigquery.storage.v1.GetWriteStreamRequest;
+import com.google.cloud.bigquery.storage.v1.StorageError;
 import com.google.cloud.bigquery.storage.v1.TableName;
 import com.google.cloud.bigquery.storage.v1.WriteStream;
 import com.google.cloud.bigquery.storage.v1.WriteStreamName;
@@ -16,14 +17,18 @@ import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 import org.springframework.batch.extensions.bigquery.common.PersonDto;
 import org.springframework.batch.extensions.bigquery.common.TestConstants;
+import org.springframework.batch.extensions.bigquery.unit.base.InProcessBigQueryWrite;
 import org.springframework.batch.extensions.bigquery.writer.BigQueryItemWriterException;
 import org.springframework.batch.extensions.bigquery.writer.writeapi.json.BigQueryWriteApiCommitedJsonItemWriter;
 import org.springframework.batch.infrastructure.item.Chunk;
+import org.springframework.batch.infrastructure.item.ExecutionContext;
+import org.springframework.batch.infrastructure.item.ItemStreamException;
 import org.springframework.batch.infrastructure.item.json.GsonJsonObjectMarshaller;
 import org.springframework.batch.infrastructure.item.json.JacksonJsonObjectMarshaller;
 import org.springframework.batch.infrastructure.item.json.JsonObjectMarshaller;
 
 import java.lang.invoke.MethodHandles;
+import java.util.List;
 import java.util.concurrent.Executor;
 import java.util.concurrent.Executors;
 
@@ -86,6 +91,191 @@ class BigQueryWriteApiCommitedJsonItemWriterTest {
 		Mockito.verify(writeClient).finalizeWriteStream(streamName.toString());
 	}
 
+	@Test
+	void testOpenAndClose_ReuseStream() throws Exception {
+		WriteStreamName streamName = WriteStreamName.of(TABLE_NAME.getProject(), TABLE_NAME.getDataset(),
+				TABLE_NAME.getTable(), "test-stream-1");
+
+		BigQueryWriteClient writeClient = Mockito.mock(BigQueryWriteClient.class);
+		WriteStream generatedWriteStream = WriteStream.newBuilder()
+			.setName(streamName.toString())
+			.setTableSchema(PersonDto.getWriteApiSchema())
+			.build();
+		Mockito.when(writeClient.createWriteStream(Mockito.any(CreateWriteStreamRequest.class)))
+			.thenReturn(generatedWriteStream);
+		Mockito.when(writeClient.getSettings())
+			.thenReturn(
+					BigQueryWriteSettings.newBuilder().setCredentialsProvider(NoCredentialsProvider.create()).build());
+		Mockito.when(writeClient.finalizeWriteStream(streamName.toString()))
+			.thenReturn(FinalizeWriteStreamResponse.newBuilder().build());
+
+		BigQueryWriteApiCommitedJsonItemWriter<PersonDto> writer = new BigQueryWriteApiCommitedJsonItemWriter<>();
+		writer.setTableName(TABLE_NAME);
+		writer.setBigQueryWriteClient(writeClient);
+		writer.setMarshaller(new JacksonJsonObjectMarshaller<>());
+		writer.setReuseStream(true);
+
+		writer.open(new ExecutionContext());
+		writer.close();
+
+		Mockito.verify(writeClient).createWriteStream(Mockito.any(CreateWriteStreamRequest.class));
+		Mockito.verify(writeClient, Mockito.never()).getWriteStream(Mockito.any(GetWriteStreamRequest.class));
+		Mockito.verify(writeClient).finalizeWriteStream(streamName.toString());
+	}
+
+	@Test
+	void testWrite_ReuseStreamAppendsAtOffsets() throws Exception {
+		try (InProcessBigQueryWrite bigQueryWrite = new InProcessBigQueryWrite(PersonDto.getWriteApiSchema());
+				BigQueryWriteClient writeClient = bigQueryWrite.createClient()) {
+			BigQueryWriteApiCommitedJsonItemWriter<PersonDto> writer = new BigQueryWriteApiCommitedJsonItemWriter<>();
+			writer.setTableName(TABLE_NAME);
+			writer.setBigQueryWriteClient(writeClient);
+			writer.setMarshaller(new JacksonJsonObjectMarshaller<>());
+			writer.setReuseStream(true);
+
+			writer.open(new ExecutionContext());
+			writer.write(TestConstants.JAVA_RECORD_CHUNK);
+			writer.write(TestConstants.JAVA_RECORD_CHUNK);
+			writer.close();
+
+			int rowCount = TestConstants.JAVA_RECORD_CHUNK.size();
+			Assertions.assertEquals(List.of(0L, (long) rowCount), bigQueryWrite.getAppendOffsets());
+			bigQueryWrite.getAppendRequests()
+				.forEach(request -> Assertions.assertEquals(rowCount,
+						request.getProtoRows().getRows().getSerializedRowsCount()));
+		}
+	}
+
+	@Test
+	void testWrite_ReuseStreamOffsetAlreadyExists() throws Exception {
+		try (InProcessBigQueryWrite bigQueryWrite = new InProcessBigQueryWrite(PersonDto.getWriteApiSchema());
+				BigQueryWriteClient writeClient = bigQueryWrite.createClient()) {
+			// the rows of the first append were written by a previous attempt
+			bigQueryWrite.setResponder(request -> request.getOffset().getValue() == 0
+					? InProcessBigQueryWrite.reject(request, StorageError.StorageErrorCode.OFFSET_ALREADY_EXISTS)
+					: InProcessBigQueryWrite.confirm(request));
+
+			BigQueryWriteApiCommitedJsonItemWriter<PersonDto> writer = new BigQueryWriteApiCommitedJsonItemWriter<>();
+			writer.setTableName(TABLE_NAME);
+			writer.setBigQueryWriteClient(writeClient);
+			writer.setMarshaller(new JacksonJsonObjectMarshaller<>());
+			writer.setReuseStream(true);
+
+			writer.open(new ExecutionContext());
+			Assertions.assertDoesNotThrow(() -> writer.write(TestConstants.JAVA_RECORD_CHUNK));
+			writer.write(TestConstants.JAVA_RECORD_CHUNK);
+			writer.close();
+
+			Assertions.assertEquals(List.of(0L, (long) TestConstants.JAVA_RECORD_CHUNK.size()),
+					bigQueryWrite.getAppendOffsets());
+		}
+	}
+
+	@Test
+	void testWrite_ReuseStreamJoinedAppendFails() throws Exception {
+		try (InProcessBigQueryWrite bigQueryWrite = new InProcessBigQueryWrite(PersonDto.getWriteApiSchema());
+				BigQueryWriteClient writeClient = bigQueryWrite.createClient()) {
+			bigQueryWrite.setResponder(request -> bigQueryWrite.getAppendRequests().size() == 1
+					? InProcessBigQueryWrite.reject(request, StorageError.StorageErrorCode.INVALID_STREAM_STATE)
+					: InProcessBigQueryWrite.confirm(request));
+
+			BigQueryWriteApiCommitedJsonItemWriter<PersonDto> writer = new BigQueryWriteApiCommitedJsonItemWriter<>();
+			writer.setTableName(TABLE_NAME);
+			writer.setBigQueryWriteClient(writeClient);
+			writer.setMarshaller(new JacksonJsonObjectMarshaller<>());
+			writer.setReuseStream(true);
+
+			writer.open(new ExecutionContext());
+			Assertions.assertThrows(BigQueryItemWriterException.class,
+					() -> writer.write(TestConstants.JAVA_RECORD_CHUNK));
+			// the failed chunk was not committed, so its retry is appended at the same
+			// offset
+			writer.write(TestConstants.JAVA_RECORD_CHUNK);
+			writer.close();
+
+			Assertions.assertEquals(List.of(0L, 0L), bigQueryWrite.getAppendOffsets());
+		}
+	}
+
+	@Test
+	void testWrite_ReuseStreamNotJoinedAppendFails() throws Exception {
+		try (InProcessBigQueryWrite bigQueryWrite = new InProcessBigQueryWrite(PersonDto.getWriteApiSchema());
+				BigQueryWriteClient writeClient = bigQueryWrite.createClient()) {
+			bigQueryWrite.setResponder(request -> request.getOffset().getValue() == 0
+					? InProcessBigQueryWrite.reject(request, StorageError.StorageErrorCode.INVALID_STREAM_STATE)
+					: InProcessBigQueryWrite.confirm(request));
+
+			BigQueryWriteApiCommitedJsonItemWriter<PersonDto> writer = new BigQueryWriteApiCommitedJsonItemWriter<>();
+			writer.setTableName(TABLE_NAME);
+			writer.setBigQueryWriteClient(writeClient);
+			writer.setMarshaller(new JacksonJsonObjectMarshaller<>());
+			writer.setReuseStream(true);
+			writer.setMaxInFlightAppends(2);
+			writer.setJoinAppendsOnChunkCommit(false);
+
+			writer.open(new ExecutionContext());
+			writer.write(TestConstants.JAVA_RECORD_CHUNK);
+			writer.write(TestConstants.JAVA_RECORD_CHUNK);
+
+			// the failure of the first append is detected once the window is full
+			Assertions.assertThrows(BigQueryItemWriterException.class,
+					() -> writer.write(TestConstants.JAVA_RECORD_CHUNK));
+			BigQueryItemWriterException ex = Assertions.assertThrows(BigQueryItemWriterException.class,
+					() -> writer.write(TestConstants.JAVA_RECORD_CHUNK));
+			Assertions.assertEquals("An append failed after its chunk was committed", ex.getCause().getMessage());
+			Assertions.assertThrows(ItemStreamException.class, writer::close);
+
+			// the offset is never rewound over the committed chunks
+			Assertions.assertEquals(List.of(0L, (long) TestConstants.JAVA_RECORD_CHUNK.size()),
+					bigQueryWrite.getAppendOffsets());
+		}
+	}
+
+	@Test
+	void testWrite_ReuseStreamNotJoined() throws Exception {
+		try (InProcessBigQueryWrite bigQueryWrite = new InProcessBigQueryWrite(PersonDto.getWriteApiSchema());
+				BigQueryWriteClient writeClient = bigQueryWrite.createClient()) {
+			BigQueryWriteApiCommitedJsonItemWriter<PersonDto> writer = new BigQueryWriteApiCommitedJsonItemWriter<>();
+			writer.setTableName(TABLE_NAME);
+			writer.setBigQueryWriteClient(writeClient);
+			writer.setMarshaller(new JacksonJsonObjectMarshaller<>());
+			writer.setReuseStream(true);
+			writer.setMaxInFlightAppends(2);
+			writer.setJoinAppendsOnChunkCommit(false);
+
+			writer.open(new ExecutionContext());
+			writer.write(TestConstants.JAVA_RECORD_CHUNK);
+			writer.write(TestConstants.JAVA_RECORD_CHUNK);
+			writer.write(TestConstants.JAVA_RECORD_CHUNK);
+			writer.close();
+
+			long rowCount = TestConstants.JAVA_RECORD_CHUNK.size();
+			Assertions.assertEquals(List.of(0L, rowCount, 2 * rowCount), bigQueryWrite.getAppendOffsets());
+		}
+	}
+
+	@Test
+	void testOpenAndClose_NoReuseStream() {
+		BigQueryWriteClient writeClient = Mockito.mock(BigQueryWriteClient.class);
+		BigQueryWriteApiCommitedJsonItemWriter<PersonDto> writer = new BigQueryWriteApiCommitedJsonItemWriter<>();
+		writer.setBigQueryWriteClient(writeClient);
+
+		writer.open(new ExecutionContext());
+		writer.close();
+
+		Mockito.verifyNoInteractions(writeClient);
+	}
+
+	@Test
+	void testWrite_ReuseStreamNotOpened() {
+		BigQueryWriteApiCommitedJsonItemWriter<PersonDto> writer = new BigQueryWriteApiCommitedJsonItemWriter<>();
+		writer.setReuseStream(true);
+
+		BigQueryItemWriterException ex = Assertions.assertThrows(BigQueryItemWriterException.class,
+				() -> writer.write(TestConstants.JAVA_RECORD_CHUNK));
+		Assertions.assertEquals("Stream is not opened, open() must be called first", ex.getMessage());
+	}
+
 	@Test
 	void testAfterPropertiesSet() {
 		BigQueryWriteApiCommitedJsonItemWriter<PersonDto> writer = new BigQueryWriteApiCommitedJsonItemWriter<>();
@@ -111,8 +301,20 @@ class BigQueryWriteApiCommitedJsonItemWriterTest {
 		ex = Assertions.assertThrows(IllegalArgumentException.class, writer::afterPropertiesSet);
 		Assertions.assertEquals("Executor must be provided", ex.getMessage());
 
-		// All good
+		// maxInFlightAppends
 		writer.setExecutor(Executors.newSingleThreadExecutor());
+		writer.setMaxInFlightAppends(0);
+		ex = Assertions.assertThrows(IllegalArgumentException.class, writer::afterPropertiesSet);
+		Assertions.assertEquals("Max in-flight appends must be positive", ex.getMessage());
+
+		// joinAppendsOnChunkCommit
+		writer.setMaxInFlightAppends(2);
+		ex = Assertions.assertThrows(IllegalArgumentException.class, writer::afterPropertiesSet);
+		Assertions.assertEquals("Max in-flight appends requires appends not to be joined on chunk commit",
+				ex.getMessage());
+
+		// All good
+		writer.setJoinAppendsOnChunkCommit(false);
 		Assertions.assertDoesNotThrow(writer::afterPropertiesSet);
 	}
 
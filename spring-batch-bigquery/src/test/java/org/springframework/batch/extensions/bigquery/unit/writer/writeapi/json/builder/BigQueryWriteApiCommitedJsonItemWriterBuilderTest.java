@@ -125,6 +125,63 @@ class BigQueryWriteApiCommitedJsonItemWriterBuilderTest {
 		Assertions.assertEquals(expected, actual);
 	}
 
+	@Test
+	void testReuseStream() throws IllegalAccessException, NoSuchFieldException {
+		MethodHandles.Lookup handle = MethodHandles.privateLookupIn(BigQueryWriteApiCommitedJsonItemWriterBuilder.class,
+				MethodHandles.lookup());
+		BigQueryWriteApiCommitedJsonItemWriterBuilder<PersonDto> builder = new BigQueryWriteApiCommitedJsonItemWriterBuilder<>();
+
+		builder.reuseStream(true);
+
+		boolean actual = (boolean) handle
+			.findVarHandle(BigQueryWriteApiCommitedJsonItemWriterBuilder.class, "reuseStream", boolean.class)
+			.get(builder);
+		Assertions.assertTrue(actual);
+	}
+
+	@Test
+	void testUseDefaultStream() throws IllegalAccessException, NoSuchFieldException {
+		MethodHandles.Lookup handle = MethodHandles.privateLookupIn(BigQueryWriteApiCommitedJsonItemWriterBuilder.class,
+				MethodHandles.lookup());
+		BigQueryWriteApiCommitedJsonItemWriterBuilder<PersonDto> builder = new BigQueryWriteApiCommitedJsonItemWriterBuilder<>();
+
+		builder.useDefaultStream(true);
+
+		boolean actual = (boolean) handle
+			.findVarHandle(BigQueryWriteApiCommitedJsonItemWriterBuilder.class, "useDefaultStream", boolean.class)
+			.get(builder);
+		Assertions.assertTrue(actual);
+	}
+
+	@Test
+	void testMaxInFlightAppends() throws IllegalAccessException, NoSuchFieldException {
+		MethodHandles.Lookup handle = MethodHandles.privateLookupIn(BigQueryWriteApiCommitedJsonItemWriterBuilder.class,
+				MethodHandles.lookup());
+		BigQueryWriteApiCommitedJsonItemWriterBuilder<PersonDto> builder = new BigQueryWriteApiCommitedJsonItemWriterBuilder<>();
+
+		builder.maxInFlightAppends(4);
+
+		Integer actual = (Integer) handle
+			.findVarHandle(BigQueryWriteApiCommitedJsonItemWriterBuilder.class, "maxInFlightAppends", Integer.class)
+			.get(builder);
+		Assertions.assertEquals(4, actual);
+	}
+
+	@Test
+	void testJoinAppendsOnChunkCommit() throws IllegalAccessException, NoSuchFieldException {
+		MethodHandles.Lookup handle = MethodHandles.privateLookupIn(BigQueryWriteApiCommitedJsonItemWriterBuilder.class,
+				MethodHandles.lookup());
+		BigQueryWriteApiCommitedJsonItemWriterBuilder<PersonDto> builder = new BigQueryWriteApiCommitedJsonItemWriterBuilder<>();
+
+		builder.joinAppendsOnChunkCommit(false);
+
+		Boolean actual = (Boolean) handle
+			.findVarHandle(BigQueryWriteApiCommitedJsonItemWriterBuilder.class, "joinAppendsOnChunkCommit",
+					Boolean.class)
+			.get(builder);
+		Assertions.assertFalse(actual);
+	}
+
 	@Test
 	void testBuild() throws IOException, IllegalAccessException, NoSuchFieldException {
 		MethodHandles.Lookup handle = MethodHandles.privateLookupIn(BigQueryWriteApiCommitedJsonItemWriter.class,
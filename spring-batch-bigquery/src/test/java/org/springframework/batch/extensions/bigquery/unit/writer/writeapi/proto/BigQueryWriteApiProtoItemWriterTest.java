@@ -0,0 +1,196 @@
+package org.springframework.batch.extensions.bigquery.unit.writer.writeapi.proto;
+
+import com.google.api.gax.core.NoCredentialsProvider;
+import com.google.cloud.bigquery.storage.v1.AppendRowsRequest;
+import com.google.cloud.bigquery.storage.v1.BQTableSchemaToProtoDescriptor;
+import com.google.cloud.bigquery.storage.v1.BigQueryWriteClient;
+import com.google.cloud.bigquery.storage.v1.BigQueryWriteSettings;
+import com.google.cloud.bigquery.storage.v1.CreateWriteStreamRequest;
+import com.google.cloud.bigquery.storage.v1.FinalizeWriteStreamResponse;
+import com.google.cloud.bigquery.storage.v1.GetWriteStreamRequest;
+import com.google.cloud.bigquery.storage.v1.TableName;
+import com.google.cloud.bigquery.storage.v1.WriteStream;
+import com.google.cloud.bigquery.storage.v1.WriteStreamName;
+import com.google.cloud.bigquery.storage.v1.WriteStreamView;
+import com.google.protobuf.ByteString;
+import com.google.protobuf.Descriptors;
+import com.google.protobuf.DynamicMessage;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.batch.extensions.bigquery.common.PersonDto;
+import org.springframework.batch.extensions.bigquery.common.TestConstants;
+import org.springframework.batch.extensions.bigquery.unit.base.InProcessBigQueryWrite;
+import org.springframework.batch.extensions.bigquery.writer.BigQueryItemWriterException;
+import org.springframework.batch.extensions.bigquery.writer.writeapi.proto.BigQueryWriteApiProtoItemWriter;
+import org.springframework.batch.extensions.bigquery.writer.writeapi.proto.RecordProtoMessageMapper;
+import org.springframework.batch.infrastructure.item.Chunk;
+import org.springframework.batch.infrastructure.item.ExecutionContext;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+
+class BigQueryWriteApiProtoItemWriterTest {
+
+	private static final TableName TABLE_NAME = TableName.of(TestConstants.PROJECT, TestConstants.DATASET,
+			TestConstants.JSON);
+
+	@Test
+	void testWrite_Empty() throws Exception {
+		BigQueryWriteClient writeClient = Mockito.mock(BigQueryWriteClient.class);
+		BigQueryWriteApiProtoItemWriter<PersonDto> writer = new BigQueryWriteApiProtoItemWriter<>();
+		writer.setBigQueryWriteClient(writeClient);
+
+		writer.write(Chunk.of());
+
+		Mockito.verifyNoInteractions(writeClient);
+	}
+
+	@Test
+	void testWrite_NotOpened() {
+		BigQueryItemWriterException ex = Assertions.assertThrows(BigQueryItemWriterException.class,
+				() -> new BigQueryWriteApiProtoItemWriter<PersonDto>().write(TestConstants.JAVA_RECORD_CHUNK));
+		Assertions.assertEquals("Stream is not opened, open() must be called first", ex.getMessage());
+	}
+
+	@Test
+	void testWrite() throws Exception {
+		try (InProcessBigQueryWrite bigQueryWrite = new InProcessBigQueryWrite(PersonDto.getWriteApiSchema());
+				BigQueryWriteClient writeClient = bigQueryWrite.createClient()) {
+			BigQueryWriteApiProtoItemWriter<PersonDto> writer = new BigQueryWriteApiProtoItemWriter<>();
+			writer.setTableName(TABLE_NAME);
+			writer.setBigQueryWriteClient(writeClient);
+			writer.setMessageMapper(new RecordProtoMessageMapper<>());
+
+			writer.open(new ExecutionContext());
+			writer.write(TestConstants.JAVA_RECORD_CHUNK);
+			writer.write(Chunk.of(new PersonDto("Oleksandr", 30)));
+			writer.close();
+
+			long rowCount = TestConstants.JAVA_RECORD_CHUNK.size();
+			Assertions.assertEquals(List.of(0L, rowCount), bigQueryWrite.getAppendOffsets());
+
+			Descriptors.Descriptor descriptor = BQTableSchemaToProtoDescriptor
+				.convertBQTableSchemaToProtoDescriptor(PersonDto.getWriteApiSchema());
+			List<PersonDto> written = new ArrayList<>();
+			for (AppendRowsRequest request : bigQueryWrite.getAppendRequests()) {
+				for (ByteString row : request.getProtoRows().getRows().getSerializedRowsList()) {
+					DynamicMessage message = DynamicMessage.parseFrom(descriptor, row);
+					written.add(new PersonDto((String) message.getField(descriptor.findFieldByName(TestConstants.NAME)),
+							((Long) message.getField(descriptor.findFieldByName(TestConstants.AGE))).intValue()));
+				}
+			}
+			List<PersonDto> expected = new ArrayList<>(TestConstants.JAVA_RECORD_CHUNK.getItems());
+			expected.add(new PersonDto("Oleksandr", 30));
+			Assertions.assertEquals(expected, written);
+		}
+	}
+
+	@Test
+	void testOpenAndClose() throws Exception {
+		WriteStreamName streamName = WriteStreamName.of(TABLE_NAME.getProject(), TABLE_NAME.getDataset(),
+				TABLE_NAME.getTable(), "test-stream-1");
+
+		BigQueryWriteClient writeClient = mockWriteClient();
+		Mockito.when(writeClient.createWriteStream(Mockito.any(CreateWriteStreamRequest.class)))
+			.thenReturn(WriteStream.newBuilder()
+				.setName(streamName.toString())
+				.setTableSchema(PersonDto.getWriteApiSchema())
+				.build());
+		Mockito.when(writeClient.finalizeWriteStream(streamName.toString()))
+			.thenReturn(FinalizeWriteStreamResponse.newBuilder().build());
+
+		BigQueryWriteApiProtoItemWriter<PersonDto> writer = new BigQueryWriteApiProtoItemWriter<>();
+		writer.setTableName(TABLE_NAME);
+		writer.setBigQueryWriteClient(writeClient);
+		writer.setMessageMapper(new RecordProtoMessageMapper<>());
+
+		writer.open(new ExecutionContext());
+		writer.close();
+
+		Mockito.verify(writeClient).createWriteStream(Mockito.any(CreateWriteStreamRequest.class));
+		Mockito.verify(writeClient).finalizeWriteStream(streamName.toString());
+	}
+
+	@Test
+	void testOpenAndClose_DefaultStream() throws Exception {
+		String defaultStreamName = TABLE_NAME + "/streams/_default";
+
+		BigQueryWriteClient writeClient = mockWriteClient();
+		Mockito.when(writeClient.getWriteStream(Mockito.any(GetWriteStreamRequest.class)))
+			.thenReturn(WriteStream.newBuilder()
+				.setName(defaultStreamName)
+				.setTableSchema(PersonDto.getWriteApiSchema())
+				.build());
+
+		BigQueryWriteApiProtoItemWriter<PersonDto> writer = new BigQueryWriteApiProtoItemWriter<>();
+		writer.setTableName(TABLE_NAME);
+		writer.setBigQueryWriteClient(writeClient);
+		writer.setMessageMapper(new RecordProtoMessageMapper<>());
+		writer.setUseDefaultStream(true);
+
+		writer.open(new ExecutionContext());
+		writer.close();
+
+		Mockito.verify(writeClient)
+			.getWriteStream(GetWriteStreamRequest.newBuilder()
+				.setName(defaultStreamName)
+				.setView(WriteStreamView.FULL)
+				.build());
+		Mockito.verify(writeClient, Mockito.never()).createWriteStream(Mockito.any(CreateWriteStreamRequest.class));
+		Mockito.verify(writeClient, Mockito.never()).finalizeWriteStream(Mockito.anyString());
+	}
+
+	@Test
+	void testAfterPropertiesSet() {
+		BigQueryWriteApiProtoItemWriter<PersonDto> writer = new BigQueryWriteApiProtoItemWriter<>();
+
+		// bigQueryWriteClient
+		IllegalArgumentException ex = Assertions.assertThrows(IllegalArgumentException.class,
+				writer::afterPropertiesSet);
+		Assertions.assertEquals("BigQuery write client must be provided", ex.getMessage());
+
+		// tableName
+		writer.setBigQueryWriteClient(Mockito.mock(BigQueryWriteClient.class));
+		ex = Assertions.assertThrows(IllegalArgumentException.class, writer::afterPropertiesSet);
+		Assertions.assertEquals("Table name must be provided", ex.getMessage());
+
+		// messageMapper
+		writer.setTableName(TABLE_NAME);
+		ex = Assertions.assertThrows(IllegalArgumentException.class, writer::afterPropertiesSet);
+		Assertions.assertEquals("Message mapper must be provided", ex.getMessage());
+
+		// executor
+		writer.setMessageMapper(new RecordProtoMessageMapper<>());
+		writer.setApiFutureCallback(Mockito.mock());
+		ex = Assertions.assertThrows(IllegalArgumentException.class, writer::afterPropertiesSet);
+		Assertions.assertEquals("Executor must be provided", ex.getMessage());
+
+		// maxInFlightAppends
+		writer.setExecutor(Executors.newSingleThreadExecutor());
+		writer.setMaxInFlightAppends(0);
+		ex = Assertions.assertThrows(IllegalArgumentException.class, writer::afterPropertiesSet);
+		Assertions.assertEquals("Max in-flight appends must be positive", ex.getMessage());
+
+		// joinAppendsOnChunkCommit
+		writer.setMaxInFlightAppends(2);
+		ex = Assertions.assertThrows(IllegalArgumentException.class, writer::afterPropertiesSet);
+		Assertions.assertEquals("Max in-flight appends requires appends not to be joined on chunk commit",
+				ex.getMessage());
+
+		// All good
+		writer.setJoinAppendsOnChunkCommit(false);
+		Assertions.assertDoesNotThrow(writer::afterPropertiesSet);
+	}
+
+	private static BigQueryWriteClient mockWriteClient() throws IOException {
+		BigQueryWriteClient writeClient = Mockito.mock(BigQueryWriteClient.class);
+		Mockito.when(writeClient.getSettings())
+			.thenReturn(
+					BigQueryWriteSettings.newBuilder().setCredentialsProvider(NoCredentialsProvider.create()).build());
+		return writeClient;
+	}
+
+}
@@ -0,0 +1,139 @@
+package org.springframework.batch.extensions.bigquery.unit.writer.writeapi.proto;
+
+import com.google.cloud.bigquery.storage.v1.BQTableSchemaToProtoDescriptor;
+import com.google.cloud.bigquery.storage.v1.BigDecimalByteStringEncoder;
+import com.google.cloud.bigquery.storage.v1.TableFieldSchema;
+import com.google.cloud.bigquery.storage.v1.TableSchema;
+import com.google.protobuf.ByteString;
+import com.google.protobuf.Descriptors;
+import com.google.protobuf.Message;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.extensions.bigquery.common.PersonDto;
+import org.springframework.batch.extensions.bigquery.common.TestConstants;
+import org.springframework.batch.extensions.bigquery.writer.writeapi.proto.RecordProtoMessageMapper;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+
+class RecordProtoMessageMapperTest {
+
+	@Test
+	void testMap() throws Exception {
+		Descriptors.Descriptor descriptor = BQTableSchemaToProtoDescriptor
+			.convertBQTableSchemaToProtoDescriptor(PersonDto.getWriteApiSchema());
+
+		Message message = new RecordProtoMessageMapper<PersonDto>().map(new PersonDto("Volodymyr", 27), descriptor);
+
+		Assertions.assertEquals("Volodymyr", message.getField(descriptor.findFieldByName(TestConstants.NAME)));
+		Assertions.assertEquals(27L, message.getField(descriptor.findFieldByName(TestConstants.AGE)));
+	}
+
+	@Test
+	void testMap_NullValue() throws Exception {
+		TableSchema schema = TableSchema.newBuilder()
+			.addFields(TableFieldSchema.newBuilder()
+				.setName(TestConstants.NAME)
+				.setType(TableFieldSchema.Type.STRING)
+				.setMode(TableFieldSchema.Mode.REQUIRED)
+				.build())
+			.addFields(TableFieldSchema.newBuilder()
+				.setName(TestConstants.AGE)
+				.setType(TableFieldSchema.Type.INT64)
+				.setMode(TableFieldSchema.Mode.NULLABLE)
+				.build())
+			.build();
+		Descriptors.Descriptor descriptor = BQTableSchemaToProtoDescriptor
+			.convertBQTableSchemaToProtoDescriptor(schema);
+
+		Message message = new RecordProtoMessageMapper<PersonDto>().map(new PersonDto("Volodymyr", null), descriptor);
+
+		Assertions.assertFalse(message.hasField(descriptor.findFieldByName(TestConstants.AGE)));
+	}
+
+	@Test
+	void testMap_NullRequiredValue() throws Exception {
+		Descriptors.Descriptor descriptor = BQTableSchemaToProtoDescriptor
+			.convertBQTableSchemaToProtoDescriptor(PersonDto.getWriteApiSchema());
+
+		IllegalArgumentException ex = Assertions.assertThrows(IllegalArgumentException.class,
+				() -> new RecordProtoMessageMapper<PersonDto>().map(new PersonDto("Volodymyr", null), descriptor));
+		Assertions.assertEquals("Required field age cannot be null", ex.getMessage());
+	}
+
+	@Test
+	void testMap_TemporalAndRepeated() throws Exception {
+		TableSchema schema = TableSchema.newBuilder()
+			.addFields(TableFieldSchema.newBuilder()
+				.setName("day")
+				.setType(TableFieldSchema.Type.DATE)
+				.setMode(TableFieldSchema.Mode.NULLABLE)
+				.build())
+			.addFields(TableFieldSchema.newBuilder()
+				.setName("createdAt")
+				.setType(TableFieldSchema.Type.TIMESTAMP)
+				.setMode(TableFieldSchema.Mode.NULLABLE)
+				.build())
+			.addFields(TableFieldSchema.newBuilder()
+				.setName("tags")
+				.setType(TableFieldSchema.Type.STRING)
+				.setMode(TableFieldSchema.Mode.REPEATED)
+				.build())
+			.build();
+		Descriptors.Descriptor descriptor = BQTableSchemaToProtoDescriptor
+			.convertBQTableSchemaToProtoDescriptor(schema);
+
+		Event event = new Event(LocalDate.of(2025, 1, 2), Instant.ofEpochSecond(10, 5_000), List.of("a", "b"));
+		Message message = new RecordProtoMessageMapper<Event>().map(event, descriptor);
+
+		Assertions.assertEquals((int) event.day().toEpochDay(), message.getField(descriptor.findFieldByName("day")));
+		Assertions.assertEquals(10_000_005L, message.getField(descriptor.findFieldByName("createdat")));
+		Assertions.assertEquals(List.of("a", "b"), message.getField(descriptor.findFieldByName("tags")));
+	}
+
+	@Test
+	void testMap_Decimal() throws Exception {
+		TableSchema schema = TableSchema.newBuilder()
+			.addFields(TableFieldSchema.newBuilder()
+				.setName("price")
+				.setType(TableFieldSchema.Type.NUMERIC)
+				.setMode(TableFieldSchema.Mode.NULLABLE)
+				.build())
+			.addFields(TableFieldSchema.newBuilder()
+				.setName("total")
+				.setType(TableFieldSchema.Type.BIGNUMERIC)
+				.setMode(TableFieldSchema.Mode.NULLABLE)
+				.build())
+			.build();
+		Descriptors.Descriptor descriptor = BQTableSchemaToProtoDescriptor
+			.convertBQTableSchemaToProtoDescriptor(schema);
+
+		RecordProtoMessageMapper<Amount> mapper = new RecordProtoMessageMapper<>();
+		mapper.setBigNumericFields(List.of("Total"));
+		Message message = mapper.map(new Amount(new BigDecimal("1.5"), new BigDecimal("2.25")), descriptor);
+
+		Assertions.assertEquals(new BigDecimal("1.500000000"), BigDecimalByteStringEncoder
+			.decodeNumericByteString((ByteString) message.getField(descriptor.findFieldByName("price"))));
+		Assertions.assertEquals(new BigDecimal("2.25000000000000000000000000000000000000"), BigDecimalByteStringEncoder
+			.decodeBigNumericByteString((ByteString) message.getField(descriptor.findFieldByName("total"))));
+	}
+
+	@Test
+	void testMap_NotRecord() throws Exception {
+		Descriptors.Descriptor descriptor = BQTableSchemaToProtoDescriptor
+			.convertBQTableSchemaToProtoDescriptor(PersonDto.getWriteApiSchema());
+
+		IllegalArgumentException ex = Assertions.assertThrows(IllegalArgumentException.class,
+				() -> new RecordProtoMessageMapper<Object>().map(new Object(), descriptor));
+		Assertions.assertEquals("Only Java record supported", ex.getMessage());
+	}
+
+	private record Amount(BigDecimal price, BigDecimal total) {
+	}
+
+	private record Event(LocalDate day, Instant createdAt, List<String> tags) {
+	}
+
+}
@@ -0,0 +1,70 @@
+package org.springframework.batch.extensions.bigquery.unit.writer.writeapi.proto.builder;
+
+import com.google.cloud.bigquery.storage.v1.BigQueryWriteClient;
+import com.google.cloud.bigquery.storage.v1.TableName;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.batch.extensions.bigquery.common.PersonDto;
+import org.springframework.batch.extensions.bigquery.common.TestConstants;
+import org.springframework.batch.extensions.bigquery.writer.writeapi.proto.BigQueryWriteApiProtoItemWriter;
+import org.springframework.batch.extensions.bigquery.writer.writeapi.proto.ProtoMessageMapper;
+import org.springframework.batch.extensions.bigquery.writer.writeapi.proto.RecordProtoMessageMapper;
+import org.springframework.batch.extensions.bigquery.writer.writeapi.proto.builder.BigQueryWriteApiProtoItemWriterBuilder;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+
+class BigQueryWriteApiProtoItemWriterBuilderTest {
+
+	@Test
+	void testBuild() throws IOException, IllegalAccessException, NoSuchFieldException {
+		MethodHandles.Lookup handle = MethodHandles.privateLookupIn(BigQueryWriteApiProtoItemWriter.class,
+				MethodHandles.lookup());
+
+		BigQueryWriteClient expectedWriteClient = Mockito.mock(BigQueryWriteClient.class);
+		TableName expectedTableName = TableName.of(TestConstants.PROJECT, TestConstants.DATASET, TestConstants.JSON);
+
+		BigQueryWriteApiProtoItemWriter<PersonDto> writer = new BigQueryWriteApiProtoItemWriterBuilder<PersonDto>()
+			.bigQueryWriteClient(expectedWriteClient)
+			.tableName(expectedTableName)
+			.useDefaultStream(true)
+			.maxInFlightAppends(4)
+			.joinAppendsOnChunkCommit(false)
+			.build();
+
+		Assertions.assertNotNull(writer);
+
+		BigQueryWriteClient actualWriteClient = (BigQueryWriteClient) handle
+			.findVarHandle(BigQueryWriteApiProtoItemWriter.class, "bigQueryWriteClient", BigQueryWriteClient.class)
+			.get(writer);
+
+		TableName actualTableName = (TableName) handle
+			.findVarHandle(BigQueryWriteApiProtoItemWriter.class, "tableName", TableName.class)
+			.get(writer);
+
+		ProtoMessageMapper<PersonDto> actualMapper = (ProtoMessageMapper<PersonDto>) handle
+			.findVarHandle(BigQueryWriteApiProtoItemWriter.class, "messageMapper", ProtoMessageMapper.class)
+			.get(writer);
+
+		boolean actualUseDefaultStream = (boolean) handle
+			.findVarHandle(BigQueryWriteApiProtoItemWriter.class, "useDefaultStream", boolean.class)
+			.get(writer);
+
+		int actualMaxInFlightAppends = (int) handle
+			.findVarHandle(BigQueryWriteApiProtoItemWriter.class, "maxInFlightAppends", int.class)
+			.get(writer);
+
+		boolean actualJoinAppendsOnChunkCommit = (boolean) handle
+			.findVarHandle(BigQueryWriteApiProtoItemWriter.class, "joinAppendsOnChunkCommit", boolean.class)
+			.get(writer);
+
+		Assertions.assertEquals(expectedWriteClient, actualWriteClient);
+		Assertions.assertEquals(expectedTableName, actualTableName);
+		Assertions.assertInstanceOf(RecordProtoMessageMapper.class, actualMapper);
+		Assertions.assertTrue(actualUseDefaultStream);
+		Assertions.assertEquals(4, actualMaxInFlightAppends);
+		Assertions.assertFalse(actualJoinAppendsOnChunkCommit);
+	}
+
+}
@@ -0,0 +1,187 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.batch.extensions.s3.benchmark;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.core.sync.ResponseTransformer;
+import software.amazon.awssdk.http.AbortableInputStream;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectResponse;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartResponse;
+
+/**
+ * A {@link S3Client} serving objects from memory, so that benchmarks measure the byte
+ * handling of the reader and the writer rather than the network. Objects to read are
+ * registered with {@link #putObject(String, byte[])} and served by plain and ranged
+ * {@code GetObject} requests. Uploaded bodies are drained and discarded, only their
+ * length is kept.
+ *
+ * @author Andrea Cioni
+ */
+final class InMemoryS3Client implements S3Client {
+
+	private static final String ETAG = "\"in-memory\"";
+
+	private final Map<String, byte[]> objects = new ConcurrentHashMap<>();
+
+	private final AtomicLong uploadIds = new AtomicLong();
+
+	private final LongAdder uploadedBytes = new LongAdder();
+
+	void putObject(String key, byte[] content) {
+		this.objects.put(key, content);
+	}
+
+	long getUploadedBytes() {
+		return this.uploadedBytes.sum();
+	}
+
+	@Override
+	public <ReturnT> ReturnT getObject(GetObjectRequest getObjectRequest,
+			ResponseTransformer<GetObjectResponse, ReturnT> responseTransformer) {
+		byte[] content = getContent(getObjectRequest.key());
+		int start = 0;
+		int end = content.length;
+		String range = getObjectRequest.range();
+		if (range != null) {
+			String[] bounds = range.substring("bytes=".length()).split("-", -1);
+			start = Integer.parseInt(bounds[0]);
+			if (!bounds[1].isEmpty()) {
+				end = Math.min(end, Integer.parseInt(bounds[1]) + 1);
+			}
+			if (start >= content.length) {
+				throw (S3Exception) S3Exception.builder().statusCode(416).message("Range not satisfiable").build();
+			}
+		}
+		GetObjectResponse response = GetObjectResponse.builder()
+			.contentLength((long) (end - start))
+			.eTag(ETAG)
+			.build();
+		InputStream inputStream = new ByteArrayInputStream(content, start, end - start);
+		try {
+			return responseTransformer.transform(response, AbortableInputStream.create(inputStream));
+		}
+		catch (RuntimeException ex) {
+			throw ex;
+		}
+		catch (Exception ex) {
+			throw SdkClientException.create("Unable to transform the response", ex);
+		}
+	}
+
+	@Override
+	public ResponseInputStream<GetObjectResponse> getObject(GetObjectRequest getObjectRequest) {
+		return getObject(getObjectRequest, ResponseTransformer.toInputStream());
+	}
+
+	@Override
+	public HeadObjectResponse headObject(HeadObjectRequest headObjectRequest) {
+		byte[] content = getContent(headObjectRequest.key());
+		return HeadObjectResponse.builder().contentLength((long) content.length).eTag(ETAG).build();
+	}
+
+	@Override
+	public PutObjectResponse putObject(PutObjectRequest putObjectRequest, RequestBody requestBody) {
+		drain(requestBody);
+		return PutObjectResponse.builder().eTag(ETAG).build();
+	}
+
+	@Override
+	public CreateMultipartUploadResponse createMultipartUpload(
+			CreateMultipartUploadRequest createMultipartUploadRequest) {
+		return CreateMultipartUploadResponse.builder()
+			.bucket(createMultipartUploadRequest.bucket())
+			.key(createMultipartUploadRequest.key())
+			.uploadId("upload-" + this.uploadIds.incrementAndGet())
+			.build();
+	}
+
+	@Override
+	public UploadPartResponse uploadPart(UploadPartRequest uploadPartRequest, RequestBody requestBody) {
+		drain(requestBody);
+		return UploadPartResponse.builder().eTag("\"part-" + uploadPartRequest.partNumber() + "\"").build();
+	}
+
+	@Override
+	public CompleteMultipartUploadResponse completeMultipartUpload(
+			CompleteMultipartUploadRequest completeMultipartUploadRequest) {
+		return CompleteMultipartUploadResponse.builder()
+			.bucket(completeMultipartUploadRequest.bucket())
+			.key(completeMultipartUploadRequest.key())
+			.eTag(ETAG)
+			.build();
+	}
+
+	@Override
+	public AbortMultipartUploadResponse abortMultipartUpload(AbortMultipartUploadRequest abortMultipartUploadRequest) {
+		return AbortMultipartUploadResponse.builder().build();
+	}
+
+	@Override
+	public String serviceName() {
+		return SERVICE_NAME;
+	}
+
+	@Override
+	public void close() {
+		// the objects are kept in memory, there is nothing to release
+	}
+
+	private byte[] getContent(String key) {
+		byte[] content = this.objects.get(key);
+		if (content == null) {
+			throw NoSuchKeyException.builder().statusCode(404).message("No such key: " + key).build();
+		}
+		return content;
+	}
+
+	private void drain(RequestBody requestBody) {
+		try (InputStream inputStream = requestBody.contentStreamProvider().newStream()) {
+			this.uploadedBytes.add(inputStream.transferTo(OutputStream.nullOutputStream()));
+		}
+		catch (IOException ex) {
+			throw new UncheckedIOException(ex);
+		}
+	}
+
+}
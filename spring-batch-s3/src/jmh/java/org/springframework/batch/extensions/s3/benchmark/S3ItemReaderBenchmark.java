@@ -0,0 +1,124 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.batch.extensions.s3.benchmark;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import org.springframework.batch.extensions.s3.S3ItemReader;
+import org.springframework.batch.extensions.s3.serializer.S3Deserializer;
+import org.springframework.batch.extensions.s3.serializer.S3StringDeserializer;
+import org.springframework.batch.extensions.s3.stream.S3InputStream;
+import org.springframework.batch.infrastructure.item.ExecutionContext;
+
+/**
+ * Measures how fast {@link S3ItemReader} turns an object of {@value #OBJECT_SIZE} bytes
+ * of text lines into items, served by an {@link InMemoryS3Client}. Each invocation reads
+ * the whole object, so the score is the number of objects read per second.
+ * <ul>
+ * <li>{@code bufferSize}: the size of the buffer the reader reads the stream into.</li>
+ * <li>{@code deserializer}: {@code string} is {@link S3StringDeserializer} fed with the
+ * slices of the buffer, {@code copying} goes through
+ * {@link S3Deserializer#deserialize(byte[])}, which copies each slice first.</li>
+ * <li>{@code concurrency}: values greater than one read the object as parallel ranges of
+ * {@value #PART_SIZE} bytes.</li>
+ * </ul>
+ *
+ * @author Andrea Cioni
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class S3ItemReaderBenchmark {
+
+	static final int OBJECT_SIZE = 32 * 1024 * 1024;
+
+	static final int PART_SIZE = 1024 * 1024;
+
+	private static final String BUCKET = "bucket";
+
+	private static final String KEY = "items.txt";
+
+	@Param({ "128", "8192", "65536" })
+	private int bufferSize;
+
+	@Param({ "string", "copying" })
+	private String deserializer;
+
+	@Param({ "1", "4" })
+	private int concurrency;
+
+	private final InMemoryS3Client s3Client = new InMemoryS3Client();
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		ByteArrayOutputStream content = new ByteArrayOutputStream(OBJECT_SIZE);
+		for (int i = 0; content.size() < OBJECT_SIZE; i++) {
+			content.writeBytes(("item-" + i + ",lorem ipsum dolor sit amet,consectetur adipiscing elit,"
+					+ (i * 31L) + "\n")
+				.getBytes(StandardCharsets.UTF_8));
+		}
+		this.s3Client.putObject(KEY, content.toByteArray());
+	}
+
+	@Benchmark
+	public void read(Blackhole blackhole) throws Exception {
+		S3InputStream inputStream = new S3InputStream(this.s3Client, BUCKET, KEY);
+		inputStream.setConcurrency(this.concurrency);
+		inputStream.setPartSize(PART_SIZE);
+		S3ItemReader<String> reader = new S3ItemReader<>(inputStream, newDeserializer());
+		reader.setBufferSize(this.bufferSize);
+		reader.setSaveState(false);
+		reader.open(new ExecutionContext());
+		try {
+			String item;
+			while ((item = reader.read()) != null) {
+				blackhole.consume(item);
+			}
+		}
+		finally {
+			reader.close();
+		}
+	}
+
+	private S3Deserializer<String> newDeserializer() {
+		S3StringDeserializer stringDeserializer = new S3StringDeserializer();
+		if ("copying".equals(this.deserializer)) {
+			return (S3Deserializer<String>) stringDeserializer::deserialize;
+		}
+		return stringDeserializer;
+	}
+
+}
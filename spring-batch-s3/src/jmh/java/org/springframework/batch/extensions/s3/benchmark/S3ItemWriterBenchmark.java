@@ -0,0 +1,133 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.batch.extensions.s3.benchmark;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.springframework.batch.extensions.s3.S3ItemWriter;
+import org.springframework.batch.extensions.s3.serializer.S3StringChunkSerializer;
+import org.springframework.batch.extensions.s3.serializer.S3StringSerializer;
+import org.springframework.batch.extensions.s3.stream.S3MultipartOutputStream;
+import org.springframework.batch.extensions.s3.stream.S3MultipartUploader;
+import org.springframework.batch.extensions.s3.stream.S3PartSizePolicy;
+import org.springframework.batch.extensions.s3.stream.S3ResumableMultipartOutputStream;
+import org.springframework.batch.infrastructure.item.Chunk;
+import org.springframework.batch.infrastructure.item.ExecutionContext;
+
+/**
+ * Measures how fast {@link S3ItemWriter} uploads {@value #CHUNK_COUNT} chunks of
+ * {@value #CHUNK_SIZE} text lines as a multipart upload to an {@link InMemoryS3Client}.
+ * Each invocation writes and completes a whole object, so the score is the number of
+ * objects written per second.
+ * <ul>
+ * <li>{@code handOff}: {@code piped} writes to a {@link S3MultipartOutputStream}, which
+ * hands the bytes over to an upload thread, {@code direct} writes to a
+ * {@link S3ResumableMultipartOutputStream}, which uploads the parts on the writing
+ * thread.</li>
+ * <li>{@code serializer}: {@code item} serializes the items one by one with
+ * {@link S3StringSerializer}, {@code chunk} serializes whole chunks with
+ * {@link S3StringChunkSerializer}.</li>
+ * <li>{@code partSize}: the size of the uploaded parts.</li>
+ * </ul>
+ *
+ * @author Andrea Cioni
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class S3ItemWriterBenchmark {
+
+	static final int CHUNK_COUNT = 300;
+
+	static final int CHUNK_SIZE = 1000;
+
+	private static final String BUCKET = "bucket";
+
+	private static final String KEY = "items.txt";
+
+	@Param({ "piped", "direct" })
+	private String handOff;
+
+	@Param({ "item", "chunk" })
+	private String serializer;
+
+	@Param({ "5242880", "16777216" })
+	private int partSize;
+
+	private final InMemoryS3Client s3Client = new InMemoryS3Client();
+
+	private final List<Chunk<String>> chunks = new ArrayList<>();
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		for (int i = 0; i < CHUNK_COUNT; i++) {
+			List<String> items = new ArrayList<>(CHUNK_SIZE);
+			for (int j = 0; j < CHUNK_SIZE; j++) {
+				int index = i * CHUNK_SIZE + j;
+				items.add("item-" + index + ",lorem ipsum dolor sit amet,consectetur adipiscing elit," + (index * 31L));
+			}
+			this.chunks.add(new Chunk<>(items));
+		}
+	}
+
+	@Benchmark
+	public long write() throws Exception {
+		S3ItemWriter<String> writer = "chunk".equals(this.serializer)
+				? new S3ItemWriter<>(newOutputStream(), new S3StringChunkSerializer())
+				: new S3ItemWriter<>(newOutputStream(), new S3StringSerializer());
+		writer.setSaveState(false);
+		writer.open(new ExecutionContext());
+		for (Chunk<String> chunk : this.chunks) {
+			writer.write(chunk);
+		}
+		writer.close();
+		return this.s3Client.getUploadedBytes();
+	}
+
+	private OutputStream newOutputStream() throws IOException {
+		if ("direct".equals(this.handOff)) {
+			S3ResumableMultipartOutputStream outputStream = new S3ResumableMultipartOutputStream(this.s3Client,
+					BUCKET, KEY);
+			outputStream.setPartSize(this.partSize);
+			return outputStream;
+		}
+		S3MultipartUploader uploader = new S3MultipartUploader(this.s3Client, BUCKET, KEY);
+		uploader.setPartSizePolicy(S3PartSizePolicy.fixed(this.partSize));
+		return new S3MultipartOutputStream(uploader);
+	}
+
+}
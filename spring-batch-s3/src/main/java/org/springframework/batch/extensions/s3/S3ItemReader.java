@@ -17,34 +17,73 @@
 package org.springframework.batch.extensions.s3;
 
 import java.io.IOException;
-import java.util.Arrays;
+import java.io.InputStream;
 
 import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
+import org.springframework.batch.extensions.s3.compression.S3CompressionCodec;
+import org.springframework.batch.extensions.s3.compression.S3CompressionCodecs;
 import org.springframework.batch.extensions.s3.serializer.S3Deserializer;
 import org.springframework.batch.extensions.s3.stream.S3InputStream;
+import org.springframework.batch.infrastructure.item.ExecutionContext;
 import org.springframework.batch.infrastructure.item.ItemReader;
 import org.springframework.batch.infrastructure.item.ItemStream;
 import org.springframework.batch.infrastructure.item.ItemStreamException;
+import org.springframework.batch.infrastructure.item.ItemStreamSupport;
 
 /**
  * An {@link ItemReader} that reads items from an S3 object using a specified
  * deserializer. It uses an {@link S3InputStream} to read the data and a
  * {@link S3Deserializer} to convert the byte array into the desired item type.
+ * <p>
+ * The reader is restartable: on {@link #update(ExecutionContext)} it stores the offset of
+ * the first byte that is not part of an item returned so far, i.e. the bytes read from
+ * the stream minus the bytes still buffered in the deserializer. On
+ * {@link #open(ExecutionContext)} reading resumes from that offset with a ranged
+ * {@code GetObject} request, so the deserializer starts again on a record boundary. When
+ * the deserializer does not report its buffered bytes, a warning is logged and no offset
+ * is saved, so a restarted step reads the object from the start.
+ * <p>
+ * Compressed objects are decompressed on the fly by a {@link S3CompressionCodec}, either
+ * set explicitly or detected from the key suffix or the {@code Content-Encoding} of the
+ * object. For compressed objects the saved offset counts decompressed bytes, and resuming
+ * decompresses and discards the bytes before it.
  *
  * @param <T> the type of items to read
  * @author Andrea Cioni
  */
-public class S3ItemReader<T> implements ItemReader<T>, ItemStream {
+public class S3ItemReader<T> extends ItemStreamSupport implements ItemReader<T>, ItemStream {
+
+	private static final Logger logger = LoggerFactory.getLogger(S3ItemReader.class);
 
 	private static final int DEFAULT_BUFFER_SIZE_BYTES = 128;
 
+	private static final String READ_OFFSET = "read.offset";
+
 	private final S3InputStream in;
 
 	private final S3Deserializer<T> deserializer;
 
 	private int bufferSize = DEFAULT_BUFFER_SIZE_BYTES;
 
+	private byte[] buffer = new byte[0];
+
+	private long streamOffset;
+
+	private boolean saveState = true;
+
+	private boolean bufferedBytesReported = true;
+
+	@Nullable
+	private S3CompressionCodec compressionCodec;
+
+	private boolean detectCompression;
+
+	@Nullable
+	private InputStream input;
+
 	public S3ItemReader(S3InputStream in, S3Deserializer<T> deserializer) {
 		this.in = in;
 		this.deserializer = deserializer;
@@ -57,14 +96,18 @@ public class S3ItemReader<T> implements ItemReader<T>, ItemStream {
 
 		//before reading more bytes from the input stream get all of the items
 		//that may be buffered inside the deserializer (deserializer is stateful!)
-		while ((item = this.deserializer.deserialize(new byte[]{})) != null) {
+		while ((item = this.deserializer.deserialize(this.buffer, 0, 0)) != null) {
 			return item;
 		}
 
+		if (this.buffer.length != this.bufferSize) {
+			this.buffer = new byte[this.bufferSize];
+		}
 		int bytesRead;
-		byte[] buffer = new byte[this.bufferSize];
-		while ((bytesRead = this.in.read(buffer)) != -1) {
-			item = this.deserializer.deserialize(Arrays.copyOf(buffer, bytesRead));
+		InputStream input = input();
+		while ((bytesRead = input.read(this.buffer)) != -1) {
+			this.streamOffset += bytesRead;
+			item = this.deserializer.deserialize(this.buffer, 0, bytesRead);
 			if (item != null) {
 				return item;
 			}
@@ -72,9 +115,63 @@ public class S3ItemReader<T> implements ItemReader<T>, ItemStream {
 		return null;
 	}
 
+	@Override
+	public void open(ExecutionContext executionContext) throws ItemStreamException {
+		if (!this.saveState || bufferedByteCount() == null) {
+			return;
+		}
+		String key = getExecutionContextKey(READ_OFFSET);
+		if (!executionContext.containsKey(key)) {
+			return;
+		}
+		long offset = executionContext.getLong(key);
+		try {
+			input().skipNBytes(offset);
+		}
+		catch (IOException ex) {
+			throw new ItemStreamException("Unable to resume reading at offset " + offset, ex);
+		}
+		this.streamOffset = offset;
+	}
+
+	@Override
+	public void update(ExecutionContext executionContext) throws ItemStreamException {
+		if (!this.saveState) {
+			return;
+		}
+		Integer bufferedByteCount = bufferedByteCount();
+		if (bufferedByteCount != null) {
+			executionContext.putLong(getExecutionContextKey(READ_OFFSET), this.streamOffset - bufferedByteCount);
+		}
+	}
+
+	/**
+	 * Return the bytes buffered in the deserializer, or {@code null} if it does not report
+	 * them, in which case the read offset cannot be saved.
+	 * @return the number of buffered bytes, or {@code null}
+	 */
+	@Nullable
+	private Integer bufferedByteCount() {
+		if (!this.bufferedBytesReported) {
+			return null;
+		}
+		try {
+			return this.deserializer.getBufferedByteCount();
+		}
+		catch (UnsupportedOperationException ex) {
+			logger.warn("{} does not report its buffered bytes, the read offset is not saved and a restart "
+					+ "reads the object from the start", this.deserializer.getClass().getName());
+			this.bufferedBytesReported = false;
+			return null;
+		}
+	}
+
 	@Override
 	public void close() throws ItemStreamException {
 		try {
+			if (this.input != null) {
+				this.input.close();
+			}
 			this.in.close();
 		}
 		catch (IOException ex) {
@@ -82,6 +179,28 @@ public class S3ItemReader<T> implements ItemReader<T>, ItemStream {
 		}
 	}
 
+	/**
+	 * Return the stream items are read from: the raw object stream, or a decompressing
+	 * stream wrapping it. The codec is resolved on first use, so that detecting it from
+	 * the {@code Content-Encoding} only costs a {@code HeadObject} request when the key
+	 * suffix is not conclusive.
+	 * @return the stream to read items from
+	 * @throws IOException if the decompressing stream cannot be created
+	 */
+	private InputStream input() throws IOException {
+		if (this.input == null) {
+			S3CompressionCodec codec = this.compressionCodec;
+			if (codec == null && this.detectCompression) {
+				codec = S3CompressionCodecs.forObjectKey(this.in.getObjectKey());
+				if (codec == null) {
+					codec = S3CompressionCodecs.forContentEncoding(this.in.getContentEncoding());
+				}
+			}
+			this.input = (codec != null) ? codec.decompress(this.in) : this.in;
+		}
+		return this.input;
+	}
+
 	public void setBufferSize(int bufferSize) {
 		this.bufferSize = bufferSize;
 	}
@@ -89,4 +208,45 @@ public class S3ItemReader<T> implements ItemReader<T>, ItemStream {
 	public int getBufferSize() {
 		return this.bufferSize;
 	}
+
+	/**
+	 * Set the flag that determines whether to save the read offset in the
+	 * {@link ExecutionContext} to allow restarts. Defaults to {@code true}.
+	 * @param saveState whether the state should be saved
+	 */
+	public void setSaveState(boolean saveState) {
+		this.saveState = saveState;
+	}
+
+	public boolean isSaveState() {
+		return this.saveState;
+	}
+
+	/**
+	 * Set the codec used to decompress the object. Takes precedence over
+	 * {@link #setDetectCompression(boolean) detection}.
+	 * @param compressionCodec the codec, or {@code null} to read the raw bytes
+	 */
+	public void setCompressionCodec(@Nullable S3CompressionCodec compressionCodec) {
+		this.compressionCodec = compressionCodec;
+	}
+
+	@Nullable
+	public S3CompressionCodec getCompressionCodec() {
+		return this.compressionCodec;
+	}
+
+	/**
+	 * Set whether the compression codec should be detected from the key suffix or, if the
+	 * suffix is not known, from the {@code Content-Encoding} of the object. Defaults to
+	 * {@code false}.
+	 * @param detectCompression whether the codec should be detected
+	 */
+	public void setDetectCompression(boolean detectCompression) {
+		this.detectCompression = detectCompression;
+	}
+
+	public boolean isDetectCompression() {
+		return this.detectCompression;
+	}
 }
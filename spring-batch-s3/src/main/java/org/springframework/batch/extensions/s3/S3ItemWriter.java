@@ -18,54 +18,263 @@ package org.springframework.batch.extensions.s3;
 
 import java.io.IOException;
 import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
 
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.listener.StepExecutionListener;
+import org.springframework.batch.core.step.StepExecution;
+import org.springframework.batch.extensions.s3.compression.S3CompressionCodec;
+import org.springframework.batch.extensions.s3.serializer.S3ChunkSerializer;
 import org.springframework.batch.extensions.s3.serializer.S3Serializer;
 import org.springframework.batch.extensions.s3.stream.S3MultipartOutputStream;
+import org.springframework.batch.extensions.s3.stream.S3ResumableMultipartOutputStream;
 import org.springframework.batch.infrastructure.item.Chunk;
-import org.springframework.batch.infrastructure.item.ItemStream;
+import org.springframework.batch.infrastructure.item.ExecutionContext;
 import org.springframework.batch.infrastructure.item.ItemStreamException;
+import org.springframework.batch.infrastructure.item.ItemStreamSupport;
+import org.springframework.batch.infrastructure.item.ItemStreamWriter;
 import org.springframework.batch.infrastructure.item.ItemWriter;
-import org.springframework.util.ObjectUtils;
 
 /**
  * An {@link ItemWriter} that writes items to an S3 object using a specified serializer.
  * It uses an {@link S3MultipartOutputStream} to write the data and a {@link S3Serializer}
- * to convert the item into a byte array.
+ * to convert the item into a byte array, or a {@link S3ChunkSerializer} to write a whole
+ * chunk directly to the stream.
+ * <p>
+ * When a {@link S3CompressionCodec} is set the serialized items are compressed on the fly
+ * before being uploaded, and the compressed stream is finished when the writer is closed.
+ * <p>
+ * When writing to a {@link S3ResumableMultipartOutputStream} the writer is restartable:
+ * on {@link #update(ExecutionContext)} it stores the upload ID, the ETags of the uploaded
+ * parts, the number of bytes written, and the size and ETag of the checkpoint object
+ * holding the bytes not uploaded yet. On {@link #open(ExecutionContext)} it resumes the
+ * same multipart upload. When the step does not complete, the upload is left open on
+ * close instead of being completed, so that a restart can continue it. Restarts are not
+ * supported together with compression, since the state of the compressor cannot be
+ * saved.
+ * <p>
+ * When the writer is registered as a listener of the step, the upload is completed in
+ * {@link #afterStep(StepExecution)} rather than on close, so that a failed upload fails
+ * the step. When the object is uploaded by a {@link S3MultipartOutputStream} computing
+ * checksums, the checksum of the object is then put in the step {@link ExecutionContext}
+ * under the {@code upload.checksum} key, which is saved with the step.
  *
  * @param <T> the type of items to write
  * @author Andrea Cioni
  */
-public class S3ItemWriter<T> implements ItemWriter<T>, ItemStream {
+public class S3ItemWriter<T> extends ItemStreamSupport implements ItemStreamWriter<T>, StepExecutionListener {
+
+	private static final String UPLOAD_ID = "upload.id";
+
+	private static final String UPLOAD_PART_ETAGS = "upload.part.etags";
+
+	private static final String UPLOAD_BYTES = "upload.bytes";
+
+	private static final String UPLOAD_BUFFERED_BYTES = "upload.buffered.bytes";
+
+	private static final String UPLOAD_CHECKPOINT_ETAG = "upload.checkpoint.etag";
+
+	private static final String UPLOAD_CHECKSUM = "upload.checksum";
 
 	private final OutputStream out;
 
-	private final S3Serializer<T> serializer;
+	private final S3ChunkSerializer<T> serializer;
+
+	@Nullable
+	private S3CompressionCodec compressionCodec;
+
+	@Nullable
+	private OutputStream output;
+
+	private boolean saveState = true;
+
+	private boolean stepCompleted = true;
+
+	private boolean finished;
 
 	public S3ItemWriter(OutputStream out, S3Serializer<T> serializer) {
+		this(out, S3ChunkSerializer.forEachItem(serializer));
+	}
+
+	public S3ItemWriter(OutputStream out, S3ChunkSerializer<T> serializer) {
 		this.out = out;
 		this.serializer = serializer;
 	}
 
 	@Override
 	public void write(Chunk<? extends T> chunk) throws Exception {
-		for (T item : chunk.getItems()) {
-			byte[] serializedData = this.serializer.serialize(item);
-			if (!ObjectUtils.isEmpty(serializedData)) {
-				this.out.write(serializedData);
+		this.serializer.serialize(chunk, output());
+	}
+
+	@Override
+	public void open(ExecutionContext executionContext) throws ItemStreamException {
+		S3ResumableMultipartOutputStream resumable = resumableOutputStream();
+		if (resumable == null) {
+			return;
+		}
+		if (this.compressionCodec != null) {
+			throw new ItemStreamException("Restarting a compressed upload is not supported, disable saveState");
+		}
+		if (!this.serializer.isResumable()) {
+			throw new ItemStreamException("The serializer does not support restarts, disable saveState");
+		}
+		if (!executionContext.containsKey(getExecutionContextKey(UPLOAD_BYTES))) {
+			return;
+		}
+		String uploadId = getString(executionContext, UPLOAD_ID);
+		List<String> partETags = new ArrayList<>();
+		if (executionContext.get(getExecutionContextKey(UPLOAD_PART_ETAGS)) instanceof List<?> savedETags) {
+			for (Object eTag : savedETags) {
+				partETags.add((String) eTag);
 			}
-			else {
-				throw new IllegalArgumentException("Serialized data is null or empty for item: " + item);
+		}
+		try {
+			resumable.resume(uploadId, partETags, executionContext.getLong(getExecutionContextKey(UPLOAD_BYTES)),
+					executionContext.getInt(getExecutionContextKey(UPLOAD_BUFFERED_BYTES), 0),
+					getString(executionContext, UPLOAD_CHECKPOINT_ETAG));
+		}
+		catch (IOException ex) {
+			throw new ItemStreamException("Unable to resume the multipart upload", ex);
+		}
+	}
+
+	@Override
+	public void update(ExecutionContext executionContext) throws ItemStreamException {
+		S3ResumableMultipartOutputStream resumable = resumableOutputStream();
+		if (resumable == null) {
+			return;
+		}
+		try {
+			resumable.checkpoint();
+		}
+		catch (IOException ex) {
+			throw new ItemStreamException("Unable to upload the buffered part", ex);
+		}
+		// the context may hold the upload of a previous object written under this name
+		putString(executionContext, UPLOAD_ID, resumable.getUploadId());
+		executionContext.put(getExecutionContextKey(UPLOAD_PART_ETAGS), new ArrayList<>(resumable.getPartETags()));
+		executionContext.putLong(getExecutionContextKey(UPLOAD_BYTES), resumable.getBytesWritten());
+		executionContext.putInt(getExecutionContextKey(UPLOAD_BUFFERED_BYTES), resumable.getBufferedByteCount());
+		putString(executionContext, UPLOAD_CHECKPOINT_ETAG, resumable.getCheckpointETag());
+	}
+
+	@Nullable
+	private String getString(ExecutionContext executionContext, String key) {
+		String contextKey = getExecutionContextKey(key);
+		return executionContext.containsKey(contextKey) ? executionContext.getString(contextKey) : null;
+	}
+
+	private void putString(ExecutionContext executionContext, String key, @Nullable String value) {
+		if (value != null) {
+			executionContext.putString(getExecutionContextKey(key), value);
+		}
+		else {
+			executionContext.remove(getExecutionContextKey(key));
+		}
+	}
+
+	@Override
+	public ExitStatus afterStep(StepExecution stepExecution) {
+		this.stepCompleted = stepExecution.getStatus() == BatchStatus.COMPLETED;
+		if (!this.stepCompleted) {
+			return stepExecution.getExitStatus();
+		}
+		try {
+			finish();
+		}
+		catch (IOException ex) {
+			this.stepCompleted = false;
+			stepExecution.upgradeStatus(BatchStatus.FAILED);
+			stepExecution.addFailureException(ex);
+			return ExitStatus.FAILED.addExitDescription(ex);
+		}
+		if (this.out instanceof S3MultipartOutputStream multipartOutputStream) {
+			String checksum = multipartOutputStream.getChecksum();
+			if (checksum != null) {
+				stepExecution.getExecutionContext().putString(getExecutionContextKey(UPLOAD_CHECKSUM), checksum);
 			}
 		}
+		return stepExecution.getExitStatus();
 	}
 
 	@Override
 	public void close() throws ItemStreamException {
+		S3ResumableMultipartOutputStream resumable = resumableOutputStream();
+		if (resumable != null && !this.stepCompleted) {
+			// keep the upload open for the restart
+			resumable.suspend();
+			return;
+		}
 		try {
-			this.out.close();
+			finish();
 		}
 		catch (IOException ex) {
 			throw new ItemStreamException(ex);
 		}
 	}
+
+	/**
+	 * Write the trailing data of the serializer and close the stream, which waits for the
+	 * upload to complete.
+	 */
+	private void finish() throws IOException {
+		if (this.finished) {
+			return;
+		}
+		this.finished = true;
+		// closing the compressing stream writes its trailer and closes the raw stream
+		if (this.output != null) {
+			this.serializer.finish();
+			this.output.close();
+		}
+		else {
+			this.out.close();
+		}
+	}
+
+	@Nullable
+	private S3ResumableMultipartOutputStream resumableOutputStream() {
+		if (this.saveState && this.out instanceof S3ResumableMultipartOutputStream resumable) {
+			return resumable;
+		}
+		return null;
+	}
+
+	private OutputStream output() throws IOException {
+		if (this.output == null) {
+			this.output = (this.compressionCodec != null) ? this.compressionCodec.compress(this.out) : this.out;
+		}
+		return this.output;
+	}
+
+	/**
+	 * Set the codec used to compress the object.
+	 * @param compressionCodec the codec, or {@code null} to write the raw bytes
+	 */
+	public void setCompressionCodec(@Nullable S3CompressionCodec compressionCodec) {
+		this.compressionCodec = compressionCodec;
+	}
+
+	@Nullable
+	public S3CompressionCodec getCompressionCodec() {
+		return this.compressionCodec;
+	}
+
+	/**
+	 * Set the flag that determines whether to save the state of the upload in the
+	 * {@link ExecutionContext} to allow restarts. Only applies when writing to a
+	 * {@link S3ResumableMultipartOutputStream}. Defaults to {@code true}.
+	 * @param saveState whether the state should be saved
+	 */
+	public void setSaveState(boolean saveState) {
+		this.saveState = saveState;
+	}
+
+	public boolean isSaveState() {
+		return this.saveState;
+	}
 }
@@ -0,0 +1,227 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.batch.extensions.s3;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.jspecify.annotations.Nullable;
+import software.amazon.awssdk.services.s3.S3Client;
+
+import org.springframework.batch.extensions.s3.compression.S3CompressionCodec;
+import org.springframework.batch.extensions.s3.serializer.S3Deserializer;
+import org.springframework.batch.extensions.s3.stream.S3InputStream;
+import org.springframework.batch.infrastructure.item.ExecutionContext;
+import org.springframework.batch.infrastructure.item.ItemStreamException;
+import org.springframework.batch.infrastructure.item.ItemStreamReader;
+import org.springframework.batch.infrastructure.item.ItemStreamSupport;
+
+/**
+ * An {@link ItemStreamReader} that reads the items of several objects of the same S3
+ * bucket, one object after the other. Each object is read by an {@link S3ItemReader}
+ * with a fresh deserializer obtained from the given supplier, since deserializers are
+ * stateful. It is typically used as a step-scoped reader fed with the object keys of a
+ * partition created by
+ * {@link org.springframework.batch.extensions.s3.partition.S3PrefixPartitioner}.
+ * <p>
+ * The reader is restartable: it stores the index of the object being read together with
+ * the read offset of that object, and resumes from there on restart.
+ *
+ * @param <T> the type of items to read
+ * @author Andrea Cioni
+ */
+public class S3MultiObjectItemReader<T> extends ItemStreamSupport implements ItemStreamReader<T> {
+
+	private static final String OBJECT_INDEX = "object.index";
+
+	private static final String READ_OFFSET = "read.offset";
+
+	private final S3Client s3Client;
+
+	private final String bucketName;
+
+	private final List<String> objectKeys;
+
+	private final Supplier<S3Deserializer<T>> deserializerSupplier;
+
+	@Nullable
+	private Integer bufferSize;
+
+	private int concurrency = 1;
+
+	@Nullable
+	private Integer partSize;
+
+	private boolean saveState = true;
+
+	@Nullable
+	private S3CompressionCodec compressionCodec;
+
+	private boolean detectCompression;
+
+	private int objectIndex;
+
+	@Nullable
+	private S3ItemReader<T> delegate;
+
+	@Nullable
+	private ExecutionContext restartContext;
+
+	public S3MultiObjectItemReader(S3Client s3Client, String bucketName, List<String> objectKeys,
+			Supplier<S3Deserializer<T>> deserializerSupplier) {
+		this.s3Client = s3Client;
+		this.bucketName = bucketName;
+		this.objectKeys = objectKeys;
+		this.deserializerSupplier = deserializerSupplier;
+	}
+
+	@Override
+	@Nullable
+	public T read() throws Exception {
+		while (this.objectIndex < this.objectKeys.size()) {
+			S3ItemReader<T> reader = currentDelegate();
+			T item = reader.read();
+			if (item != null) {
+				return item;
+			}
+			reader.close();
+			this.delegate = null;
+			this.objectIndex++;
+		}
+		return null;
+	}
+
+	@Override
+	public void open(ExecutionContext executionContext) throws ItemStreamException {
+		String key = getExecutionContextKey(OBJECT_INDEX);
+		if (this.saveState && executionContext.containsKey(key)) {
+			this.objectIndex = executionContext.getInt(key);
+			this.restartContext = executionContext;
+		}
+	}
+
+	@Override
+	public void update(ExecutionContext executionContext) throws ItemStreamException {
+		if (!this.saveState) {
+			return;
+		}
+		executionContext.putInt(getExecutionContextKey(OBJECT_INDEX), this.objectIndex);
+		if (this.delegate != null) {
+			this.delegate.update(executionContext);
+		}
+		else {
+			executionContext.remove(getExecutionContextKey(READ_OFFSET));
+		}
+	}
+
+	@Override
+	public void close() throws ItemStreamException {
+		if (this.delegate != null) {
+			this.delegate.close();
+			this.delegate = null;
+		}
+	}
+
+	private S3ItemReader<T> currentDelegate() {
+		if (this.delegate == null) {
+			S3InputStream inputStream = new S3InputStream(this.s3Client, this.bucketName,
+					this.objectKeys.get(this.objectIndex));
+			inputStream.setConcurrency(this.concurrency);
+			if (this.partSize != null) {
+				inputStream.setPartSize(this.partSize);
+			}
+			S3ItemReader<T> reader = new S3ItemReader<>(inputStream, this.deserializerSupplier.get());
+			if (this.bufferSize != null) {
+				reader.setBufferSize(this.bufferSize);
+			}
+			// The delegate shares the name of this reader so that its read offset is
+			// stored next to the object index
+			String name = getName();
+			if (name != null) {
+				reader.setName(name);
+			}
+			reader.setSaveState(this.saveState);
+			reader.setCompressionCodec(this.compressionCodec);
+			reader.setDetectCompression(this.detectCompression);
+			reader.open((this.restartContext != null) ? this.restartContext : new ExecutionContext());
+			this.restartContext = null;
+			this.delegate = reader;
+		}
+		return this.delegate;
+	}
+
+	public void setBufferSize(int bufferSize) {
+		this.bufferSize = bufferSize;
+	}
+
+	/**
+	 * Set the number of byte ranges downloaded in parallel for each object.
+	 * @param concurrency the number of concurrent range requests
+	 * @see S3InputStream#setConcurrency(int)
+	 */
+	public void setConcurrency(int concurrency) {
+		if (concurrency < 1) {
+			throw new IllegalArgumentException("Concurrency must be at least 1");
+		}
+		this.concurrency = concurrency;
+	}
+
+	/**
+	 * Set the size of the byte ranges requested in prefetching mode.
+	 * @param partSize the size of each range in bytes
+	 * @see S3InputStream#setPartSize(int)
+	 */
+	public void setPartSize(int partSize) {
+		if (partSize <= 0) {
+			throw new IllegalArgumentException("Part size must be positive");
+		}
+		this.partSize = partSize;
+	}
+
+	/**
+	 * Set the flag that determines whether to save the current object and read offset in
+	 * the {@link ExecutionContext} to allow restarts. Defaults to {@code true}.
+	 * @param saveState whether the state should be saved
+	 */
+	public void setSaveState(boolean saveState) {
+		this.saveState = saveState;
+	}
+
+	public boolean isSaveState() {
+		return this.saveState;
+	}
+
+	/**
+	 * Set the codec used to decompress every object.
+	 * @param compressionCodec the codec, or {@code null} to read the raw bytes
+	 * @see S3ItemReader#setCompressionCodec(S3CompressionCodec)
+	 */
+	public void setCompressionCodec(@Nullable S3CompressionCodec compressionCodec) {
+		this.compressionCodec = compressionCodec;
+	}
+
+	/**
+	 * Set whether the compression codec should be detected for each object, so that
+	 * compressed and uncompressed objects can be mixed.
+	 * @param detectCompression whether the codec should be detected
+	 * @see S3ItemReader#setDetectCompression(boolean)
+	 */
+	public void setDetectCompression(boolean detectCompression) {
+		this.detectCompression = detectCompression;
+	}
+
+}
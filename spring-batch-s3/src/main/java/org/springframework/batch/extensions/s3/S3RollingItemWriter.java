@@ -0,0 +1,462 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.batch.extensions.s3;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.listener.StepExecutionListener;
+import org.springframework.batch.core.step.StepExecution;
+import org.springframework.batch.extensions.s3.compression.S3CompressionCodec;
+import org.springframework.batch.extensions.s3.serializer.S3ChunkSerializer;
+import org.springframework.batch.extensions.s3.stream.S3ResumableMultipartOutputStream;
+import org.springframework.batch.infrastructure.item.Chunk;
+import org.springframework.batch.infrastructure.item.ExecutionContext;
+import org.springframework.batch.infrastructure.item.ItemStreamException;
+import org.springframework.batch.infrastructure.item.ItemStreamSupport;
+import org.springframework.batch.infrastructure.item.ItemStreamWriter;
+import org.springframework.batch.infrastructure.item.ItemWriter;
+
+/**
+ * An {@link ItemWriter} that spreads the items of a step over several S3 objects. Each
+ * object is written by a {@link S3ItemWriter}, and a new object is started once the
+ * current one reaches {@code maxObjectSize} serialized bytes or {@code maxItemCount}
+ * items. Objects are only rolled between chunks, so both limits may be exceeded by up to
+ * one chunk. The size is counted before compression. A full object is rolled on
+ * {@link #update(ExecutionContext)}, i.e. once its last chunk is about to be committed,
+ * or else before the next chunk is written, so that a chunk that is rolled back is never
+ * part of a completed object.
+ * <p>
+ * Objects are named after the configured key with a sequence number inserted before the
+ * extension, e.g. {@code export.csv.gz} is written as {@code export-0001.csv.gz},
+ * {@code export-0002.csv.gz} and so on. A rolled object is closed in the background,
+ * while items are written to the next one. The S3 streams of this module only return
+ * from {@code close()} once the object is uploaded and rethrow the failure of the upload,
+ * which is then reported by the next call to {@link #write(Chunk)},
+ * {@link #update(ExecutionContext)} or {@link #close()}. Custom streams given through
+ * the {@link OutputStreamFactory} must behave the same for failures to be reported.
+ * <p>
+ * On {@link #update(ExecutionContext)} the keys of the objects written so far are stored
+ * in the {@link ExecutionContext} under {@code <name>.object.keys}, so that the objects
+ * can be handed over to the next step. When the objects are written with
+ * {@link S3ResumableMultipartOutputStream}s the writer is also restartable: rolled
+ * objects are completed before the state is saved, and on restart the upload of the
+ * object in progress is resumed, with the item and byte counts of the object restored.
+ *
+ * @param <T> the type of items to write
+ * @author Andrea Cioni
+ */
+public class S3RollingItemWriter<T> extends ItemStreamSupport implements ItemStreamWriter<T>, StepExecutionListener {
+
+	private static final Logger logger = LoggerFactory.getLogger(S3RollingItemWriter.class);
+
+	/**
+	 * Key in the {@link ExecutionContext} of the list of object keys, without the name
+	 * prefix.
+	 */
+	public static final String OBJECT_KEYS = "object.keys";
+
+	private static final String OBJECT_OPEN = "object.open";
+
+	private static final String OBJECT_ITEM_COUNT = "object.item.count";
+
+	private final String objectKey;
+
+	private final OutputStreamFactory outputStreamFactory;
+
+	private final Supplier<S3ChunkSerializer<T>> serializerSupplier;
+
+	private long maxObjectSize = Long.MAX_VALUE;
+
+	private long maxItemCount = Long.MAX_VALUE;
+
+	@Nullable
+	private S3CompressionCodec compressionCodec;
+
+	private boolean saveState = true;
+
+	@Nullable
+	private ExecutorService executorService;
+
+	private boolean ownsExecutorService;
+
+	private final List<String> objectKeys = new ArrayList<>();
+
+	private final Deque<Future<?>> pendingCloses = new ArrayDeque<>();
+
+	@Nullable
+	private S3ItemWriter<T> writer;
+
+	@Nullable
+	private CountingChunkSerializer<T> serializer;
+
+	private long itemCount;
+
+	private boolean rollPending;
+
+	/**
+	 * Create a new rolling writer.
+	 * @param objectKey the key the keys of the objects are derived from
+	 * @param outputStreamFactory the factory of the stream of each object
+	 * @param serializerSupplier the supplier of the serializer of each object, called once
+	 * per object so that serializers writing a header or a footer start afresh
+	 */
+	public S3RollingItemWriter(String objectKey, OutputStreamFactory outputStreamFactory,
+			Supplier<S3ChunkSerializer<T>> serializerSupplier) {
+		this.objectKey = objectKey;
+		this.outputStreamFactory = outputStreamFactory;
+		this.serializerSupplier = serializerSupplier;
+	}
+
+	@Override
+	public void write(Chunk<? extends T> chunk) throws Exception {
+		checkPendingCloses(false);
+		if (this.rollPending) {
+			roll();
+		}
+		S3ItemWriter<T> writer = currentWriter();
+		writer.write(chunk);
+		this.itemCount += chunk.size();
+		// the object is rolled once the chunk is committed, as the chunk may be rolled back
+		this.rollPending = this.itemCount >= this.maxItemCount
+				|| Objects.requireNonNull(this.serializer).getByteCount() >= this.maxObjectSize;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public void open(ExecutionContext executionContext) throws ItemStreamException {
+		if (!this.saveState || !executionContext.containsKey(getExecutionContextKey(OBJECT_KEYS))) {
+			return;
+		}
+		this.objectKeys.addAll((List<String>) executionContext.get(getExecutionContextKey(OBJECT_KEYS), List.class));
+		if (executionContext.getInt(getExecutionContextKey(OBJECT_OPEN), 0) == 1) {
+			// resume the object in progress rather than starting the next one
+			String key = this.objectKeys.remove(this.objectKeys.size() - 1);
+			OutputStream outputStream;
+			try {
+				outputStream = this.outputStreamFactory.create(key);
+			}
+			catch (IOException ex) {
+				throw new ItemStreamException("Unable to resume writing " + key, ex);
+			}
+			openWriter(key, outputStream).open(executionContext);
+			this.itemCount = executionContext.getLong(getExecutionContextKey(OBJECT_ITEM_COUNT), 0L);
+			if (outputStream instanceof S3ResumableMultipartOutputStream resumable) {
+				Objects.requireNonNull(this.serializer).setInitialByteCount(resumable.getBytesWritten());
+			}
+		}
+	}
+
+	@Override
+	public void update(ExecutionContext executionContext) throws ItemStreamException {
+		if (this.rollPending) {
+			roll();
+		}
+		if (this.saveState) {
+			// the saved keys must only point to complete objects
+			checkPendingCloses(true);
+		}
+		executionContext.put(getExecutionContextKey(OBJECT_KEYS), new ArrayList<>(this.objectKeys));
+		if (!this.saveState) {
+			return;
+		}
+		executionContext.putInt(getExecutionContextKey(OBJECT_OPEN), (this.writer != null) ? 1 : 0);
+		if (this.writer != null) {
+			executionContext.putLong(getExecutionContextKey(OBJECT_ITEM_COUNT), this.itemCount);
+			this.writer.update(executionContext);
+		}
+	}
+
+	@Override
+	public ExitStatus afterStep(StepExecution stepExecution) {
+		if (stepExecution.getStatus() == BatchStatus.COMPLETED) {
+			try {
+				checkPendingCloses(true);
+			}
+			catch (ItemStreamException ex) {
+				stepExecution.upgradeStatus(BatchStatus.FAILED);
+				stepExecution.addFailureException(ex);
+				return ExitStatus.FAILED.addExitDescription(ex);
+			}
+		}
+		if (this.writer != null) {
+			return this.writer.afterStep(stepExecution);
+		}
+		return stepExecution.getExitStatus();
+	}
+
+	@Override
+	public void close() throws ItemStreamException {
+		try {
+			if (this.writer != null) {
+				this.writer.close();
+				this.writer = null;
+				this.serializer = null;
+				this.rollPending = false;
+			}
+			checkPendingCloses(true);
+		}
+		finally {
+			if (this.ownsExecutorService && this.executorService != null) {
+				this.executorService.shutdown();
+				this.executorService = null;
+			}
+		}
+	}
+
+	/**
+	 * Return the keys of the objects written so far, including the object in progress.
+	 * @return the keys of the objects
+	 */
+	public List<String> getObjectKeys() {
+		return List.copyOf(this.objectKeys);
+	}
+
+	private S3ItemWriter<T> currentWriter() throws IOException {
+		if (this.writer == null) {
+			String key = keyOf(this.objectKeys.size() + 1);
+			return openWriter(key, this.outputStreamFactory.create(key));
+		}
+		return this.writer;
+	}
+
+	private S3ItemWriter<T> openWriter(String key, OutputStream outputStream) {
+		CountingChunkSerializer<T> serializer = new CountingChunkSerializer<>(this.serializerSupplier.get());
+		S3ItemWriter<T> writer = new S3ItemWriter<>(outputStream, serializer);
+		String name = getName();
+		if (name != null) {
+			writer.setName(name);
+		}
+		writer.setCompressionCodec(this.compressionCodec);
+		writer.setSaveState(this.saveState);
+		this.objectKeys.add(key);
+		this.writer = writer;
+		this.serializer = serializer;
+		this.itemCount = 0;
+		logger.debug("Started object {}", key);
+		return writer;
+	}
+
+	private void roll() {
+		S3ItemWriter<T> rolled = Objects.requireNonNull(this.writer);
+		this.writer = null;
+		this.serializer = null;
+		this.rollPending = false;
+		this.pendingCloses.add(executorService().submit(rolled::close));
+	}
+
+	/**
+	 * Report the failure of rolled objects closed in the background.
+	 * @param wait whether to wait for the objects that are still being closed
+	 */
+	private void checkPendingCloses(boolean wait) {
+		Future<?> pending;
+		while ((pending = this.pendingCloses.peek()) != null && (wait || pending.isDone())) {
+			this.pendingCloses.poll();
+			try {
+				pending.get();
+			}
+			catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+				throw new ItemStreamException(new InterruptedIOException("Interrupted while closing a rolled object"));
+			}
+			catch (ExecutionException ex) {
+				Throwable cause = ex.getCause();
+				throw new ItemStreamException("Unable to close a rolled object", (cause != null) ? cause : ex);
+			}
+		}
+	}
+
+	private ExecutorService executorService() {
+		if (this.executorService == null) {
+			this.executorService = Executors.newSingleThreadExecutor();
+			this.ownsExecutorService = true;
+		}
+		return this.executorService;
+	}
+
+	/**
+	 * Return the key of the object with the given sequence number, inserted before the
+	 * extensions of the configured key.
+	 * @param index the sequence number of the object, starting at 1
+	 * @return the key of the object
+	 */
+	private String keyOf(int index) {
+		int nameStart = this.objectKey.lastIndexOf('/') + 1;
+		int extensionStart = this.objectKey.indexOf('.', nameStart);
+		if (extensionStart <= nameStart) {
+			extensionStart = this.objectKey.length();
+		}
+		return "%s-%04d%s".formatted(this.objectKey.substring(0, extensionStart), index,
+				this.objectKey.substring(extensionStart));
+	}
+
+	/**
+	 * Set the size in bytes after which a new object is started. The size is counted on
+	 * the serialized bytes, before compression. Unlimited by default.
+	 * @param maxObjectSize the maximum size of an object
+	 */
+	public void setMaxObjectSize(long maxObjectSize) {
+		this.maxObjectSize = maxObjectSize;
+	}
+
+	/**
+	 * Set the number of items after which a new object is started. Unlimited by default.
+	 * @param maxItemCount the maximum number of items of an object
+	 */
+	public void setMaxItemCount(long maxItemCount) {
+		this.maxItemCount = maxItemCount;
+	}
+
+	/**
+	 * Set the codec used to compress each object.
+	 * @param compressionCodec the codec, or {@code null} to write the raw bytes
+	 */
+	public void setCompressionCodec(@Nullable S3CompressionCodec compressionCodec) {
+		this.compressionCodec = compressionCodec;
+	}
+
+	/**
+	 * Set the flag that determines whether to save the state of the writer in the
+	 * {@link ExecutionContext} to allow restarts. The keys of the objects are saved
+	 * regardless. Defaults to {@code true}.
+	 * @param saveState whether the state should be saved
+	 */
+	public void setSaveState(boolean saveState) {
+		this.saveState = saveState;
+	}
+
+	/**
+	 * Set the executor closing the rolled objects. By default a single thread executor
+	 * is created and shut down when the writer is closed.
+	 * @param executorService the executor, or {@code null} for the default one
+	 */
+	public void setExecutorService(@Nullable ExecutorService executorService) {
+		this.executorService = executorService;
+		this.ownsExecutorService = false;
+	}
+
+	/**
+	 * Factory of the stream of an object.
+	 */
+	@FunctionalInterface
+	public interface OutputStreamFactory {
+
+		/**
+		 * Create the stream writing to the object with the given key.
+		 * @param objectKey the key of the object
+		 * @return the stream of the object
+		 * @throws IOException if the stream cannot be created
+		 */
+		OutputStream create(String objectKey) throws IOException;
+
+	}
+
+	/**
+	 * Counts the bytes written by the serializer of an object.
+	 */
+	private static final class CountingChunkSerializer<T> implements S3ChunkSerializer<T> {
+
+		private final S3ChunkSerializer<T> delegate;
+
+		@Nullable
+		private CountingOutputStream countingOutputStream;
+
+		private long initialByteCount;
+
+		CountingChunkSerializer(S3ChunkSerializer<T> delegate) {
+			this.delegate = delegate;
+		}
+
+		@Override
+		public void serialize(Chunk<? extends T> chunk, OutputStream outputStream) throws IOException {
+			if (this.countingOutputStream == null) {
+				this.countingOutputStream = new CountingOutputStream(outputStream);
+			}
+			this.delegate.serialize(chunk, this.countingOutputStream);
+		}
+
+		@Override
+		public void finish() throws IOException {
+			this.delegate.finish();
+		}
+
+		@Override
+		public boolean isResumable() {
+			return this.delegate.isResumable();
+		}
+
+		long getByteCount() {
+			return this.initialByteCount + ((this.countingOutputStream != null) ? this.countingOutputStream.count : 0);
+		}
+
+		/**
+		 * Count the bytes written to a resumed object before the restart.
+		 * @param initialByteCount the number of bytes already written
+		 */
+		void setInitialByteCount(long initialByteCount) {
+			this.initialByteCount = initialByteCount;
+		}
+
+	}
+
+	private static final class CountingOutputStream extends FilterOutputStream {
+
+		private long count;
+
+		CountingOutputStream(OutputStream out) {
+			super(out);
+		}
+
+		@Override
+		public void write(int b) throws IOException {
+			this.out.write(b);
+			this.count++;
+		}
+
+		@Override
+		public void write(byte[] b, int off, int len) throws IOException {
+			this.out.write(b, off, len);
+			this.count += len;
+		}
+
+		@Override
+		public void close() throws IOException {
+			this.out.flush();
+		}
+
+	}
+
+}
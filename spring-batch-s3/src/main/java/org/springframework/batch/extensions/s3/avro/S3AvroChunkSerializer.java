@@ -0,0 +1,150 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.batch.extensions.s3.avro;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+import org.apache.avro.Schema;
+import org.apache.avro.file.CodecFactory;
+import org.apache.avro.file.DataFileConstants;
+import org.apache.avro.file.DataFileWriter;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.io.DatumWriter;
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.batch.extensions.s3.serializer.S3ChunkSerializer;
+import org.springframework.batch.infrastructure.item.Chunk;
+
+/**
+ * A {@link S3ChunkSerializer} writing items to an Avro object container file. The file
+ * header is written with the first chunk and every chunk is written as one or more data
+ * blocks, straight into the stream of the object, so no temporary file is needed.
+ * <p>
+ * Items are written with the {@link GenericData data model} set through
+ * {@link #setDataModel(GenericData)}: {@link GenericData} for generic records (the
+ * default), {@link org.apache.avro.specific.SpecificData} for generated classes or
+ * {@link org.apache.avro.reflect.ReflectData} for plain Java objects.
+ * <p>
+ * Since the header is only written once, this serializer cannot be used with a writer
+ * that resumes the upload on restart, and is rejected when {@code saveState} is on.
+ *
+ * @param <T> type of the items to serialize
+ * @author Andrea Cioni
+ */
+public class S3AvroChunkSerializer<T> implements S3ChunkSerializer<T> {
+
+	private final Schema schema;
+
+	private GenericData dataModel = GenericData.get();
+
+	private CodecFactory codec = CodecFactory.nullCodec();
+
+	private int syncInterval = DataFileConstants.DEFAULT_SYNC_INTERVAL;
+
+	@Nullable
+	private DataFileWriter<T> dataFileWriter;
+
+	public S3AvroChunkSerializer(Schema schema) {
+		this.schema = schema;
+	}
+
+	/**
+	 * Set the data model used to write the items. Defaults to {@link GenericData}.
+	 * @param dataModel the data model
+	 */
+	public void setDataModel(GenericData dataModel) {
+		this.dataModel = dataModel;
+	}
+
+	/**
+	 * Set the codec used to compress the data blocks, for example
+	 * {@link CodecFactory#deflateCodec(int)} or {@link CodecFactory#zstandardCodec(int)}.
+	 * Defaults to no compression. Prefer a block codec over
+	 * {@link org.springframework.batch.extensions.s3.compression.S3CompressionCodec
+	 * compressing the whole object}, so that the file stays readable by Avro tools.
+	 * @param codec the codec of the data blocks
+	 */
+	public void setCodec(CodecFactory codec) {
+		this.codec = codec;
+	}
+
+	/**
+	 * Set the approximate size in bytes of the data blocks. A chunk larger than this is
+	 * split into several blocks. Defaults to
+	 * {@value DataFileConstants#DEFAULT_SYNC_INTERVAL}.
+	 * @param syncInterval the size of the data blocks
+	 */
+	public void setSyncInterval(int syncInterval) {
+		this.syncInterval = syncInterval;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public void serialize(Chunk<? extends T> chunk, OutputStream outputStream) throws IOException {
+		DataFileWriter<T> writer = this.dataFileWriter;
+		if (writer == null) {
+			DatumWriter<T> datumWriter = this.dataModel.createDatumWriter(this.schema);
+			writer = new DataFileWriter<>(datumWriter);
+			writer.setCodec(this.codec);
+			writer.setSyncInterval(this.syncInterval);
+			writer.create(this.schema, new NonClosingOutputStream(outputStream));
+			this.dataFileWriter = writer;
+		}
+		for (T item : chunk) {
+			writer.append(item);
+		}
+		// end the block, so that the chunk is handed over to the upload
+		writer.flush();
+	}
+
+	@Override
+	public void finish() throws IOException {
+		if (this.dataFileWriter != null) {
+			this.dataFileWriter.close();
+			this.dataFileWriter = null;
+		}
+	}
+
+	@Override
+	public boolean isResumable() {
+		return false;
+	}
+
+	/**
+	 * Closing the stream of the object is left to the writer.
+	 */
+	private static final class NonClosingOutputStream extends FilterOutputStream {
+
+		NonClosingOutputStream(OutputStream out) {
+			super(out);
+		}
+
+		@Override
+		public void write(byte[] b, int off, int len) throws IOException {
+			this.out.write(b, off, len);
+		}
+
+		@Override
+		public void close() throws IOException {
+			this.out.flush();
+		}
+
+	}
+
+}
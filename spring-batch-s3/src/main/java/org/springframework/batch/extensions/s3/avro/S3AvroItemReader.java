@@ -0,0 +1,115 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.batch.extensions.s3.avro;
+
+import java.io.InputStream;
+
+import org.apache.avro.file.DataFileStream;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.io.DatumReader;
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.batch.extensions.s3.stream.S3InputStream;
+import org.springframework.batch.infrastructure.item.ItemReader;
+import org.springframework.batch.infrastructure.item.support.AbstractItemCountingItemStreamItemReader;
+
+/**
+ * An {@link ItemReader} that reads items from an Avro object container file stored in
+ * S3. The file is streamed from an {@link S3InputStream} and decoded block by block, so
+ * only one block is held in memory at a time.
+ * <p>
+ * Items are read with the {@link GenericData data model} set through
+ * {@link #setDataModel(GenericData)}, using the schema stored in the file as the writer
+ * schema.
+ * <p>
+ * The reader is restartable: it stores the number of items read so far and, on restart,
+ * skips whole blocks without decoding them before skipping the remaining items of the
+ * block the previous execution stopped in.
+ *
+ * @param <T> the type of items to read
+ * @author Andrea Cioni
+ */
+public class S3AvroItemReader<T> extends AbstractItemCountingItemStreamItemReader<T> {
+
+	private final InputStream in;
+
+	private GenericData dataModel = GenericData.get();
+
+	@Nullable
+	private DataFileStream<T> dataFileStream;
+
+	public S3AvroItemReader(S3InputStream in) {
+		this.in = in;
+	}
+
+	/**
+	 * Set the data model used to read the items. Defaults to {@link GenericData}.
+	 * @param dataModel the data model
+	 */
+	public void setDataModel(GenericData dataModel) {
+		this.dataModel = dataModel;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	protected void doOpen() throws Exception {
+		// the schema is set from the header of the file
+		DatumReader<T> datumReader = this.dataModel.createDatumReader(null);
+		this.dataFileStream = new DataFileStream<>(this.in, datumReader);
+	}
+
+	@Override
+	@Nullable
+	protected T doRead() throws Exception {
+		DataFileStream<T> stream = dataFileStream();
+		return stream.hasNext() ? stream.next() : null;
+	}
+
+	@Override
+	protected void jumpToItem(int itemIndex) throws Exception {
+		DataFileStream<T> stream = dataFileStream();
+		long remaining = itemIndex;
+		// hasNext() loads the next block, which can be skipped as long as none of its
+		// items were read
+		while (remaining > 0 && stream.hasNext() && stream.getBlockCount() <= remaining) {
+			remaining -= stream.getBlockCount();
+			stream.nextBlock();
+		}
+		for (; remaining > 0 && stream.hasNext(); remaining--) {
+			stream.next();
+		}
+	}
+
+	@Override
+	protected void doClose() throws Exception {
+		if (this.dataFileStream != null) {
+			this.dataFileStream.close();
+			this.dataFileStream = null;
+		}
+		else {
+			this.in.close();
+		}
+	}
+
+	private DataFileStream<T> dataFileStream() {
+		if (this.dataFileStream == null) {
+			throw new IllegalStateException("Reader must be open before it can be read");
+		}
+		return this.dataFileStream;
+	}
+
+}
@@ -16,17 +16,28 @@
 
 package org.springframework.batch.extensions.s3.builder;
 
+import java.util.Objects;
+
+import io.micrometer.core.instrument.MeterRegistry;
 import org.jspecify.annotations.Nullable;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.InputSerialization;
+import software.amazon.awssdk.services.s3.model.OutputSerialization;
 
 import org.springframework.batch.extensions.s3.S3ItemReader;
+import org.springframework.batch.extensions.s3.compression.S3CompressionCodec;
 import org.springframework.batch.extensions.s3.serializer.S3Deserializer;
 import org.springframework.batch.extensions.s3.stream.S3InputStream;
+import org.springframework.batch.extensions.s3.stream.S3SelectInputStream;
 
 public class S3ItemReaderBuilder<T> {
 	@Nullable
 	private S3Client s3Client;
 
+	@Nullable
+	private S3AsyncClient s3AsyncClient;
+
 	@Nullable
 	private String bucketName;
 
@@ -39,11 +50,51 @@ public class S3ItemReaderBuilder<T> {
 	@Nullable
 	private Integer bufferSize;
 
+	@Nullable
+	private Integer concurrency;
+
+	@Nullable
+	private Integer partSize;
+
+	@Nullable
+	private String name;
+
+	private boolean saveState = true;
+
+	@Nullable
+	private S3CompressionCodec compressionCodec;
+
+	private boolean detectCompression;
+
+	@Nullable
+	private MeterRegistry meterRegistry;
+
+	@Nullable
+	private String selectExpression;
+
+	@Nullable
+	private InputSerialization selectInputSerialization;
+
+	@Nullable
+	private OutputSerialization selectOutputSerialization;
+
 	public S3ItemReaderBuilder<T> s3Client(S3Client s3Client) {
 		this.s3Client = s3Client;
 		return this;
 	}
 
+	/**
+	 * Read the object with the given asynchronous client instead of a {@link S3Client}.
+	 * With the CRT-based client the object is downloaded as parallel byte ranges by the
+	 * client, and the {@code concurrency} and {@code partSize} options do not apply.
+	 * @param s3AsyncClient the client to use
+	 * @return this builder
+	 */
+	public S3ItemReaderBuilder<T> s3AsyncClient(S3AsyncClient s3AsyncClient) {
+		this.s3AsyncClient = s3AsyncClient;
+		return this;
+	}
+
 	public S3ItemReaderBuilder<T> bucketName(String bucketName) {
 		this.bucketName = bucketName;
 		return this;
@@ -64,15 +115,152 @@ public class S3ItemReaderBuilder<T> {
 		return this;
 	}
 
+	public S3ItemReaderBuilder<T> concurrency(int concurrency) {
+		this.concurrency = concurrency;
+		return this;
+	}
+
+	public S3ItemReaderBuilder<T> partSize(int partSize) {
+		this.partSize = partSize;
+		return this;
+	}
+
+	public S3ItemReaderBuilder<T> name(String name) {
+		this.name = name;
+		return this;
+	}
+
+	public S3ItemReaderBuilder<T> saveState(boolean saveState) {
+		this.saveState = saveState;
+		return this;
+	}
+
+	/**
+	 * Decompress the data with the given codec.
+	 * @param compressionCodec the codec to use
+	 * @return this builder
+	 */
+	public S3ItemReaderBuilder<T> compression(S3CompressionCodec compressionCodec) {
+		this.compressionCodec = compressionCodec;
+		return this;
+	}
+
+	/**
+	 * Detect the compression codec from the key suffix ({@code .gz}, {@code .zst},
+	 * {@code .sz}) or, failing that, from the {@code Content-Encoding} of the object.
+	 * Ignored when a codec is set with {@link #compression(S3CompressionCodec)}.
+	 * @param detectCompression whether the codec should be detected
+	 * @return this builder
+	 */
+	public S3ItemReaderBuilder<T> detectCompression(boolean detectCompression) {
+		this.detectCompression = detectCompression;
+		return this;
+	}
+
+	/**
+	 * Record the metrics of the download in the given registry. Defaults to
+	 * {@link io.micrometer.core.instrument.Metrics#globalRegistry}.
+	 * @param meterRegistry the registry to use
+	 * @return this builder
+	 */
+	public S3ItemReaderBuilder<T> meterRegistry(MeterRegistry meterRegistry) {
+		this.meterRegistry = meterRegistry;
+		return this;
+	}
+
+	/**
+	 * Read only the records matching the given SQL expression, evaluated by S3 with a
+	 * {@code SelectObjectContent} request, e.g.
+	 * {@code SELECT s.id, s.amount FROM S3Object s WHERE s.country = 'IT'}. Requires a
+	 * {@link S3AsyncClient}. The compression of the object is declared with
+	 * {@link #selectInputSerialization(InputSerialization)}, so this option cannot be
+	 * combined with {@code compression} and {@code detectCompression}.
+	 * @param selectExpression the SQL expression
+	 * @return this builder
+	 * @see S3SelectInputStream
+	 */
+	public S3ItemReaderBuilder<T> selectExpression(String selectExpression) {
+		this.selectExpression = selectExpression;
+		return this;
+	}
+
+	/**
+	 * Set the format and the compression of the object read with a
+	 * {@link #selectExpression(String) select expression}. Defaults to CSV with a header
+	 * line, uncompressed.
+	 * @param selectInputSerialization the input serialization
+	 * @return this builder
+	 */
+	public S3ItemReaderBuilder<T> selectInputSerialization(InputSerialization selectInputSerialization) {
+		this.selectInputSerialization = selectInputSerialization;
+		return this;
+	}
+
+	/**
+	 * Set the format of the records returned by a {@link #selectExpression(String) select
+	 * expression}. Defaults to CSV lines terminated by {@code \n}.
+	 * @param selectOutputSerialization the output serialization
+	 * @return this builder
+	 */
+	public S3ItemReaderBuilder<T> selectOutputSerialization(OutputSerialization selectOutputSerialization) {
+		this.selectOutputSerialization = selectOutputSerialization;
+		return this;
+	}
+
 	public S3ItemReader<T> build() throws Exception {
-		if (this.s3Client == null || this.bucketName == null || this.objectKey == null || this.deserializer == null) {
-			throw new IllegalArgumentException("S3Client, bucketName, objectKey, and deserializer must be provided");
+		if ((this.s3Client == null && this.s3AsyncClient == null) || this.bucketName == null || this.objectKey == null
+				|| this.deserializer == null) {
+			throw new IllegalArgumentException(
+					"S3Client or S3AsyncClient, bucketName, objectKey, and deserializer must be provided");
+		}
+		S3InputStream inputStream;
+		if (this.selectExpression != null) {
+			inputStream = selectInputStream(this.selectExpression, this.bucketName, this.objectKey);
+		}
+		else if (this.s3AsyncClient != null) {
+			inputStream = new S3InputStream(this.s3AsyncClient, this.bucketName, this.objectKey);
+		}
+		else {
+			inputStream = new S3InputStream(Objects.requireNonNull(this.s3Client), this.bucketName, this.objectKey);
+		}
+		if (this.concurrency != null) {
+			inputStream.setConcurrency(this.concurrency);
+		}
+		if (this.partSize != null) {
+			inputStream.setPartSize(this.partSize);
+		}
+		if (this.meterRegistry != null) {
+			inputStream.setMeterRegistry(this.meterRegistry);
 		}
-		S3InputStream inputStream = new S3InputStream(this.s3Client, this.bucketName, this.objectKey);
 		S3ItemReader<T> reader = new S3ItemReader<>(inputStream, this.deserializer);
 		if (this.bufferSize != null) {
 			reader.setBufferSize(this.bufferSize);
 		}
+		if (this.name != null) {
+			reader.setName(this.name);
+		}
+		reader.setSaveState(this.saveState);
+		reader.setCompressionCodec(this.compressionCodec);
+		reader.setDetectCompression(this.detectCompression);
 		return reader;
 	}
+
+	private S3SelectInputStream selectInputStream(String selectExpression, String bucketName, String objectKey) {
+		if (this.s3AsyncClient == null) {
+			throw new IllegalArgumentException("selectExpression requires a S3AsyncClient");
+		}
+		if (this.compressionCodec != null || this.detectCompression) {
+			throw new IllegalArgumentException("selectExpression cannot be combined with compression, "
+					+ "set the compression type of the selectInputSerialization instead");
+		}
+		S3SelectInputStream selectInputStream = new S3SelectInputStream(this.s3AsyncClient, bucketName, objectKey,
+				selectExpression);
+		if (this.selectInputSerialization != null) {
+			selectInputStream.setInputSerialization(this.selectInputSerialization);
+		}
+		if (this.selectOutputSerialization != null) {
+			selectInputStream.setOutputSerialization(this.selectOutputSerialization);
+		}
+		return selectInputStream;
+	}
 }
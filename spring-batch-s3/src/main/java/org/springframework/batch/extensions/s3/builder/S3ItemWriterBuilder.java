@@ -18,20 +18,34 @@ package org.springframework.batch.extensions.s3.builder;
 
 import java.io.IOException;
 import java.io.OutputStream;
+import java.nio.file.Path;
+import java.util.Objects;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import org.jspecify.annotations.Nullable;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.ChecksumAlgorithm;
 
 import org.springframework.batch.extensions.s3.S3ItemWriter;
+import org.springframework.batch.extensions.s3.compression.S3CompressionCodec;
+import org.springframework.batch.extensions.s3.serializer.S3ChunkSerializer;
 import org.springframework.batch.extensions.s3.serializer.S3Serializer;
+import org.springframework.batch.extensions.s3.stream.S3AsyncOutputStream;
 import org.springframework.batch.extensions.s3.stream.S3MultipartOutputStream;
 import org.springframework.batch.extensions.s3.stream.S3MultipartUploader;
 import org.springframework.batch.extensions.s3.stream.S3OutputStream;
+import org.springframework.batch.extensions.s3.stream.S3PartBufferType;
+import org.springframework.batch.extensions.s3.stream.S3PartSizePolicy;
+import org.springframework.batch.extensions.s3.stream.S3ResumableMultipartOutputStream;
 
 public class S3ItemWriterBuilder<T> {
 	@Nullable
 	private S3Client s3Client;
 
+	@Nullable
+	private S3AsyncClient s3AsyncClient;
+
 	@Nullable
 	private String bucket;
 
@@ -41,6 +55,9 @@ public class S3ItemWriterBuilder<T> {
 	@Nullable
 	private S3Serializer<T> serializer;
 
+	@Nullable
+	private S3ChunkSerializer<T> chunkSerializer;
+
 	private boolean multipartUpload;
 
 	@Nullable
@@ -49,11 +66,52 @@ public class S3ItemWriterBuilder<T> {
 	@Nullable
 	private Integer partSize;
 
+	@Nullable
+	private S3PartSizePolicy partSizePolicy;
+
+	@Nullable
+	private Integer concurrency;
+
+	@Nullable
+	private S3PartBufferType partBufferType;
+
+	@Nullable
+	private Path spillDirectory;
+
+	@Nullable
+	private ChecksumAlgorithm checksumAlgorithm;
+
+	@Nullable
+	private S3CompressionCodec compressionCodec;
+
+	@Nullable
+	private String name;
+
+	private boolean saveState;
+
+	@Nullable
+	private MeterRegistry meterRegistry;
+
 	public S3ItemWriterBuilder<T>  s3Client(S3Client s3Client) {
 		this.s3Client = s3Client;
 		return this;
 	}
 
+	/**
+	 * Upload the object with the given asynchronous client instead of a {@link S3Client}.
+	 * The client must support uploads of unknown length, which is the case of the
+	 * CRT-based client and of Java-based clients with multipart enabled. Parts are sized
+	 * and uploaded in parallel by the client, so the {@code multipartUpload},
+	 * {@code partSize} and {@code concurrency} options do not apply. Cannot be combined
+	 * with {@code saveState}.
+	 * @param s3AsyncClient the client to use
+	 * @return this builder
+	 */
+	public S3ItemWriterBuilder<T> s3AsyncClient(S3AsyncClient s3AsyncClient) {
+		this.s3AsyncClient = s3AsyncClient;
+		return this;
+	}
+
 	public S3ItemWriterBuilder<T> bucketName(String bucketName) {
 		this.bucket = bucketName;
 		return this;
@@ -69,6 +127,17 @@ public class S3ItemWriterBuilder<T> {
 		return this;
 	}
 
+	/**
+	 * Serialize whole chunks with the given serializer instead of item by item. Takes
+	 * precedence over {@link #serializer(S3Serializer)}.
+	 * @param chunkSerializer the chunk serializer
+	 * @return this builder
+	 */
+	public S3ItemWriterBuilder<T> chunkSerializer(S3ChunkSerializer<T> chunkSerializer) {
+		this.chunkSerializer = chunkSerializer;
+		return this;
+	}
+
 	public S3ItemWriterBuilder<T> multipartUpload(boolean multipartUpload) {
 		this.multipartUpload = multipartUpload;
 		return this;
@@ -79,34 +148,225 @@ public class S3ItemWriterBuilder<T> {
 		return this;
 	}
 
+	/**
+	 * Decide the size of each part of a multipart upload with the given policy, e.g.
+	 * {@link S3PartSizePolicy#forExpectedSize(long, int)} when the size of the object is
+	 * known in advance, or {@link S3PartSizePolicy#adaptive(int)} for objects that may
+	 * exceed 10,000 parts of {@code partSize}. Defaults to
+	 * {@link S3PartSizePolicy#fixed(int)} parts of {@code partSize} bytes. Only applies to
+	 * {@code multipartUpload}.
+	 * @param partSizePolicy the policy to use
+	 * @return this builder
+	 */
+	public S3ItemWriterBuilder<T> partSizePolicy(S3PartSizePolicy partSizePolicy) {
+		this.partSizePolicy = partSizePolicy;
+		return this;
+	}
+
+	public S3ItemWriterBuilder<T> concurrency(int concurrency) {
+		this.concurrency = concurrency;
+		return this;
+	}
+
+	/**
+	 * Buffer the parts of a multipart upload in the given type of buffer. Only applies to
+	 * {@code multipartUpload}. Defaults to {@link S3PartBufferType#HEAP}.
+	 * @param partBufferType the type of the part buffers
+	 * @return this builder
+	 */
+	public S3ItemWriterBuilder<T> partBufferType(S3PartBufferType partBufferType) {
+		this.partBufferType = partBufferType;
+		return this;
+	}
+
+	/**
+	 * Create the temporary files of {@link S3PartBufferType#MAPPED_FILE} part buffers in
+	 * the given directory. Defaults to the temporary directory of the JVM.
+	 * @param spillDirectory the directory of the temporary files
+	 * @return this builder
+	 */
+	public S3ItemWriterBuilder<T> spillDirectory(Path spillDirectory) {
+		this.spillDirectory = spillDirectory;
+		return this;
+	}
+
+	/**
+	 * Compute checksums of the given algorithm while the parts are uploaded, so that S3
+	 * verifies them. The checksum of the object is put in the step execution context by
+	 * {@link S3ItemWriter#afterStep(org.springframework.batch.core.step.StepExecution)}
+	 * once the step completes, so the writer must be registered as a listener of the
+	 * step for the checksum to be stored. Only applies to {@code multipartUpload}. Not set
+	 * by default.
+	 * @param checksumAlgorithm the checksum algorithm
+	 * @return this builder
+	 * @see S3MultipartUploader#setChecksumAlgorithm(ChecksumAlgorithm)
+	 */
+	public S3ItemWriterBuilder<T> checksumAlgorithm(ChecksumAlgorithm checksumAlgorithm) {
+		this.checksumAlgorithm = checksumAlgorithm;
+		return this;
+	}
+
 	public S3ItemWriterBuilder<T>  contentType(String contentType) {
 		this.contentType = contentType;
 		return this;
 	}
 
+	/**
+	 * Compress the object with the given codec. The {@code Content-Encoding} of the object
+	 * is set accordingly, so that readers can detect the codec.
+	 * @param compressionCodec the codec to use
+	 * @return this builder
+	 */
+	public S3ItemWriterBuilder<T> compression(S3CompressionCodec compressionCodec) {
+		this.compressionCodec = compressionCodec;
+		return this;
+	}
+
+	public S3ItemWriterBuilder<T> name(String name) {
+		this.name = name;
+		return this;
+	}
+
+	/**
+	 * Make the writer restartable. The object is written with a
+	 * {@link S3ResumableMultipartOutputStream}, whose state is saved in the step execution
+	 * context so that a restarted step resumes the multipart upload instead of starting
+	 * over. Parts are uploaded sequentially on the writing thread, and the
+	 * {@code concurrency} option does not apply. Cannot be combined with compression, nor
+	 * with a chunk serializer that is not {@link S3ChunkSerializer#isResumable()
+	 * resumable}, such as the Avro and Parquet ones. Defaults to {@code false}.
+	 * @param saveState whether the writer should be restartable
+	 * @return this builder
+	 */
+	public S3ItemWriterBuilder<T> saveState(boolean saveState) {
+		this.saveState = saveState;
+		return this;
+	}
+
+	/**
+	 * Record the metrics of the upload in the given registry. Defaults to
+	 * {@link io.micrometer.core.instrument.Metrics#globalRegistry}. Only the
+	 * {@link S3OutputStream} and multipart uploads record metrics: the streams used with
+	 * {@code saveState} or a {@link S3AsyncClient} do not, and ignore this option.
+	 * @param meterRegistry the registry to use
+	 * @return this builder
+	 */
+	public S3ItemWriterBuilder<T> meterRegistry(MeterRegistry meterRegistry) {
+		this.meterRegistry = meterRegistry;
+		return this;
+	}
+
 	public S3ItemWriter<T> build() throws IOException {
-		if (this.s3Client == null || this.bucket == null || this.key == null || this.serializer == null) {
-			throw new IllegalArgumentException("S3Client, bucket, key, and serializer must be provided");
+		if (this.key == null || (this.serializer == null && this.chunkSerializer == null)) {
+			throw new IllegalArgumentException(
+					"S3Client or S3AsyncClient, bucket, key, and serializer or chunkSerializer must be provided");
+		}
+		if (this.saveState && this.chunkSerializer != null && !this.chunkSerializer.isResumable()) {
+			throw new IllegalArgumentException(
+					"saveState cannot be combined with a chunk serializer that is not resumable");
 		}
+		OutputStream outputStream = outputStream(this.key);
+
+		S3ItemWriter<T> writer;
+		if (this.chunkSerializer != null) {
+			writer = new S3ItemWriter<>(outputStream, this.chunkSerializer);
+		}
+		else {
+			writer = new S3ItemWriter<>(outputStream, Objects.requireNonNull(this.serializer));
+		}
+		writer.setCompressionCodec(this.compressionCodec);
+		if (this.name != null) {
+			writer.setName(this.name);
+		}
+		writer.setSaveState(this.saveState);
+		return writer;
+	}
+
+	/**
+	 * Check the options needed to create the stream of an object.
+	 */
+	void validateStreamOptions() {
+		if ((this.s3Client == null && this.s3AsyncClient == null) || this.bucket == null) {
+			throw new IllegalArgumentException(
+					"S3Client or S3AsyncClient, bucket, key, and serializer or chunkSerializer must be provided");
+		}
+		if (this.saveState && this.compressionCodec != null) {
+			throw new IllegalArgumentException("saveState cannot be combined with compression");
+		}
+		if (this.saveState && this.s3AsyncClient != null) {
+			throw new IllegalArgumentException("saveState requires a S3Client");
+		}
+	}
+
+	/**
+	 * Create the stream writing to the object with the given key, according to the
+	 * options of this builder.
+	 * @param key the key of the object
+	 * @return the stream of the object
+	 * @throws IOException if the stream cannot be created
+	 */
+	OutputStream outputStream(String key) throws IOException {
+		validateStreamOptions();
+		String bucket = Objects.requireNonNull(this.bucket);
+		String contentEncoding = (this.compressionCodec != null) ? this.compressionCodec.getContentEncoding() : null;
 		OutputStream outputStream;
-		if (this.multipartUpload) {
-			S3MultipartUploader s3MultipartUploader = new S3MultipartUploader(this.s3Client, this.bucket, this.key);
+		if (this.s3AsyncClient != null) {
+			S3AsyncOutputStream asyncOutputStream = new S3AsyncOutputStream(this.s3AsyncClient, bucket, key);
 			if (this.contentType != null) {
-				s3MultipartUploader.setContentType(this.contentType);
+				asyncOutputStream.setContentType(this.contentType);
 			}
-			if (this.partSize != null) {
-				s3MultipartUploader.setPartSize(this.partSize);
-			}
-
-			outputStream = new S3MultipartOutputStream(s3MultipartUploader);
+			asyncOutputStream.setContentEncoding(contentEncoding);
+			outputStream = asyncOutputStream;
 		}
 		else {
-			outputStream = new S3OutputStream(this.s3Client, this.bucket, this.key);
-			if (this.contentType != null) {
-				((S3OutputStream) outputStream).setContentType(this.contentType);
+			S3Client s3Client = Objects.requireNonNull(this.s3Client);
+			if (this.saveState) {
+				S3ResumableMultipartOutputStream resumableOutputStream = new S3ResumableMultipartOutputStream(
+						s3Client, bucket, key);
+				if (this.contentType != null) {
+					resumableOutputStream.setContentType(this.contentType);
+				}
+				if (this.partSize != null) {
+					resumableOutputStream.setPartSize(this.partSize);
+				}
+				outputStream = resumableOutputStream;
+			}
+			else if (this.multipartUpload) {
+				S3MultipartUploader s3MultipartUploader = new S3MultipartUploader(s3Client, bucket, key);
+				if (this.contentType != null) {
+					s3MultipartUploader.setContentType(this.contentType);
+				}
+				if (this.partSize != null) {
+					s3MultipartUploader.setPartSize(this.partSize);
+				}
+				s3MultipartUploader.setPartSizePolicy(this.partSizePolicy);
+				if (this.partBufferType != null) {
+					s3MultipartUploader.setPartBufferType(this.partBufferType);
+				}
+				s3MultipartUploader.setSpillDirectory(this.spillDirectory);
+				if (this.concurrency != null) {
+					s3MultipartUploader.setConcurrency(this.concurrency);
+				}
+				s3MultipartUploader.setContentEncoding(contentEncoding);
+				s3MultipartUploader.setChecksumAlgorithm(this.checksumAlgorithm);
+				S3MultipartOutputStream multipartOutputStream = new S3MultipartOutputStream(s3MultipartUploader);
+				if (this.meterRegistry != null) {
+					s3MultipartUploader.setMeterRegistry(this.meterRegistry);
+					multipartOutputStream.setMeterRegistry(this.meterRegistry);
+				}
+				outputStream = multipartOutputStream;
+			}
+			else {
+				outputStream = new S3OutputStream(s3Client, bucket, key);
+				if (this.contentType != null) {
+					((S3OutputStream) outputStream).setContentType(this.contentType);
+				}
+				((S3OutputStream) outputStream).setContentEncoding(contentEncoding);
+				if (this.meterRegistry != null) {
+					((S3OutputStream) outputStream).setMeterRegistry(this.meterRegistry);
+				}
 			}
 		}
-
-		return new S3ItemWriter<>(outputStream,  this.serializer);
+		return outputStream;
 	}
 }
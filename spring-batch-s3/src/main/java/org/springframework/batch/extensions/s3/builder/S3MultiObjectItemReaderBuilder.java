@@ -0,0 +1,153 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.batch.extensions.s3.builder;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.jspecify.annotations.Nullable;
+import software.amazon.awssdk.services.s3.S3Client;
+
+import org.springframework.batch.extensions.s3.S3MultiObjectItemReader;
+import org.springframework.batch.extensions.s3.compression.S3CompressionCodec;
+import org.springframework.batch.extensions.s3.serializer.S3Deserializer;
+
+public class S3MultiObjectItemReaderBuilder<T> {
+	@Nullable
+	private S3Client s3Client;
+
+	@Nullable
+	private String bucketName;
+
+	@Nullable
+	private List<String> objectKeys;
+
+	@Nullable
+	private Supplier<S3Deserializer<T>> deserializerSupplier;
+
+	@Nullable
+	private Integer bufferSize;
+
+	@Nullable
+	private Integer concurrency;
+
+	@Nullable
+	private Integer partSize;
+
+	@Nullable
+	private String name;
+
+	private boolean saveState = true;
+
+	@Nullable
+	private S3CompressionCodec compressionCodec;
+
+	private boolean detectCompression;
+
+	public S3MultiObjectItemReaderBuilder<T> s3Client(S3Client s3Client) {
+		this.s3Client = s3Client;
+		return this;
+	}
+
+	public S3MultiObjectItemReaderBuilder<T> bucketName(String bucketName) {
+		this.bucketName = bucketName;
+		return this;
+	}
+
+	public S3MultiObjectItemReaderBuilder<T> objectKeys(List<String> objectKeys) {
+		this.objectKeys = objectKeys;
+		return this;
+	}
+
+	public S3MultiObjectItemReaderBuilder<T> deserializerSupplier(Supplier<S3Deserializer<T>> deserializerSupplier) {
+		this.deserializerSupplier = deserializerSupplier;
+		return this;
+	}
+
+	public S3MultiObjectItemReaderBuilder<T> bufferSize(int bufferSize) {
+		this.bufferSize = bufferSize;
+		return this;
+	}
+
+	public S3MultiObjectItemReaderBuilder<T> concurrency(int concurrency) {
+		this.concurrency = concurrency;
+		return this;
+	}
+
+	public S3MultiObjectItemReaderBuilder<T> partSize(int partSize) {
+		this.partSize = partSize;
+		return this;
+	}
+
+	public S3MultiObjectItemReaderBuilder<T> name(String name) {
+		this.name = name;
+		return this;
+	}
+
+	public S3MultiObjectItemReaderBuilder<T> saveState(boolean saveState) {
+		this.saveState = saveState;
+		return this;
+	}
+
+	/**
+	 * Decompress the data with the given codec.
+	 * @param compressionCodec the codec to use
+	 * @return this builder
+	 */
+	public S3MultiObjectItemReaderBuilder<T> compression(S3CompressionCodec compressionCodec) {
+		this.compressionCodec = compressionCodec;
+		return this;
+	}
+
+	/**
+	 * Detect the compression codec from the key suffix ({@code .gz}, {@code .zst},
+	 * {@code .sz}) or, failing that, from the {@code Content-Encoding} of the object.
+	 * Ignored when a codec is set with {@link #compression(S3CompressionCodec)}.
+	 * @param detectCompression whether the codec should be detected
+	 * @return this builder
+	 */
+	public S3MultiObjectItemReaderBuilder<T> detectCompression(boolean detectCompression) {
+		this.detectCompression = detectCompression;
+		return this;
+	}
+
+	public S3MultiObjectItemReader<T> build() {
+		if (this.s3Client == null || this.bucketName == null || this.objectKeys == null
+				|| this.deserializerSupplier == null) {
+			throw new IllegalArgumentException(
+					"S3Client, bucketName, objectKeys, and deserializerSupplier must be provided");
+		}
+		S3MultiObjectItemReader<T> reader = new S3MultiObjectItemReader<>(this.s3Client, this.bucketName,
+				this.objectKeys, this.deserializerSupplier);
+		if (this.bufferSize != null) {
+			reader.setBufferSize(this.bufferSize);
+		}
+		if (this.concurrency != null) {
+			reader.setConcurrency(this.concurrency);
+		}
+		if (this.partSize != null) {
+			reader.setPartSize(this.partSize);
+		}
+		if (this.name != null) {
+			reader.setName(this.name);
+		}
+		reader.setSaveState(this.saveState);
+		reader.setCompressionCodec(this.compressionCodec);
+		reader.setDetectCompression(this.detectCompression);
+		return reader;
+	}
+}
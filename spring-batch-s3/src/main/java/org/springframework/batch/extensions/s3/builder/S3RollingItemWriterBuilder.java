@@ -0,0 +1,231 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.batch.extensions.s3.builder;
+
+import java.nio.file.Path;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+import org.jspecify.annotations.Nullable;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.S3Client;
+
+import org.springframework.batch.extensions.s3.S3RollingItemWriter;
+import org.springframework.batch.extensions.s3.compression.S3CompressionCodec;
+import org.springframework.batch.extensions.s3.serializer.S3ChunkSerializer;
+import org.springframework.batch.extensions.s3.serializer.S3Serializer;
+import org.springframework.batch.extensions.s3.stream.S3PartBufferType;
+import org.springframework.batch.extensions.s3.stream.S3PartSizePolicy;
+
+public class S3RollingItemWriterBuilder<T> {
+
+	private final S3ItemWriterBuilder<T> streams = new S3ItemWriterBuilder<>();
+
+	@Nullable
+	private String key;
+
+	@Nullable
+	private S3Serializer<T> serializer;
+
+	@Nullable
+	private Supplier<S3ChunkSerializer<T>> chunkSerializerSupplier;
+
+	@Nullable
+	private S3CompressionCodec compressionCodec;
+
+	@Nullable
+	private Long maxObjectSize;
+
+	@Nullable
+	private Long maxItemCount;
+
+	@Nullable
+	private String name;
+
+	private boolean saveState;
+
+	public S3RollingItemWriterBuilder<T> s3Client(S3Client s3Client) {
+		this.streams.s3Client(s3Client);
+		return this;
+	}
+
+	/**
+	 * Upload the objects with the given asynchronous client instead of a
+	 * {@link S3Client}. See {@link S3ItemWriterBuilder#s3AsyncClient(S3AsyncClient)}.
+	 * @param s3AsyncClient the client to use
+	 * @return this builder
+	 */
+	public S3RollingItemWriterBuilder<T> s3AsyncClient(S3AsyncClient s3AsyncClient) {
+		this.streams.s3AsyncClient(s3AsyncClient);
+		return this;
+	}
+
+	public S3RollingItemWriterBuilder<T> bucketName(String bucketName) {
+		this.streams.bucketName(bucketName);
+		return this;
+	}
+
+	/**
+	 * Set the key the keys of the objects are derived from. A sequence number is
+	 * inserted before the extension, e.g. {@code export.csv} is written as
+	 * {@code export-0001.csv}, {@code export-0002.csv} and so on.
+	 * @param key the key of the objects
+	 * @return this builder
+	 */
+	public S3RollingItemWriterBuilder<T> objectKey(String key) {
+		this.key = key;
+		return this;
+	}
+
+	public S3RollingItemWriterBuilder<T> serializer(S3Serializer<T> serializer) {
+		this.serializer = serializer;
+		return this;
+	}
+
+	/**
+	 * Serialize whole chunks with serializers from the given supplier instead of item by
+	 * item. The supplier is called once per object, so that serializers writing a header
+	 * or a footer start afresh. Takes precedence over {@link #serializer(S3Serializer)}.
+	 * @param chunkSerializerSupplier the supplier of the chunk serializers
+	 * @return this builder
+	 */
+	public S3RollingItemWriterBuilder<T> chunkSerializerSupplier(
+			Supplier<S3ChunkSerializer<T>> chunkSerializerSupplier) {
+		this.chunkSerializerSupplier = chunkSerializerSupplier;
+		return this;
+	}
+
+	public S3RollingItemWriterBuilder<T> multipartUpload(boolean multipartUpload) {
+		this.streams.multipartUpload(multipartUpload);
+		return this;
+	}
+
+	public S3RollingItemWriterBuilder<T> partSize(int partSize) {
+		this.streams.partSize(partSize);
+		return this;
+	}
+
+	public S3RollingItemWriterBuilder<T> partSizePolicy(S3PartSizePolicy partSizePolicy) {
+		this.streams.partSizePolicy(partSizePolicy);
+		return this;
+	}
+
+	public S3RollingItemWriterBuilder<T> concurrency(int concurrency) {
+		this.streams.concurrency(concurrency);
+		return this;
+	}
+
+	public S3RollingItemWriterBuilder<T> partBufferType(S3PartBufferType partBufferType) {
+		this.streams.partBufferType(partBufferType);
+		return this;
+	}
+
+	public S3RollingItemWriterBuilder<T> spillDirectory(Path spillDirectory) {
+		this.streams.spillDirectory(spillDirectory);
+		return this;
+	}
+
+	public S3RollingItemWriterBuilder<T> contentType(String contentType) {
+		this.streams.contentType(contentType);
+		return this;
+	}
+
+	public S3RollingItemWriterBuilder<T> compression(S3CompressionCodec compressionCodec) {
+		this.streams.compression(compressionCodec);
+		this.compressionCodec = compressionCodec;
+		return this;
+	}
+
+	/**
+	 * Start a new object once the current one reaches the given size in bytes, counted
+	 * before compression. Unlimited by default.
+	 * @param maxObjectSize the maximum size of an object
+	 * @return this builder
+	 */
+	public S3RollingItemWriterBuilder<T> maxObjectSize(long maxObjectSize) {
+		this.maxObjectSize = maxObjectSize;
+		return this;
+	}
+
+	/**
+	 * Start a new object once the current one holds the given number of items.
+	 * Unlimited by default.
+	 * @param maxItemCount the maximum number of items of an object
+	 * @return this builder
+	 */
+	public S3RollingItemWriterBuilder<T> maxItemCount(long maxItemCount) {
+		this.maxItemCount = maxItemCount;
+		return this;
+	}
+
+	public S3RollingItemWriterBuilder<T> name(String name) {
+		this.name = name;
+		return this;
+	}
+
+	/**
+	 * Make the writer restartable. Each object is written with a
+	 * {@link org.springframework.batch.extensions.s3.stream.S3ResumableMultipartOutputStream}
+	 * as described in {@link S3ItemWriterBuilder#saveState(boolean)}. The chunk
+	 * serializers must be {@link S3ChunkSerializer#isResumable() resumable}, which is
+	 * checked on a serializer obtained from the supplier when building. Defaults to
+	 * {@code false}.
+	 * @param saveState whether the writer should be restartable
+	 * @return this builder
+	 */
+	public S3RollingItemWriterBuilder<T> saveState(boolean saveState) {
+		this.streams.saveState(saveState);
+		this.saveState = saveState;
+		return this;
+	}
+
+	public S3RollingItemWriter<T> build() {
+		if (this.key == null || (this.serializer == null && this.chunkSerializerSupplier == null)) {
+			throw new IllegalArgumentException(
+					"S3Client or S3AsyncClient, bucket, key, and serializer or chunkSerializerSupplier must be provided");
+		}
+		this.streams.validateStreamOptions();
+		if (this.maxObjectSize == null && this.maxItemCount == null) {
+			throw new IllegalArgumentException("maxObjectSize or maxItemCount must be provided");
+		}
+		Supplier<S3ChunkSerializer<T>> serializerSupplier = this.chunkSerializerSupplier;
+		if (this.saveState && serializerSupplier != null && !serializerSupplier.get().isResumable()) {
+			throw new IllegalArgumentException(
+					"saveState cannot be combined with a chunk serializer that is not resumable");
+		}
+		if (serializerSupplier == null) {
+			S3ChunkSerializer<T> itemSerializer = S3ChunkSerializer.forEachItem(Objects.requireNonNull(this.serializer));
+			serializerSupplier = () -> itemSerializer;
+		}
+
+		S3RollingItemWriter<T> writer = new S3RollingItemWriter<>(this.key, this.streams::outputStream,
+				serializerSupplier);
+		if (this.maxObjectSize != null) {
+			writer.setMaxObjectSize(this.maxObjectSize);
+		}
+		if (this.maxItemCount != null) {
+			writer.setMaxItemCount(this.maxItemCount);
+		}
+		writer.setCompressionCodec(this.compressionCodec);
+		if (this.name != null) {
+			writer.setName(this.name);
+		}
+		writer.setSaveState(this.saveState);
+		return writer;
+	}
+
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.batch.extensions.s3.compression;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * A {@link S3CompressionCodec} for the gzip format, based on the JDK
+ * {@link GZIPInputStream} and {@link GZIPOutputStream}. Concatenated gzip members are
+ * read as a single stream.
+ *
+ * @author Andrea Cioni
+ */
+public class GzipCompressionCodec implements S3CompressionCodec {
+
+	private static final int BUFFER_SIZE = 64 * 1024;
+
+	@Override
+	public InputStream decompress(InputStream inputStream) throws IOException {
+		return new GZIPInputStream(inputStream, BUFFER_SIZE);
+	}
+
+	@Override
+	public OutputStream compress(OutputStream outputStream) throws IOException {
+		return new GZIPOutputStream(outputStream, BUFFER_SIZE);
+	}
+
+	@Override
+	public String getContentEncoding() {
+		return "gzip";
+	}
+
+	@Override
+	public String getKeySuffix() {
+		return ".gz";
+	}
+
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.batch.extensions.s3.compression;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * A streaming compression codec for S3 objects. Implementations wrap the raw object
+ * streams so that data is compressed and decompressed on the fly, without buffering the
+ * whole object in memory.
+ *
+ * @author Andrea Cioni
+ * @see S3CompressionCodecs
+ */
+public interface S3CompressionCodec {
+
+	/**
+	 * Wrap a stream of compressed bytes into a stream of decompressed bytes.
+	 * @param inputStream the stream of compressed bytes
+	 * @return the stream of decompressed bytes
+	 * @throws IOException if the compressed stream cannot be read
+	 */
+	InputStream decompress(InputStream inputStream) throws IOException;
+
+	/**
+	 * Wrap a stream into a stream that compresses the bytes written to it. Closing the
+	 * returned stream must write any trailing data and close the given stream.
+	 * @param outputStream the stream receiving the compressed bytes
+	 * @return the stream accepting uncompressed bytes
+	 * @throws IOException if the compressed stream cannot be written
+	 */
+	OutputStream compress(OutputStream outputStream) throws IOException;
+
+	/**
+	 * Return the value of the {@code Content-Encoding} header of objects compressed with
+	 * this codec.
+	 * @return the content encoding
+	 */
+	String getContentEncoding();
+
+	/**
+	 * Return the conventional key suffix of objects compressed with this codec, including
+	 * the leading dot.
+	 * @return the key suffix
+	 */
+	String getKeySuffix();
+
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.batch.extensions.s3.compression;
+
+import java.util.Locale;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Factory methods to find the {@link S3CompressionCodec} of an S3 object from its
+ * {@code Content-Encoding} header or from the suffix of its key. Codecs are only
+ * instantiated when they match, so the optional libraries of the codecs that are not used
+ * do not need to be on the classpath.
+ *
+ * @author Andrea Cioni
+ */
+public final class S3CompressionCodecs {
+
+	private S3CompressionCodecs() {
+	}
+
+	/**
+	 * Return the codec matching the suffix of the given object key.
+	 * @param objectKey the object key
+	 * @return the matching codec, or {@code null} if the key has no known suffix
+	 */
+	@Nullable
+	public static S3CompressionCodec forObjectKey(String objectKey) {
+		String key = objectKey.toLowerCase(Locale.ROOT);
+		if (key.endsWith(".gz") || key.endsWith(".gzip")) {
+			return new GzipCompressionCodec();
+		}
+		if (key.endsWith(".zst") || key.endsWith(".zstd")) {
+			return new ZstdCompressionCodec();
+		}
+		if (key.endsWith(".sz")) {
+			return new SnappyFramedCompressionCodec();
+		}
+		return null;
+	}
+
+	/**
+	 * Return the codec matching the given {@code Content-Encoding} header value.
+	 * @param contentEncoding the content encoding, may be {@code null}
+	 * @return the matching codec, or {@code null} if the encoding is not known
+	 */
+	@Nullable
+	public static S3CompressionCodec forContentEncoding(@Nullable String contentEncoding) {
+		if (contentEncoding == null) {
+			return null;
+		}
+		return switch (contentEncoding.trim().toLowerCase(Locale.ROOT)) {
+			case "gzip", "x-gzip" -> new GzipCompressionCodec();
+			case "zstd" -> new ZstdCompressionCodec();
+			case "x-snappy-framed" -> new SnappyFramedCompressionCodec();
+			default -> null;
+		};
+	}
+
+}
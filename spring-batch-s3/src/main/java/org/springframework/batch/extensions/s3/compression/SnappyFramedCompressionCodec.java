@@ -0,0 +1,55 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.batch.extensions.s3.compression;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+import org.xerial.snappy.SnappyFramedInputStream;
+import org.xerial.snappy.SnappyFramedOutputStream;
+
+/**
+ * A {@link S3CompressionCodec} for the framed Snappy format. Unlike raw Snappy, the
+ * framed format can be compressed and decompressed as a stream. Requires
+ * {@code org.xerial.snappy:snappy-java} on the classpath.
+ *
+ * @author Andrea Cioni
+ */
+public class SnappyFramedCompressionCodec implements S3CompressionCodec {
+
+	@Override
+	public InputStream decompress(InputStream inputStream) throws IOException {
+		return new SnappyFramedInputStream(inputStream);
+	}
+
+	@Override
+	public OutputStream compress(OutputStream outputStream) throws IOException {
+		return new SnappyFramedOutputStream(outputStream);
+	}
+
+	@Override
+	public String getContentEncoding() {
+		return "x-snappy-framed";
+	}
+
+	@Override
+	public String getKeySuffix() {
+		return ".sz";
+	}
+
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.batch.extensions.s3.compression;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+import com.github.luben.zstd.ZstdInputStream;
+import com.github.luben.zstd.ZstdOutputStream;
+
+/**
+ * A {@link S3CompressionCodec} for the Zstandard format. Requires
+ * {@code com.github.luben:zstd-jni} on the classpath.
+ *
+ * @author Andrea Cioni
+ */
+public class ZstdCompressionCodec implements S3CompressionCodec {
+
+	private final int level;
+
+	/**
+	 * Create a codec compressing with the default Zstandard level (3).
+	 */
+	public ZstdCompressionCodec() {
+		this(3);
+	}
+
+	/**
+	 * Create a codec compressing with the given Zstandard level.
+	 * @param level the compression level, from 1 (fastest) to 22 (smallest)
+	 */
+	public ZstdCompressionCodec(int level) {
+		this.level = level;
+	}
+
+	@Override
+	public InputStream decompress(InputStream inputStream) throws IOException {
+		return new ZstdInputStream(inputStream);
+	}
+
+	@Override
+	public OutputStream compress(OutputStream outputStream) throws IOException {
+		return new ZstdOutputStream(outputStream, this.level);
+	}
+
+	@Override
+	public String getContentEncoding() {
+		return "zstd";
+	}
+
+	@Override
+	public String getKeySuffix() {
+		return ".zst";
+	}
+
+}
@@ -0,0 +1,24 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/**
+ * Provides streaming compression codecs that can be used by the S3 item readers and
+ * writers to read and write compressed objects without buffering them in memory.
+ */
+@NullMarked
+package org.springframework.batch.extensions.s3.compression;
+
+import org.jspecify.annotations.NullMarked;
@@ -0,0 +1,185 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.batch.extensions.s3.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.LongTaskTimer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Names, tags and factories of the meters recorded by the S3 streams. All meters are
+ * tagged with the {@value #TAG_BUCKET} they transfer data from or to:
+ * <ul>
+ * <li>{@value #BYTES}: counter of the bytes transferred, tagged with the
+ * {@value #TAG_DIRECTION} ({@code upload} or {@code download}).</li>
+ * <li>{@value #REQUESTS}: timer of the {@code PutObject}, {@code UploadPart} and
+ * {@code GetObject} requests transferring data, with a percentile histogram, tagged with
+ * the {@value #TAG_OPERATION} and its {@value #TAG_OUTCOME} ({@code success} or
+ * {@code failure}).</li>
+ * <li>{@value #REQUESTS_ACTIVE}: long task timer of the requests in flight, e.g. the
+ * parts being uploaded, tagged with the {@value #TAG_OPERATION}.</li>
+ * <li>{@value #UPLOAD_PARTS}: distribution of the number of parts per multipart
+ * upload.</li>
+ * <li>{@value #PIPE_WAIT}: timer of the time spent blocked on the pipe between the
+ * writing thread and the upload thread, tagged with the {@value #TAG_SIDE}. Time spent
+ * by the {@code producer} means that the upload is the bottleneck, time spent by the
+ * {@code consumer} means that the writing thread, e.g. the serializer, is.</li>
+ * </ul>
+ * The retries of the AWS SDK are recorded by {@link S3SdkMetricPublisher}.
+ *
+ * @author Andrea Cioni
+ */
+public final class S3Metrics {
+
+	/**
+	 * Prefix of the names of all the meters.
+	 */
+	public static final String PREFIX = "spring.batch.s3";
+
+	/**
+	 * Name of the counter of the bytes transferred.
+	 */
+	public static final String BYTES = PREFIX + ".bytes";
+
+	/**
+	 * Name of the timer of the requests transferring data.
+	 */
+	public static final String REQUESTS = PREFIX + ".requests";
+
+	/**
+	 * Name of the long task timer of the requests in flight.
+	 */
+	public static final String REQUESTS_ACTIVE = PREFIX + ".requests.active";
+
+	/**
+	 * Name of the distribution of the number of parts per multipart upload.
+	 */
+	public static final String UPLOAD_PARTS = PREFIX + ".upload.parts";
+
+	/**
+	 * Name of the timer of the time spent blocked on the pipe.
+	 */
+	public static final String PIPE_WAIT = PREFIX + ".pipe.wait";
+
+	/**
+	 * Tag holding the name of the bucket.
+	 */
+	public static final String TAG_BUCKET = "bucket";
+
+	/**
+	 * Tag holding the direction of the transfer, {@code upload} or {@code download}.
+	 */
+	public static final String TAG_DIRECTION = "direction";
+
+	/**
+	 * Tag holding the name of the S3 operation, e.g. {@code UploadPart}.
+	 */
+	public static final String TAG_OPERATION = "operation";
+
+	/**
+	 * Tag holding the outcome of a request, {@code success} or {@code failure}.
+	 */
+	public static final String TAG_OUTCOME = "outcome";
+
+	/**
+	 * Tag holding the side of the pipe that waited, {@code producer} or {@code consumer}.
+	 */
+	public static final String TAG_SIDE = "side";
+
+	private S3Metrics() {
+	}
+
+	/**
+	 * Return the counter of the bytes transferred from or to a bucket.
+	 * @param registry the registry to register the counter in
+	 * @param bucket the name of the bucket
+	 * @param direction {@code upload} or {@code download}
+	 * @return the counter
+	 */
+	public static Counter bytes(MeterRegistry registry, String bucket, String direction) {
+		return Counter.builder(BYTES)
+			.baseUnit("bytes")
+			.description("Bytes transferred from or to S3")
+			.tag(TAG_BUCKET, bucket)
+			.tag(TAG_DIRECTION, direction)
+			.register(registry);
+	}
+
+	/**
+	 * Return the timer of the requests of an operation on a bucket.
+	 * @param registry the registry to register the timer in
+	 * @param bucket the name of the bucket
+	 * @param operation the name of the S3 operation, e.g. {@code UploadPart}
+	 * @param success whether the request succeeded
+	 * @return the timer
+	 */
+	public static Timer request(MeterRegistry registry, String bucket, String operation, boolean success) {
+		return Timer.builder(REQUESTS)
+			.description("Duration of the S3 requests transferring data")
+			.publishPercentileHistogram()
+			.tag(TAG_BUCKET, bucket)
+			.tag(TAG_OPERATION, operation)
+			.tag(TAG_OUTCOME, success ? "success" : "failure")
+			.register(registry);
+	}
+
+	/**
+	 * Return the long task timer of the requests of an operation in flight.
+	 * @param registry the registry to register the timer in
+	 * @param bucket the name of the bucket
+	 * @param operation the name of the S3 operation, e.g. {@code UploadPart}
+	 * @return the long task timer
+	 */
+	public static LongTaskTimer activeRequests(MeterRegistry registry, String bucket, String operation) {
+		return LongTaskTimer.builder(REQUESTS_ACTIVE)
+			.description("S3 requests in flight")
+			.tag(TAG_BUCKET, bucket)
+			.tag(TAG_OPERATION, operation)
+			.register(registry);
+	}
+
+	/**
+	 * Return the distribution of the number of parts per multipart upload.
+	 * @param registry the registry to register the distribution in
+	 * @param bucket the name of the bucket
+	 * @return the distribution summary
+	 */
+	public static DistributionSummary uploadParts(MeterRegistry registry, String bucket) {
+		return DistributionSummary.builder(UPLOAD_PARTS)
+			.description("Number of parts per multipart upload")
+			.tag(TAG_BUCKET, bucket)
+			.register(registry);
+	}
+
+	/**
+	 * Return the timer of the time spent blocked on one side of the pipe.
+	 * @param registry the registry to register the timer in
+	 * @param bucket the name of the bucket
+	 * @param side {@code producer} or {@code consumer}
+	 * @return the timer
+	 */
+	public static Timer pipeWait(MeterRegistry registry, String bucket, String side) {
+		return Timer.builder(PIPE_WAIT)
+			.description("Time spent blocked on the pipe between the writing and the upload threads")
+			.tag(TAG_BUCKET, bucket)
+			.tag(TAG_SIDE, side)
+			.register(registry);
+	}
+
+}
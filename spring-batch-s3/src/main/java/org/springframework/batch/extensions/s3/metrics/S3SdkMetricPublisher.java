@@ -0,0 +1,78 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.batch.extensions.s3.metrics;
+
+import java.util.List;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import software.amazon.awssdk.core.metrics.CoreMetric;
+import software.amazon.awssdk.metrics.MetricCollection;
+import software.amazon.awssdk.metrics.MetricPublisher;
+
+/**
+ * A {@link MetricPublisher} recording the retries of the AWS SDK in a
+ * {@link MeterRegistry}, so that throttling and transient failures can be told apart from
+ * slow transfers. Register it on the client:
+ * <pre class="code">
+ * S3Client.builder()
+ *     .overrideConfiguration((config) -&gt; config.addMetricPublisher(new S3SdkMetricPublisher(registry)))
+ *     .build();
+ * </pre>
+ * The {@value #RETRIES} counter is tagged with the {@value S3Metrics#TAG_OPERATION} of the
+ * API call, e.g. {@code UploadPart}.
+ *
+ * @author Andrea Cioni
+ */
+public class S3SdkMetricPublisher implements MetricPublisher {
+
+	/**
+	 * Name of the counter of the retries.
+	 */
+	public static final String RETRIES = S3Metrics.PREFIX + ".sdk.retries";
+
+	private final MeterRegistry registry;
+
+	/**
+	 * Create a publisher recording the retries in the given registry.
+	 * @param registry the registry to record the retries in
+	 */
+	public S3SdkMetricPublisher(MeterRegistry registry) {
+		this.registry = registry;
+	}
+
+	@Override
+	public void publish(MetricCollection metricCollection) {
+		List<Integer> retryCounts = metricCollection.metricValues(CoreMetric.RETRY_COUNT);
+		int retries = retryCounts.stream().mapToInt(Integer::intValue).sum();
+		if (retries == 0) {
+			return;
+		}
+		List<String> operationNames = metricCollection.metricValues(CoreMetric.OPERATION_NAME);
+		String operation = operationNames.isEmpty() ? "unknown" : operationNames.get(0);
+		Counter.builder(RETRIES)
+			.description("Retries of the AWS SDK")
+			.tag(S3Metrics.TAG_OPERATION, operation)
+			.register(this.registry)
+			.increment(retries);
+	}
+
+	@Override
+	public void close() {
+	}
+
+}
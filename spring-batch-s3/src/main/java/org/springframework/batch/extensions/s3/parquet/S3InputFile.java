@@ -0,0 +1,221 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.batch.extensions.s3.parquet;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+
+import org.apache.parquet.io.DelegatingSeekableInputStream;
+import org.apache.parquet.io.InputFile;
+import org.apache.parquet.io.SeekableInputStream;
+import org.jspecify.annotations.Nullable;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+
+/**
+ * An {@link InputFile} reading a Parquet file stored in S3 with ranged {@code GetObject}
+ * requests. Parquet reads the footer at the end of the file first, then the column
+ * chunks it needs, so the object is never downloaded as a whole: each stream keeps one
+ * range of {@code rangeSize} bytes open and only starts a new request when a read or a
+ * seek leaves it. Short forward seeks within the open range skip the bytes in between
+ * instead.
+ * <p>
+ * The length and the ETag of the object are fetched once with a {@code HeadObject}
+ * request. All ranges are requested with {@code If-Match} on that ETag, so that a file
+ * replaced while it is read fails instead of returning mixed content.
+ *
+ * @author Andrea Cioni
+ */
+public class S3InputFile implements InputFile {
+
+	private static final int DEFAULT_RANGE_SIZE = 8 * 1024 * 1024;
+
+	private static final int MAX_SKIP_BYTES = 128 * 1024;
+
+	private final S3Client s3;
+
+	private final String bucketName;
+
+	private final String objectKey;
+
+	private int rangeSize = DEFAULT_RANGE_SIZE;
+
+	@Nullable
+	private HeadObjectResponse headObjectResponse;
+
+	public S3InputFile(S3Client s3, String bucketName, String objectKey) {
+		this.s3 = s3;
+		this.bucketName = bucketName;
+		this.objectKey = objectKey;
+	}
+
+	/**
+	 * Set the size in bytes of the ranges requested from S3. Defaults to 8 MiB.
+	 * @param rangeSize the size of the ranges
+	 */
+	public void setRangeSize(int rangeSize) {
+		this.rangeSize = rangeSize;
+	}
+
+	@Override
+	public long getLength() {
+		return headObject().contentLength();
+	}
+
+	@Override
+	public SeekableInputStream newStream() {
+		HeadObjectResponse head = headObject();
+		RangeInputStream ranges = new RangeInputStream(head.contentLength(), head.eTag());
+		return new DelegatingSeekableInputStream(ranges) {
+
+			@Override
+			public long getPos() {
+				return ranges.position;
+			}
+
+			@Override
+			public void seek(long newPos) throws IOException {
+				ranges.seek(newPos);
+			}
+
+		};
+	}
+
+	private HeadObjectResponse headObject() {
+		if (this.headObjectResponse == null) {
+			this.headObjectResponse = this.s3
+				.headObject(HeadObjectRequest.builder().bucket(this.bucketName).key(this.objectKey).build());
+		}
+		return this.headObjectResponse;
+	}
+
+	private final class RangeInputStream extends InputStream {
+
+		private final long length;
+
+		@Nullable
+		private final String eTag;
+
+		private long position;
+
+		private long rangeEnd;
+
+		@Nullable
+		private ResponseInputStream<GetObjectResponse> range;
+
+		RangeInputStream(long length, @Nullable String eTag) {
+			this.length = length;
+			this.eTag = eTag;
+		}
+
+		@Override
+		public int read() throws IOException {
+			InputStream in = currentRange();
+			if (in == null) {
+				return -1;
+			}
+			int b = in.read();
+			if (b == -1) {
+				throw prematureEnd();
+			}
+			this.position++;
+			return b;
+		}
+
+		@Override
+		public int read(byte[] b, int off, int len) throws IOException {
+			if (len == 0) {
+				return 0;
+			}
+			InputStream in = currentRange();
+			if (in == null) {
+				return -1;
+			}
+			int count = in.read(b, off, (int) Math.min(len, this.rangeEnd - this.position));
+			if (count == -1) {
+				throw prematureEnd();
+			}
+			this.position += count;
+			return count;
+		}
+
+		@Override
+		public void close() {
+			closeRange();
+		}
+
+		void seek(long newPosition) throws IOException {
+			if (newPosition < 0 || newPosition > this.length) {
+				throw new EOFException("Cannot seek to " + newPosition + " in " + S3InputFile.this.objectKey
+						+ " of length " + this.length);
+			}
+			long distance = newPosition - this.position;
+			if (this.range != null && distance >= 0 && distance <= MAX_SKIP_BYTES
+					&& newPosition < this.rangeEnd) {
+				this.range.skipNBytes(distance);
+			}
+			else if (distance != 0) {
+				closeRange();
+			}
+			this.position = newPosition;
+		}
+
+		/**
+		 * Return the stream of the range the next byte should be read from, requesting a
+		 * new range if needed.
+		 * @return the stream of the current range, or {@code null} at the end of the file
+		 */
+		@Nullable
+		private InputStream currentRange() {
+			if (this.position >= this.length) {
+				return null;
+			}
+			if (this.range == null || this.position >= this.rangeEnd) {
+				closeRange();
+				this.rangeEnd = Math.min(this.position + S3InputFile.this.rangeSize, this.length);
+				GetObjectRequest getObjectRequest = GetObjectRequest.builder()
+					.bucket(S3InputFile.this.bucketName)
+					.key(S3InputFile.this.objectKey)
+					.range("bytes=" + this.position + "-" + (this.rangeEnd - 1))
+					.ifMatch(this.eTag)
+					.build();
+				this.range = S3InputFile.this.s3.getObject(getObjectRequest);
+			}
+			return this.range;
+		}
+
+		private void closeRange() {
+			if (this.range != null) {
+				// abort instead of draining the rest of the range
+				this.range.abort();
+				this.range = null;
+			}
+		}
+
+		private EOFException prematureEnd() {
+			return new EOFException("Range of " + S3InputFile.this.objectKey + " ended at " + this.position
+					+ " instead of " + this.rangeEnd);
+		}
+
+	}
+
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.batch.extensions.s3.parquet;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+import org.apache.parquet.io.OutputFile;
+import org.apache.parquet.io.PositionOutputStream;
+
+/**
+ * An {@link OutputFile} writing to the stream of an S3 object. Parquet only needs the
+ * current position to record the offsets of the row groups in the footer, so the file is
+ * written sequentially and no temporary file is needed. Closing the file only flushes it,
+ * closing the stream of the object is left to the writer.
+ *
+ * @author Andrea Cioni
+ */
+final class S3OutputFile implements OutputFile {
+
+	private final OutputStream outputStream;
+
+	S3OutputFile(OutputStream outputStream) {
+		this.outputStream = outputStream;
+	}
+
+	@Override
+	public PositionOutputStream create(long blockSizeHint) {
+		return new S3PositionOutputStream(this.outputStream);
+	}
+
+	@Override
+	public PositionOutputStream createOrOverwrite(long blockSizeHint) {
+		return create(blockSizeHint);
+	}
+
+	@Override
+	public boolean supportsBlockSize() {
+		return false;
+	}
+
+	@Override
+	public long defaultBlockSize() {
+		return 0;
+	}
+
+	private static final class S3PositionOutputStream extends PositionOutputStream {
+
+		private final OutputStream out;
+
+		private long position;
+
+		S3PositionOutputStream(OutputStream out) {
+			this.out = out;
+		}
+
+		@Override
+		public long getPos() {
+			return this.position;
+		}
+
+		@Override
+		public void write(int b) throws IOException {
+			this.out.write(b);
+			this.position++;
+		}
+
+		@Override
+		public void write(byte[] b, int off, int len) throws IOException {
+			this.out.write(b, off, len);
+			this.position += len;
+		}
+
+		@Override
+		public void flush() throws IOException {
+			this.out.flush();
+		}
+
+		@Override
+		public void close() throws IOException {
+			this.out.flush();
+		}
+
+	}
+
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.batch.extensions.s3.parquet;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericData;
+import org.apache.parquet.avro.AvroParquetWriter;
+import org.apache.parquet.hadoop.ParquetWriter;
+import org.apache.parquet.hadoop.metadata.CompressionCodecName;
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.batch.extensions.s3.serializer.S3ChunkSerializer;
+import org.springframework.batch.infrastructure.item.Chunk;
+
+/**
+ * A {@link S3ChunkSerializer} writing items to a Parquet file, using Avro as the object
+ * model. Row groups are written straight into the stream of the object as they fill up
+ * and the footer is written when the writer is closed, so no temporary file is needed.
+ * <p>
+ * Parquet buffers a whole row group in memory before writing it, so the
+ * {@link #setRowGroupSize(long) row group size} bounds the memory used by the serializer,
+ * in addition to the part buffers of the upload. Items are written with the
+ * {@link GenericData data model} set through {@link #setDataModel(GenericData)}.
+ * <p>
+ * Since the footer is only written once all the items are written, this serializer
+ * cannot be used with a writer that resumes the upload on restart, and is rejected when
+ * {@code saveState} is on.
+ *
+ * @param <T> type of the items to serialize
+ * @author Andrea Cioni
+ */
+public class S3ParquetChunkSerializer<T> implements S3ChunkSerializer<T> {
+
+	private final Schema schema;
+
+	private GenericData dataModel = GenericData.get();
+
+	private CompressionCodecName compressionCodec = CompressionCodecName.SNAPPY;
+
+	private long rowGroupSize = ParquetWriter.DEFAULT_BLOCK_SIZE;
+
+	@Nullable
+	private ParquetWriter<T> parquetWriter;
+
+	public S3ParquetChunkSerializer(Schema schema) {
+		this.schema = schema;
+	}
+
+	/**
+	 * Set the data model used to write the items. Defaults to {@link GenericData}.
+	 * @param dataModel the data model
+	 */
+	public void setDataModel(GenericData dataModel) {
+		this.dataModel = dataModel;
+	}
+
+	/**
+	 * Set the codec used to compress the column pages. Defaults to
+	 * {@link CompressionCodecName#SNAPPY}, which requires {@code snappy-java} on the
+	 * classpath.
+	 * @param compressionCodec the codec of the column pages
+	 */
+	public void setCompressionCodec(CompressionCodecName compressionCodec) {
+		this.compressionCodec = compressionCodec;
+	}
+
+	/**
+	 * Set the size in bytes a row group is buffered up to before it is written. Defaults
+	 * to {@value ParquetWriter#DEFAULT_BLOCK_SIZE}.
+	 * @param rowGroupSize the size of the row groups
+	 */
+	public void setRowGroupSize(long rowGroupSize) {
+		this.rowGroupSize = rowGroupSize;
+	}
+
+	@Override
+	public void serialize(Chunk<? extends T> chunk, OutputStream outputStream) throws IOException {
+		ParquetWriter<T> writer = this.parquetWriter;
+		if (writer == null) {
+			writer = AvroParquetWriter.<T>builder(new S3OutputFile(outputStream))
+				.withSchema(this.schema)
+				.withDataModel(this.dataModel)
+				.withCompressionCodec(this.compressionCodec)
+				.withRowGroupSize(this.rowGroupSize)
+				.build();
+			this.parquetWriter = writer;
+		}
+		for (T item : chunk) {
+			writer.write(item);
+		}
+	}
+
+	@Override
+	public void finish() throws IOException {
+		if (this.parquetWriter != null) {
+			// writes the last row group and the footer
+			this.parquetWriter.close();
+			this.parquetWriter = null;
+		}
+	}
+
+	@Override
+	public boolean isResumable() {
+		return false;
+	}
+
+}
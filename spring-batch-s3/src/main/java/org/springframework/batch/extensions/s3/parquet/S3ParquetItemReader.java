@@ -0,0 +1,85 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.batch.extensions.s3.parquet;
+
+import org.apache.avro.generic.GenericData;
+import org.apache.parquet.avro.AvroParquetReader;
+import org.apache.parquet.hadoop.ParquetReader;
+import org.apache.parquet.io.InputFile;
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.batch.infrastructure.item.ItemReader;
+import org.springframework.batch.infrastructure.item.support.AbstractItemCountingItemStreamItemReader;
+
+/**
+ * An {@link ItemReader} that reads items from a Parquet file, using Avro as the object
+ * model. Combined with a {@link S3InputFile} only the footer and the column chunks of the
+ * file are fetched, with ranged requests, and one row group is decoded at a time.
+ * <p>
+ * Items are read with the {@link GenericData data model} set through
+ * {@link #setDataModel(GenericData)}.
+ * <p>
+ * The reader is restartable: it stores the number of items read so far and, on restart,
+ * reads and discards the items before it.
+ *
+ * @param <T> the type of items to read
+ * @author Andrea Cioni
+ */
+public class S3ParquetItemReader<T> extends AbstractItemCountingItemStreamItemReader<T> {
+
+	private final InputFile inputFile;
+
+	private GenericData dataModel = GenericData.get();
+
+	@Nullable
+	private ParquetReader<T> parquetReader;
+
+	public S3ParquetItemReader(InputFile inputFile) {
+		this.inputFile = inputFile;
+	}
+
+	/**
+	 * Set the data model used to read the items. Defaults to {@link GenericData}.
+	 * @param dataModel the data model
+	 */
+	public void setDataModel(GenericData dataModel) {
+		this.dataModel = dataModel;
+	}
+
+	@Override
+	protected void doOpen() throws Exception {
+		this.parquetReader = AvroParquetReader.<T>builder(this.inputFile).withDataModel(this.dataModel).build();
+	}
+
+	@Override
+	@Nullable
+	protected T doRead() throws Exception {
+		if (this.parquetReader == null) {
+			throw new IllegalStateException("Reader must be open before it can be read");
+		}
+		return this.parquetReader.read();
+	}
+
+	@Override
+	protected void doClose() throws Exception {
+		if (this.parquetReader != null) {
+			this.parquetReader.close();
+			this.parquetReader = null;
+		}
+	}
+
+}
@@ -0,0 +1,152 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.batch.extensions.s3.partition;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Request;
+import software.amazon.awssdk.services.s3.model.S3Object;
+
+import org.springframework.batch.core.partition.Partitioner;
+import org.springframework.batch.infrastructure.item.ExecutionContext;
+
+/**
+ * A {@link Partitioner} that lists the objects stored under a prefix of an S3 bucket with
+ * {@code ListObjectsV2} and distributes them across at most {@code gridSize} partitions.
+ * Objects are assigned largest first to the partition holding the fewest bytes so far, so
+ * that partitions receive a similar amount of data even when object sizes vary.
+ * <p>
+ * The execution context of each partition contains the bucket name under
+ * {@value #BUCKET_NAME} and the list of assigned object keys under {@value #OBJECT_KEYS},
+ * which can be injected in a step-scoped
+ * {@link org.springframework.batch.extensions.s3.S3MultiObjectItemReader}.
+ *
+ * @author Andrea Cioni
+ */
+public class S3PrefixPartitioner implements Partitioner {
+
+	/**
+	 * The execution context key of the bucket name.
+	 */
+	public static final String BUCKET_NAME = "bucketName";
+
+	/**
+	 * The execution context key of the list of object keys assigned to the partition.
+	 */
+	public static final String OBJECT_KEYS = "objectKeys";
+
+	private static final String PARTITION_KEY = "partition";
+
+	private static final Logger logger = LoggerFactory.getLogger(S3PrefixPartitioner.class);
+
+	private final S3Client s3Client;
+
+	private final String bucketName;
+
+	private final String prefix;
+
+	public S3PrefixPartitioner(S3Client s3Client, String bucketName, String prefix) {
+		this.s3Client = s3Client;
+		this.bucketName = bucketName;
+		this.prefix = prefix;
+	}
+
+	@Override
+	public Map<String, ExecutionContext> partition(int gridSize) {
+		List<S3Object> objects = listObjects();
+		objects.sort(Comparator.comparingLong(S3Object::size).reversed());
+
+		int partitionCount = Math.min(Math.max(gridSize, 1), objects.size());
+		PriorityQueue<Partition> partitions = new PriorityQueue<>(
+				Comparator.comparingLong(Partition::getSize).thenComparingInt(Partition::getIndex));
+		for (int i = 0; i < partitionCount; i++) {
+			partitions.add(new Partition(i));
+		}
+		for (S3Object object : objects) {
+			Partition smallest = partitions.remove();
+			smallest.add(object);
+			partitions.add(smallest);
+		}
+
+		Map<String, ExecutionContext> contexts = new HashMap<>(partitionCount);
+		for (Partition partition : partitions) {
+			ExecutionContext context = new ExecutionContext();
+			context.putString(BUCKET_NAME, this.bucketName);
+			context.put(OBJECT_KEYS, partition.getObjectKeys());
+			contexts.put(PARTITION_KEY + partition.getIndex(), context);
+		}
+		logger.debug("Distributed {} objects under {} across {} partitions", objects.size(), this.prefix,
+				partitionCount);
+		return contexts;
+	}
+
+	private List<S3Object> listObjects() {
+		ListObjectsV2Request listObjectsRequest = ListObjectsV2Request.builder()
+			.bucket(this.bucketName)
+			.prefix(this.prefix)
+			.build();
+		List<S3Object> objects = new ArrayList<>();
+		for (S3Object object : this.s3Client.listObjectsV2Paginator(listObjectsRequest).contents()) {
+			// Skip the empty "folder" placeholders created by the console
+			if (!(object.key().endsWith("/") && object.size() == 0)) {
+				objects.add(object);
+			}
+		}
+		return objects;
+	}
+
+	private static final class Partition {
+
+		private final int index;
+
+		private final ArrayList<String> objectKeys = new ArrayList<>();
+
+		private long size;
+
+		Partition(int index) {
+			this.index = index;
+		}
+
+		void add(S3Object object) {
+			this.objectKeys.add(object.key());
+			this.size += object.size();
+		}
+
+		int getIndex() {
+			return this.index;
+		}
+
+		long getSize() {
+			return this.size;
+		}
+
+		ArrayList<String> getObjectKeys() {
+			this.objectKeys.sort(Comparator.naturalOrder());
+			return this.objectKeys;
+		}
+
+	}
+
+}
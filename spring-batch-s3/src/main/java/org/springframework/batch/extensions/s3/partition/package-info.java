@@ -0,0 +1,24 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/**
+ * Provides {@link org.springframework.batch.core.partition.Partitioner} implementations
+ * that distribute the objects stored in Amazon S3 across the partitions of a step.
+ */
+@NullMarked
+package org.springframework.batch.extensions.s3.partition;
+
+import org.jspecify.annotations.NullMarked;
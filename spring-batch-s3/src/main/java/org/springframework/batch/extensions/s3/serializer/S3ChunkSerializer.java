@@ -0,0 +1,88 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.batch.extensions.s3.serializer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+import org.springframework.batch.infrastructure.item.Chunk;
+import org.springframework.util.ObjectUtils;
+
+/**
+ * A functional interface for serializing a whole chunk of items to an S3 object. Unlike
+ * {@link S3Serializer}, which returns a new byte array per item, implementations write
+ * the items directly to the output stream of the object, typically through a buffer
+ * reused across chunks, so no allocation is needed per item.
+ *
+ * @param <T> the type of items to be serialized
+ * @author Andrea Cioni
+ */
+@FunctionalInterface
+public interface S3ChunkSerializer<T> {
+
+	/**
+	 * Serialize the items of the given chunk to the given output stream. The stream must
+	 * not be closed.
+	 * @param chunk the items to serialize
+	 * @param outputStream the stream of the S3 object
+	 * @throws IOException if the items cannot be written
+	 */
+	void serialize(Chunk<? extends T> chunk, OutputStream outputStream) throws IOException;
+
+	/**
+	 * Write any trailing data, such as the footer of a file format, once all the chunks
+	 * are serialized. Called when the writer is closed, if at least one chunk was
+	 * serialized, before the stream of the object is closed.
+	 * @throws IOException if the trailing data cannot be written
+	 */
+	default void finish() throws IOException {
+	}
+
+	/**
+	 * Tell whether the serializer can continue an object after a restart, given only the
+	 * bytes already written. Serializers writing a header or a footer that depends on
+	 * the whole content, such as Avro or Parquet files, cannot, and are rejected by
+	 * writers saving their state.
+	 * @return {@code true} by default
+	 */
+	default boolean isResumable() {
+		return true;
+	}
+
+	/**
+	 * Adapt a {@link S3Serializer} to serialize whole chunks, writing the bytes of each
+	 * item in turn.
+	 * @param serializer the serializer of a single item
+	 * @param <T> the type of items to be serialized
+	 * @return the chunk serializer
+	 * @throws IllegalArgumentException when writing, if an item is serialized to no bytes
+	 */
+	static <T> S3ChunkSerializer<T> forEachItem(S3Serializer<T> serializer) {
+		return (chunk, outputStream) -> {
+			for (T item : chunk.getItems()) {
+				byte[] serializedData = serializer.serialize(item);
+				if (!ObjectUtils.isEmpty(serializedData)) {
+					outputStream.write(serializedData);
+				}
+				else {
+					throw new IllegalArgumentException("Serialized data is null or empty for item: " + item);
+				}
+			}
+		};
+	}
+
+}
@@ -16,6 +16,8 @@
 
 package org.springframework.batch.extensions.s3.serializer;
 
+import java.util.Arrays;
+
 import org.jspecify.annotations.Nullable;
 
 /**
@@ -39,4 +41,35 @@ public interface S3Deserializer<T> {
 	@Nullable
 	T deserialize(byte[] buffer);
 
+	/**
+	 * Deserialize {@code length} bytes of the given buffer starting at {@code offset}.
+	 * The buffer is owned by the caller and is reused across invocations, so
+	 * implementations must copy any byte they need to keep after this method returns.
+	 * The default implementation copies the range and delegates to
+	 * {@link #deserialize(byte[])}; implementations should override it to avoid the copy.
+	 * @param buffer the buffer holding the bytes to deserialize
+	 * @param offset the index of the first byte to deserialize
+	 * @param length the number of bytes to deserialize
+	 * @return the deserialized object
+	 */
+	@Nullable
+	default T deserialize(byte[] buffer, int offset, int length) {
+		return deserialize(Arrays.copyOfRange(buffer, offset, offset + length));
+	}
+
+	/**
+	 * Return the number of bytes that were passed to this deserializer but that are not
+	 * part of an item returned yet. {@code S3ItemReader} uses this value to compute the
+	 * offset a restarted step has to resume from, so implementations must override it to
+	 * support restarts. The default implementation throws: a stateful deserializer
+	 * reporting no buffered bytes would silently lose them on restart, so
+	 * {@code S3ItemReader} logs a warning and does not save its offset instead.
+	 * @return the number of buffered bytes
+	 * @throws UnsupportedOperationException if the deserializer does not track its
+	 * buffered bytes
+	 */
+	default int getBufferedByteCount() {
+		throw new UnsupportedOperationException(getClass().getName() + " does not report its buffered bytes");
+	}
+
 }
@@ -0,0 +1,128 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.batch.extensions.s3.serializer;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * A deserializer splitting the data into records with a {@link S3RecordFramer} and
+ * decoding each of them with a stateless {@link S3RecordDecoder}. Record boundaries are
+ * located at the byte level, so binary formats such as length-prefixed Protocol Buffers
+ * messages are read without any intermediate conversion:
+ * <pre class="code">
+ * new S3FramedDeserializer&lt;&gt;(S3RecordFramer.varintLengthPrefixed(),
+ *         (buffer, offset, length) -&gt; Person.parser().parseFrom(buffer, offset, length));
+ * </pre>
+ * Incoming bytes are appended to an internal byte buffer, which is compacted in place as
+ * records are consumed, and the decoder is called with the range of a record in that
+ * buffer.
+ *
+ * @param <T> the type of items to be deserialized
+ * @author Andrea Cioni
+ */
+public class S3FramedDeserializer<T> implements S3Deserializer<T> {
+
+	private static final int INITIAL_CAPACITY = 1024;
+
+	private final S3RecordFramer framer;
+
+	private final S3RecordDecoder<T> decoder;
+
+	private byte[] bytes = new byte[INITIAL_CAPACITY];
+
+	private int start;
+
+	private int end;
+
+	private int examined;
+
+	public S3FramedDeserializer(S3RecordFramer framer, S3RecordDecoder<T> decoder) {
+		this.framer = framer;
+		this.decoder = decoder;
+	}
+
+	@Override
+	@Nullable
+	public T deserialize(byte[] buffer) {
+		return deserialize(buffer, 0, buffer.length);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * @throws UncheckedIOException if the decoder fails to decode a record
+	 * @throws IllegalStateException if the framer finds a malformed frame
+	 */
+	@Override
+	@Nullable
+	public T deserialize(byte[] buffer, int offset, int length) {
+		append(buffer, offset, length);
+
+		int buffered = this.end - this.start;
+		S3RecordFramer.Frame frame = (buffered > this.examined)
+				? this.framer.nextFrame(this.bytes, this.start, buffered, this.examined) : null;
+		if (frame == null) {
+			this.examined = buffered;
+			return null;
+		}
+
+		T item;
+		try {
+			item = this.decoder.decode(this.bytes, this.start + frame.payloadOffset(), frame.payloadLength());
+		}
+		catch (IOException ex) {
+			throw new UncheckedIOException("Unable to decode a record", ex);
+		}
+		this.start += frame.frameLength();
+		this.examined = 0;
+		if (this.start == this.end) {
+			this.start = 0;
+			this.end = 0;
+		}
+		return item;
+	}
+
+	@Override
+	public int getBufferedByteCount() {
+		return this.end - this.start;
+	}
+
+	private void append(byte[] buffer, int offset, int length) {
+		if (length == 0) {
+			return;
+		}
+		if (this.end + length > this.bytes.length) {
+			int buffered = this.end - this.start;
+			int required = buffered + length;
+			if (required <= this.bytes.length / 2) {
+				System.arraycopy(this.bytes, this.start, this.bytes, 0, buffered);
+			}
+			else {
+				byte[] grown = new byte[Math.max(this.bytes.length * 2, required)];
+				System.arraycopy(this.bytes, this.start, grown, 0, buffered);
+				this.bytes = grown;
+			}
+			this.start = 0;
+			this.end = buffered;
+		}
+		System.arraycopy(buffer, offset, this.bytes, this.end, length);
+		this.end += length;
+	}
+
+}
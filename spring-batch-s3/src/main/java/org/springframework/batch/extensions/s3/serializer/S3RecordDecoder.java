@@ -0,0 +1,45 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.batch.extensions.s3.serializer;
+
+import java.io.IOException;
+
+/**
+ * A functional interface decoding a single record located by a {@link S3RecordFramer}.
+ * Unlike {@link S3Deserializer}, implementations are stateless: each call receives the
+ * bytes of exactly one record, e.g. {@code (buffer, offset, length) ->
+ * Person.parser().parseFrom(buffer, offset, length)} for Protocol Buffers messages.
+ *
+ * @param <T> the type of items to be decoded
+ * @author Andrea Cioni
+ */
+@FunctionalInterface
+public interface S3RecordDecoder<T> {
+
+	/**
+	 * Decode the record held by {@code length} bytes of the given buffer starting at
+	 * {@code offset}. The buffer is owned by the caller and is reused across invocations,
+	 * so implementations must copy any byte they need to keep after this method returns.
+	 * @param buffer the buffer holding the record
+	 * @param offset the index of the first byte of the record
+	 * @param length the number of bytes of the record
+	 * @return the decoded item
+	 * @throws IOException if the record cannot be decoded
+	 */
+	T decode(byte[] buffer, int offset, int length) throws IOException;
+
+}
@@ -0,0 +1,161 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.batch.extensions.s3.serializer;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Locates the boundaries of the records of a binary stream, so that
+ * {@link S3FramedDeserializer} can hand each complete record to a
+ * {@link S3RecordDecoder}. Framers work at the byte level and never decode the content of
+ * a record.
+ * <p>
+ * A framer is called with the bytes buffered since the end of the previous frame. When
+ * they do not hold a complete frame yet, it is called again with the same bytes followed
+ * by more data, along with the number of bytes it already examined, so that a framer
+ * searching for a delimiter does not scan the same bytes twice.
+ *
+ * @author Andrea Cioni
+ */
+@FunctionalInterface
+public interface S3RecordFramer {
+
+	/**
+	 * Locate the first frame of the given bytes.
+	 * @param buffer the buffer holding the bytes
+	 * @param offset the index of the first byte of the frame
+	 * @param length the number of bytes available from {@code offset}
+	 * @param examined the number of bytes from {@code offset} already examined by a
+	 * previous call that found no complete frame
+	 * @return the frame, or {@code null} if the bytes do not hold a complete frame yet
+	 * @throws IllegalStateException if the bytes cannot start a valid frame
+	 */
+	@Nullable
+	Frame nextFrame(byte[] buffer, int offset, int length, int examined);
+
+	/**
+	 * Return a framer of records of the given length, with no header or delimiter.
+	 * @param recordLength the length of the records in bytes
+	 * @return the framer
+	 */
+	static S3RecordFramer fixedLength(int recordLength) {
+		if (recordLength <= 0) {
+			throw new IllegalArgumentException("Record length must be positive");
+		}
+		return (buffer, offset, length, examined) -> (length >= recordLength)
+				? new Frame(0, recordLength, recordLength) : null;
+	}
+
+	/**
+	 * Return a framer of records prefixed by their length as a big-endian 32-bit integer,
+	 * as written by {@link java.io.DataOutputStream#writeInt(int)}.
+	 * @return the framer
+	 */
+	static S3RecordFramer int32LengthPrefixed() {
+		return (buffer, offset, length, examined) -> {
+			if (length < Integer.BYTES) {
+				return null;
+			}
+			int recordLength = ((buffer[offset] & 0xFF) << 24) | ((buffer[offset + 1] & 0xFF) << 16)
+					| ((buffer[offset + 2] & 0xFF) << 8) | (buffer[offset + 3] & 0xFF);
+			if (recordLength < 0) {
+				throw new IllegalStateException("Negative record length: " + recordLength);
+			}
+			return (length - Integer.BYTES >= recordLength)
+					? new Frame(Integer.BYTES, recordLength, Integer.BYTES + recordLength) : null;
+		};
+	}
+
+	/**
+	 * Return a framer of records prefixed by their length as an unsigned varint of at
+	 * most 32 bits, as written by {@code writeDelimitedTo} of Protocol Buffers messages.
+	 * @return the framer
+	 */
+	static S3RecordFramer varintLengthPrefixed() {
+		return (buffer, offset, length, examined) -> {
+			int recordLength = 0;
+			int headerLength = 0;
+			while (true) {
+				if (headerLength == length) {
+					return null;
+				}
+				byte b = buffer[offset + headerLength];
+				recordLength |= (b & 0x7F) << (7 * headerLength);
+				headerLength++;
+				if ((b & 0x80) == 0) {
+					break;
+				}
+				if (headerLength == 5) {
+					throw new IllegalStateException("Malformed varint record length");
+				}
+			}
+			if (recordLength < 0) {
+				throw new IllegalStateException(
+						"Record length exceeds 2 GB: " + Integer.toUnsignedString(recordLength));
+			}
+			return (length - headerLength >= recordLength)
+					? new Frame(headerLength, recordLength, headerLength + recordLength) : null;
+		};
+	}
+
+	/**
+	 * Return a framer of records terminated by the given delimiter. The delimiter is not
+	 * part of the record, and trailing bytes not followed by the delimiter are not
+	 * returned.
+	 * @param delimiter the bytes terminating each record
+	 * @return the framer
+	 */
+	static S3RecordFramer delimited(byte[] delimiter) {
+		if (delimiter.length == 0) {
+			throw new IllegalArgumentException("Delimiter must not be empty");
+		}
+		byte[] copy = delimiter.clone();
+		return (buffer, offset, length, examined) -> {
+			// a delimiter may have started in the last bytes examined
+			int end = offset + length - copy.length;
+			for (int position = offset + Math.max(0, examined - copy.length + 1); position <= end; position++) {
+				if (matches(buffer, position, copy)) {
+					int recordLength = position - offset;
+					return new Frame(0, recordLength, recordLength + copy.length);
+				}
+			}
+			return null;
+		};
+	}
+
+	private static boolean matches(byte[] buffer, int index, byte[] sequence) {
+		for (int i = 0; i < sequence.length; i++) {
+			if (buffer[index + i] != sequence[i]) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * The location of a record in the bytes passed to a framer.
+	 *
+	 * @param payloadOffset the index of the first byte of the record, relative to the
+	 * start of the frame
+	 * @param payloadLength the length of the record
+	 * @param frameLength the number of bytes of the frame, including its header or
+	 * delimiter
+	 */
+	record Frame(int payloadOffset, int payloadLength, int frameLength) {
+	}
+
+}
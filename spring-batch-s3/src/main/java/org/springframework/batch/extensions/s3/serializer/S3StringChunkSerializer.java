@@ -0,0 +1,106 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.batch.extensions.s3.serializer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import org.springframework.batch.infrastructure.item.Chunk;
+
+/**
+ * Chunk serializer for String items, producing the same output as
+ * {@link S3StringSerializer}: each item followed by a newline character. Items are
+ * encoded with a reused {@link CharsetEncoder} into a reused buffer, which is written to
+ * the stream whenever it is full and at the end of each chunk.
+ * <p>
+ * Instances are stateful and must not be shared between writers.
+ *
+ * @author Andrea Cioni
+ */
+public class S3StringChunkSerializer implements S3ChunkSerializer<String> {
+
+	private static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+
+	private final CharsetEncoder encoder;
+
+	private final byte[] lineFeed;
+
+	private final ByteBuffer buffer;
+
+	public S3StringChunkSerializer() {
+		this(StandardCharsets.UTF_8);
+	}
+
+	public S3StringChunkSerializer(Charset charset) {
+		this(charset, DEFAULT_BUFFER_SIZE);
+	}
+
+	public S3StringChunkSerializer(Charset charset, int bufferSize) {
+		this.encoder = charset.newEncoder()
+			.onMalformedInput(CodingErrorAction.REPLACE)
+			.onUnmappableCharacter(CodingErrorAction.REPLACE);
+		// Encoded without the byte order mark some charsets prepend to the encoded bytes
+		byte[] once = "\n".getBytes(charset);
+		byte[] twice = "\n\n".getBytes(charset);
+		this.lineFeed = Arrays.copyOfRange(twice, once.length, twice.length);
+		this.buffer = ByteBuffer.allocate(Math.max(bufferSize, this.lineFeed.length));
+	}
+
+	@Override
+	public void serialize(Chunk<? extends String> chunk, OutputStream outputStream) throws IOException {
+		this.buffer.clear();
+		for (String item : chunk.getItems()) {
+			encode(item, outputStream);
+			if (this.buffer.remaining() < this.lineFeed.length) {
+				drain(outputStream);
+			}
+			this.buffer.put(this.lineFeed);
+		}
+		drain(outputStream);
+	}
+
+	private void encode(String item, OutputStream outputStream) throws IOException {
+		CharBuffer chars = CharBuffer.wrap(item);
+		this.encoder.reset();
+		CoderResult result = this.encoder.encode(chars, this.buffer, true);
+		while (result.isOverflow()) {
+			drain(outputStream);
+			result = this.encoder.encode(chars, this.buffer, true);
+		}
+		result = this.encoder.flush(this.buffer);
+		while (result.isOverflow()) {
+			drain(outputStream);
+			result = this.encoder.flush(this.buffer);
+		}
+	}
+
+	private void drain(OutputStream outputStream) throws IOException {
+		if (this.buffer.position() > 0) {
+			outputStream.write(this.buffer.array(), 0, this.buffer.position());
+			this.buffer.clear();
+		}
+	}
+
+}
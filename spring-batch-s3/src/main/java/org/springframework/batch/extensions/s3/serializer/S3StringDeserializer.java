@@ -16,8 +16,13 @@
 
 package org.springframework.batch.extensions.s3.serializer;
 
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
 import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
 import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 
 import org.jspecify.annotations.Nullable;
 
@@ -25,44 +30,166 @@ import org.jspecify.annotations.Nullable;
  * Simple deserializer for String items from S3. It reads lines from a byte array,
  * handling both \n and \r\n line endings.
  * This is intended to be used with S3ItemReader to read text data from S3 objects.
+ * <p>
+ * Incoming bytes are appended to an internal byte buffer and line delimiters are searched
+ * at the byte level, resuming from where the previous search stopped, so each byte is
+ * scanned once. Only the bytes of a complete line are decoded, hence characters encoded
+ * on several bytes are never split even when they span two buffers. Consumed bytes are
+ * discarded by compacting the buffer in place.
  *
  * @author Andrea Cioni
  */
 public class S3StringDeserializer implements S3Deserializer<String> {
 
+	private static final int INITIAL_CAPACITY = 1024;
+
 	final Charset charset;
 
-	private StringBuilder stringBuilder = new StringBuilder();
+	private final CharsetDecoder decoder;
+
+	private final byte[] lineFeed;
+
+	private final byte[] carriageReturn;
+
+	private byte[] bytes = new byte[INITIAL_CAPACITY];
+
+	private int start;
+
+	private int end;
+
+	private int searchFrom;
+
+	private CharBuffer chars = CharBuffer.allocate(0);
 
 	public S3StringDeserializer() {
-		this.charset = StandardCharsets.UTF_8;
+		this(StandardCharsets.UTF_8);
 	}
 
 	public S3StringDeserializer(Charset charset) {
 		this.charset = charset;
+		this.decoder = charset.newDecoder()
+			.onMalformedInput(CodingErrorAction.REPLACE)
+			.onUnmappableCharacter(CodingErrorAction.REPLACE);
+		this.lineFeed = encode('\n');
+		this.carriageReturn = encode('\r');
 	}
 
 	@Override
 	@Nullable
 	public String deserialize(byte[] buffer) {
-		String incoming = new String(buffer, this.charset);
-		this.stringBuilder.append(incoming);
+		return deserialize(buffer, 0, buffer.length);
+	}
 
-		int newlineIdx = this.stringBuilder.indexOf("\n");
+	@Override
+	@Nullable
+	public String deserialize(byte[] buffer, int offset, int length) {
+		append(buffer, offset, length);
+
+		int newlineIdx = indexOfLineFeed();
 		if (newlineIdx == -1) {
 			return null;
 		}
 
 		// Handle both \n and \r\n line endings
 		int lineEnd = newlineIdx;
-		if (newlineIdx > 0 && this.stringBuilder.charAt(newlineIdx - 1) == '\r') {
-			lineEnd--;
+		if (endsWith(lineEnd, this.carriageReturn)) {
+			lineEnd -= this.carriageReturn.length;
 		}
 
-		String line = this.stringBuilder.substring(0, lineEnd);
-		this.stringBuilder = new StringBuilder(this.stringBuilder.substring(newlineIdx + 1));
-
+		String line = decode(this.start, lineEnd);
+		this.start = newlineIdx + this.lineFeed.length;
+		this.searchFrom = this.start;
+		if (this.start == this.end) {
+			this.start = 0;
+			this.end = 0;
+			this.searchFrom = 0;
+		}
 		return line;
 	}
 
+	@Override
+	public int getBufferedByteCount() {
+		return this.end - this.start;
+	}
+
+	private void append(byte[] buffer, int offset, int length) {
+		if (length == 0) {
+			return;
+		}
+		if (this.end + length > this.bytes.length) {
+			int buffered = this.end - this.start;
+			int required = buffered + length;
+			if (required <= this.bytes.length / 2) {
+				System.arraycopy(this.bytes, this.start, this.bytes, 0, buffered);
+			}
+			else {
+				byte[] grown = new byte[Math.max(this.bytes.length * 2, required)];
+				System.arraycopy(this.bytes, this.start, grown, 0, buffered);
+				this.bytes = grown;
+			}
+			this.searchFrom -= this.start;
+			this.start = 0;
+			this.end = buffered;
+		}
+		System.arraycopy(buffer, offset, this.bytes, this.end, length);
+		this.end += length;
+	}
+
+	/**
+	 * Search the line feed from the position where the previous search stopped. The
+	 * search is aligned on the size of the encoded line feed, so that it also works with
+	 * fixed-width charsets such as UTF-16.
+	 * @return the index of the first line feed, or -1 if the buffer holds no complete line
+	 */
+	private int indexOfLineFeed() {
+		int unit = this.lineFeed.length;
+		int position = this.searchFrom;
+		while (position + unit <= this.end) {
+			if (matches(position, this.lineFeed)) {
+				return position;
+			}
+			position += unit;
+		}
+		this.searchFrom = position;
+		return -1;
+	}
+
+	private boolean endsWith(int index, byte[] suffix) {
+		return index - suffix.length >= this.start && matches(index - suffix.length, suffix);
+	}
+
+	private boolean matches(int index, byte[] sequence) {
+		for (int i = 0; i < sequence.length; i++) {
+			if (this.bytes[index + i] != sequence[i]) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private String decode(int from, int to) {
+		int maxChars = (int) Math.ceil((to - from) * (double) this.decoder.maxCharsPerByte());
+		if (this.chars.capacity() < maxChars) {
+			this.chars = CharBuffer.allocate(maxChars);
+		}
+		this.chars.clear();
+		this.decoder.reset();
+		this.decoder.decode(ByteBuffer.wrap(this.bytes, from, to - from), this.chars, true);
+		this.decoder.flush(this.chars);
+		this.chars.flip();
+		return this.chars.toString();
+	}
+
+	/**
+	 * Encode a single character, without the byte order mark some charsets prepend to
+	 * the encoded bytes.
+	 * @param c the character to encode
+	 * @return the encoded character
+	 */
+	private byte[] encode(char c) {
+		byte[] once = String.valueOf(c).getBytes(this.charset);
+		byte[] twice = (String.valueOf(c) + c).getBytes(this.charset);
+		return Arrays.copyOfRange(twice, once.length, twice.length);
+	}
+
 }
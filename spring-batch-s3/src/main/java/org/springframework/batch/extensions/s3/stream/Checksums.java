@@ -0,0 +1,178 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.batch.extensions.s3.stream;
+
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.List;
+import java.util.zip.CRC32;
+import java.util.zip.CRC32C;
+import java.util.zip.Checksum;
+
+import org.jspecify.annotations.Nullable;
+import software.amazon.awssdk.services.s3.model.ChecksumAlgorithm;
+import software.amazon.awssdk.services.s3.model.ChecksumType;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+
+/**
+ * Computes the checksums of multipart uploads and sets them on the requests. CRC
+ * algorithms use the full object checksum type, whose value is the checksum of the whole
+ * object and can be computed while the parts are read. Other algorithms use the composite
+ * type, whose value is the checksum of the concatenated checksums of the parts followed
+ * by the number of parts.
+ *
+ * @author Andrea Cioni
+ */
+final class Checksums {
+
+	private Checksums() {
+	}
+
+	/**
+	 * Check that checksums of the given algorithm can be computed.
+	 * @param algorithm the checksum algorithm
+	 * @throws IllegalArgumentException if the algorithm is not supported
+	 */
+	static void validate(ChecksumAlgorithm algorithm) {
+		if (!isFullObject(algorithm)) {
+			messageDigest(algorithm);
+		}
+	}
+
+	static ChecksumType checksumType(ChecksumAlgorithm algorithm) {
+		return isFullObject(algorithm) ? ChecksumType.FULL_OBJECT : ChecksumType.COMPOSITE;
+	}
+
+	/**
+	 * Return a checksum updated with the whole object, or {@code null} if the algorithm
+	 * uses the composite type.
+	 * @param algorithm the checksum algorithm
+	 * @return the checksum of the object
+	 */
+	@Nullable
+	static Checksum newObjectChecksum(ChecksumAlgorithm algorithm) {
+		return switch (algorithm) {
+			case CRC32 -> new CRC32();
+			case CRC32_C -> new CRC32C();
+			default -> null;
+		};
+	}
+
+	/**
+	 * Compute the checksum of a part.
+	 * @param algorithm the checksum algorithm
+	 * @param contents the bytes of the part
+	 * @return the base64 encoded checksum
+	 */
+	static String partChecksum(ChecksumAlgorithm algorithm, ByteBuffer contents) {
+		Checksum checksum = newObjectChecksum(algorithm);
+		if (checksum != null) {
+			checksum.update(contents);
+			return encode(checksum);
+		}
+		MessageDigest messageDigest = messageDigest(algorithm);
+		messageDigest.update(contents);
+		return Base64.getEncoder().encodeToString(messageDigest.digest());
+	}
+
+	/**
+	 * Compute the composite checksum of an object from the checksums of its parts.
+	 * @param algorithm the checksum algorithm
+	 * @param parts the parts of the object, in order
+	 * @return the composite checksum, suffixed by the number of parts
+	 */
+	static String compositeChecksum(ChecksumAlgorithm algorithm, List<CompletedPart> parts) {
+		MessageDigest messageDigest = messageDigest(algorithm);
+		for (CompletedPart part : parts) {
+			messageDigest.update(Base64.getDecoder().decode(checksum(part, algorithm)));
+		}
+		return Base64.getEncoder().encodeToString(messageDigest.digest()) + "-" + parts.size();
+	}
+
+	static String encode(Checksum checksum) {
+		int value = (int) checksum.getValue();
+		return Base64.getEncoder()
+			.encodeToString(new byte[] { (byte) (value >>> 24), (byte) (value >>> 16), (byte) (value >>> 8),
+					(byte) value });
+	}
+
+	static UploadPartRequest.Builder checksum(UploadPartRequest.Builder builder, ChecksumAlgorithm algorithm,
+			String checksum) {
+		return switch (algorithm) {
+			case CRC32 -> builder.checksumCRC32(checksum);
+			case CRC32_C -> builder.checksumCRC32C(checksum);
+			case SHA1 -> builder.checksumSHA1(checksum);
+			case SHA256 -> builder.checksumSHA256(checksum);
+			default -> throw unsupported(algorithm);
+		};
+	}
+
+	static CompletedPart.Builder checksum(CompletedPart.Builder builder, ChecksumAlgorithm algorithm,
+			String checksum) {
+		return switch (algorithm) {
+			case CRC32 -> builder.checksumCRC32(checksum);
+			case CRC32_C -> builder.checksumCRC32C(checksum);
+			case SHA1 -> builder.checksumSHA1(checksum);
+			case SHA256 -> builder.checksumSHA256(checksum);
+			default -> throw unsupported(algorithm);
+		};
+	}
+
+	static CompleteMultipartUploadRequest.Builder checksum(CompleteMultipartUploadRequest.Builder builder,
+			ChecksumAlgorithm algorithm, String checksum) {
+		return switch (algorithm) {
+			case CRC32 -> builder.checksumCRC32(checksum);
+			case CRC32_C -> builder.checksumCRC32C(checksum);
+			default -> throw unsupported(algorithm);
+		};
+	}
+
+	private static String checksum(CompletedPart part, ChecksumAlgorithm algorithm) {
+		return switch (algorithm) {
+			case SHA1 -> part.checksumSHA1();
+			case SHA256 -> part.checksumSHA256();
+			default -> throw unsupported(algorithm);
+		};
+	}
+
+	private static boolean isFullObject(ChecksumAlgorithm algorithm) {
+		return algorithm == ChecksumAlgorithm.CRC32 || algorithm == ChecksumAlgorithm.CRC32_C;
+	}
+
+	private static MessageDigest messageDigest(ChecksumAlgorithm algorithm) {
+		String name = switch (algorithm) {
+			case SHA1 -> "SHA-1";
+			case SHA256 -> "SHA-256";
+			default -> throw unsupported(algorithm);
+		};
+		try {
+			return MessageDigest.getInstance(name);
+		}
+		catch (NoSuchAlgorithmException ex) {
+			throw new IllegalStateException("No " + name + " implementation available", ex);
+		}
+	}
+
+	private static IllegalArgumentException unsupported(ChecksumAlgorithm algorithm) {
+		return new IllegalArgumentException("Unsupported checksum algorithm: " + algorithm);
+	}
+
+}
@@ -0,0 +1,292 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.batch.extensions.s3.stream;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import io.micrometer.core.instrument.Timer;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * A pipe that hands data over from a producer thread to a consumer thread in chunks. The
+ * producer fills a chunk of {@code chunkSize} bytes through {@link #getOutputStream()},
+ * and full chunks are passed to the consumer reading from {@link #getInputStream()}
+ * through a bounded queue of {@code capacity} chunks. Unlike
+ * {@link java.io.PipedOutputStream}, bytes are copied in bulk and threads only
+ * synchronize once per chunk. Chunk buffers are recycled once the consumer has read
+ * them.
+ * <p>
+ * Closing the output stream flushes the last chunk and signals the end of the data.
+ * Closing the input stream makes subsequent writes fail, so that a producer does not
+ * block forever when the consumer gives up.
+ * <p>
+ * The time each side spends blocked, the producer on a full queue and the consumer on an
+ * empty one, can be recorded with {@link #setWaitTimers(Timer, Timer)}.
+ *
+ * @author Andrea Cioni
+ */
+final class ChunkedPipe {
+
+	private static final Chunk END_OF_DATA = new Chunk(new byte[0], 0);
+
+	private final int chunkSize;
+
+	private final BlockingQueue<Chunk> chunks;
+
+	private final BlockingQueue<byte[]> freeBuffers;
+
+	private final PipeOutputStream outputStream = new PipeOutputStream();
+
+	private final PipeInputStream inputStream = new PipeInputStream();
+
+	private volatile boolean inputClosed;
+
+	@Nullable
+	private Timer producerWaitTimer;
+
+	@Nullable
+	private Timer consumerWaitTimer;
+
+	ChunkedPipe() {
+		this(Defaults.DEFAULT_PIPE_CHUNK_SIZE, Defaults.DEFAULT_PIPE_CAPACITY);
+	}
+
+	ChunkedPipe(int chunkSize, int capacity) {
+		this.chunkSize = chunkSize;
+		this.chunks = new ArrayBlockingQueue<>(capacity + 1);
+		this.freeBuffers = new ArrayBlockingQueue<>(capacity + 1);
+	}
+
+	OutputStream getOutputStream() {
+		return this.outputStream;
+	}
+
+	InputStream getInputStream() {
+		return this.inputStream;
+	}
+
+	/**
+	 * Record the time spent blocked by each side of the pipe. Must be called before the
+	 * producer and the consumer start.
+	 * @param producerWaitTimer the timer of the producer waiting for room in the queue
+	 * @param consumerWaitTimer the timer of the consumer waiting for a chunk
+	 */
+	void setWaitTimers(@Nullable Timer producerWaitTimer, @Nullable Timer consumerWaitTimer) {
+		this.producerWaitTimer = producerWaitTimer;
+		this.consumerWaitTimer = consumerWaitTimer;
+	}
+
+	private static void recordWait(@Nullable Timer timer, long startTime) {
+		if (timer != null) {
+			timer.record(System.nanoTime() - startTime, TimeUnit.NANOSECONDS);
+		}
+	}
+
+	private record Chunk(byte[] buffer, int length) {
+	}
+
+	private final class PipeOutputStream extends OutputStream {
+
+		private byte @Nullable [] buffer;
+
+		private int count;
+
+		private boolean closed;
+
+		@Override
+		public void write(int b) throws IOException {
+			byte[] current = currentBuffer();
+			current[this.count++] = (byte) b;
+			if (this.count == current.length) {
+				handOver();
+			}
+		}
+
+		@Override
+		public void write(byte[] b, int off, int len) throws IOException {
+			while (len > 0) {
+				byte[] current = currentBuffer();
+				int count = Math.min(len, current.length - this.count);
+				System.arraycopy(b, off, current, this.count, count);
+				this.count += count;
+				off += count;
+				len -= count;
+				if (this.count == current.length) {
+					handOver();
+				}
+			}
+		}
+
+		@Override
+		public void flush() throws IOException {
+			if (this.count > 0) {
+				handOver();
+			}
+		}
+
+		@Override
+		public void close() throws IOException {
+			if (this.closed) {
+				return;
+			}
+			this.closed = true;
+			if (!ChunkedPipe.this.inputClosed) {
+				flush();
+				put(END_OF_DATA);
+			}
+		}
+
+		private byte[] currentBuffer() throws IOException {
+			if (this.closed) {
+				throw new IOException("Pipe closed");
+			}
+			if (ChunkedPipe.this.inputClosed) {
+				throw new IOException("Pipe closed by the reader");
+			}
+			if (this.buffer == null) {
+				byte[] free = ChunkedPipe.this.freeBuffers.poll();
+				this.buffer = (free != null) ? free : new byte[ChunkedPipe.this.chunkSize];
+				this.count = 0;
+			}
+			return this.buffer;
+		}
+
+		private void handOver() throws IOException {
+			if (this.buffer != null) {
+				put(new Chunk(this.buffer, this.count));
+				this.buffer = null;
+				this.count = 0;
+			}
+		}
+
+		private void put(Chunk chunk) throws IOException {
+			if (ChunkedPipe.this.chunks.offer(chunk)) {
+				return;
+			}
+			long startTime = System.nanoTime();
+			try {
+				ChunkedPipe.this.chunks.put(chunk);
+			}
+			catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+				throw new InterruptedIOException("Interrupted while handing over a chunk");
+			}
+			finally {
+				recordWait(ChunkedPipe.this.producerWaitTimer, startTime);
+			}
+		}
+
+	}
+
+	private final class PipeInputStream extends InputStream {
+
+		@Nullable
+		private Chunk chunk;
+
+		private int position;
+
+		private boolean endOfData;
+
+		@Override
+		public int read() throws IOException {
+			Chunk current = currentChunk();
+			if (current == null) {
+				return -1;
+			}
+			return current.buffer[this.position++] & 0xFF;
+		}
+
+		@Override
+		public int read(byte[] b, int off, int len) throws IOException {
+			if (len == 0) {
+				return 0;
+			}
+			Chunk current = currentChunk();
+			if (current == null) {
+				return -1;
+			}
+			int count = Math.min(len, current.length - this.position);
+			System.arraycopy(current.buffer, this.position, b, off, count);
+			this.position += count;
+			return count;
+		}
+
+		@Override
+		public int available() {
+			if (this.chunk != null && this.position < this.chunk.length) {
+				return this.chunk.length - this.position;
+			}
+			Chunk next = ChunkedPipe.this.chunks.peek();
+			return (next != null) ? next.length : 0;
+		}
+
+		@Override
+		public void close() {
+			ChunkedPipe.this.inputClosed = true;
+			this.chunk = null;
+			// Make room for a producer that may be blocked on a full queue
+			ChunkedPipe.this.chunks.clear();
+		}
+
+		@Nullable
+		private Chunk currentChunk() throws IOException {
+			while (this.chunk == null || this.position == this.chunk.length) {
+				if (this.endOfData) {
+					return null;
+				}
+				if (ChunkedPipe.this.inputClosed) {
+					throw new IOException("Pipe closed");
+				}
+				if (this.chunk != null) {
+					ChunkedPipe.this.freeBuffers.offer(this.chunk.buffer);
+				}
+				this.chunk = take();
+				this.position = 0;
+				if (this.chunk == END_OF_DATA) {
+					this.endOfData = true;
+				}
+			}
+			return this.chunk;
+		}
+
+		private Chunk take() throws IOException {
+			Chunk chunk = ChunkedPipe.this.chunks.poll();
+			if (chunk != null) {
+				return chunk;
+			}
+			long startTime = System.nanoTime();
+			try {
+				return ChunkedPipe.this.chunks.take();
+			}
+			catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+				throw new InterruptedIOException("Interrupted while waiting for a chunk");
+			}
+			finally {
+				recordWait(ChunkedPipe.this.consumerWaitTimer, startTime);
+			}
+		}
+
+	}
+
+}
@@ -23,5 +23,9 @@ final class Defaults {
 
 	static  final String DEFAULT_CONTENT_TYPE = "application/octet-stream";
 
+	static final int DEFAULT_PIPE_CHUNK_SIZE = (int) DataSize.ofKilobytes(64L).toBytes();
+
+	static final int DEFAULT_PIPE_CAPACITY = 16;
+
 	private Defaults() { }
 }
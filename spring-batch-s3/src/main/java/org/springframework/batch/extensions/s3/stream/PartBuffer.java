@@ -0,0 +1,205 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.batch.extensions.s3.stream;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * A buffer holding one part of a multipart upload, filled from the stream of the object
+ * and read again, possibly several times, when the part is uploaded. Buffers are
+ * recycled across parts, so they are allocated once per upload slot.
+ *
+ * @author Andrea Cioni
+ */
+abstract class PartBuffer {
+
+	private static final int TRANSFER_SIZE = 64 * 1024;
+
+	/**
+	 * Allocate a buffer of the given type.
+	 * @param type the type of buffer
+	 * @param capacity the size of the buffer in bytes
+	 * @param directory the directory of the temporary files of {@code MAPPED_FILE}
+	 * buffers, or {@code null} for the default temporary directory
+	 * @return the buffer
+	 * @throws IOException if the temporary file cannot be created or mapped
+	 */
+	static PartBuffer allocate(S3PartBufferType type, int capacity, @Nullable Path directory) throws IOException {
+		return switch (type) {
+			case HEAP -> new HeapPartBuffer(capacity);
+			case DIRECT -> new ByteBufferPartBuffer(ByteBuffer.allocateDirect(capacity));
+			case MAPPED_FILE -> new ByteBufferPartBuffer(map(capacity, directory));
+		};
+	}
+
+	private static ByteBuffer map(int capacity, @Nullable Path directory) throws IOException {
+		Path file = (directory != null) ? Files.createTempFile(directory, "s3-part-", ".tmp")
+				: Files.createTempFile("s3-part-", ".tmp");
+		// the mapping stays valid once the channel is closed and the file deleted
+		try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE,
+				StandardOpenOption.DELETE_ON_CLOSE)) {
+			return channel.map(FileChannel.MapMode.READ_WRITE, 0, capacity);
+		}
+	}
+
+	/**
+	 * Return the size of the buffer in bytes.
+	 * @return the capacity of the buffer
+	 */
+	abstract int capacity();
+
+	/**
+	 * Fill the buffer from the given stream, until it is full or the stream ends.
+	 * @param inputStream the stream to read
+	 * @return the number of bytes read, or -1 if the stream ended before any byte was
+	 * read
+	 * @throws IOException if the stream cannot be read
+	 */
+	abstract int fill(InputStream inputStream) throws IOException;
+
+	/**
+	 * Return a new stream over the first {@code length} bytes of the buffer.
+	 * @param length the number of bytes of the part
+	 * @return the stream of the part
+	 */
+	abstract InputStream newInputStream(int length);
+
+	/**
+	 * Return a view of the first {@code length} bytes of the buffer, e.g. to compute their
+	 * checksum without copying them.
+	 * @param length the number of bytes of the part
+	 * @return a buffer positioned at the first byte of the part
+	 */
+	abstract ByteBuffer contents(int length);
+
+	private static final class HeapPartBuffer extends PartBuffer {
+
+		private final byte[] buffer;
+
+		HeapPartBuffer(int capacity) {
+			this.buffer = new byte[capacity];
+		}
+
+		@Override
+		int capacity() {
+			return this.buffer.length;
+		}
+
+		@Override
+		int fill(InputStream inputStream) throws IOException {
+			int count = inputStream.readNBytes(this.buffer, 0, this.buffer.length);
+			return (count > 0) ? count : -1;
+		}
+
+		@Override
+		InputStream newInputStream(int length) {
+			return new ByteArrayInputStream(this.buffer, 0, length);
+		}
+
+		@Override
+		ByteBuffer contents(int length) {
+			return ByteBuffer.wrap(this.buffer, 0, length);
+		}
+
+	}
+
+	private static final class ByteBufferPartBuffer extends PartBuffer {
+
+		private final ByteBuffer buffer;
+
+		private byte @Nullable [] transfer;
+
+		ByteBufferPartBuffer(ByteBuffer buffer) {
+			this.buffer = buffer;
+		}
+
+		@Override
+		int capacity() {
+			return this.buffer.capacity();
+		}
+
+		@Override
+		int fill(InputStream inputStream) throws IOException {
+			if (this.transfer == null) {
+				this.transfer = new byte[TRANSFER_SIZE];
+			}
+			ByteBuffer target = this.buffer.clear();
+			while (target.hasRemaining()) {
+				int read = inputStream.read(this.transfer, 0, Math.min(this.transfer.length, target.remaining()));
+				if (read == -1) {
+					break;
+				}
+				target.put(this.transfer, 0, read);
+			}
+			return (target.position() > 0) ? target.position() : -1;
+		}
+
+		@Override
+		InputStream newInputStream(int length) {
+			return new ByteBufferInputStream(contents(length));
+		}
+
+		@Override
+		ByteBuffer contents(int length) {
+			return this.buffer.duplicate().position(0).limit(length);
+		}
+
+	}
+
+	private static final class ByteBufferInputStream extends InputStream {
+
+		private final ByteBuffer buffer;
+
+		ByteBufferInputStream(ByteBuffer buffer) {
+			this.buffer = buffer;
+		}
+
+		@Override
+		public int read() {
+			return this.buffer.hasRemaining() ? this.buffer.get() & 0xFF : -1;
+		}
+
+		@Override
+		public int read(byte[] b, int off, int len) {
+			if (len == 0) {
+				return 0;
+			}
+			if (!this.buffer.hasRemaining()) {
+				return -1;
+			}
+			int count = Math.min(len, this.buffer.remaining());
+			this.buffer.get(b, off, count);
+			return count;
+		}
+
+		@Override
+		public int available() {
+			return this.buffer.remaining();
+		}
+
+	}
+
+}
@@ -0,0 +1,166 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.batch.extensions.s3.stream;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.core.async.BlockingOutputStreamAsyncRequestBody;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectResponse;
+
+/**
+ * An {@link OutputStream} that writes data to an S3 object through a
+ * {@link S3AsyncClient}. Written bytes are passed directly to the request body of a
+ * {@code PutObject} request of unknown length, so no thread is dedicated to the upload.
+ * <p>
+ * The length of the object is not known in advance, which requires a client able to
+ * split the upload in parts by itself: the CRT-based client
+ * ({@link S3AsyncClient#crtBuilder()}) or a Java-based client with multipart enabled.
+ * These clients also upload the parts in parallel, according to their own configuration.
+ *
+ * @author Andrea Cioni
+ */
+public class S3AsyncOutputStream extends OutputStream {
+
+	private static final Logger logger = LoggerFactory.getLogger(S3AsyncOutputStream.class);
+
+	private final S3AsyncClient s3AsyncClient;
+
+	private final String bucketName;
+
+	private final String key;
+
+	private String contentType = Defaults.DEFAULT_CONTENT_TYPE;
+
+	@Nullable
+	private String contentEncoding;
+
+	@Nullable
+	private OutputStream bodyOutputStream;
+
+	@Nullable
+	private CompletableFuture<PutObjectResponse> response;
+
+	private boolean closed;
+
+	public S3AsyncOutputStream(S3AsyncClient s3AsyncClient, String bucketName, String key) {
+		this.s3AsyncClient = s3AsyncClient;
+		this.bucketName = bucketName;
+		this.key = key;
+	}
+
+	@Override
+	public void write(int b) throws IOException {
+		bodyOutputStream().write(b);
+	}
+
+	@Override
+	public void write(byte[] b, int off, int len) throws IOException {
+		bodyOutputStream().write(b, off, len);
+	}
+
+	@Override
+	public void flush() throws IOException {
+		if (this.bodyOutputStream != null) {
+			this.bodyOutputStream.flush();
+		}
+	}
+
+	/**
+	 * End the request body and wait for the upload to complete.
+	 * @throws IOException if the upload failed
+	 */
+	@Override
+	public void close() throws IOException {
+		if (this.closed) {
+			return;
+		}
+		// an empty object is still uploaded
+		OutputStream out = bodyOutputStream();
+		this.closed = true;
+		out.close();
+		await();
+		logger.debug("Upload of {} completed", this.key);
+	}
+
+	private OutputStream bodyOutputStream() throws IOException {
+		if (this.closed) {
+			throw new IOException("Stream closed");
+		}
+		if (this.bodyOutputStream == null) {
+			PutObjectRequest putObjectRequest = PutObjectRequest.builder()
+				.bucket(this.bucketName)
+				.key(this.key)
+				.contentType(this.contentType)
+				.contentEncoding(this.contentEncoding)
+				.build();
+			BlockingOutputStreamAsyncRequestBody body = AsyncRequestBody.forBlockingOutputStream(null);
+			this.response = this.s3AsyncClient.putObject(putObjectRequest, body);
+			this.bodyOutputStream = body.outputStream();
+			logger.debug("Started upload of {}", this.key);
+		}
+		return this.bodyOutputStream;
+	}
+
+	private void await() throws IOException {
+		if (this.response == null) {
+			return;
+		}
+		try {
+			this.response.get();
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException("Interrupted while waiting for the upload to complete");
+		}
+		catch (ExecutionException ex) {
+			throw new IOException("Upload of " + this.key + " failed", ex.getCause());
+		}
+	}
+
+	public String getContentType() {
+		return this.contentType;
+	}
+
+	public void setContentType(String contentType) {
+		this.contentType = contentType;
+	}
+
+	@Nullable
+	public String getContentEncoding() {
+		return this.contentEncoding;
+	}
+
+	/**
+	 * Set the {@code Content-Encoding} of the uploaded object, e.g. {@code gzip} when the
+	 * uploaded bytes are compressed. Not set by default.
+	 * @param contentEncoding the content encoding
+	 */
+	public void setContentEncoding(@Nullable String contentEncoding) {
+		this.contentEncoding = contentEncoding;
+	}
+
+}
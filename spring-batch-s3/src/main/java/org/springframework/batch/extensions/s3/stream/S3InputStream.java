@@ -18,17 +18,53 @@ package org.springframework.batch.extensions.s3.stream;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
 import org.jspecify.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import software.amazon.awssdk.core.async.AsyncResponseTransformer;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+
+import org.springframework.batch.extensions.s3.metrics.S3Metrics;
 
 /**
  * An {@link InputStream} that reads data from an S3 object. It uses the AWS SDK for Java
  * to retrieve the object from S3. Is safe to use this stream for reading large files as
  * it doesn't load the entire file into memory.
+ * <p>
+ * By default the object is read through a single {@code GetObject} request. When the
+ * concurrency is set to a value greater than one the stream switches to a prefetching
+ * mode: the object length is retrieved with {@code HeadObject} and the object is
+ * downloaded as byte ranges of {@code partSize} bytes, up to {@code concurrency} of them
+ * in parallel. Ranges are still returned in order, so the stream can be used as a drop-in
+ * replacement on network-bound jobs.
+ * <p>
+ * Calls to {@link #skip(long)} made before the first read do not download anything: the
+ * skipped bytes are excluded from the requested range instead, which allows a restarted
+ * step to resume reading from a given byte offset.
+ * <p>
+ * The stream can also be created with a {@link S3AsyncClient}, in which case the object
+ * is streamed through non-blocking I/O. With the CRT-based client
+ * ({@link S3AsyncClient#crtBuilder()}) the object is downloaded as parallel byte ranges
+ * by the client itself, so the concurrency of this stream does not apply.
+ * <p>
+ * The bytes read and the duration of the {@code GetObject} requests are recorded in the
+ * {@link MeterRegistry} set with {@link #setMeterRegistry(MeterRegistry)}, see
+ * {@link S3Metrics}. Without prefetching, the duration of the request is the time until
+ * the response headers are received.
  *
  * @author Andrea Cioni
  */
@@ -36,17 +72,48 @@ public class S3InputStream extends InputStream {
 
 	private static final Logger logger = LoggerFactory.getLogger(S3InputStream.class);
 
+	@Nullable
 	private final S3Client s3;
 
+	@Nullable
+	private final S3AsyncClient s3AsyncClient;
+
 	private final String bucketName;
 
 	private final String objectKey;
 
+	private int concurrency = 1;
+
+	private int partSize = Defaults.DEFAULT_PART_SIZE;
+
+	@Nullable
+	private ExecutorService executorService;
+
+	private boolean shutdownExecutorService;
+
+	private long startOffset;
+
 	@Nullable
 	private InputStream inputStream;
 
+	@Nullable
+	private HeadObjectResponse headObjectResponse;
+
+	private MeterRegistry meterRegistry = Metrics.globalRegistry;
+
+	@Nullable
+	private Counter bytesCounter;
+
 	public S3InputStream(S3Client s3, String bucketName, String objectKey) {
 		this.s3 = s3;
+		this.s3AsyncClient = null;
+		this.bucketName = bucketName;
+		this.objectKey = objectKey;
+	}
+
+	public S3InputStream(S3AsyncClient s3AsyncClient, String bucketName, String objectKey) {
+		this.s3 = null;
+		this.s3AsyncClient = s3AsyncClient;
 		this.bucketName = bucketName;
 		this.objectKey = objectKey;
 	}
@@ -56,7 +123,44 @@ public class S3InputStream extends InputStream {
 		if (this.inputStream == null) {
 			this.inputStream = openS3InputStream();
 		}
-		return this.inputStream.read();
+		int b = this.inputStream.read();
+		if (b >= 0) {
+			countBytes(1);
+		}
+		return b;
+	}
+
+	@Override
+	public int read(byte[] b, int off, int len) throws IOException {
+		if (this.inputStream == null) {
+			this.inputStream = openS3InputStream();
+		}
+		int count = this.inputStream.read(b, off, len);
+		if (count > 0) {
+			countBytes(count);
+		}
+		return count;
+	}
+
+	private void countBytes(int count) {
+		if (this.bytesCounter != null) {
+			this.bytesCounter.increment(count);
+		}
+	}
+
+	@Override
+	public long skip(long n) throws IOException {
+		if (this.inputStream == null) {
+			long skipped = Math.max(n, 0L);
+			this.startOffset += skipped;
+			return skipped;
+		}
+		return this.inputStream.skip(n);
+	}
+
+	@Override
+	public int available() throws IOException {
+		return (this.inputStream != null) ? this.inputStream.available() : 0;
 	}
 
 	@Override
@@ -65,16 +169,162 @@ public class S3InputStream extends InputStream {
 		if (this.inputStream != null) {
 			this.inputStream.close();
 		}
+		if (this.shutdownExecutorService && this.executorService != null) {
+			this.executorService.shutdownNow();
+		}
 		logger.debug("Stream closed");
 		super.close();
 	}
 
 	private InputStream openS3InputStream() {
+		this.bytesCounter = S3Metrics.bytes(this.meterRegistry, this.bucketName, "download");
+		if (this.s3 != null && this.concurrency > 1) {
+			return openPrefetchingInputStream(this.s3);
+		}
 		GetObjectRequest getObjectRequest = GetObjectRequest.builder()
 			.bucket(this.bucketName)
 			.key(this.objectKey)
+			.range((this.startOffset > 0) ? "bytes=" + this.startOffset + "-" : null)
 			.build();
-		return this.s3.getObject(getObjectRequest);
+		Timer.Sample request = Timer.start(this.meterRegistry);
+		boolean success = false;
+		try {
+			InputStream inputStream = (this.s3AsyncClient != null)
+					? join(this.s3AsyncClient.getObject(getObjectRequest,
+							AsyncResponseTransformer.toBlockingInputStream()))
+					: requireS3Client().getObject(getObjectRequest);
+			success = true;
+			return inputStream;
+		}
+		catch (S3Exception ex) {
+			if (this.startOffset > 0 && ex.statusCode() == 416) {
+				logger.debug("Start offset {} is past the end of the object", this.startOffset);
+				return InputStream.nullInputStream();
+			}
+			throw ex;
+		}
+		finally {
+			request.stop(S3Metrics.request(this.meterRegistry, this.bucketName, "GetObject", success));
+		}
+	}
+
+	private InputStream openPrefetchingInputStream(S3Client s3) {
+		HeadObjectResponse headObjectResponse = headObject();
+
+		if (this.executorService == null) {
+			this.executorService = Executors.newFixedThreadPool(this.concurrency);
+			this.shutdownExecutorService = true;
+		}
+		logger.debug("Prefetching {} bytes with {} concurrent ranges of {} bytes", headObjectResponse.contentLength(),
+				this.concurrency, this.partSize);
+		return new S3PrefetchingInputStream(s3, this.bucketName, this.objectKey, headObjectResponse.eTag(),
+				this.startOffset,
+				headObjectResponse.contentLength(), this.partSize, this.concurrency, this.executorService,
+				this.meterRegistry);
+	}
+
+	private HeadObjectResponse headObject() {
+		if (this.headObjectResponse == null) {
+			HeadObjectRequest headObjectRequest = HeadObjectRequest.builder()
+				.bucket(this.bucketName)
+				.key(this.objectKey)
+				.build();
+			this.headObjectResponse = (this.s3AsyncClient != null)
+					? join(this.s3AsyncClient.headObject(headObjectRequest))
+					: requireS3Client().headObject(headObjectRequest);
+		}
+		return this.headObjectResponse;
+	}
+
+	private S3Client requireS3Client() {
+		if (this.s3 == null) {
+			throw new IllegalStateException("No S3Client configured");
+		}
+		return this.s3;
+	}
+
+	/**
+	 * Wait for the result of an asynchronous request, rethrowing the cause of a failure
+	 * so that it can be handled like the failure of a blocking request.
+	 * @param <T> the type of the response
+	 * @param future the result of the request
+	 * @return the response
+	 */
+	private static <T> T join(CompletableFuture<T> future) {
+		try {
+			return future.join();
+		}
+		catch (CompletionException ex) {
+			if (ex.getCause() instanceof RuntimeException runtimeException) {
+				throw runtimeException;
+			}
+			throw ex;
+		}
+	}
+
+	public String getObjectKey() {
+		return this.objectKey;
+	}
+
+	/**
+	 * Return the {@code Content-Encoding} of the object. The metadata of the object is
+	 * retrieved with a {@code HeadObject} request the first time this method is called
+	 * and reused afterwards, including to open the stream in prefetching mode.
+	 * @return the content encoding, or {@code null} if the object has none
+	 */
+	@Nullable
+	public String getContentEncoding() {
+		return headObject().contentEncoding();
+	}
+
+	public int getConcurrency() {
+		return this.concurrency;
+	}
+
+	/**
+	 * Set the number of byte ranges downloaded in parallel. Values greater than one enable
+	 * the prefetching mode. Defaults to 1. Ignored when the stream uses a
+	 * {@link S3AsyncClient}.
+	 * @param concurrency the number of concurrent range requests, at least 1
+	 */
+	public void setConcurrency(int concurrency) {
+		if (concurrency < 1) {
+			throw new IllegalArgumentException("Concurrency must be at least 1");
+		}
+		this.concurrency = concurrency;
+	}
+
+	public int getPartSize() {
+		return this.partSize;
+	}
+
+	/**
+	 * Set the size of the byte ranges requested in prefetching mode. Defaults to 5 MB.
+	 * @param partSize the size of each range in bytes, must be positive
+	 */
+	public void setPartSize(int partSize) {
+		if (partSize <= 0) {
+			throw new IllegalArgumentException("Part size must be positive");
+		}
+		this.partSize = partSize;
+	}
+
+	/**
+	 * Set the executor used to download ranges in prefetching mode. When not set a fixed
+	 * thread pool of {@code concurrency} threads is created and shut down on close.
+	 * @param executorService the executor service to use
+	 */
+	public void setExecutorService(@Nullable ExecutorService executorService) {
+		this.executorService = executorService;
+	}
+
+	/**
+	 * Set the registry the metrics of the download are recorded in. Must be called before
+	 * the first read. Defaults to {@link Metrics#globalRegistry}.
+	 * @param meterRegistry the registry to use
+	 */
+	public void setMeterRegistry(MeterRegistry meterRegistry) {
+		this.meterRegistry = meterRegistry;
 	}
 
 }
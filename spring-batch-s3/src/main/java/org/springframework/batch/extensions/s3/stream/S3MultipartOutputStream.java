@@ -17,23 +17,36 @@
 package org.springframework.batch.extensions.s3.stream;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
 import java.io.OutputStream;
-import java.io.PipedInputStream;
-import java.io.PipedOutputStream;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.Future;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
 import org.jspecify.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import software.amazon.awssdk.services.s3.S3Client;
 
+import org.springframework.batch.extensions.s3.metrics.S3Metrics;
+
 /**
- * An {@link OutputStream} that writes data to an S3 object using multipart upload. It
- * uses a {@link PipedInputStream} and a {@link PipedOutputStream} to allow writing data
- * asynchronously while uploading it in parts. This stream is suitable for large file
- * uploads.
+ * An {@link OutputStream} that writes data to an S3 object using multipart upload. Written
+ * bytes are handed over in chunks to a background thread through a bounded queue, which
+ * allows writing data asynchronously while uploading it in parts. This stream is suitable
+ * for large file uploads.
+ * <p>
+ * {@link #close()} waits for the upload to complete and rethrows its failure, so that a
+ * closed stream means an uploaded object.
+ * <p>
+ * The time spent blocked on the hand-off is recorded in the {@link MeterRegistry} set
+ * with {@link #setMeterRegistry(MeterRegistry)}: time spent by the writing thread means
+ * that the upload is the bottleneck, time spent by the upload thread means that the
+ * writing thread is. The upload itself is instrumented by {@link S3MultipartUploader}.
  *
  * @author Andrea Cioni
  */
@@ -41,24 +54,32 @@ public class S3MultipartOutputStream extends OutputStream {
 
 	private static final Logger logger = LoggerFactory.getLogger(S3MultipartOutputStream.class);
 
-	private final PipedInputStream pipedInputStream;
+	private final ChunkedPipe pipe;
+
+	private final InputStream pipedInputStream;
 
-	private final PipedOutputStream pipedOutputStream;
+	private final OutputStream pipedOutputStream;
 
 	@Nullable
 	private ExecutorService singleThreadExecutor;
 
+	@Nullable
+	private Future<?> upload;
+
 	private volatile boolean uploading;
 
 	private final S3Uploader multipartUpload;
 
+	private MeterRegistry meterRegistry = Metrics.globalRegistry;
+
 	public S3MultipartOutputStream(S3Client s3Client, String bucketName, String key) throws IOException {
 		this(new S3MultipartUploader(s3Client, bucketName, key));
 	}
 
 	public S3MultipartOutputStream(S3Uploader s3Uploader) throws IOException {
-		this.pipedInputStream = new PipedInputStream();
-		this.pipedOutputStream = new PipedOutputStream(this.pipedInputStream);
+		this.pipe = new ChunkedPipe();
+		this.pipedInputStream = this.pipe.getInputStream();
+		this.pipedOutputStream = this.pipe.getOutputStream();
 		this.uploading = false;
 		this.multipartUpload = s3Uploader;
 	}
@@ -73,18 +94,38 @@ public class S3MultipartOutputStream extends OutputStream {
 		this.pipedOutputStream.write(b);
 	}
 
+	@Override
+	public void write(byte[] b, int off, int len) throws IOException {
+		if (!this.uploading) {
+			this.uploading = true;
+
+			startUpload();
+		}
+		this.pipedOutputStream.write(b, off, len);
+	}
+
+	/**
+	 * Hand the bytes written so far over to the upload thread, without waiting for them to
+	 * be uploaded.
+	 * @throws IOException if the upload thread is no longer reading
+	 */
+	@Override
+	public void flush() throws IOException {
+		this.pipedOutputStream.flush();
+	}
+
 	private void startUpload() {
 		if (this.singleThreadExecutor == null) {
 			this.singleThreadExecutor = Executors.newSingleThreadExecutor();
 		}
+		String bucket = (this.multipartUpload instanceof S3MultipartUploader uploader) ? uploader.getBucket()
+				: "unknown";
+		this.pipe.setWaitTimers(S3Metrics.pipeWait(this.meterRegistry, bucket, "producer"),
+				S3Metrics.pipeWait(this.meterRegistry, bucket, "consumer"));
 
-		this.singleThreadExecutor.execute(() -> {
+		this.upload = this.singleThreadExecutor.submit(() -> {
 			try {
-				this.multipartUpload.upload(this.pipedInputStream);
-			}
-			catch (IOException ex) {
-				logger.error("Error during multipart upload", ex);
-				throw new RuntimeException(ex);
+				return this.multipartUpload.upload(this.pipedInputStream);
 			}
 			finally {
 				try {
@@ -103,23 +144,54 @@ public class S3MultipartOutputStream extends OutputStream {
 		logger.debug("Closing output stream");
 
 		this.pipedOutputStream.close();
+		awaitUpload();
 
-		if (this.uploading) {
-			try {
-				if (this.singleThreadExecutor != null && !this.singleThreadExecutor.awaitTermination(10L, TimeUnit.SECONDS)) {
-					logger.warn("Multipart upload thread did not finish in time");
-				}
-			}
-			catch (InterruptedException ex) {
-				logger.error("Multipart upload thread interrupted", ex);
+		logger.debug("Output stream closed");
+		super.close();
+	}
+
+	private void awaitUpload() throws IOException {
+		Future<?> upload = this.upload;
+		if (upload == null) {
+			return;
+		}
+		try {
+			upload.get();
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException("Interrupted while waiting for the multipart upload");
+		}
+		catch (ExecutionException ex) {
+			Throwable cause = ex.getCause();
+			if (cause instanceof IOException ioException) {
+				throw ioException;
 			}
+			throw new IOException("Multipart upload failed", (cause != null) ? cause : ex);
 		}
+	}
 
-		logger.debug("Output stream closed");
-		super.close();
+	/**
+	 * Return the checksum of the object once the stream is closed, when it is uploaded by
+	 * a {@link S3MultipartUploader} with a checksum algorithm.
+	 * @return the base64 encoded checksum, or {@code null} if none was computed
+	 * @see S3MultipartUploader#getChecksum()
+	 */
+	@Nullable
+	public String getChecksum() {
+		return (this.multipartUpload instanceof S3MultipartUploader uploader) ? uploader.getChecksum() : null;
 	}
 
 	public void setSingleThreadExecutor(@Nullable ExecutorService singleThreadExecutor) {
 		this.singleThreadExecutor = singleThreadExecutor;
 	}
+
+	/**
+	 * Set the registry the time spent blocked on the hand-off is recorded in. Must be
+	 * called before the first write. Defaults to {@link Metrics#globalRegistry}.
+	 * @param meterRegistry the registry to use
+	 */
+	public void setMeterRegistry(MeterRegistry meterRegistry) {
+		this.meterRegistry = meterRegistry;
+	}
 }
@@ -18,14 +18,33 @@ package org.springframework.batch.extensions.s3.stream;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
 import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.zip.Checksum;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.LongTaskTimer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import org.jspecify.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import software.amazon.awssdk.core.sync.RequestBody;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.ChecksumAlgorithm;
 import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
 import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadResponse;
 import software.amazon.awssdk.services.s3.model.CompletedMultipartUpload;
@@ -35,12 +54,39 @@ import software.amazon.awssdk.services.s3.model.CreateMultipartUploadResponse;
 import software.amazon.awssdk.services.s3.model.UploadPartRequest;
 import software.amazon.awssdk.services.s3.model.UploadPartResponse;
 
+import org.springframework.batch.extensions.s3.metrics.S3Metrics;
+
 /**
  * A utility class for performing multipart uploads to Amazon S3. It reads data from an
  * input stream and uploads it in parts to a specified S3 bucket and key. <br>
  * Reference: <a href=
  * "https://docs.aws.amazon.com/sdk-for-java/latest/developer-guide/best-practices-s3-uploads.html">Uploading
  * streams to Amazon S3 using the AWS SDK for Java 2.x</a>
+ * <p>
+ * Parts are uploaded sequentially by default. When the concurrency is greater than one,
+ * up to {@code concurrency} {@code UploadPart} requests are kept in flight on an executor
+ * while the next part is read from the input stream. Part buffers are recycled once a
+ * part is uploaded, so an upload never holds more than {@code concurrency} buffers.
+ * Buffers are byte arrays by default, and can be kept out of the heap with
+ * {@link #setPartBufferType(S3PartBufferType)}.
+ * <p>
+ * The size of each part is decided by a {@link S3PartSizePolicy}. By default every part
+ * has {@code partSize} bytes, which limits an object to
+ * {@value S3PartSizePolicy#MAX_PART_COUNT} parts of that size. With
+ * {@link S3PartSizePolicy#adaptive(int)} the part size grows as parts accumulate, so that
+ * large objects fit, at the cost of larger part buffers.
+ * <p>
+ * The bytes uploaded, the latency of each {@code UploadPart} request, the parts in flight
+ * and the number of parts per upload are recorded in the {@link MeterRegistry} set with
+ * {@link #setMeterRegistry(MeterRegistry)}, see {@link S3Metrics}.
+ * <p>
+ * When a checksum algorithm is set with {@link #setChecksumAlgorithm(ChecksumAlgorithm)}
+ * the checksum of each part is computed from its buffer and sent with the
+ * {@code UploadPart} request, so S3 verifies every part as it is received. With CRC
+ * algorithms the checksum of the whole object is computed while the parts are read and
+ * sent with the {@code CompleteMultipartUpload} request, using the full object checksum
+ * type. The checksum of the object is available with {@link #getChecksum()} once the
+ * upload completes, so that it does not have to be read back to be verified.
  *
  * @author Andrea Cioni
  */
@@ -58,129 +104,259 @@ public class S3MultipartUploader implements S3Uploader {
 
 	private String contentType = Defaults.DEFAULT_CONTENT_TYPE;
 
+	@Nullable
+	private String contentEncoding;
+
+	@Nullable
+	private S3PartSizePolicy partSizePolicy;
+
+	private int concurrency = 1;
+
+	@Nullable
+	private ExecutorService executorService;
+
+	private S3PartBufferType partBufferType = S3PartBufferType.HEAP;
+
+	@Nullable
+	private Path spillDirectory;
+
+	private MeterRegistry meterRegistry = Metrics.globalRegistry;
+
+	@Nullable
+	private ChecksumAlgorithm checksumAlgorithm;
+
+	private int partCount;
+
+	@Nullable
+	private volatile String checksum;
+
 	public S3MultipartUploader(S3Client s3Client, String bucket, String key) {
 		this.s3Client = s3Client;
 		this.bucket = bucket;
 		this.key = key;
 	}
 
-	/**
-	 * Reads from the input stream into the buffer, attempting to fill the buffer
-	 * completely or until the end of the stream is reached.
-	 * @param inputStream the input stream to read from
-	 * @param buffer the buffer to fill
-	 * @return the number of bytes read, or -1 if the end of the stream is reached before
-	 * any bytes are read
-	 * @throws IOException if an I/O error occurs
-	 */
-	private static int readFullyOrToEnd(InputStream inputStream, byte[] buffer) throws IOException {
-		int totalBytesRead = 0;
-		int bytesRead;
-		while (totalBytesRead < buffer.length) {
-			bytesRead = inputStream.read(buffer, totalBytesRead, buffer.length - totalBytesRead);
-			if (bytesRead == -1) {
-				break;
-			}
-			totalBytesRead += bytesRead;
-		}
-		return (totalBytesRead > 0) ? totalBytesRead : -1;
-	}
-
 	@Override
 	public long upload(InputStream inputStream) throws IOException {
 		String uploadId;
 		long totalBytesRead = 0;
+		ChecksumAlgorithm checksumAlgorithm = this.checksumAlgorithm;
 
-		try {
-			CreateMultipartUploadRequest createMultipartUploadRequest = CreateMultipartUploadRequest.builder()
-				.bucket(this.bucket)
-				.key(this.key)
-				.contentType(this.contentType)
-				.build();
+		CreateMultipartUploadRequest createMultipartUploadRequest = CreateMultipartUploadRequest.builder()
+			.bucket(this.bucket)
+			.key(this.key)
+			.contentType(this.contentType)
+			.contentEncoding(this.contentEncoding)
+			.checksumAlgorithm(checksumAlgorithm)
+			.checksumType((checksumAlgorithm != null) ? Checksums.checksumType(checksumAlgorithm) : null)
+			.build();
 
-			CreateMultipartUploadResponse createResponse = this.s3Client
-				.createMultipartUpload(createMultipartUploadRequest);
-			uploadId = createResponse.uploadId();
-			logger.debug("Started multipart upload with ID: {}", uploadId);
+		CreateMultipartUploadResponse createResponse = this.s3Client
+			.createMultipartUpload(createMultipartUploadRequest);
+		uploadId = createResponse.uploadId();
+		logger.debug("Started multipart upload with ID: {}", uploadId);
 
-			List<CompletedPart> completedParts = new ArrayList<>();
-			int partNumber = 1;
-			byte[] buffer = new byte[this.partSize];
-			int bytesRead;
+		List<CompletedPart> completedParts = new ArrayList<>();
+		Deque<Future<CompletedPart>> inFlightParts = new ArrayDeque<>();
+		BlockingQueue<PartBuffer> buffers = new ArrayBlockingQueue<>(this.concurrency);
+		int allocatedBuffers = 0;
+		int partNumber = 1;
+		int bytesRead;
 
-			try {
-				while ((bytesRead = readFullyOrToEnd(inputStream, buffer)) > 0) {
-					totalBytesRead += bytesRead;
-					UploadPartRequest uploadPartRequest = UploadPartRequest.builder()
-						.bucket(this.bucket)
-						.key(this.key)
-						.uploadId(uploadId)
-						.partNumber(partNumber)
-						.build();
-
-					RequestBody requestBody;
-					if (bytesRead < this.partSize) {
-						byte[] lastPartBuffer = new byte[bytesRead];
-						System.arraycopy(buffer, 0, lastPartBuffer, 0, bytesRead);
-						requestBody = RequestBody.fromBytes(lastPartBuffer);
+		S3PartSizePolicy partSizePolicy = (this.partSizePolicy != null) ? this.partSizePolicy
+				: S3PartSizePolicy.fixed(this.partSize);
+		ExecutorService executor = this.executorService;
+		if (executor == null && this.concurrency > 1) {
+			executor = Executors.newFixedThreadPool(this.concurrency);
+		}
+		Counter bytesCounter = S3Metrics.bytes(this.meterRegistry, this.bucket, "upload");
+		LongTaskTimer activeParts = S3Metrics.activeRequests(this.meterRegistry, this.bucket, "UploadPart");
+		Checksum objectChecksum = (checksumAlgorithm != null) ? Checksums.newObjectChecksum(checksumAlgorithm)
+				: null;
+
+		try {
+			while (true) {
+				if (inFlightParts.size() == this.concurrency) {
+					completedParts.add(await(inFlightParts.removeFirst()));
+				}
+				int partSize = partSizePolicy.getPartSize(partNumber);
+				PartBuffer buffer = buffers.poll();
+				if (buffer == null) {
+					if (allocatedBuffers < this.concurrency) {
+						buffer = allocate(partSize);
+						allocatedBuffers++;
 					}
 					else {
-						requestBody = RequestBody.fromBytes(buffer);
+						buffer = take(buffers);
 					}
+				}
+				if (buffer.capacity() != partSize) {
+					// the policy changed the part size, replace the recycled buffer
+					buffer = allocate(partSize);
+				}
 
-					UploadPartResponse uploadPartResponse = this.s3Client.uploadPart(uploadPartRequest, requestBody);
-					CompletedPart part = CompletedPart.builder()
-						.partNumber(partNumber)
-						.eTag(uploadPartResponse.eTag())
-						.build();
-					completedParts.add(part);
+				bytesRead = buffer.fill(inputStream);
+				if (bytesRead <= 0) {
+					break;
+				}
+				if (partNumber > S3PartSizePolicy.MAX_PART_COUNT) {
+					throw new IOException("Upload of " + this.key + " exceeds " + S3PartSizePolicy.MAX_PART_COUNT
+							+ " parts, use larger parts");
+				}
+				totalBytesRead += bytesRead;
+				if (objectChecksum != null) {
+					objectChecksum.update(buffer.contents(bytesRead));
+				}
 
-					logger.debug("Uploaded part {} with size {} bytes", partNumber, bytesRead);
-					partNumber++;
+				FutureTask<CompletedPart> uploadPartTask = newUploadPartTask(uploadId, partNumber, buffer,
+						bytesRead, checksumAlgorithm, buffers, bytesCounter, activeParts);
+				if (executor != null) {
+					executor.execute(uploadPartTask);
 				}
+				else {
+					uploadPartTask.run();
+				}
+				inFlightParts.addLast(uploadPartTask);
+				partNumber++;
+			}
+			while (!inFlightParts.isEmpty()) {
+				completedParts.add(await(inFlightParts.removeFirst()));
+			}
 
-				CompletedMultipartUpload completedMultipartUpload = CompletedMultipartUpload.builder()
-					.parts(completedParts)
-					.build();
+			CompletedMultipartUpload completedMultipartUpload = CompletedMultipartUpload.builder()
+				.parts(completedParts)
+				.build();
+
+			CompleteMultipartUploadRequest.Builder completeRequest = CompleteMultipartUploadRequest.builder()
+				.bucket(this.bucket)
+				.key(this.key)
+				.uploadId(uploadId)
+				.multipartUpload(completedMultipartUpload);
+			String checksum = null;
+			if (checksumAlgorithm != null) {
+				completeRequest.checksumType(Checksums.checksumType(checksumAlgorithm));
+				if (objectChecksum != null) {
+					checksum = Checksums.encode(objectChecksum);
+					Checksums.checksum(completeRequest, checksumAlgorithm, checksum);
+				}
+				else {
+					checksum = Checksums.compositeChecksum(checksumAlgorithm, completedParts);
+				}
+			}
 
-				CompleteMultipartUploadRequest completeRequest = CompleteMultipartUploadRequest.builder()
+			CompleteMultipartUploadResponse completeResponse = this.s3Client
+				.completeMultipartUpload(completeRequest.build());
+			this.partCount = completedParts.size();
+			this.checksum = checksum;
+			S3Metrics.uploadParts(this.meterRegistry, this.bucket).record(this.partCount);
+			logger.debug("Multipart upload completed with {} parts and checksum {}. Object URL: {}",
+					this.partCount, checksum, completeResponse.location());
+		}
+		catch (Exception ex) {
+			logger.error("Error during multipart upload: {}", ex.getMessage(), ex);
+			inFlightParts.forEach((inFlightPart) -> inFlightPart.cancel(true));
+			if (uploadId != null) {
+				AbortMultipartUploadRequest abortRequest = AbortMultipartUploadRequest.builder()
 					.bucket(this.bucket)
 					.key(this.key)
 					.uploadId(uploadId)
-					.multipartUpload(completedMultipartUpload)
 					.build();
-
-				CompleteMultipartUploadResponse completeResponse = this.s3Client
-					.completeMultipartUpload(completeRequest);
-				logger.debug("Multipart upload completed. Object URL: {}", completeResponse.location());
+				this.s3Client.abortMultipartUpload(abortRequest);
+				logger.warn("Multipart upload aborted");
+			}
+			throw ex;
+		}
+		finally {
+			if (executor != null && executor != this.executorService) {
+				executor.shutdownNow();
 			}
-			catch (Exception ex) {
-				logger.error("Error during multipart upload: {}", ex.getMessage(), ex);
-				if (uploadId != null) {
-					AbortMultipartUploadRequest abortRequest = AbortMultipartUploadRequest.builder()
-						.bucket(this.bucket)
-						.key(this.key)
-						.uploadId(uploadId)
-						.build();
-					this.s3Client.abortMultipartUpload(abortRequest);
-					logger.warn("Multipart upload aborted");
+			try {
+				inputStream.close();
+			}
+			catch (IOException ex) {
+				logger.error("Error closing input stream: {}", ex.getMessage(), ex);
+			}
+		}
+
+		return totalBytesRead;
+	}
+
+	private PartBuffer allocate(int partSize) throws IOException {
+		return PartBuffer.allocate(this.partBufferType, partSize, this.spillDirectory);
+	}
+
+	private FutureTask<CompletedPart> newUploadPartTask(String uploadId, int partNumber, PartBuffer buffer,
+			int length, @Nullable ChecksumAlgorithm checksumAlgorithm, BlockingQueue<PartBuffer> buffers,
+			Counter bytesCounter, LongTaskTimer activeParts) {
+		return new FutureTask<>(() -> {
+			LongTaskTimer.Sample activePart = activeParts.start();
+			Timer.Sample request = Timer.start(this.meterRegistry);
+			boolean success = false;
+			try {
+				UploadPartRequest.Builder uploadPartRequest = UploadPartRequest.builder()
+					.bucket(this.bucket)
+					.key(this.key)
+					.uploadId(uploadId)
+					.partNumber(partNumber);
+				CompletedPart.Builder completedPart = CompletedPart.builder().partNumber(partNumber);
+				if (checksumAlgorithm != null) {
+					String partChecksum = Checksums.partChecksum(checksumAlgorithm, buffer.contents(length));
+					Checksums.checksum(uploadPartRequest, checksumAlgorithm, partChecksum);
+					Checksums.checksum(completedPart, checksumAlgorithm, partChecksum);
 				}
-				throw ex;
+
+				// The buffer is recycled once the part is uploaded, so stream it instead of
+				// letting RequestBody.fromBytes copy it
+				RequestBody requestBody = RequestBody.fromContentProvider(() -> buffer.newInputStream(length), length,
+						this.contentType);
+
+				UploadPartResponse uploadPartResponse = this.s3Client.uploadPart(uploadPartRequest.build(),
+						requestBody);
+				success = true;
+				bytesCounter.increment(length);
+				logger.debug("Uploaded part {} with size {} bytes", partNumber, length);
+				return completedPart.eTag(uploadPartResponse.eTag()).build();
 			}
 			finally {
-				try {
-					inputStream.close();
-				}
-				catch (IOException ex) {
-					logger.error("Error closing input stream: {}", ex.getMessage(), ex);
-				}
+				request.stop(S3Metrics.request(this.meterRegistry, this.bucket, "UploadPart", success));
+				activePart.stop();
+				buffers.offer(buffer);
 			}
+		});
+	}
+
+	private static PartBuffer take(BlockingQueue<PartBuffer> buffers) throws IOException {
+		try {
+			return buffers.take();
 		}
-		finally {
-			this.s3Client.close();
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException("Interrupted while waiting for a part buffer");
 		}
+	}
 
-		return totalBytesRead;
+	private static CompletedPart await(Future<CompletedPart> future) throws IOException {
+		try {
+			return future.get();
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException("Interrupted while waiting for a part upload");
+		}
+		catch (ExecutionException ex) {
+			Throwable cause = ex.getCause();
+			if (cause instanceof RuntimeException runtimeException) {
+				throw runtimeException;
+			}
+			if (cause instanceof IOException ioException) {
+				throw ioException;
+			}
+			throw new IOException("Part upload failed", cause);
+		}
+	}
+
+	public String getBucket() {
+		return this.bucket;
 	}
 
 	public int getPartSize() {
@@ -191,6 +367,106 @@ public class S3MultipartUploader implements S3Uploader {
 		this.partSize = partSize;
 	}
 
+	/**
+	 * Set the policy deciding the size of each part. Defaults to
+	 * {@link S3PartSizePolicy#fixed(int)} parts of {@code partSize} bytes.
+	 * @param partSizePolicy the policy, or {@code null} for the default one
+	 */
+	public void setPartSizePolicy(@Nullable S3PartSizePolicy partSizePolicy) {
+		this.partSizePolicy = partSizePolicy;
+	}
+
+	/**
+	 * Return the number of parts of the last completed upload.
+	 * @return the number of parts, or 0 if no upload completed
+	 */
+	public int getPartCount() {
+		return this.partCount;
+	}
+
+	@Nullable
+	public ChecksumAlgorithm getChecksumAlgorithm() {
+		return this.checksumAlgorithm;
+	}
+
+	/**
+	 * Set the algorithm of the checksums computed while the parts are uploaded.
+	 * {@link ChecksumAlgorithm#CRC32} and {@link ChecksumAlgorithm#CRC32_C} use the full
+	 * object checksum type, {@link ChecksumAlgorithm#SHA1} and
+	 * {@link ChecksumAlgorithm#SHA256} the composite one. Not set by default, in which
+	 * case no checksum is sent.
+	 * @param checksumAlgorithm the checksum algorithm
+	 * @throws IllegalArgumentException if the algorithm is not supported
+	 */
+	public void setChecksumAlgorithm(@Nullable ChecksumAlgorithm checksumAlgorithm) {
+		if (checksumAlgorithm != null) {
+			Checksums.validate(checksumAlgorithm);
+		}
+		this.checksumAlgorithm = checksumAlgorithm;
+	}
+
+	/**
+	 * Return the base64 encoded checksum of the last completed upload. Composite checksums
+	 * are followed by {@code -} and the number of parts, as reported by S3.
+	 * @return the checksum, or {@code null} if no upload completed or no checksum
+	 * algorithm is set
+	 */
+	@Nullable
+	public String getChecksum() {
+		return this.checksum;
+	}
+
+	public int getConcurrency() {
+		return this.concurrency;
+	}
+
+	/**
+	 * Set the maximum number of parts uploaded in parallel. Each part in flight holds a
+	 * buffer of the size of its part, so the memory used by an upload is
+	 * {@code concurrency * partSize} with the default policy, and up to
+	 * {@code concurrency} times the largest part size of the policy otherwise. Defaults to 1, which uploads parts sequentially on
+	 * the calling thread.
+	 * @param concurrency the maximum number of concurrent part uploads
+	 */
+	public void setConcurrency(int concurrency) {
+		this.concurrency = concurrency;
+	}
+
+	/**
+	 * Set the executor used to upload parts when the concurrency is greater than one.
+	 * When not set a fixed thread pool of {@code concurrency} threads is created for each
+	 * upload.
+	 * @param executorService the executor service to use
+	 */
+	public void setExecutorService(@Nullable ExecutorService executorService) {
+		this.executorService = executorService;
+	}
+
+	public S3PartBufferType getPartBufferType() {
+		return this.partBufferType;
+	}
+
+	/**
+	 * Set where parts are buffered while they are read and uploaded. With
+	 * {@link S3PartBufferType#DIRECT} or {@link S3PartBufferType#MAPPED_FILE} the part
+	 * buffers are kept out of the heap.
+	 * Defaults to {@link S3PartBufferType#HEAP}.
+	 * @param partBufferType the type of the part buffers
+	 */
+	public void setPartBufferType(S3PartBufferType partBufferType) {
+		this.partBufferType = partBufferType;
+	}
+
+	/**
+	 * Set the directory of the temporary files of {@link S3PartBufferType#MAPPED_FILE}
+	 * buffers. The files are deleted as soon as they are mapped. Defaults to the
+	 * temporary directory of the JVM.
+	 * @param spillDirectory the directory of the temporary files
+	 */
+	public void setSpillDirectory(@Nullable Path spillDirectory) {
+		this.spillDirectory = spillDirectory;
+	}
+
 	public String getContentType() {
 		return this.contentType;
 	}
@@ -198,4 +474,27 @@ public class S3MultipartUploader implements S3Uploader {
 	public void setContentType(String contentType) {
 		this.contentType = contentType;
 	}
+
+	@Nullable
+	public String getContentEncoding() {
+		return this.contentEncoding;
+	}
+
+	/**
+	 * Set the {@code Content-Encoding} of the uploaded object, e.g. {@code gzip} when the
+	 * uploaded bytes are compressed. Not set by default.
+	 * @param contentEncoding the content encoding
+	 */
+	public void setContentEncoding(@Nullable String contentEncoding) {
+		this.contentEncoding = contentEncoding;
+	}
+
+	/**
+	 * Set the registry the metrics of the uploads are recorded in. Defaults to
+	 * {@link Metrics#globalRegistry}.
+	 * @param meterRegistry the registry to use
+	 */
+	public void setMeterRegistry(MeterRegistry meterRegistry) {
+		this.meterRegistry = meterRegistry;
+	}
 }
@@ -17,12 +17,19 @@
 package org.springframework.batch.extensions.s3.stream;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
 import java.io.OutputStream;
-import java.io.PipedInputStream;
-import java.io.PipedOutputStream;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.LongTaskTimer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
 import org.jspecify.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -30,14 +37,23 @@ import software.amazon.awssdk.core.sync.RequestBody;
 import software.amazon.awssdk.http.ContentStreamProvider;
 import software.amazon.awssdk.services.s3.S3Client;
 
+import org.springframework.batch.extensions.s3.metrics.S3Metrics;
+
 /**
  * An {@link OutputStream} that writes data directly to an S3 object with a specified MIME
  * type (default is application/octet-stream). This stream load the data in-memory and
- * uploads it to S3 as it is written. It uses a {@link PipedInputStream} and a
- * {@link PipedOutputStream} to allow writing data asynchronously while uploading it
- * directly to S3. Is it not safe to use this stream with large file uploads, as it does
- * not handle multipart uploads or large data efficiently. For this use case, check out
- * {@link S3MultipartOutputStream}.
+ * uploads it to S3 as it is written. Written bytes are handed over in chunks to a
+ * background thread through a bounded queue, which allows writing data asynchronously
+ * while uploading it directly to S3. Is it not safe to use this stream with large file
+ * uploads, as it does not handle multipart uploads or large data efficiently. For this use
+ * case, check out {@link S3MultipartOutputStream}.
+ * <p>
+ * {@link #close()} waits for the {@code PutObject} request to complete and rethrows its
+ * failure, so that a closed stream means an uploaded object.
+ * <p>
+ * The bytes written, the duration of the {@code PutObject} request and the time spent
+ * blocked on the hand-off are recorded in the {@link MeterRegistry} set with
+ * {@link #setMeterRegistry(MeterRegistry)}, see {@link S3Metrics}.
  *
  * @author Andrea Cioni
  */
@@ -51,23 +67,37 @@ public class S3OutputStream extends OutputStream {
 
 	private final String key;
 
-	private final PipedInputStream pipedInputStream;
+	private final ChunkedPipe pipe;
+
+	private final InputStream pipedInputStream;
 
-	private final PipedOutputStream pipedOutputStream;
+	private final OutputStream pipedOutputStream;
 
 	@Nullable
 	private ExecutorService singleThreadExecutor;
 
+	@Nullable
+	private Future<?> upload;
+
 	private volatile boolean uploading;
 
 	private String contentType = Defaults.DEFAULT_CONTENT_TYPE;
 
+	@Nullable
+	private String contentEncoding;
+
+	private MeterRegistry meterRegistry = Metrics.globalRegistry;
+
+	@Nullable
+	private Counter bytesCounter;
+
 	public S3OutputStream(S3Client s3, String bucketName, String key) throws IOException {
 		this.s3 = s3;
 		this.bucketName = bucketName;
 		this.key = key;
-		this.pipedInputStream = new PipedInputStream();
-		this.pipedOutputStream = new PipedOutputStream(this.pipedInputStream);
+		this.pipe = new ChunkedPipe();
+		this.pipedInputStream = this.pipe.getInputStream();
+		this.pipedOutputStream = this.pipe.getOutputStream();
 		this.uploading = false;
 	}
 
@@ -78,20 +108,55 @@ public class S3OutputStream extends OutputStream {
 			runUploadThread();
 		}
 		this.pipedOutputStream.write(b);
+		countBytes(1);
+	}
+
+	@Override
+	public void write(byte[] b, int off, int len) throws IOException {
+		if (!this.uploading) {
+			this.uploading = true;
+			runUploadThread();
+		}
+		this.pipedOutputStream.write(b, off, len);
+		countBytes(len);
+	}
+
+	private void countBytes(int count) {
+		if (this.bytesCounter != null) {
+			this.bytesCounter.increment(count);
+		}
+	}
+
+	@Override
+	public void flush() throws IOException {
+		this.pipedOutputStream.flush();
 	}
 
 	private void runUploadThread() {
 		if (this.singleThreadExecutor == null) {
 			this.singleThreadExecutor = Executors.newSingleThreadExecutor();
 		}
-
-		this.singleThreadExecutor.execute(() -> {
+		this.bytesCounter = S3Metrics.bytes(this.meterRegistry, this.bucketName, "upload");
+		this.pipe.setWaitTimers(S3Metrics.pipeWait(this.meterRegistry, this.bucketName, "producer"),
+				S3Metrics.pipeWait(this.meterRegistry, this.bucketName, "consumer"));
+
+		this.upload = this.singleThreadExecutor.submit(() -> {
+			LongTaskTimer.Sample activeRequest = S3Metrics
+				.activeRequests(this.meterRegistry, this.bucketName, "PutObject")
+				.start();
+			Timer.Sample request = Timer.start(this.meterRegistry);
+			boolean success = false;
 			try {
 				RequestBody body = RequestBody
 					.fromContentProvider(ContentStreamProvider.fromInputStream(this.pipedInputStream), this.contentType);
-				this.s3.putObject((builder) -> builder.bucket(this.bucketName).key(this.key), body);
+				this.s3.putObject((builder) -> builder.bucket(this.bucketName)
+					.key(this.key)
+					.contentEncoding(this.contentEncoding), body);
+				success = true;
 			}
 			finally {
+				request.stop(S3Metrics.request(this.meterRegistry, this.bucketName, "PutObject", success));
+				activeRequest.stop();
 				try {
 					this.pipedInputStream.close();
 				}
@@ -107,10 +172,32 @@ public class S3OutputStream extends OutputStream {
 	public void close() throws IOException {
 		logger.debug("Closing output stream");
 		this.pipedOutputStream.close();
+		awaitUpload();
 		logger.debug("Output stream closed");
 		super.close();
 	}
 
+	private void awaitUpload() throws IOException {
+		Future<?> upload = this.upload;
+		if (upload == null) {
+			return;
+		}
+		try {
+			upload.get();
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException("Interrupted while waiting for the upload of " + this.key);
+		}
+		catch (ExecutionException ex) {
+			Throwable cause = ex.getCause();
+			if (cause instanceof IOException ioException) {
+				throw ioException;
+			}
+			throw new IOException("Unable to upload " + this.key, (cause != null) ? cause : ex);
+		}
+	}
+
 	public void setContentType(String contentType) {
 		this.contentType = contentType;
 	}
@@ -118,4 +205,27 @@ public class S3OutputStream extends OutputStream {
 	public String getContentType() {
 		return this.contentType;
 	}
+
+	/**
+	 * Set the {@code Content-Encoding} of the uploaded object, e.g. {@code gzip} when the
+	 * uploaded bytes are compressed. Not set by default.
+	 * @param contentEncoding the content encoding
+	 */
+	public void setContentEncoding(@Nullable String contentEncoding) {
+		this.contentEncoding = contentEncoding;
+	}
+
+	@Nullable
+	public String getContentEncoding() {
+		return this.contentEncoding;
+	}
+
+	/**
+	 * Set the registry the metrics of the upload are recorded in. Must be called before
+	 * the first write. Defaults to {@link Metrics#globalRegistry}.
+	 * @param meterRegistry the registry to use
+	 */
+	public void setMeterRegistry(MeterRegistry meterRegistry) {
+		this.meterRegistry = meterRegistry;
+	}
 }
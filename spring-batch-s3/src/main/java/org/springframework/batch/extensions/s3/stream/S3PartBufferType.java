@@ -0,0 +1,44 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.batch.extensions.s3.stream;
+
+/**
+ * Where the parts of a multipart upload are buffered while they are read and uploaded.
+ *
+ * @author Andrea Cioni
+ * @see S3MultipartUploader#setPartBufferType(S3PartBufferType)
+ */
+public enum S3PartBufferType {
+
+	/**
+	 * Buffer parts in byte arrays on the heap.
+	 */
+	HEAP,
+
+	/**
+	 * Buffer parts in direct byte buffers, outside of the heap.
+	 */
+	DIRECT,
+
+	/**
+	 * Buffer parts in memory-mapped temporary files. The pages of the files are managed
+	 * by the operating system, which can write them to disk under memory pressure, so
+	 * large parts neither use the heap nor pin native memory.
+	 */
+	MAPPED_FILE
+
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.batch.extensions.s3.stream;
+
+import org.springframework.util.unit.DataSize;
+
+/**
+ * A policy deciding the size of each part of a multipart upload. S3 limits an upload to
+ * {@value #MAX_PART_COUNT} parts, so a fixed part size also limits the size of the
+ * object: with parts of 5 MiB no object can be larger than about 48 GiB. The policies
+ * returned by {@link #adaptive(int)} and {@link #forExpectedSize(long, int)} grow or size
+ * the parts so that objects up to the 5 TiB maximum fit.
+ * <p>
+ * Part sizes are capped at {@link #MAX_PART_SIZE}, since each part is buffered in a byte
+ * array.
+ *
+ * @author Andrea Cioni
+ */
+@FunctionalInterface
+public interface S3PartSizePolicy {
+
+	/**
+	 * The maximum number of parts of a multipart upload.
+	 */
+	int MAX_PART_COUNT = 10_000;
+
+	/**
+	 * The largest part size a policy returns, the largest whole number of MiB a byte
+	 * array can hold.
+	 */
+	int MAX_PART_SIZE = (int) DataSize.ofMegabytes(2047).toBytes();
+
+	/**
+	 * Number of parts after which the {@link #adaptive(int) adaptive policy} doubles the
+	 * part size. Starting at 5 MiB, 10,000 parts hold about 5.9 TiB.
+	 */
+	int ADAPTIVE_PARTS_PER_STEP = 900;
+
+	/**
+	 * Return the size in bytes of the part with the given number.
+	 * @param partNumber the number of the part, starting at 1
+	 * @return the size of the part
+	 */
+	int getPartSize(int partNumber);
+
+	/**
+	 * Return a policy using the same size for all the parts.
+	 * @param partSize the size of the parts
+	 * @return the policy
+	 */
+	static S3PartSizePolicy fixed(int partSize) {
+		return (partNumber) -> partSize;
+	}
+
+	/**
+	 * Return a policy starting at the given part size and doubling it every
+	 * {@value #ADAPTIVE_PARTS_PER_STEP} parts, up to {@link #MAX_PART_SIZE}. Objects that
+	 * fit in {@value #ADAPTIVE_PARTS_PER_STEP} parts are uploaded as with a fixed size,
+	 * while parts of large objects grow so that an object of 5 TiB fits in
+	 * {@value #MAX_PART_COUNT} parts when starting at 5 MiB or more.
+	 * @param initialPartSize the size of the first parts
+	 * @return the policy
+	 */
+	static S3PartSizePolicy adaptive(int initialPartSize) {
+		return (partNumber) -> {
+			int doublings = Math.min((partNumber - 1) / ADAPTIVE_PARTS_PER_STEP, 30);
+			return (int) Math.min((long) initialPartSize << doublings, Math.max(initialPartSize, MAX_PART_SIZE));
+		};
+	}
+
+	/**
+	 * Return a policy using the smallest part size, rounded up to a whole MiB, that fits
+	 * an object of the expected size in {@value #MAX_PART_COUNT} parts, but no less than
+	 * the given minimum. When the object turns out larger than expected, the parts
+	 * following the last expected one are grown as by {@link #adaptive(int)}.
+	 * @param expectedSize the expected size of the object in bytes
+	 * @param minPartSize the minimum size of the parts
+	 * @return the policy
+	 */
+	static S3PartSizePolicy forExpectedSize(long expectedSize, int minPartSize) {
+		long mebibyte = DataSize.ofMegabytes(1).toBytes();
+		long perPart = (expectedSize + MAX_PART_COUNT - 1) / MAX_PART_COUNT;
+		long rounded = (perPart + mebibyte - 1) / mebibyte * mebibyte;
+		int partSize = (int) Math.min(Math.max(rounded, minPartSize), MAX_PART_SIZE);
+		long expectedParts = Math.max(1, (expectedSize + partSize - 1) / partSize);
+		S3PartSizePolicy overflow = adaptive((int) Math.min(2L * partSize, MAX_PART_SIZE));
+		return (partNumber) -> (partNumber <= expectedParts) ? partSize
+				: overflow.getPartSize((int) (partNumber - expectedParts));
+	}
+
+}
@@ -0,0 +1,230 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.batch.extensions.s3.stream;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import io.micrometer.core.instrument.LongTaskTimer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+
+import org.springframework.batch.extensions.s3.metrics.S3Metrics;
+
+/**
+ * An {@link InputStream} that splits an S3 object into byte ranges and downloads up to
+ * {@code concurrency} of them in parallel, handing them to the caller in order. Ranges
+ * are read into a bounded ring of {@code concurrency + 1} buffers of {@code partSize}
+ * bytes, so memory usage does not depend on the size of the object. The duration of
+ * each range download and the ranges in flight are recorded in the given
+ * {@link MeterRegistry}.
+ *
+ * @author Andrea Cioni
+ */
+final class S3PrefetchingInputStream extends InputStream {
+
+	private static final Logger logger = LoggerFactory.getLogger(S3PrefetchingInputStream.class);
+
+	private final S3Client s3;
+
+	private final String bucketName;
+
+	private final String objectKey;
+
+	@Nullable
+	private final String eTag;
+
+	private final long objectLength;
+
+	private final int partSize;
+
+	private final int concurrency;
+
+	private final ExecutorService executorService;
+
+	private final MeterRegistry meterRegistry;
+
+	private final LongTaskTimer activeRanges;
+
+	private final BlockingQueue<byte[]> buffers;
+
+	private final Deque<Future<Part>> pendingParts = new ArrayDeque<>();
+
+	private long nextRangeStart;
+
+	@Nullable
+	private Part currentPart;
+
+	private int position;
+
+	S3PrefetchingInputStream(S3Client s3, String bucketName, String objectKey, @Nullable String eTag,
+			long startOffset, long objectLength, int partSize, int concurrency, ExecutorService executorService,
+			MeterRegistry meterRegistry) {
+		this.s3 = s3;
+		this.bucketName = bucketName;
+		this.objectKey = objectKey;
+		this.eTag = eTag;
+		this.nextRangeStart = startOffset;
+		this.objectLength = objectLength;
+		this.partSize = partSize;
+		this.concurrency = concurrency;
+		this.executorService = executorService;
+		this.meterRegistry = meterRegistry;
+		this.activeRanges = S3Metrics.activeRequests(meterRegistry, bucketName, "GetObject");
+		this.buffers = new ArrayBlockingQueue<>(concurrency + 1);
+	}
+
+	@Override
+	public int read() throws IOException {
+		Part part = nextPart();
+		if (part == null) {
+			return -1;
+		}
+		return part.buffer[this.position++] & 0xFF;
+	}
+
+	@Override
+	public int read(byte[] b, int off, int len) throws IOException {
+		if (len == 0) {
+			return 0;
+		}
+		Part part = nextPart();
+		if (part == null) {
+			return -1;
+		}
+		int count = Math.min(len, part.length - this.position);
+		System.arraycopy(part.buffer, this.position, b, off, count);
+		this.position += count;
+		return count;
+	}
+
+	@Override
+	public int available() {
+		return (this.currentPart != null) ? this.currentPart.length - this.position : 0;
+	}
+
+	@Override
+	public void close() throws IOException {
+		Future<Part> pending;
+		while ((pending = this.pendingParts.poll()) != null) {
+			pending.cancel(true);
+		}
+		this.currentPart = null;
+		this.buffers.clear();
+	}
+
+	/**
+	 * Return the part the next byte should be served from, waiting for its download to
+	 * complete if needed.
+	 * @return the current part, or {@code null} if the end of the object was reached
+	 * @throws IOException if the download of the part failed
+	 */
+	@Nullable
+	private Part nextPart() throws IOException {
+		while (this.currentPart == null || this.position == this.currentPart.length) {
+			if (this.currentPart != null) {
+				this.buffers.offer(this.currentPart.buffer);
+				this.currentPart = null;
+			}
+			prefetch();
+			Future<Part> next = this.pendingParts.poll();
+			if (next == null) {
+				return null;
+			}
+			this.currentPart = await(next);
+			this.position = 0;
+			prefetch();
+		}
+		return this.currentPart;
+	}
+
+	private void prefetch() {
+		while (this.pendingParts.size() < this.concurrency && this.nextRangeStart < this.objectLength) {
+			long start = this.nextRangeStart;
+			int length = (int) Math.min(this.partSize, this.objectLength - start);
+			this.pendingParts.add(this.executorService.submit(() -> download(start, length)));
+			this.nextRangeStart += length;
+		}
+	}
+
+	private Part download(long start, int length) throws IOException {
+		GetObjectRequest getObjectRequest = GetObjectRequest.builder()
+			.bucket(this.bucketName)
+			.key(this.objectKey)
+			.range("bytes=" + start + "-" + (start + length - 1))
+			.ifMatch(this.eTag)
+			.build();
+
+		byte[] buffer = this.buffers.poll();
+		if (buffer == null) {
+			buffer = new byte[this.partSize];
+		}
+		LongTaskTimer.Sample activeRange = this.activeRanges.start();
+		Timer.Sample request = Timer.start(this.meterRegistry);
+		boolean success = false;
+		try (ResponseInputStream<GetObjectResponse> in = this.s3.getObject(getObjectRequest)) {
+			int read = in.readNBytes(buffer, 0, length);
+			if (read < length) {
+				throw new EOFException("Range starting at " + start + " of " + this.objectKey + " ended after "
+						+ read + " of " + length + " bytes");
+			}
+			success = true;
+		}
+		finally {
+			request.stop(S3Metrics.request(this.meterRegistry, this.bucketName, "GetObject", success));
+			activeRange.stop();
+		}
+		logger.debug("Downloaded range starting at {} with size {} bytes", start, length);
+		return new Part(buffer, length);
+	}
+
+	private static Part await(Future<Part> future) throws IOException {
+		try {
+			return future.get();
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException("Interrupted while waiting for a range download");
+		}
+		catch (ExecutionException ex) {
+			if (ex.getCause() instanceof IOException ioException) {
+				throw ioException;
+			}
+			throw new IOException("Range download failed", ex.getCause());
+		}
+	}
+
+	private record Part(byte[] buffer, int length) {
+	}
+
+}
@@ -0,0 +1,518 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.batch.extensions.s3.stream;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompletedMultipartUpload;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.ListPartsRequest;
+import software.amazon.awssdk.services.s3.model.Part;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectResponse;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartResponse;
+
+/**
+ * An {@link OutputStream} that writes data to an S3 object through a multipart upload
+ * which can be resumed after a failure, typically by a restarted step.
+ * <p>
+ * Written bytes are collected in a buffer of {@code partSize} bytes, and each full buffer
+ * is uploaded as a part on the calling thread. {@link #checkpoint()} also uploads the
+ * buffered bytes as a part as soon as they reach the 5 MB minimum size of a part, and
+ * otherwise stages them in a temporary checkpoint object, so that the state to save is
+ * the upload ID, the ETags of the uploaded parts, the number of buffered bytes and the
+ * ETag of the checkpoint object. Given that state,
+ * {@link #resume(String, List, long, int, String)} checks with {@code ListParts} that the
+ * parts are still there, reads the buffered bytes back and continues the same upload.
+ * <p>
+ * The checkpoint object is written next to the target object, under the key set with
+ * {@link #setCheckpointKey(String)}, and deleted once the upload completes or is
+ * aborted. A failure never aborts the upload, since the upload is meant to be resumed.
+ * {@link #suspend()} releases the stream without completing the upload, and
+ * {@link #abort()} discards it. Uploads that are never resumed should be cleaned up with
+ * a bucket lifecycle rule.
+ *
+ * @author Andrea Cioni
+ */
+public class S3ResumableMultipartOutputStream extends OutputStream {
+
+	/**
+	 * The minimum size of a part that is not the last one, as required by S3.
+	 */
+	public static final int MIN_PART_SIZE = 5 * 1024 * 1024;
+
+	private static final Logger logger = LoggerFactory.getLogger(S3ResumableMultipartOutputStream.class);
+
+	private final S3Client s3Client;
+
+	private final String bucket;
+
+	private final String key;
+
+	private String checkpointKey;
+
+	private int partSize = Defaults.DEFAULT_PART_SIZE;
+
+	private String contentType = Defaults.DEFAULT_CONTENT_TYPE;
+
+	@Nullable
+	private String contentEncoding;
+
+	@Nullable
+	private String uploadId;
+
+	private final List<String> partETags = new ArrayList<>();
+
+	private byte @Nullable [] buffer;
+
+	private int count;
+
+	private long bytesWritten;
+
+	@Nullable
+	private String checkpointETag;
+
+	private long checkpointedBytes = -1;
+
+	private boolean checkpointStaged;
+
+	private boolean closed;
+
+	public S3ResumableMultipartOutputStream(S3Client s3Client, String bucket, String key) {
+		this.s3Client = s3Client;
+		this.bucket = bucket;
+		this.key = key;
+		this.checkpointKey = key + ".checkpoint";
+	}
+
+	@Override
+	public void write(int b) throws IOException {
+		byte[] current = currentBuffer();
+		current[this.count++] = (byte) b;
+		this.bytesWritten++;
+		if (this.count == current.length) {
+			uploadPart();
+		}
+	}
+
+	@Override
+	public void write(byte[] b, int off, int len) throws IOException {
+		Objects.checkFromIndexSize(off, len, b.length);
+		while (len > 0) {
+			byte[] current = currentBuffer();
+			int count = Math.min(len, current.length - this.count);
+			System.arraycopy(b, off, current, this.count, count);
+			this.count += count;
+			this.bytesWritten += count;
+			off += count;
+			len -= count;
+			if (this.count == current.length) {
+				uploadPart();
+			}
+		}
+	}
+
+	/**
+	 * Upload the buffered bytes as a part if they are large enough, otherwise stage them
+	 * in the checkpoint object, so that a restart can read them back. The checkpoint
+	 * object is only written again when bytes were written since the last checkpoint.
+	 * @throws IOException if the upload fails
+	 */
+	public void checkpoint() throws IOException {
+		ensureOpen();
+		if (this.count >= MIN_PART_SIZE) {
+			uploadPart();
+		}
+		else if (this.count > 0 && this.checkpointedBytes != this.bytesWritten) {
+			stageBufferedBytes();
+		}
+	}
+
+	/**
+	 * Continue a multipart upload from a state previously obtained after a
+	 * {@link #checkpoint()} with {@link #getUploadId()}, {@link #getPartETags()},
+	 * {@link #getBytesWritten()}, {@link #getBufferedByteCount()} and
+	 * {@link #getCheckpointETag()}. The buffered bytes are read back from the checkpoint
+	 * object. Must be called before anything is written.
+	 * @param uploadId the ID of the upload to resume, or {@code null} if no part was
+	 * uploaded yet
+	 * @param partETags the ETags of the uploaded parts, in part number order
+	 * @param bytesWritten the number of bytes written to the stream so far
+	 * @param bufferedByteCount the number of bytes written to the stream but not uploaded
+	 * as a part yet
+	 * @param checkpointETag the ETag of the checkpoint object holding the buffered bytes,
+	 * or {@code null} if there are none
+	 * @throws IOException if the upload or the checkpoint object does not exist anymore,
+	 * or a part is missing
+	 */
+	public void resume(@Nullable String uploadId, List<String> partETags, long bytesWritten, int bufferedByteCount,
+			@Nullable String checkpointETag) throws IOException {
+		byte[] bufferedBytes = new byte[0];
+		if (bufferedByteCount > 0) {
+			if (checkpointETag == null) {
+				throw new IllegalArgumentException("The checkpoint ETag is required to resume buffered bytes");
+			}
+			bufferedBytes = readCheckpoint(checkpointETag);
+			if (bufferedBytes.length != bufferedByteCount) {
+				throw new IOException("Checkpoint object " + this.checkpointKey + " holds " + bufferedBytes.length
+						+ " bytes instead of " + bufferedByteCount);
+			}
+		}
+		resume(uploadId, partETags, bytesWritten, bufferedBytes);
+		if (bufferedByteCount > 0) {
+			this.checkpointETag = checkpointETag;
+			this.checkpointedBytes = bytesWritten;
+			this.checkpointStaged = true;
+		}
+	}
+
+	/**
+	 * Continue a multipart upload from a state previously obtained with
+	 * {@link #getUploadId()}, {@link #getPartETags()}, {@link #getBytesWritten()} and
+	 * {@link #getBufferedBytes()}. Must be called before anything is written.
+	 * @param uploadId the ID of the upload to resume, or {@code null} if no part was
+	 * uploaded yet
+	 * @param partETags the ETags of the uploaded parts, in part number order
+	 * @param bytesWritten the number of bytes written to the stream so far
+	 * @param bufferedBytes the bytes written to the stream but not uploaded yet
+	 * @throws IOException if the upload does not exist anymore or a part is missing
+	 */
+	public void resume(@Nullable String uploadId, List<String> partETags, long bytesWritten, byte[] bufferedBytes)
+			throws IOException {
+		ensureOpen();
+		if (this.bytesWritten > 0) {
+			throw new IllegalStateException("Cannot resume an upload after data has been written");
+		}
+		if (uploadId != null) {
+			verifyParts(uploadId, partETags);
+			this.uploadId = uploadId;
+			this.partETags.addAll(partETags);
+		}
+		byte[] current = currentBuffer();
+		if (bufferedBytes.length > current.length) {
+			throw new IllegalArgumentException(
+					"Buffered bytes (" + bufferedBytes.length + ") exceed the part size (" + current.length + ")");
+		}
+		System.arraycopy(bufferedBytes, 0, current, 0, bufferedBytes.length);
+		this.count = bufferedBytes.length;
+		this.bytesWritten = bytesWritten;
+		logger.debug("Resumed multipart upload {} with {} parts and {} buffered bytes", uploadId, partETags.size(),
+				bufferedBytes.length);
+	}
+
+	/**
+	 * Upload the buffered bytes as the last part and complete the upload. Small objects
+	 * that never filled a part are uploaded with a single {@code PutObject} request.
+	 * @throws IOException if the upload cannot be completed
+	 */
+	@Override
+	public void close() throws IOException {
+		if (this.closed) {
+			return;
+		}
+		if (this.uploadId == null) {
+			PutObjectRequest putObjectRequest = PutObjectRequest.builder()
+				.bucket(this.bucket)
+				.key(this.key)
+				.contentType(this.contentType)
+				.contentEncoding(this.contentEncoding)
+				.build();
+			byte[] data = (this.buffer != null) ? this.buffer : new byte[0];
+			int length = this.count;
+			this.s3Client.putObject(putObjectRequest,
+					RequestBody.fromContentProvider(() -> new ByteArrayInputStream(data, 0, length), length,
+							this.contentType));
+			logger.debug("Uploaded {} bytes with a single request", length);
+		}
+		else {
+			if (this.count > 0) {
+				uploadPart();
+			}
+			List<CompletedPart> completedParts = new ArrayList<>(this.partETags.size());
+			for (int i = 0; i < this.partETags.size(); i++) {
+				completedParts.add(CompletedPart.builder().partNumber(i + 1).eTag(this.partETags.get(i)).build());
+			}
+			CompleteMultipartUploadRequest completeRequest = CompleteMultipartUploadRequest.builder()
+				.bucket(this.bucket)
+				.key(this.key)
+				.uploadId(this.uploadId)
+				.multipartUpload(CompletedMultipartUpload.builder().parts(completedParts).build())
+				.build();
+			this.s3Client.completeMultipartUpload(completeRequest);
+			logger.debug("Multipart upload {} completed with {} parts", this.uploadId, completedParts.size());
+		}
+		deleteCheckpoint();
+		release();
+	}
+
+	/**
+	 * Release the stream without completing the upload, so that it can be resumed later.
+	 */
+	public void suspend() {
+		if (!this.closed) {
+			logger.debug("Multipart upload {} suspended after {} bytes", this.uploadId, this.bytesWritten);
+			release();
+		}
+	}
+
+	/**
+	 * Release the stream and abort the upload, discarding the uploaded parts.
+	 */
+	public void abort() {
+		if (this.uploadId != null) {
+			AbortMultipartUploadRequest abortRequest = AbortMultipartUploadRequest.builder()
+				.bucket(this.bucket)
+				.key(this.key)
+				.uploadId(this.uploadId)
+				.build();
+			this.s3Client.abortMultipartUpload(abortRequest);
+			logger.warn("Multipart upload {} aborted", this.uploadId);
+		}
+		deleteCheckpoint();
+		release();
+	}
+
+	private void release() {
+		this.closed = true;
+		this.buffer = null;
+	}
+
+	private void ensureOpen() throws IOException {
+		if (this.closed) {
+			throw new IOException("Stream closed");
+		}
+	}
+
+	private byte[] currentBuffer() throws IOException {
+		ensureOpen();
+		if (this.buffer == null) {
+			this.buffer = new byte[this.partSize];
+		}
+		return this.buffer;
+	}
+
+	private void uploadPart() throws IOException {
+		byte[] data = Objects.requireNonNull(this.buffer);
+		int length = this.count;
+		String uploadId = this.uploadId;
+		if (uploadId == null) {
+			CreateMultipartUploadRequest createMultipartUploadRequest = CreateMultipartUploadRequest.builder()
+				.bucket(this.bucket)
+				.key(this.key)
+				.contentType(this.contentType)
+				.contentEncoding(this.contentEncoding)
+				.build();
+			uploadId = this.s3Client.createMultipartUpload(createMultipartUploadRequest).uploadId();
+			this.uploadId = uploadId;
+			logger.debug("Started multipart upload with ID: {}", uploadId);
+		}
+		int partNumber = this.partETags.size() + 1;
+		UploadPartRequest uploadPartRequest = UploadPartRequest.builder()
+			.bucket(this.bucket)
+			.key(this.key)
+			.uploadId(uploadId)
+			.partNumber(partNumber)
+			.build();
+		RequestBody requestBody = RequestBody.fromContentProvider(() -> new ByteArrayInputStream(data, 0, length),
+				length, this.contentType);
+		UploadPartResponse uploadPartResponse = this.s3Client.uploadPart(uploadPartRequest, requestBody);
+		this.partETags.add(uploadPartResponse.eTag());
+		this.count = 0;
+		logger.debug("Uploaded part {} with size {} bytes", partNumber, length);
+	}
+
+	private void stageBufferedBytes() {
+		byte[] data = Objects.requireNonNull(this.buffer);
+		int length = this.count;
+		PutObjectRequest putObjectRequest = PutObjectRequest.builder()
+			.bucket(this.bucket)
+			.key(this.checkpointKey)
+			.build();
+		PutObjectResponse putObjectResponse = this.s3Client.putObject(putObjectRequest,
+				RequestBody.fromContentProvider(() -> new ByteArrayInputStream(data, 0, length), length,
+						"application/octet-stream"));
+		this.checkpointETag = putObjectResponse.eTag();
+		this.checkpointedBytes = this.bytesWritten;
+		this.checkpointStaged = true;
+		logger.debug("Staged {} buffered bytes in checkpoint object {}", length, this.checkpointKey);
+	}
+
+	private byte[] readCheckpoint(String eTag) throws IOException {
+		GetObjectRequest getObjectRequest = GetObjectRequest.builder()
+			.bucket(this.bucket)
+			.key(this.checkpointKey)
+			.ifMatch(eTag)
+			.build();
+		try {
+			return this.s3Client.getObjectAsBytes(getObjectRequest).asByteArray();
+		}
+		catch (S3Exception ex) {
+			throw new IOException("Unable to read checkpoint object " + this.checkpointKey, ex);
+		}
+	}
+
+	private void deleteCheckpoint() {
+		if (!this.checkpointStaged) {
+			return;
+		}
+		try {
+			this.s3Client
+				.deleteObject(DeleteObjectRequest.builder().bucket(this.bucket).key(this.checkpointKey).build());
+			this.checkpointStaged = false;
+		}
+		catch (S3Exception ex) {
+			logger.warn("Unable to delete checkpoint object {}", this.checkpointKey, ex);
+		}
+	}
+
+	private void verifyParts(String uploadId, List<String> partETags) throws IOException {
+		ListPartsRequest listPartsRequest = ListPartsRequest.builder()
+			.bucket(this.bucket)
+			.key(this.key)
+			.uploadId(uploadId)
+			.build();
+		Map<Integer, String> uploadedParts = new HashMap<>();
+		try {
+			for (Part part : this.s3Client.listPartsPaginator(listPartsRequest).parts()) {
+				uploadedParts.put(part.partNumber(), part.eTag());
+			}
+		}
+		catch (S3Exception ex) {
+			throw new IOException("Unable to list the parts of multipart upload " + uploadId, ex);
+		}
+		for (int i = 0; i < partETags.size(); i++) {
+			String eTag = uploadedParts.get(i + 1);
+			if (!partETags.get(i).equals(eTag)) {
+				throw new IOException("Part " + (i + 1) + " of multipart upload " + uploadId
+						+ " is missing or does not match the saved ETag");
+			}
+		}
+	}
+
+	@Nullable
+	public String getUploadId() {
+		return this.uploadId;
+	}
+
+	/**
+	 * Return the ETags of the uploaded parts, in part number order.
+	 * @return the ETags of the uploaded parts
+	 */
+	public List<String> getPartETags() {
+		return Collections.unmodifiableList(this.partETags);
+	}
+
+	/**
+	 * Return the bytes written to the stream that are not uploaded yet.
+	 * @return a copy of the buffered bytes
+	 */
+	public byte[] getBufferedBytes() {
+		return (this.buffer != null) ? Arrays.copyOf(this.buffer, this.count) : new byte[0];
+	}
+
+	/**
+	 * Return the number of bytes written to the stream that are not uploaded as a part
+	 * yet.
+	 * @return the number of buffered bytes
+	 */
+	public int getBufferedByteCount() {
+		return this.count;
+	}
+
+	/**
+	 * Return the ETag of the checkpoint object holding the buffered bytes, as staged by
+	 * the last {@link #checkpoint()}.
+	 * @return the ETag, or {@code null} if no bytes are buffered
+	 */
+	@Nullable
+	public String getCheckpointETag() {
+		return (this.count > 0) ? this.checkpointETag : null;
+	}
+
+	public String getCheckpointKey() {
+		return this.checkpointKey;
+	}
+
+	/**
+	 * Set the key of the temporary object the buffered bytes are staged in at each
+	 * {@link #checkpoint()}. Defaults to the key of the object followed by
+	 * {@code .checkpoint}.
+	 * @param checkpointKey the key of the checkpoint object
+	 */
+	public void setCheckpointKey(String checkpointKey) {
+		this.checkpointKey = checkpointKey;
+	}
+
+	public long getBytesWritten() {
+		return this.bytesWritten;
+	}
+
+	public int getPartSize() {
+		return this.partSize;
+	}
+
+	/**
+	 * Set the size of the uploaded parts. Must be at least {@link #MIN_PART_SIZE} and set
+	 * before anything is written. Defaults to 5 MB.
+	 * @param partSize the size of each part in bytes
+	 */
+	public void setPartSize(int partSize) {
+		if (partSize < MIN_PART_SIZE) {
+			throw new IllegalArgumentException("Part size must be at least " + MIN_PART_SIZE + " bytes");
+		}
+		this.partSize = partSize;
+	}
+
+	public String getContentType() {
+		return this.contentType;
+	}
+
+	public void setContentType(String contentType) {
+		this.contentType = contentType;
+	}
+
+	@Nullable
+	public String getContentEncoding() {
+		return this.contentEncoding;
+	}
+
+	public void setContentEncoding(@Nullable String contentEncoding) {
+		this.contentEncoding = contentEncoding;
+	}
+
+}
@@ -0,0 +1,314 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.batch.extensions.s3.stream;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+
+import org.jspecify.annotations.Nullable;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.model.CSVInput;
+import software.amazon.awssdk.services.s3.model.CSVOutput;
+import software.amazon.awssdk.services.s3.model.EndEvent;
+import software.amazon.awssdk.services.s3.model.ExpressionType;
+import software.amazon.awssdk.services.s3.model.FileHeaderInfo;
+import software.amazon.awssdk.services.s3.model.InputSerialization;
+import software.amazon.awssdk.services.s3.model.OutputSerialization;
+import software.amazon.awssdk.services.s3.model.RecordsEvent;
+import software.amazon.awssdk.services.s3.model.SelectObjectContentEventStream;
+import software.amazon.awssdk.services.s3.model.SelectObjectContentRequest;
+import software.amazon.awssdk.services.s3.model.SelectObjectContentResponseHandler;
+
+/**
+ * A {@link S3InputStream} returning the records of an S3 object that match a SQL
+ * expression, evaluated by S3 with a {@code SelectObjectContent} request. Only the
+ * selected columns of the matching records are transferred, which saves both the network
+ * and the deserialization of records that would be filtered out afterwards.
+ * <p>
+ * By default the object is read as CSV with a header line, so that columns can be
+ * referenced by name, and the records are returned as CSV lines that can be read with
+ * {@link org.springframework.batch.extensions.s3.serializer.S3StringDeserializer}. Other
+ * formats, such as JSON lines, and the compression of the object are set with
+ * {@link #setInputSerialization(InputSerialization)} and
+ * {@link #setOutputSerialization(OutputSerialization)}. The records are always returned
+ * uncompressed.
+ * <p>
+ * The results are streamed with backpressure: at most {@value #PREFETCH} events of records
+ * are requested ahead of the reader. Skipping bytes reads and discards the results, so a
+ * restarted reader runs the expression again and skips the records already read. The
+ * concurrency and part size of {@link S3InputStream} do not apply.
+ *
+ * @author Andrea Cioni
+ */
+public class S3SelectInputStream extends S3InputStream {
+
+	private static final Logger logger = LoggerFactory.getLogger(S3SelectInputStream.class);
+
+	private static final int PREFETCH = 4;
+
+	private static final Object END_OF_STREAM = new Object();
+
+	private final S3AsyncClient s3AsyncClient;
+
+	private final String bucketName;
+
+	private final String expression;
+
+	private InputSerialization inputSerialization = InputSerialization.builder()
+		.csv(CSVInput.builder().fileHeaderInfo(FileHeaderInfo.USE).build())
+		.build();
+
+	private OutputSerialization outputSerialization = OutputSerialization.builder()
+		.csv(CSVOutput.builder().recordDelimiter("\n").build())
+		.build();
+
+	private final BlockingQueue<Object> events = new LinkedBlockingQueue<>();
+
+	@Nullable
+	private volatile Subscription subscription;
+
+	private volatile boolean endEventReceived;
+
+	@Nullable
+	private CompletableFuture<Void> response;
+
+	private byte[] records = new byte[0];
+
+	private int position;
+
+	private boolean endOfData;
+
+	public S3SelectInputStream(S3AsyncClient s3AsyncClient, String bucketName, String objectKey, String expression) {
+		super(s3AsyncClient, bucketName, objectKey);
+		this.s3AsyncClient = s3AsyncClient;
+		this.bucketName = bucketName;
+		this.expression = expression;
+	}
+
+	@Override
+	public int read() throws IOException {
+		if (!fill()) {
+			return -1;
+		}
+		return this.records[this.position++] & 0xFF;
+	}
+
+	@Override
+	public int read(byte[] b, int off, int len) throws IOException {
+		if (len == 0) {
+			return 0;
+		}
+		if (!fill()) {
+			return -1;
+		}
+		int count = Math.min(len, this.records.length - this.position);
+		System.arraycopy(this.records, this.position, b, off, count);
+		this.position += count;
+		return count;
+	}
+
+	@Override
+	public long skip(long n) throws IOException {
+		long remaining = n;
+		while (remaining > 0 && fill()) {
+			int count = (int) Math.min(remaining, this.records.length - this.position);
+			this.position += count;
+			remaining -= count;
+		}
+		return n - remaining;
+	}
+
+	@Override
+	public int available() {
+		return this.records.length - this.position;
+	}
+
+	@Override
+	public void close() throws IOException {
+		logger.debug("Closing select stream");
+		Subscription subscription = this.subscription;
+		if (subscription != null) {
+			subscription.cancel();
+		}
+		if (this.response != null) {
+			this.response.cancel(true);
+		}
+		this.events.clear();
+		this.records = new byte[0];
+		this.position = 0;
+		super.close();
+	}
+
+	/**
+	 * Return {@code null}, the records being returned uncompressed whatever the
+	 * compression of the object.
+	 * @return {@code null}
+	 */
+	@Override
+	@Nullable
+	public String getContentEncoding() {
+		return null;
+	}
+
+	/**
+	 * Make sure the current event holds unread records, waiting for the next event if
+	 * needed.
+	 * @return {@code false} if all the records were read
+	 * @throws IOException if the request failed
+	 */
+	private boolean fill() throws IOException {
+		while (this.position == this.records.length) {
+			if (this.endOfData) {
+				return false;
+			}
+			if (this.response == null) {
+				this.response = select();
+			}
+			Object event = take();
+			if (event == END_OF_STREAM) {
+				this.endOfData = true;
+				if (!this.endEventReceived) {
+					throw new IOException("Results of the select on " + getObjectKey() + " ended unexpectedly");
+				}
+				return false;
+			}
+			if (event instanceof Throwable failure) {
+				this.endOfData = true;
+				throw new IOException("Select on " + getObjectKey() + " failed", failure);
+			}
+			this.records = (byte[]) event;
+			this.position = 0;
+			Subscription subscription = this.subscription;
+			if (subscription != null) {
+				subscription.request(1);
+			}
+		}
+		return true;
+	}
+
+	private CompletableFuture<Void> select() {
+		SelectObjectContentRequest selectObjectContentRequest = SelectObjectContentRequest.builder()
+			.bucket(this.bucketName)
+			.key(getObjectKey())
+			.expression(this.expression)
+			.expressionType(ExpressionType.SQL)
+			.inputSerialization(this.inputSerialization)
+			.outputSerialization(this.outputSerialization)
+			.build();
+		SelectObjectContentResponseHandler responseHandler = SelectObjectContentResponseHandler.builder()
+			.onEventStream((publisher) -> publisher.subscribe(new EventSubscriber()))
+			.onError(this.events::add)
+			.build();
+		logger.debug("Selecting records of {} with {}", getObjectKey(), this.expression);
+		CompletableFuture<Void> response = this.s3AsyncClient.selectObjectContent(selectObjectContentRequest,
+				responseHandler);
+		// also fail the reader when the request fails before the event stream starts
+		response.whenComplete((result, ex) -> {
+			if (ex != null) {
+				this.events.add(ex);
+			}
+		});
+		return response;
+	}
+
+	private Object take() throws IOException {
+		try {
+			return this.events.take();
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException("Interrupted while waiting for selected records");
+		}
+	}
+
+	public String getExpression() {
+		return this.expression;
+	}
+
+	public InputSerialization getInputSerialization() {
+		return this.inputSerialization;
+	}
+
+	/**
+	 * Set the format and the compression of the object. Defaults to CSV with a header
+	 * line, uncompressed.
+	 * @param inputSerialization the input serialization
+	 */
+	public void setInputSerialization(InputSerialization inputSerialization) {
+		this.inputSerialization = inputSerialization;
+	}
+
+	public OutputSerialization getOutputSerialization() {
+		return this.outputSerialization;
+	}
+
+	/**
+	 * Set the format of the returned records. Defaults to CSV lines terminated by
+	 * {@code \n}.
+	 * @param outputSerialization the output serialization
+	 */
+	public void setOutputSerialization(OutputSerialization outputSerialization) {
+		this.outputSerialization = outputSerialization;
+	}
+
+	/**
+	 * Queues the payload of the records events, requesting a new event only once the
+	 * reader consumed one, and acknowledges the other events right away.
+	 */
+	private final class EventSubscriber implements Subscriber<SelectObjectContentEventStream> {
+
+		@Override
+		public void onSubscribe(Subscription subscription) {
+			S3SelectInputStream.this.subscription = subscription;
+			subscription.request(PREFETCH);
+		}
+
+		@Override
+		public void onNext(SelectObjectContentEventStream event) {
+			if (event instanceof RecordsEvent recordsEvent && recordsEvent.payload() != null) {
+				S3SelectInputStream.this.events.add(recordsEvent.payload().asByteArrayUnsafe());
+				return;
+			}
+			if (event instanceof EndEvent) {
+				S3SelectInputStream.this.endEventReceived = true;
+			}
+			Subscription subscription = S3SelectInputStream.this.subscription;
+			if (subscription != null) {
+				subscription.request(1);
+			}
+		}
+
+		@Override
+		public void onError(Throwable throwable) {
+			S3SelectInputStream.this.events.add(throwable);
+		}
+
+		@Override
+		public void onComplete() {
+			S3SelectInputStream.this.events.add(END_OF_STREAM);
+		}
+
+	}
+
+}
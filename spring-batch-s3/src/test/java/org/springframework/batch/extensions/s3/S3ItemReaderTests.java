@@ -16,18 +16,30 @@
 
 package org.springframework.batch.extensions.s3;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 
+import org.springframework.batch.extensions.s3.compression.GzipCompressionCodec;
 import org.springframework.batch.extensions.s3.serializer.S3Deserializer;
 import org.springframework.batch.extensions.s3.serializer.S3StringDeserializer;
 import org.springframework.batch.extensions.s3.stream.S3InputStream;
+import org.springframework.batch.infrastructure.item.ExecutionContext;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
 import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.anyInt;
+import static org.mockito.Mockito.anyLong;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 
 class S3ItemReaderTests {
@@ -50,7 +62,7 @@ class S3ItemReaderTests {
 		byte[] data = "test".getBytes();
 		// given
 		given(this.s3InputStream.read(any(byte[].class))).willReturn(data.length, -1);
-		given(this.mockDeserializer.deserialize(any(byte[].class))).willReturn(null, "item");
+		given(this.mockDeserializer.deserialize(any(byte[].class), anyInt(), anyInt())).willReturn(null, "item");
 
 		S3ItemReader<String> reader = new S3ItemReader<>(this.s3InputStream, this.mockDeserializer);
 
@@ -60,7 +72,7 @@ class S3ItemReaderTests {
 		// then
 		assertThat(result).isEqualTo("item");
 		then(this.s3InputStream).should(times(1)).read(any(byte[].class));
-		then(this.mockDeserializer).should(times(2)).deserialize(any(byte[].class));
+		then(this.mockDeserializer).should(times(2)).deserialize(any(byte[].class), anyInt(), anyInt());
 	}
 
 	@Test
@@ -68,7 +80,7 @@ class S3ItemReaderTests {
 		byte[] data = "item\n".getBytes();
 
 		// given
-		given(this.mockDeserializer.deserialize(any(byte[].class)))
+		given(this.mockDeserializer.deserialize(any(byte[].class), anyInt(), anyInt()))
 				.willReturn(null);
 		given(this.s3InputStream.read(any(byte[].class))).willAnswer((invocation) -> {
 			byte[] buffer = invocation.getArgument(0);
@@ -112,7 +124,7 @@ class S3ItemReaderTests {
 					System.arraycopy(data1, 0, buffer, 0, data1.length);
 					return data1.length;
 				});
-		given(this.mockDeserializer.deserialize(any(byte[].class)))
+		given(this.mockDeserializer.deserialize(any(byte[].class), anyInt(), anyInt()))
 				.willReturn("item1")
 				.willReturn("item2")
 				.willReturn(null); // No more items
@@ -133,7 +145,7 @@ class S3ItemReaderTests {
 		assertThat(result2).isEqualTo("item2");
 		assertThat(result3).isNull();
 		then(this.s3InputStream).should(times(2)).read(any(byte[].class));
-		then(this.mockDeserializer).should(times(4)).deserialize(any(byte[].class));
+		then(this.mockDeserializer).should(times(4)).deserialize(any(byte[].class), anyInt(), anyInt());
 	}
 
 	@Test
@@ -148,7 +160,7 @@ class S3ItemReaderTests {
 					return data.length;
 				}).willAnswer((invocation) -> -1);
 
-		given(this.mockDeserializer.deserialize(any(byte[].class)))
+		given(this.mockDeserializer.deserialize(any(byte[].class), anyInt(), anyInt()))
 				.willReturn(null) // buffer is empty
 				.willReturn("item1")
 				.willReturn("item2")
@@ -165,7 +177,178 @@ class S3ItemReaderTests {
 		assertThat(result2).isEqualTo("item2");
 		assertThat(result3).isNull();
 		then(this.s3InputStream).should(times(2)).read(any(byte[].class));
-		then(this.mockDeserializer).should(times(4)).deserialize(any(byte[].class));
+		then(this.mockDeserializer).should(times(4)).deserialize(any(byte[].class), anyInt(), anyInt());
+	}
+
+	@Test
+	void testReadReusesBufferAcrossCalls() throws Exception {
+		byte[] data = "item1\nitem2\n".getBytes();
+
+		// given
+		given(this.s3InputStream.read(any(byte[].class))).willAnswer((invocation) -> {
+			byte[] buffer = invocation.getArgument(0);
+			System.arraycopy(data, 0, buffer, 0, 6);
+			return 6;
+		}).willAnswer((invocation) -> {
+			byte[] buffer = invocation.getArgument(0);
+			System.arraycopy(data, 6, buffer, 0, 6);
+			return 6;
+		}).willReturn(-1);
+		ArgumentCaptor<byte[]> buffers = ArgumentCaptor.forClass(byte[].class);
+
+		S3ItemReader<String> reader = new S3ItemReader<>(this.s3InputStream, this.stringDeserializer);
+		reader.setBufferSize(6);
+
+		// when
+		String result1 = reader.read();
+		String result2 = reader.read();
+		String result3 = reader.read();
+
+		// then
+		assertThat(result1).isEqualTo("item1");
+		assertThat(result2).isEqualTo("item2");
+		assertThat(result3).isNull();
+		then(this.s3InputStream).should(times(3)).read(buffers.capture());
+		assertThat(buffers.getAllValues()).allSatisfy((buffer) -> assertThat(buffer).isSameAs(buffers.getValue()));
+	}
+
+	@Test
+	void testUpdateStoresOffsetOfFirstUnreadRecord() throws Exception {
+		byte[] data = "item1\nitem2\n".getBytes();
+
+		// given
+		given(this.s3InputStream.read(any(byte[].class))).willAnswer((invocation) -> {
+			byte[] buffer = invocation.getArgument(0);
+			System.arraycopy(data, 0, buffer, 0, data.length);
+			return data.length;
+		}).willReturn(-1);
+
+		S3ItemReader<String> reader = new S3ItemReader<>(this.s3InputStream, this.stringDeserializer);
+		ExecutionContext executionContext = new ExecutionContext();
+
+		// when
+		reader.open(executionContext);
+		String result = reader.read();
+		reader.update(executionContext);
+
+		// then
+		assertThat(result).isEqualTo("item1");
+		assertThat(executionContext.getLong("S3ItemReader.read.offset")).isEqualTo(6L);
+	}
+
+	@Test
+	void testOpenResumesFromSavedOffset() throws Exception {
+		ExecutionContext executionContext = new ExecutionContext();
+		executionContext.putLong("reader.read.offset", 6L);
+
+		S3ItemReader<String> reader = new S3ItemReader<>(this.s3InputStream, this.stringDeserializer);
+		reader.setName("reader");
+
+		// when
+		reader.open(executionContext);
+		reader.update(executionContext);
+
+		// then
+		then(this.s3InputStream).should().skipNBytes(6L);
+		assertThat(executionContext.getLong("reader.read.offset")).isEqualTo(6L);
+	}
+
+	@Test
+	void testOpenIgnoresSavedOffsetWhenSaveStateIsDisabled() throws Exception {
+		ExecutionContext executionContext = new ExecutionContext();
+		executionContext.putLong("S3ItemReader.read.offset", 6L);
+
+		S3ItemReader<String> reader = new S3ItemReader<>(this.s3InputStream, this.stringDeserializer);
+		reader.setSaveState(false);
+
+		// when
+		reader.open(executionContext);
+
+		// then
+		then(this.s3InputStream).should(never()).skipNBytes(anyLong());
+	}
+
+	@Test
+	void testUpdateSkipsOffsetOfDeserializerWithoutBufferedByteCount() throws Exception {
+		// given
+		S3Deserializer<String> deserializer = (buffer) -> null;
+		S3ItemReader<String> reader = new S3ItemReader<>(this.s3InputStream, deserializer);
+		ExecutionContext executionContext = new ExecutionContext();
+
+		// when
+		reader.open(executionContext);
+		reader.update(executionContext);
+
+		// then
+		assertThat(executionContext.containsKey("S3ItemReader.read.offset")).isFalse();
+		then(this.s3InputStream).should(never()).skipNBytes(anyLong());
+	}
+
+	@Test
+	void testReadDetectsCompressionFromKeySuffix() throws Exception {
+		// given
+		givenStreamContent(gzip("line1\nline2\n"));
+		given(this.s3InputStream.getObjectKey()).willReturn("data.txt.gz");
+
+		S3ItemReader<String> reader = new S3ItemReader<>(this.s3InputStream, this.stringDeserializer);
+		reader.setDetectCompression(true);
+
+		// when
+		String first = reader.read();
+		String second = reader.read();
+
+		// then
+		assertThat(first).isEqualTo("line1");
+		assertThat(second).isEqualTo("line2");
+		then(this.s3InputStream).should(never()).getContentEncoding();
+	}
+
+	@Test
+	void testReadDetectsCompressionFromContentEncoding() throws Exception {
+		// given
+		givenStreamContent(gzip("line1\n"));
+		given(this.s3InputStream.getObjectKey()).willReturn("data.txt");
+		given(this.s3InputStream.getContentEncoding()).willReturn("gzip");
+
+		S3ItemReader<String> reader = new S3ItemReader<>(this.s3InputStream, this.stringDeserializer);
+		reader.setDetectCompression(true);
+
+		// when
+		String result = reader.read();
+
+		// then
+		assertThat(result).isEqualTo("line1");
+	}
+
+	@Test
+	void testReadWithoutDetectionDoesNotQueryContentEncoding() throws Exception {
+		// given
+		givenStreamContent("line1\n".getBytes(StandardCharsets.UTF_8));
+
+		S3ItemReader<String> reader = new S3ItemReader<>(this.s3InputStream, this.stringDeserializer);
+
+		// when
+		String result = reader.read();
+
+		// then
+		assertThat(result).isEqualTo("line1");
+		then(this.s3InputStream).should(never()).getContentEncoding();
+	}
+
+	private void givenStreamContent(byte[] content) throws Exception {
+		InputStream data = new ByteArrayInputStream(content);
+		given(this.s3InputStream.read()).willAnswer((invocation) -> data.read());
+		given(this.s3InputStream.read(any(byte[].class))).willAnswer((invocation) -> data.read(invocation.getArgument(0)));
+		given(this.s3InputStream.read(any(byte[].class), anyInt(), anyInt())).willAnswer(
+				(invocation) -> data.read(invocation.getArgument(0), invocation.getArgument(1), invocation.getArgument(2)));
+	}
+
+	private static byte[] gzip(String content) throws Exception {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (OutputStream out = new GzipCompressionCodec().compress(bytes)) {
+			out.write(content.getBytes(StandardCharsets.UTF_8));
+		}
+		return bytes.toByteArray();
 	}
 
 }
@@ -16,21 +16,38 @@
 
 package org.springframework.batch.extensions.s3;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
 
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.step.StepExecution;
+import org.springframework.batch.extensions.s3.compression.GzipCompressionCodec;
+import org.springframework.batch.extensions.s3.serializer.S3ChunkSerializer;
 import org.springframework.batch.extensions.s3.serializer.S3Serializer;
 import org.springframework.batch.extensions.s3.stream.S3MultipartOutputStream;
+import org.springframework.batch.extensions.s3.stream.S3ResumableMultipartOutputStream;
 import org.springframework.batch.infrastructure.item.Chunk;
+import org.springframework.batch.infrastructure.item.ExecutionContext;
 import org.springframework.batch.infrastructure.item.ItemStreamException;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
 import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 
 class S3ItemWriterTests {
 
@@ -62,6 +79,36 @@ class S3ItemWriterTests {
 		then(this.outputStream).should().write(data);
 	}
 
+	@Test
+	void testWrite_withChunkSerializer() throws Exception {
+		// given
+		S3ChunkSerializer<String> chunkSerializer = mock(S3ChunkSerializer.class);
+		S3ItemWriter<String> writer = new S3ItemWriter<>(this.outputStream, chunkSerializer);
+		Chunk<String> chunk = Chunk.of("a", "b");
+
+		// when
+		writer.write(chunk);
+
+		// then
+		then(chunkSerializer).should().serialize(chunk, this.outputStream);
+	}
+
+	@Test
+	void testClose_finishesChunkSerializerBeforeClosingStream() throws Exception {
+		// given
+		S3ChunkSerializer<String> chunkSerializer = mock(S3ChunkSerializer.class);
+		S3ItemWriter<String> writer = new S3ItemWriter<>(this.outputStream, chunkSerializer);
+		writer.write(Chunk.of("a"));
+
+		// when
+		writer.close();
+
+		// then
+		InOrder inOrder = inOrder(chunkSerializer, this.outputStream);
+		inOrder.verify(chunkSerializer).finish();
+		inOrder.verify(this.outputStream).close();
+	}
+
 	@Test
 	void testWrite_throwsOnNullOrEmpty() {
 		String item = "bad";
@@ -98,4 +145,154 @@ class S3ItemWriterTests {
 			.isInstanceOf(ItemStreamException.class);
 	}
 
+	@Test
+	void testWrite_compressesWithCodec() throws Exception {
+		// given
+		given(this.serializer.serialize("a")).willReturn("a\n".getBytes(StandardCharsets.UTF_8));
+		given(this.serializer.serialize("b")).willReturn("b\n".getBytes(StandardCharsets.UTF_8));
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+		S3ItemWriter<String> writer = new S3ItemWriter<>(out, this.serializer);
+		writer.setCompressionCodec(new GzipCompressionCodec());
+
+		// when
+		writer.write(Chunk.of("a", "b"));
+		writer.close();
+
+		// then
+		try (InputStream in = new GzipCompressionCodec().decompress(new ByteArrayInputStream(out.toByteArray()))) {
+			assertThat(new String(in.readAllBytes(), StandardCharsets.UTF_8)).isEqualTo("a\nb\n");
+		}
+	}
+
+	@Test
+	void testUpdate_savesUploadState() throws Exception {
+		// given
+		S3ResumableMultipartOutputStream resumable = mock(S3ResumableMultipartOutputStream.class);
+		given(resumable.getUploadId()).willReturn("upload-id");
+		given(resumable.getPartETags()).willReturn(List.of("etag-1"));
+		given(resumable.getBytesWritten()).willReturn(42L);
+		given(resumable.getBufferedByteCount()).willReturn(2);
+		given(resumable.getCheckpointETag()).willReturn("checkpoint-etag");
+		S3ItemWriter<String> writer = new S3ItemWriter<>(resumable, this.serializer);
+		ExecutionContext executionContext = new ExecutionContext();
+
+		// when
+		writer.update(executionContext);
+
+		// then
+		then(resumable).should().checkpoint();
+		assertThat(executionContext.getString("S3ItemWriter.upload.id")).isEqualTo("upload-id");
+		assertThat(executionContext.get("S3ItemWriter.upload.part.etags")).isEqualTo(List.of("etag-1"));
+		assertThat(executionContext.getLong("S3ItemWriter.upload.bytes")).isEqualTo(42L);
+		assertThat(executionContext.getInt("S3ItemWriter.upload.buffered.bytes")).isEqualTo(2);
+		assertThat(executionContext.getString("S3ItemWriter.upload.checkpoint.etag")).isEqualTo("checkpoint-etag");
+	}
+
+	@Test
+	void testOpen_resumesSavedUpload() throws Exception {
+		// given
+		S3ResumableMultipartOutputStream resumable = mock(S3ResumableMultipartOutputStream.class);
+		S3ItemWriter<String> writer = new S3ItemWriter<>(resumable, this.serializer);
+		ExecutionContext executionContext = new ExecutionContext();
+		executionContext.putString("S3ItemWriter.upload.id", "upload-id");
+		executionContext.put("S3ItemWriter.upload.part.etags", List.of("etag-1"));
+		executionContext.putLong("S3ItemWriter.upload.bytes", 42L);
+		executionContext.putInt("S3ItemWriter.upload.buffered.bytes", 2);
+		executionContext.putString("S3ItemWriter.upload.checkpoint.etag", "checkpoint-etag");
+
+		// when
+		writer.open(executionContext);
+
+		// then
+		then(resumable).should().resume("upload-id", List.of("etag-1"), 42L, 2, "checkpoint-etag");
+	}
+
+	@Test
+	void testOpen_rejectsSerializerThatIsNotResumable() {
+		// given
+		S3ResumableMultipartOutputStream resumable = mock(S3ResumableMultipartOutputStream.class);
+		S3ChunkSerializer<String> chunkSerializer = mock(S3ChunkSerializer.class);
+		given(chunkSerializer.isResumable()).willReturn(false);
+		S3ItemWriter<String> writer = new S3ItemWriter<>(resumable, chunkSerializer);
+
+		// when/then
+		assertThatThrownBy(() -> writer.open(new ExecutionContext())).isInstanceOf(ItemStreamException.class)
+			.hasMessageContaining("saveState");
+	}
+
+	@Test
+	void testClose_suspendsUploadWhenStepFailed() throws Exception {
+		// given
+		S3ResumableMultipartOutputStream resumable = mock(S3ResumableMultipartOutputStream.class);
+		S3ItemWriter<String> writer = new S3ItemWriter<>(resumable, this.serializer);
+		StepExecution stepExecution = mock(StepExecution.class);
+		given(stepExecution.getStatus()).willReturn(BatchStatus.FAILED);
+
+		// when
+		writer.afterStep(stepExecution);
+		writer.close();
+
+		// then
+		then(resumable).should().suspend();
+		then(resumable).should(never()).close();
+	}
+
+	@Test
+	void testAfterStep_completesUploadWhenStepCompleted() throws Exception {
+		// given
+		S3ResumableMultipartOutputStream resumable = mock(S3ResumableMultipartOutputStream.class);
+		S3ItemWriter<String> writer = new S3ItemWriter<>(resumable, this.serializer);
+		StepExecution stepExecution = mock(StepExecution.class);
+		given(stepExecution.getStatus()).willReturn(BatchStatus.COMPLETED);
+
+		// when
+		writer.afterStep(stepExecution);
+		writer.close();
+
+		// then
+		then(resumable).should(times(1)).close();
+		then(resumable).should(never()).suspend();
+	}
+
+	@Test
+	void testAfterStep_publishesChecksum() throws Exception {
+		// given
+		given(this.outputStream.getChecksum()).willReturn("checksum");
+		S3ItemWriter<String> writer = new S3ItemWriter<>(this.outputStream, this.serializer);
+		writer.setName("writer");
+		StepExecution stepExecution = mock(StepExecution.class);
+		ExecutionContext executionContext = new ExecutionContext();
+		given(stepExecution.getStatus()).willReturn(BatchStatus.COMPLETED);
+		given(stepExecution.getExecutionContext()).willReturn(executionContext);
+
+		// when
+		writer.afterStep(stepExecution);
+
+		// then
+		InOrder inOrder = inOrder(this.outputStream);
+		inOrder.verify(this.outputStream).close();
+		inOrder.verify(this.outputStream).getChecksum();
+		assertThat(executionContext.getString("writer.upload.checksum")).isEqualTo("checksum");
+	}
+
+	@Test
+	void testAfterStep_failsStepWhenUploadFails() throws Exception {
+		// given
+		IOException failure = new IOException("Upload failed");
+		willThrow(failure).given(this.outputStream).close();
+		S3ItemWriter<String> writer = new S3ItemWriter<>(this.outputStream, this.serializer);
+		StepExecution stepExecution = mock(StepExecution.class);
+		given(stepExecution.getStatus()).willReturn(BatchStatus.COMPLETED);
+
+		// when
+		ExitStatus exitStatus = writer.afterStep(stepExecution);
+
+		// then
+		assertThat(exitStatus.getExitCode()).isEqualTo(ExitStatus.FAILED.getExitCode());
+		then(stepExecution).should().upgradeStatus(BatchStatus.FAILED);
+		then(stepExecution).should().addFailureException(failure);
+		then(this.outputStream).should(never()).getChecksum();
+	}
+
 }
@@ -0,0 +1,111 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.batch.extensions.s3;
+
+import java.io.ByteArrayInputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+
+import org.springframework.batch.extensions.s3.serializer.S3StringDeserializer;
+import org.springframework.batch.infrastructure.item.ExecutionContext;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+class S3MultiObjectItemReaderTests {
+
+	private final Map<String, byte[]> objects = Map.of("a", "a1\na2\n".getBytes(), "b", "b1\n".getBytes(), "c",
+			"c1\nc2\n".getBytes());
+
+	private S3Client s3Client;
+
+	@BeforeEach
+	void setUp() {
+		this.s3Client = mock(S3Client.class);
+		given(this.s3Client.getObject(any(GetObjectRequest.class))).willAnswer((invocation) -> {
+			GetObjectRequest request = invocation.getArgument(0);
+			byte[] data = Objects.requireNonNull(this.objects.get(request.key()));
+			if (request.range() != null) {
+				int start = Integer.parseInt(request.range().substring("bytes=".length(), request.range().length() - 1));
+				data = Arrays.copyOfRange(data, start, data.length);
+			}
+			return new ResponseInputStream<>(GetObjectResponse.builder().build(), new ByteArrayInputStream(data));
+		});
+	}
+
+	@Test
+	void testReadAllObjects() throws Exception {
+		S3MultiObjectItemReader<String> reader = new S3MultiObjectItemReader<>(this.s3Client, "bucket",
+				List.of("a", "b", "c"), S3StringDeserializer::new);
+
+		// when
+		reader.open(new ExecutionContext());
+		List<String> items = readAll(reader);
+		reader.close();
+
+		// then
+		assertThat(items).containsExactly("a1", "a2", "b1", "c1", "c2");
+	}
+
+	@Test
+	void testRestartFromSavedObjectAndOffset() throws Exception {
+		ExecutionContext executionContext = new ExecutionContext();
+		S3MultiObjectItemReader<String> reader = new S3MultiObjectItemReader<>(this.s3Client, "bucket",
+				List.of("a", "b", "c"), S3StringDeserializer::new);
+		reader.open(executionContext);
+		for (int i = 0; i < 4; i++) {
+			reader.read();
+		}
+		reader.update(executionContext);
+		reader.close();
+
+		S3MultiObjectItemReader<String> restarted = new S3MultiObjectItemReader<>(this.s3Client, "bucket",
+				List.of("a", "b", "c"), S3StringDeserializer::new);
+
+		// when
+		restarted.open(executionContext);
+		List<String> items = readAll(restarted);
+		restarted.close();
+
+		// then
+		assertThat(executionContext.getInt("S3MultiObjectItemReader.object.index")).isEqualTo(2);
+		assertThat(executionContext.getLong("S3MultiObjectItemReader.read.offset")).isEqualTo(3L);
+		assertThat(items).containsExactly("c2");
+	}
+
+	private static List<String> readAll(S3MultiObjectItemReader<String> reader) throws Exception {
+		List<String> items = new ArrayList<>();
+		String item;
+		while ((item = reader.read()) != null) {
+			items.add(item);
+		}
+		return items;
+	}
+
+}
@@ -0,0 +1,307 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.batch.extensions.s3;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartResponse;
+
+import org.springframework.batch.extensions.s3.builder.S3RollingItemWriterBuilder;
+import org.springframework.batch.extensions.s3.serializer.S3StringChunkSerializer;
+import org.springframework.batch.extensions.s3.stream.S3ResumableMultipartOutputStream;
+import org.springframework.batch.infrastructure.item.Chunk;
+import org.springframework.batch.infrastructure.item.ExecutionContext;
+import org.springframework.batch.infrastructure.item.ItemStreamException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+class S3RollingItemWriterTests {
+
+	private Map<String, ByteArrayOutputStream> objects;
+
+	@BeforeEach
+	void setUp() {
+		this.objects = new LinkedHashMap<>();
+	}
+
+	@Test
+	void testWrite_rollsByItemCount() throws Exception {
+		// given
+		S3RollingItemWriter<String> writer = new S3RollingItemWriter<>("exports/data.csv", this::newObject,
+				S3StringChunkSerializer::new);
+		writer.setMaxItemCount(4);
+
+		// when
+		writer.write(Chunk.of("a", "b"));
+		writer.write(Chunk.of("c", "d"));
+		writer.write(Chunk.of("e", "f"));
+		writer.write(Chunk.of("g", "h"));
+		writer.write(Chunk.of("i"));
+		writer.close();
+
+		// then
+		assertThat(writer.getObjectKeys()).containsExactly("exports/data-0001.csv", "exports/data-0002.csv",
+				"exports/data-0003.csv");
+		assertThat(content("exports/data-0001.csv")).isEqualTo("a\nb\nc\nd\n");
+		assertThat(content("exports/data-0002.csv")).isEqualTo("e\nf\ng\nh\n");
+		assertThat(content("exports/data-0003.csv")).isEqualTo("i\n");
+	}
+
+	@Test
+	void testWrite_rollsBySize() throws Exception {
+		// given
+		S3RollingItemWriter<String> writer = new S3RollingItemWriter<>("data.csv.gz", this::newObject,
+				S3StringChunkSerializer::new);
+		writer.setMaxObjectSize(6);
+
+		// when
+		writer.write(Chunk.of("aaa", "bbb"));
+		writer.write(Chunk.of("ccc"));
+		writer.close();
+
+		// then
+		assertThat(writer.getObjectKeys()).containsExactly("data-0001.csv.gz", "data-0002.csv.gz");
+		assertThat(content("data-0001.csv.gz")).isEqualTo("aaa\nbbb\n");
+		assertThat(content("data-0002.csv.gz")).isEqualTo("ccc\n");
+	}
+
+	@Test
+	void testUpdate_savesObjectKeys() throws Exception {
+		// given
+		S3RollingItemWriter<String> writer = new S3RollingItemWriter<>("data", this::newObject,
+				S3StringChunkSerializer::new);
+		writer.setMaxItemCount(1);
+		ExecutionContext executionContext = new ExecutionContext();
+
+		// when
+		writer.write(Chunk.of("a"));
+		writer.write(Chunk.of("b"));
+		writer.update(executionContext);
+		writer.close();
+
+		// then
+		assertThat(executionContext.get("S3RollingItemWriter.object.keys")).isEqualTo(List.of("data-0001", "data-0002"));
+	}
+
+	@Test
+	void testOpen_resumesObjectInProgress() throws Exception {
+		// given
+		S3ResumableMultipartOutputStream resumable = mock(S3ResumableMultipartOutputStream.class);
+		Map<String, OutputStream> streams = new LinkedHashMap<>();
+		S3RollingItemWriter<String> writer = new S3RollingItemWriter<>("data.csv", (key) -> {
+			streams.put(key, resumable);
+			return resumable;
+		}, S3StringChunkSerializer::new);
+		ExecutionContext executionContext = new ExecutionContext();
+		executionContext.put("S3RollingItemWriter.object.keys", List.of("data-0001.csv", "data-0002.csv"));
+		executionContext.putInt("S3RollingItemWriter.object.open", 1);
+		executionContext.putString("S3RollingItemWriter.upload.id", "upload-id");
+		executionContext.put("S3RollingItemWriter.upload.part.etags", List.of("etag-1"));
+		executionContext.putLong("S3RollingItemWriter.upload.bytes", 42L);
+		executionContext.putInt("S3RollingItemWriter.upload.buffered.bytes", 2);
+		executionContext.putString("S3RollingItemWriter.upload.checkpoint.etag", "checkpoint-etag");
+
+		// when
+		writer.open(executionContext);
+
+		// then
+		assertThat(streams).containsOnlyKeys("data-0002.csv");
+		assertThat(writer.getObjectKeys()).containsExactly("data-0001.csv", "data-0002.csv");
+		then(resumable).should().resume("upload-id", List.of("etag-1"), 42L, 2, "checkpoint-etag");
+	}
+
+	@Test
+	void testUpdate_rollsFullObjectOnceChunkIsWritten() throws Exception {
+		// given
+		OutputStream outputStream = mock(OutputStream.class);
+		S3RollingItemWriter<String> writer = new S3RollingItemWriter<>("data", (key) -> outputStream,
+				S3StringChunkSerializer::new);
+		writer.setMaxItemCount(2);
+		ExecutionContext executionContext = new ExecutionContext();
+
+		// when
+		writer.write(Chunk.of("a", "b"));
+
+		// then
+		then(outputStream).should(never()).close();
+
+		// when
+		writer.update(executionContext);
+
+		// then
+		then(outputStream).should().close();
+		assertThat(executionContext.getInt("S3RollingItemWriter.object.open")).isZero();
+		assertThat(executionContext.get("S3RollingItemWriter.object.keys")).isEqualTo(List.of("data-0001"));
+	}
+
+	@Test
+	void testOpen_restoresItemCountOfObjectInProgress() throws Exception {
+		// given
+		S3ResumableMultipartOutputStream resumable = mock(S3ResumableMultipartOutputStream.class);
+		S3RollingItemWriter<String> writer = new S3RollingItemWriter<>("data.csv", (key) -> resumable,
+				S3StringChunkSerializer::new);
+		writer.setMaxItemCount(4);
+		ExecutionContext executionContext = resumedContext();
+		executionContext.putLong("S3RollingItemWriter.object.item.count", 3L);
+		writer.open(executionContext);
+
+		// when
+		writer.write(Chunk.of("d"));
+		writer.update(executionContext);
+
+		// then
+		then(resumable).should().close();
+		assertThat(executionContext.getInt("S3RollingItemWriter.object.open")).isZero();
+	}
+
+	@Test
+	void testOpen_restoresByteCountOfObjectInProgress() throws Exception {
+		// given
+		S3ResumableMultipartOutputStream resumable = mock(S3ResumableMultipartOutputStream.class);
+		given(resumable.getBytesWritten()).willReturn(42L);
+		S3RollingItemWriter<String> writer = new S3RollingItemWriter<>("data.csv", (key) -> resumable,
+				S3StringChunkSerializer::new);
+		writer.setMaxObjectSize(44);
+		ExecutionContext executionContext = resumedContext();
+		writer.open(executionContext);
+
+		// when
+		writer.write(Chunk.of("d"));
+		writer.update(executionContext);
+
+		// then
+		then(resumable).should().close();
+		assertThat(executionContext.getInt("S3RollingItemWriter.object.open")).isZero();
+	}
+
+	@Test
+	void testClose_reportsFailureOfRolledObject() throws Exception {
+		// given
+		OutputStream failing = mock(OutputStream.class);
+		willThrow(new IOException("upload failed")).given(failing).close();
+		S3RollingItemWriter<String> writer = new S3RollingItemWriter<>("data", (key) -> failing,
+				S3StringChunkSerializer::new);
+		writer.setMaxItemCount(1);
+		writer.setSaveState(false);
+		writer.write(Chunk.of("a"));
+
+		// when/then
+		assertThatThrownBy(writer::close).isInstanceOf(ItemStreamException.class)
+			.hasRootCauseMessage("upload failed");
+	}
+
+	@Test
+	void testWrite_rollsMultipartUploadsWithSharedClient() throws Exception {
+		// given
+		S3Client s3Client = mock(S3Client.class);
+		given(s3Client.createMultipartUpload(any(CreateMultipartUploadRequest.class)))
+			.willReturn(CreateMultipartUploadResponse.builder().uploadId("upload-id").build());
+		given(s3Client.uploadPart(any(UploadPartRequest.class), any(RequestBody.class)))
+			.willReturn(UploadPartResponse.builder().eTag("etag").build());
+		given(s3Client.completeMultipartUpload(any(CompleteMultipartUploadRequest.class)))
+			.willReturn(CompleteMultipartUploadResponse.builder().build());
+		S3RollingItemWriter<String> writer = new S3RollingItemWriterBuilder<String>().s3Client(s3Client)
+			.bucketName("bucket")
+			.objectKey("data.csv")
+			.chunkSerializerSupplier(S3StringChunkSerializer::new)
+			.multipartUpload(true)
+			.maxItemCount(2)
+			.build();
+
+		// when
+		writer.write(Chunk.of("a", "b"));
+		writer.write(Chunk.of("c", "d"));
+		writer.write(Chunk.of("e"));
+		writer.close();
+
+		// then
+		ArgumentCaptor<CompleteMultipartUploadRequest> captor = ArgumentCaptor
+			.forClass(CompleteMultipartUploadRequest.class);
+		then(s3Client).should(times(3)).completeMultipartUpload(captor.capture());
+		assertThat(captor.getAllValues()).extracting(CompleteMultipartUploadRequest::key)
+			.containsExactlyInAnyOrder("data-0001.csv", "data-0002.csv", "data-0003.csv");
+		then(s3Client).should(never()).close();
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void testClose_reportsFailedPutObject() throws Exception {
+		// given
+		S3Client s3Client = mock(S3Client.class);
+		given(s3Client.putObject(any(Consumer.class), any(RequestBody.class)))
+			.willThrow(SdkClientException.create("Upload failed"));
+		S3RollingItemWriter<String> writer = new S3RollingItemWriterBuilder<String>().s3Client(s3Client)
+			.bucketName("bucket")
+			.objectKey("data.csv")
+			.chunkSerializerSupplier(S3StringChunkSerializer::new)
+			.maxItemCount(2)
+			.build();
+		writer.write(Chunk.of("a"));
+
+		// when/then
+		assertThatThrownBy(writer::close).isInstanceOf(ItemStreamException.class)
+			.hasRootCauseMessage("Upload failed");
+	}
+
+	private ExecutionContext resumedContext() {
+		ExecutionContext executionContext = new ExecutionContext();
+		executionContext.put("S3RollingItemWriter.object.keys", List.of("data-0001.csv"));
+		executionContext.putInt("S3RollingItemWriter.object.open", 1);
+		executionContext.putString("S3RollingItemWriter.upload.id", "upload-id");
+		executionContext.put("S3RollingItemWriter.upload.part.etags", List.of("etag-1"));
+		executionContext.putLong("S3RollingItemWriter.upload.bytes", 42L);
+		return executionContext;
+	}
+
+	private OutputStream newObject(String key) {
+		ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+		this.objects.put(key, outputStream);
+		return outputStream;
+	}
+
+	private String content(String key) {
+		return Objects.requireNonNull(this.objects.get(key)).toString(StandardCharsets.UTF_8);
+	}
+
+}
@@ -0,0 +1,162 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.batch.extensions.s3.avro;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.avro.Schema;
+import org.apache.avro.SchemaBuilder;
+import org.apache.avro.file.CodecFactory;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericRecord;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+
+import org.springframework.batch.extensions.s3.builder.S3ItemWriterBuilder;
+import org.springframework.batch.extensions.s3.builder.S3RollingItemWriterBuilder;
+import org.springframework.batch.extensions.s3.stream.S3InputStream;
+import org.springframework.batch.infrastructure.item.Chunk;
+import org.springframework.batch.infrastructure.item.ExecutionContext;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+
+class S3AvroChunkSerializerTests {
+
+	private final Schema schema = SchemaBuilder.record("Person")
+		.fields()
+		.requiredInt("id")
+		.requiredString("name")
+		.endRecord();
+
+	private S3Client s3Client;
+
+	@BeforeEach
+	void setUp() {
+		this.s3Client = Mockito.mock(S3Client.class);
+	}
+
+	@Test
+	void testRoundTrip() throws Exception {
+		// given
+		S3AvroChunkSerializer<GenericRecord> serializer = new S3AvroChunkSerializer<>(this.schema);
+		serializer.setCodec(CodecFactory.deflateCodec(6));
+		ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+		// when
+		serializer.serialize(Chunk.of(person(1, "Alice"), person(2, "Bob")), outputStream);
+		serializer.serialize(Chunk.of(person(3, "Zoë")), outputStream);
+		serializer.finish();
+
+		// then
+		List<GenericRecord> items = readAll(outputStream.toByteArray(), new ExecutionContext());
+		assertThat(items).extracting((item) -> item.get("name").toString()).containsExactly("Alice", "Bob", "Zoë");
+	}
+
+	@Test
+	void testBuildersRejectSaveState() {
+		// given
+		S3ItemWriterBuilder<GenericRecord> builder = new S3ItemWriterBuilder<GenericRecord>().s3Client(this.s3Client)
+			.bucketName("bucket")
+			.objectKey("people.avro")
+			.chunkSerializer(new S3AvroChunkSerializer<>(this.schema))
+			.saveState(true);
+		S3RollingItemWriterBuilder<GenericRecord> rollingBuilder = new S3RollingItemWriterBuilder<GenericRecord>()
+			.s3Client(this.s3Client)
+			.bucketName("bucket")
+			.objectKey("people.avro")
+			.chunkSerializerSupplier(() -> new S3AvroChunkSerializer<>(this.schema))
+			.maxItemCount(10)
+			.saveState(true);
+
+		// when/then
+		assertThatThrownBy(builder::build).isInstanceOf(IllegalArgumentException.class)
+			.hasMessageContaining("saveState");
+		assertThatThrownBy(rollingBuilder::build).isInstanceOf(IllegalArgumentException.class)
+			.hasMessageContaining("saveState");
+	}
+
+	@Test
+	void testFinishWithoutChunksWritesNothing() throws IOException {
+		// given
+		S3AvroChunkSerializer<GenericRecord> serializer = new S3AvroChunkSerializer<>(this.schema);
+
+		// when
+		serializer.finish();
+
+		// then no exception is thrown and no header is written
+	}
+
+	@Test
+	void testReaderRestartSkipsWholeBlocks() throws Exception {
+		// given one block per chunk
+		S3AvroChunkSerializer<GenericRecord> serializer = new S3AvroChunkSerializer<>(this.schema);
+		ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+		for (int chunk = 0; chunk < 4; chunk++) {
+			serializer.serialize(Chunk.of(person(chunk * 3, "a"), person(chunk * 3 + 1, "b"), person(chunk * 3 + 2, "c")),
+					outputStream);
+		}
+		serializer.finish();
+		ExecutionContext executionContext = new ExecutionContext();
+		executionContext.putInt("S3AvroItemReader.read.count", 7);
+
+		// when
+		List<GenericRecord> items = readAll(outputStream.toByteArray(), executionContext);
+
+		// then
+		assertThat(items).extracting((item) -> item.get("id")).containsExactly(7, 8, 9, 10, 11);
+	}
+
+	private GenericRecord person(int id, String name) {
+		GenericRecord record = new GenericData.Record(this.schema);
+		record.put("id", id);
+		record.put("name", name);
+		return record;
+	}
+
+	private List<GenericRecord> readAll(byte[] bytes, ExecutionContext executionContext) throws Exception {
+		given(this.s3Client.getObject(any(GetObjectRequest.class))).willReturn(
+				new ResponseInputStream<>(GetObjectResponse.builder().build(), new ByteArrayInputStream(bytes)));
+		S3AvroItemReader<GenericRecord> reader = new S3AvroItemReader<>(
+				new S3InputStream(this.s3Client, "test-bucket", "people.avro"));
+		reader.setName("S3AvroItemReader");
+		List<GenericRecord> items = new ArrayList<>();
+		reader.open(executionContext);
+		try {
+			GenericRecord item;
+			while ((item = reader.read()) != null) {
+				items.add(item);
+			}
+		}
+		finally {
+			reader.close();
+		}
+		return items;
+	}
+
+}
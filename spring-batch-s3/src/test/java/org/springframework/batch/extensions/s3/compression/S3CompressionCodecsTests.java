@@ -0,0 +1,92 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.batch.extensions.s3.compression;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class S3CompressionCodecsTests {
+
+	static Stream<S3CompressionCodec> codecs() {
+		return Stream.of(new GzipCompressionCodec(), new ZstdCompressionCodec(), new SnappyFramedCompressionCodec());
+	}
+
+	@ParameterizedTest
+	@MethodSource("codecs")
+	void testRoundTrip(S3CompressionCodec codec) throws Exception {
+		// given
+		StringBuilder lines = new StringBuilder();
+		for (int i = 0; i < 100_000; i++) {
+			lines.append(i).append(",item-").append(i % 100).append(",2025-01-01T00:00:00Z\n");
+		}
+		byte[] data = lines.toString().getBytes(StandardCharsets.UTF_8);
+
+		// when
+		ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+		try (OutputStream out = codec.compress(compressed)) {
+			for (int offset = 0; offset < data.length; offset += 1000) {
+				out.write(data, offset, Math.min(1000, data.length - offset));
+			}
+		}
+		byte[] decompressed;
+		try (InputStream in = codec.decompress(new ByteArrayInputStream(compressed.toByteArray()))) {
+			decompressed = in.readAllBytes();
+		}
+
+		// then
+		assertThat(compressed.size()).isLessThan(data.length);
+		assertThat(decompressed).isEqualTo(data);
+	}
+
+	@ParameterizedTest
+	@MethodSource("codecs")
+	void testDetectionMatchesCodec(S3CompressionCodec codec) {
+		// when
+		S3CompressionCodec byKey = S3CompressionCodecs.forObjectKey("data/part-0001.csv" + codec.getKeySuffix());
+		S3CompressionCodec byEncoding = S3CompressionCodecs.forContentEncoding(codec.getContentEncoding());
+
+		// then
+		assertThat(byKey).isInstanceOf(codec.getClass());
+		assertThat(byEncoding).isInstanceOf(codec.getClass());
+	}
+
+	@Test
+	void testDetectionIsCaseInsensitive() {
+		// when/then
+		assertThat(S3CompressionCodecs.forObjectKey("DATA.GZ")).isInstanceOf(GzipCompressionCodec.class);
+		assertThat(S3CompressionCodecs.forContentEncoding(" GZIP ")).isInstanceOf(GzipCompressionCodec.class);
+	}
+
+	@Test
+	void testDetectionOfUncompressedObject() {
+		// when/then
+		assertThat(S3CompressionCodecs.forObjectKey("data.csv")).isNull();
+		assertThat(S3CompressionCodecs.forContentEncoding(null)).isNull();
+		assertThat(S3CompressionCodecs.forContentEncoding("identity")).isNull();
+	}
+
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.batch.extensions.s3.metrics;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.core.metrics.CoreMetric;
+import software.amazon.awssdk.metrics.MetricCollector;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class S3SdkMetricPublisherTests {
+
+	private SimpleMeterRegistry meterRegistry;
+
+	private S3SdkMetricPublisher publisher;
+
+	@BeforeEach
+	void setUp() {
+		this.meterRegistry = new SimpleMeterRegistry();
+		this.publisher = new S3SdkMetricPublisher(this.meterRegistry);
+	}
+
+	@Test
+	void testPublishRecordsRetries() {
+		MetricCollector collector = MetricCollector.create("ApiCall");
+		collector.reportMetric(CoreMetric.OPERATION_NAME, "UploadPart");
+		collector.reportMetric(CoreMetric.RETRY_COUNT, 2);
+
+		// when
+		this.publisher.publish(collector.collect());
+
+		// then
+		assertThat(this.meterRegistry.get(S3SdkMetricPublisher.RETRIES)
+			.tag(S3Metrics.TAG_OPERATION, "UploadPart")
+			.counter()
+			.count()).isEqualTo(2.0);
+	}
+
+	@Test
+	void testPublishIgnoresCallsWithoutRetries() {
+		MetricCollector collector = MetricCollector.create("ApiCall");
+		collector.reportMetric(CoreMetric.OPERATION_NAME, "GetObject");
+		collector.reportMetric(CoreMetric.RETRY_COUNT, 0);
+
+		// when
+		this.publisher.publish(collector.collect());
+
+		// then
+		assertThat(this.meterRegistry.find(S3SdkMetricPublisher.RETRIES).counter()).isNull();
+	}
+
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.batch.extensions.s3.parquet;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.Arrays;
+
+import org.apache.parquet.io.SeekableInputStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.times;
+
+class S3InputFileTests {
+
+	private final byte[] object = "0123456789abcdefghij".getBytes();
+
+	private S3Client s3Client;
+
+	@BeforeEach
+	void setUp() {
+		this.s3Client = Mockito.mock(S3Client.class);
+		given(this.s3Client.headObject(any(HeadObjectRequest.class))).willReturn(
+				HeadObjectResponse.builder().contentLength((long) this.object.length).eTag("etag").build());
+		given(this.s3Client.getObject(any(GetObjectRequest.class))).willAnswer((invocation) -> {
+			GetObjectRequest request = invocation.getArgument(0);
+			String[] range = request.range().substring("bytes=".length()).split("-");
+			byte[] slice = Arrays.copyOfRange(this.object, Integer.parseInt(range[0]), Integer.parseInt(range[1]) + 1);
+			return new ResponseInputStream<>(GetObjectResponse.builder().build(), new ByteArrayInputStream(slice));
+		});
+	}
+
+	@Test
+	void testReadAcrossRanges() throws IOException {
+		// given
+		S3InputFile inputFile = new S3InputFile(this.s3Client, "test-bucket", "test.parquet");
+		inputFile.setRangeSize(8);
+		byte[] buffer = new byte[this.object.length];
+
+		// when
+		try (SeekableInputStream in = inputFile.newStream()) {
+			in.readFully(buffer);
+			assertThat(in.getPos()).isEqualTo(this.object.length);
+			assertThat(in.read()).isEqualTo(-1);
+		}
+
+		// then
+		assertThat(buffer).isEqualTo(this.object);
+		assertThat(inputFile.getLength()).isEqualTo(this.object.length);
+		then(this.s3Client).should().headObject(any(HeadObjectRequest.class));
+		then(this.s3Client).should(times(3)).getObject(any(GetObjectRequest.class));
+	}
+
+	@Test
+	void testSeekRequestsRangeFromNewPosition() throws IOException {
+		// given
+		S3InputFile inputFile = new S3InputFile(this.s3Client, "test-bucket", "test.parquet");
+		byte[] buffer = new byte[4];
+
+		// when
+		try (SeekableInputStream in = inputFile.newStream()) {
+			in.seek(16);
+			in.readFully(buffer);
+		}
+
+		// then
+		assertThat(new String(buffer)).isEqualTo("ghij");
+		ArgumentCaptor<GetObjectRequest> captor = ArgumentCaptor.forClass(GetObjectRequest.class);
+		then(this.s3Client).should().getObject(captor.capture());
+		assertThat(captor.getValue().range()).isEqualTo("bytes=16-19");
+		assertThat(captor.getValue().ifMatch()).isEqualTo("etag");
+	}
+
+	@Test
+	void testShortForwardSeekReusesRange() throws IOException {
+		// given
+		S3InputFile inputFile = new S3InputFile(this.s3Client, "test-bucket", "test.parquet");
+		byte[] buffer = new byte[2];
+
+		// when
+		try (SeekableInputStream in = inputFile.newStream()) {
+			in.readFully(buffer);
+			in.seek(10);
+			assertThat((char) in.read()).isEqualTo('a');
+			in.seek(2);
+			assertThat((char) in.read()).isEqualTo('2');
+		}
+
+		// then one range for the first reads and the forward seek, one for the backward seek
+		then(this.s3Client).should(times(2)).getObject(any(GetObjectRequest.class));
+	}
+
+}
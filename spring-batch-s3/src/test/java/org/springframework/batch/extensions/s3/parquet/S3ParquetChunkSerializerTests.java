@@ -0,0 +1,177 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.batch.extensions.s3.parquet;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.apache.avro.Schema;
+import org.apache.avro.SchemaBuilder;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.parquet.hadoop.metadata.CompressionCodecName;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+
+import org.springframework.batch.extensions.s3.builder.S3ItemWriterBuilder;
+import org.springframework.batch.infrastructure.item.Chunk;
+import org.springframework.batch.infrastructure.item.ExecutionContext;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+
+class S3ParquetChunkSerializerTests {
+
+	private final Schema schema = SchemaBuilder.record("Person")
+		.fields()
+		.requiredInt("id")
+		.requiredString("name")
+		.endRecord();
+
+	private S3Client s3Client;
+
+	@BeforeEach
+	void setUp() {
+		this.s3Client = Mockito.mock(S3Client.class);
+	}
+
+	@Test
+	void testRoundTrip() throws Exception {
+		// given
+		S3ParquetChunkSerializer<GenericRecord> serializer = new S3ParquetChunkSerializer<>(this.schema);
+		serializer.setCompressionCodec(CompressionCodecName.ZSTD);
+		ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+		// when
+		serializer.serialize(Chunk.of(person(1, "Alice"), person(2, "Bob")), outputStream);
+		serializer.serialize(Chunk.of(person(3, "Zoë")), outputStream);
+		serializer.finish();
+
+		// then
+		byte[] bytes = outputStream.toByteArray();
+		assertThat(new String(bytes, 0, 4)).isEqualTo("PAR1");
+		assertThat(new String(bytes, bytes.length - 4, 4)).isEqualTo("PAR1");
+		List<GenericRecord> items = readAll(bytes, new ExecutionContext());
+		assertThat(items).extracting((item) -> item.get("name").toString()).containsExactly("Alice", "Bob", "Zoë");
+	}
+
+	@Test
+	void testBuilderRejectsSaveState() {
+		// given
+		S3ItemWriterBuilder<GenericRecord> builder = new S3ItemWriterBuilder<GenericRecord>().s3Client(this.s3Client)
+			.bucketName("bucket")
+			.objectKey("people.parquet")
+			.chunkSerializer(new S3ParquetChunkSerializer<>(this.schema))
+			.saveState(true);
+
+		// when/then
+		assertThatThrownBy(builder::build).isInstanceOf(IllegalArgumentException.class)
+			.hasMessageContaining("saveState");
+	}
+
+	@Test
+	void testFinishClosesOnlyTheParquetFile() throws IOException {
+		// given
+		S3ParquetChunkSerializer<GenericRecord> serializer = new S3ParquetChunkSerializer<>(this.schema);
+		ClosingTrackingOutputStream outputStream = new ClosingTrackingOutputStream();
+
+		// when
+		serializer.serialize(Chunk.of(person(1, "Alice")), outputStream);
+		serializer.finish();
+
+		// then
+		assertThat(outputStream.closed).isFalse();
+		assertThat(outputStream.size()).isGreaterThan(8);
+	}
+
+	@Test
+	void testReaderRestart() throws Exception {
+		// given
+		S3ParquetChunkSerializer<GenericRecord> serializer = new S3ParquetChunkSerializer<>(this.schema);
+		ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+		for (int id = 0; id < 10; id++) {
+			serializer.serialize(Chunk.of(person(id, "name" + id)), outputStream);
+		}
+		serializer.finish();
+		ExecutionContext executionContext = new ExecutionContext();
+		executionContext.putInt("S3ParquetItemReader.read.count", 6);
+
+		// when
+		List<GenericRecord> items = readAll(outputStream.toByteArray(), executionContext);
+
+		// then
+		assertThat(items).extracting((item) -> item.get("id")).containsExactly(6, 7, 8, 9);
+	}
+
+	private GenericRecord person(int id, String name) {
+		GenericRecord record = new GenericData.Record(this.schema);
+		record.put("id", id);
+		record.put("name", name);
+		return record;
+	}
+
+	private List<GenericRecord> readAll(byte[] bytes, ExecutionContext executionContext) throws Exception {
+		given(this.s3Client.headObject(any(HeadObjectRequest.class)))
+			.willReturn(HeadObjectResponse.builder().contentLength((long) bytes.length).eTag("etag").build());
+		given(this.s3Client.getObject(any(GetObjectRequest.class))).willAnswer((invocation) -> {
+			GetObjectRequest request = invocation.getArgument(0);
+			String[] range = request.range().substring("bytes=".length()).split("-");
+			byte[] slice = Arrays.copyOfRange(bytes, Integer.parseInt(range[0]), Integer.parseInt(range[1]) + 1);
+			return new ResponseInputStream<>(GetObjectResponse.builder().build(), new ByteArrayInputStream(slice));
+		});
+		S3ParquetItemReader<GenericRecord> reader = new S3ParquetItemReader<>(
+				new S3InputFile(this.s3Client, "test-bucket", "people.parquet"));
+		reader.setName("S3ParquetItemReader");
+		List<GenericRecord> items = new ArrayList<>();
+		reader.open(executionContext);
+		try {
+			GenericRecord item;
+			while ((item = reader.read()) != null) {
+				items.add(item);
+			}
+		}
+		finally {
+			reader.close();
+		}
+		return items;
+	}
+
+	private static final class ClosingTrackingOutputStream extends ByteArrayOutputStream {
+
+		private boolean closed;
+
+		@Override
+		public void close() {
+			this.closed = true;
+		}
+
+	}
+
+}
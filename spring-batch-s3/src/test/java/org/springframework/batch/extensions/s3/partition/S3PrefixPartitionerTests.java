@@ -0,0 +1,95 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.batch.extensions.s3.partition;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Request;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Response;
+import software.amazon.awssdk.services.s3.model.S3Object;
+
+import org.springframework.batch.infrastructure.item.ExecutionContext;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willCallRealMethod;
+import static org.mockito.Mockito.mock;
+
+class S3PrefixPartitionerTests {
+
+	private S3Client s3Client;
+
+	@BeforeEach
+	void setUp() {
+		this.s3Client = mock(S3Client.class);
+		willCallRealMethod().given(this.s3Client).listObjectsV2Paginator(any(ListObjectsV2Request.class));
+	}
+
+	@Test
+	void testPartitionBalancesObjectsBySize() {
+		// given
+		given(this.s3Client.listObjectsV2(any(ListObjectsV2Request.class))).willReturn(
+				ListObjectsV2Response.builder()
+					.contents(object("data/", 0L), object("data/a", 100L), object("data/b", 60L))
+					.isTruncated(true)
+					.nextContinuationToken("token")
+					.build(),
+				ListObjectsV2Response.builder()
+					.contents(object("data/c", 50L), object("data/d", 10L))
+					.isTruncated(false)
+					.build());
+
+		S3PrefixPartitioner partitioner = new S3PrefixPartitioner(this.s3Client, "bucket", "data/");
+
+		// when
+		Map<String, ExecutionContext> partitions = partitioner.partition(2);
+
+		// then
+		assertThat(partitions).containsOnlyKeys("partition0", "partition1");
+		ExecutionContext partition0 = Objects.requireNonNull(partitions.get("partition0"));
+		ExecutionContext partition1 = Objects.requireNonNull(partitions.get("partition1"));
+		assertThat(partition0.getString(S3PrefixPartitioner.BUCKET_NAME)).isEqualTo("bucket");
+		assertThat(partition0.get(S3PrefixPartitioner.OBJECT_KEYS)).isEqualTo(List.of("data/a", "data/d"));
+		assertThat(partition1.get(S3PrefixPartitioner.OBJECT_KEYS)).isEqualTo(List.of("data/b", "data/c"));
+	}
+
+	@Test
+	void testPartitionCreatesAtMostOnePartitionPerObject() {
+		// given
+		given(this.s3Client.listObjectsV2(any(ListObjectsV2Request.class)))
+			.willReturn(ListObjectsV2Response.builder().contents(object("data/a", 100L)).isTruncated(false).build());
+
+		S3PrefixPartitioner partitioner = new S3PrefixPartitioner(this.s3Client, "bucket", "data/");
+
+		// when
+		Map<String, ExecutionContext> partitions = partitioner.partition(4);
+
+		// then
+		assertThat(partitions).containsOnlyKeys("partition0");
+	}
+
+	private static S3Object object(String key, long size) {
+		return S3Object.builder().key(key).size(size).build();
+	}
+
+}
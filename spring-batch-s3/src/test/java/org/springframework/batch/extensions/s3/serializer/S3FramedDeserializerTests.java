@@ -0,0 +1,152 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.batch.extensions.s3.serializer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class S3FramedDeserializerTests {
+
+	private static final S3RecordDecoder<String> UTF8 = (buffer, offset, length) -> new String(buffer, offset, length,
+			StandardCharsets.UTF_8);
+
+	@Test
+	void testDeserializeFixedLengthRecords() {
+		S3FramedDeserializer<String> deserializer = new S3FramedDeserializer<>(S3RecordFramer.fixedLength(3), UTF8);
+
+		assertThat(deserializer.deserialize(bytes("ab"))).isNull();
+		assertThat(deserializer.deserialize(bytes("cdefg"))).isEqualTo("abc");
+		assertThat(deserializer.deserialize(new byte[0])).isEqualTo("def");
+		assertThat(deserializer.deserialize(new byte[0])).isNull();
+		assertThat(deserializer.getBufferedByteCount()).isEqualTo(1);
+	}
+
+	@Test
+	void testDeserializeInt32LengthPrefixedRecords() throws IOException {
+		ByteArrayOutputStream data = new ByteArrayOutputStream();
+		DataOutputStream out = new DataOutputStream(data);
+		for (String record : List.of("first", "", "third record")) {
+			out.writeInt(record.length());
+			out.writeBytes(record);
+		}
+		S3FramedDeserializer<String> deserializer = new S3FramedDeserializer<>(S3RecordFramer.int32LengthPrefixed(),
+				UTF8);
+
+		assertThat(deserializeByteByByte(deserializer, data.toByteArray())).containsExactly("first", "",
+				"third record");
+	}
+
+	@Test
+	void testDeserializeVarintLengthPrefixedRecords() {
+		String longRecord = "x".repeat(300); // length encoded on 2 bytes
+		ByteArrayOutputStream data = new ByteArrayOutputStream();
+		data.write(5);
+		data.writeBytes(bytes("short"));
+		data.write(0xAC);
+		data.write(0x02);
+		data.writeBytes(bytes(longRecord));
+		S3FramedDeserializer<String> deserializer = new S3FramedDeserializer<>(S3RecordFramer.varintLengthPrefixed(),
+				UTF8);
+
+		assertThat(deserializeByteByByte(deserializer, data.toByteArray())).containsExactly("short", longRecord);
+	}
+
+	@Test
+	void testDeserializeDelimitedRecords() {
+		S3FramedDeserializer<String> deserializer = new S3FramedDeserializer<>(
+				S3RecordFramer.delimited(bytes("||")), UTF8);
+
+		assertThat(deserializeByteByByte(deserializer, bytes("a|b||||c||d"))).containsExactly("a|b", "", "c");
+		assertThat(deserializer.getBufferedByteCount()).isEqualTo(1);
+	}
+
+	@Test
+	void testDeserializeBufferRange() {
+		S3FramedDeserializer<String> deserializer = new S3FramedDeserializer<>(S3RecordFramer.delimited(bytes(";")),
+				UTF8);
+		byte[] buffer = bytes("xxrecord;yy");
+
+		assertThat(deserializer.deserialize(buffer, 2, 7)).isEqualTo("record");
+		assertThat(deserializer.getBufferedByteCount()).isZero();
+	}
+
+	@Test
+	void testDeserializeRecordLargerThanInitialCapacity() {
+		String record = "y".repeat(5000);
+		S3FramedDeserializer<String> deserializer = new S3FramedDeserializer<>(S3RecordFramer.delimited(bytes("\n")),
+				UTF8);
+
+		assertThat(deserializeByteByByte(deserializer, bytes(record + "\n" + record + "\n"))).containsExactly(record,
+				record);
+	}
+
+	@Test
+	void testMalformedVarintFails() {
+		S3FramedDeserializer<String> deserializer = new S3FramedDeserializer<>(S3RecordFramer.varintLengthPrefixed(),
+				UTF8);
+		byte[] data = { (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x01 };
+
+		assertThatThrownBy(() -> deserializer.deserialize(data)).isInstanceOf(IllegalStateException.class);
+	}
+
+	@Test
+	void testNegativeInt32LengthFails() {
+		S3FramedDeserializer<String> deserializer = new S3FramedDeserializer<>(S3RecordFramer.int32LengthPrefixed(),
+				UTF8);
+		byte[] data = { (byte) 0x80, 0, 0, 0 };
+
+		assertThatThrownBy(() -> deserializer.deserialize(data)).isInstanceOf(IllegalStateException.class);
+	}
+
+	@Test
+	void testDecoderFailureIsRethrown() {
+		S3FramedDeserializer<String> deserializer = new S3FramedDeserializer<>(S3RecordFramer.fixedLength(1),
+				(buffer, offset, length) -> {
+					throw new IOException("Invalid record");
+				});
+
+		assertThatThrownBy(() -> deserializer.deserialize(bytes("a"))).isInstanceOf(UncheckedIOException.class)
+			.hasRootCauseMessage("Invalid record");
+	}
+
+	private static List<String> deserializeByteByByte(S3FramedDeserializer<String> deserializer, byte[] data) {
+		List<String> records = new ArrayList<>();
+		for (byte b : data) {
+			String record = deserializer.deserialize(new byte[] { b });
+			while (record != null) {
+				records.add(record);
+				record = deserializer.deserialize(new byte[0]);
+			}
+		}
+		return records;
+	}
+
+	private static byte[] bytes(String value) {
+		return value.getBytes(StandardCharsets.UTF_8);
+	}
+
+}
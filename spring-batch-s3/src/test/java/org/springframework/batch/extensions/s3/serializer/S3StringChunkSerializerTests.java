@@ -0,0 +1,75 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.batch.extensions.s3.serializer;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.batch.infrastructure.item.Chunk;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class S3StringChunkSerializerTests {
+
+	@Test
+	void testSerializeChunk() throws Exception {
+		S3StringChunkSerializer serializer = new S3StringChunkSerializer();
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+		serializer.serialize(Chunk.of("line1", "", "caf\u00e9"), out);
+
+		assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo("line1\n\ncaf\u00e9\n");
+	}
+
+	@Test
+	void testSerializeItemsLargerThanBuffer() throws Exception {
+		S3StringChunkSerializer serializer = new S3StringChunkSerializer(StandardCharsets.UTF_8, 4);
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		List<String> items = new ArrayList<>();
+		StringBuilder expected = new StringBuilder();
+		for (int i = 0; i < 100; i++) {
+			String item = "item-\u20ac-" + i;
+			items.add(item);
+			expected.append(item).append('\n');
+		}
+
+		serializer.serialize(new Chunk<>(items), out);
+
+		assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo(expected.toString());
+	}
+
+	@Test
+	void testSerializeMatchesItemSerializer() throws Exception {
+		S3StringChunkSerializer chunkSerializer = new S3StringChunkSerializer(StandardCharsets.UTF_16);
+		S3StringSerializer itemSerializer = new S3StringSerializer(StandardCharsets.UTF_16);
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+		chunkSerializer.serialize(Chunk.of("a", "b"), out);
+		chunkSerializer.serialize(Chunk.of("c"), out);
+
+		ByteArrayOutputStream expected = new ByteArrayOutputStream();
+		expected.writeBytes(itemSerializer.serialize("a"));
+		expected.writeBytes(itemSerializer.serialize("b"));
+		expected.writeBytes(itemSerializer.serialize("c"));
+		assertThat(out.toByteArray()).isEqualTo(expected.toByteArray());
+	}
+
+}
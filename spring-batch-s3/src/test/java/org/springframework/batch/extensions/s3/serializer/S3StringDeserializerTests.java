@@ -18,6 +18,8 @@ package org.springframework.batch.extensions.s3.serializer;
 
 
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
@@ -67,4 +69,58 @@ class S3StringDeserializerTests {
 		assertThat(deserializer.deserialize("".getBytes(StandardCharsets.UTF_8))).isNull();
 	}
 
+	@Test
+	void testDeserializeBufferRange() {
+		S3StringDeserializer deserializer = new S3StringDeserializer();
+		byte[] buffer = "xxline1\nyy".getBytes(StandardCharsets.UTF_8);
+		String result = deserializer.deserialize(buffer, 2, 6);
+		assertThat(result).isEqualTo("line1");
+	}
+
+	@Test
+	void testDeserializeMultiByteCharacterSplitAcrossBuffers() {
+		S3StringDeserializer deserializer = new S3StringDeserializer();
+		byte[] input = "caf\u00e9 \u20ac\n".getBytes(StandardCharsets.UTF_8);
+		List<String> lines = new ArrayList<>();
+		for (byte b : input) {
+			String line = deserializer.deserialize(new byte[] { b });
+			if (line != null) {
+				lines.add(line);
+			}
+		}
+		assertThat(lines).containsExactly("caf\u00e9 \u20ac");
+	}
+
+	@Test
+	void testDeserializeManyLinesFromLargeBuffer() {
+		S3StringDeserializer deserializer = new S3StringDeserializer();
+		StringBuilder input = new StringBuilder();
+		for (int i = 0; i < 10_000; i++) {
+			input.append("line").append(i).append('\n');
+		}
+		List<String> lines = new ArrayList<>();
+		String line = deserializer.deserialize(input.toString().getBytes(StandardCharsets.UTF_8));
+		while (line != null) {
+			lines.add(line);
+			line = deserializer.deserialize(new byte[0]);
+		}
+		assertThat(lines).hasSize(10_000).startsWith("line0").endsWith("line9999");
+		assertThat(deserializer.getBufferedByteCount()).isZero();
+	}
+
+	@Test
+	void testDeserializeUtf16() {
+		S3StringDeserializer deserializer = new S3StringDeserializer(StandardCharsets.UTF_16LE);
+		byte[] input = "\u010al1\r\nl2\n".getBytes(StandardCharsets.UTF_16LE);
+		assertThat(deserializer.deserialize(input)).isEqualTo("\u010al1");
+		assertThat(deserializer.deserialize(new byte[0])).isEqualTo("l2");
+	}
+
+	@Test
+	void testGetBufferedByteCount() {
+		S3StringDeserializer deserializer = new S3StringDeserializer();
+		deserializer.deserialize("line1\npart\u00e9".getBytes(StandardCharsets.UTF_8));
+		assertThat(deserializer.getBufferedByteCount()).isEqualTo(6);
+	}
+
 }
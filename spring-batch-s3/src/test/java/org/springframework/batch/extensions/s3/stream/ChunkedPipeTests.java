@@ -0,0 +1,117 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.batch.extensions.s3.stream;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ChunkedPipeTests {
+
+	@Test
+	void testTransferAcrossChunks() throws Exception {
+		byte[] data = new byte[1000];
+		new Random(42).nextBytes(data);
+		ChunkedPipe pipe = new ChunkedPipe(64, 2);
+
+		// when
+		CompletableFuture<byte[]> received = CompletableFuture.supplyAsync(() -> {
+			try (InputStream in = pipe.getInputStream()) {
+				return in.readAllBytes();
+			}
+			catch (IOException ex) {
+				throw new IllegalStateException(ex);
+			}
+		});
+		try (OutputStream out = pipe.getOutputStream()) {
+			out.write(data, 0, 500);
+			out.write(data[500]);
+			out.write(data, 501, 499);
+		}
+
+		// then
+		assertThat(received.get()).isEqualTo(data);
+	}
+
+	@Test
+	void testFlushHandsOverPartialChunk() throws IOException {
+		ChunkedPipe pipe = new ChunkedPipe(64, 2);
+		OutputStream out = pipe.getOutputStream();
+		InputStream in = pipe.getInputStream();
+
+		// when
+		out.write(new byte[] { 1, 2, 3 });
+
+		// then
+		assertThat(in.available()).isZero();
+		out.flush();
+		assertThat(in.available()).isEqualTo(3);
+		assertThat(in.read()).isEqualTo(1);
+		assertThat(in.available()).isEqualTo(2);
+	}
+
+	@Test
+	void testWriteFailsWhenReaderIsClosed() throws IOException {
+		ChunkedPipe pipe = new ChunkedPipe(4, 1);
+		OutputStream out = pipe.getOutputStream();
+
+		// when
+		pipe.getInputStream().close();
+
+		// then
+		assertThatThrownBy(() -> out.write(new byte[] { 1, 2, 3, 4, 5 })).isInstanceOf(IOException.class);
+	}
+
+	@Test
+	void testRecordsConsumerWait() throws Exception {
+		SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+		Timer producerWait = meterRegistry.timer("wait", "side", "producer");
+		Timer consumerWait = meterRegistry.timer("wait", "side", "consumer");
+		ChunkedPipe pipe = new ChunkedPipe(4, 1);
+		pipe.setWaitTimers(producerWait, consumerWait);
+
+		// when
+		CompletableFuture<byte[]> received = CompletableFuture.supplyAsync(() -> {
+			try (InputStream in = pipe.getInputStream()) {
+				return in.readAllBytes();
+			}
+			catch (IOException ex) {
+				throw new IllegalStateException(ex);
+			}
+		});
+		Thread.sleep(50L);
+		try (OutputStream out = pipe.getOutputStream()) {
+			out.write(new byte[] { 1, 2, 3 });
+		}
+
+		// then
+		assertThat(received.get()).containsExactly(1, 2, 3);
+		assertThat(consumerWait.count()).isPositive();
+		assertThat(consumerWait.totalTime(TimeUnit.MILLISECONDS)).isGreaterThan(0.0);
+	}
+
+}
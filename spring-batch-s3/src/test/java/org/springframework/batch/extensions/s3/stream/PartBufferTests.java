@@ -0,0 +1,73 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.batch.extensions.s3.stream;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PartBufferTests {
+
+	@ParameterizedTest
+	@EnumSource(S3PartBufferType.class)
+	void testFillAndReadAgain(S3PartBufferType type, @TempDir Path directory) throws IOException {
+		// given
+		PartBuffer buffer = PartBuffer.allocate(type, 8, directory);
+		InputStream inputStream = new ByteArrayInputStream("HelloWorld!".getBytes(StandardCharsets.UTF_8));
+
+		// when
+		int first = buffer.fill(inputStream);
+
+		// then
+		assertThat(first).isEqualTo(8);
+		assertThat(new String(buffer.newInputStream(first).readAllBytes(), StandardCharsets.UTF_8))
+			.isEqualTo("HelloWor");
+		// the part can be read again, e.g. when the request is retried
+		assertThat(buffer.newInputStream(first).readAllBytes()).hasSize(8);
+
+		// when the buffer is recycled
+		int second = buffer.fill(inputStream);
+
+		// then
+		assertThat(second).isEqualTo(3);
+		assertThat(new String(buffer.newInputStream(second).readAllBytes(), StandardCharsets.UTF_8)).isEqualTo("ld!");
+		assertThat(buffer.fill(inputStream)).isEqualTo(-1);
+	}
+
+	@Test
+	void testMappedFileIsDeleted(@TempDir Path directory) throws IOException {
+		// when
+		PartBuffer buffer = PartBuffer.allocate(S3PartBufferType.MAPPED_FILE, 1024, directory);
+
+		// then
+		assertThat(buffer.capacity()).isEqualTo(1024);
+		try (var files = Files.list(directory)) {
+			assertThat(files).isEmpty();
+		}
+	}
+
+}
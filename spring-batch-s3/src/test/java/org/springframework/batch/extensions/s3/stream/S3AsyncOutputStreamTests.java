@@ -0,0 +1,131 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.batch.extensions.s3.stream;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.concurrent.CompletableFuture;
+
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectResponse;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+
+class S3AsyncOutputStreamTests {
+
+	private S3AsyncClient s3AsyncClient;
+
+	private ByteArrayOutputStream uploaded;
+
+	@BeforeEach
+	void setUp() {
+		this.s3AsyncClient = mock(S3AsyncClient.class);
+		this.uploaded = new ByteArrayOutputStream();
+	}
+
+	@Test
+	void testWriteStreamsBytesToRequestBody() throws IOException {
+		// given
+		given(this.s3AsyncClient.putObject(any(PutObjectRequest.class), any(AsyncRequestBody.class)))
+			.willAnswer((invocation) -> subscribe(invocation.getArgument(1), null));
+
+		// when
+		try (S3AsyncOutputStream out = new S3AsyncOutputStream(this.s3AsyncClient, "bucket", "key")) {
+			out.setContentEncoding("gzip");
+			out.write(1);
+			out.write(new byte[] { 2, 3, 4 });
+		}
+
+		// then
+		assertThat(this.uploaded.toByteArray()).containsExactly(1, 2, 3, 4);
+		ArgumentCaptor<PutObjectRequest> captor = ArgumentCaptor.forClass(PutObjectRequest.class);
+		then(this.s3AsyncClient).should().putObject(captor.capture(), any(AsyncRequestBody.class));
+		assertThat(captor.getValue().bucket()).isEqualTo("bucket");
+		assertThat(captor.getValue().key()).isEqualTo("key");
+		assertThat(captor.getValue().contentEncoding()).isEqualTo("gzip");
+	}
+
+	@Test
+	void testCloseThrowsWhenUploadFails() {
+		// given
+		given(this.s3AsyncClient.putObject(any(PutObjectRequest.class), any(AsyncRequestBody.class)))
+			.willAnswer((invocation) -> subscribe(invocation.getArgument(1),
+					S3Exception.builder().message("failure").build()));
+		S3AsyncOutputStream out = new S3AsyncOutputStream(this.s3AsyncClient, "bucket", "key");
+
+		// when/then
+		assertThatThrownBy(() -> {
+			out.write(1);
+			out.close();
+		}).isInstanceOf(IOException.class).hasRootCauseInstanceOf(S3Exception.class);
+	}
+
+	/**
+	 * Consume the request body like the SDK would, completing the returned future once
+	 * the body is complete.
+	 */
+	private CompletableFuture<PutObjectResponse> subscribe(AsyncRequestBody body, @Nullable Throwable failure) {
+		CompletableFuture<PutObjectResponse> response = new CompletableFuture<>();
+		body.subscribe(new Subscriber<ByteBuffer>() {
+
+			@Override
+			public void onSubscribe(Subscription subscription) {
+				subscription.request(Long.MAX_VALUE);
+			}
+
+			@Override
+			public void onNext(ByteBuffer byteBuffer) {
+				byte[] bytes = new byte[byteBuffer.remaining()];
+				byteBuffer.get(bytes);
+				S3AsyncOutputStreamTests.this.uploaded.writeBytes(bytes);
+			}
+
+			@Override
+			public void onError(Throwable throwable) {
+				response.completeExceptionally(throwable);
+			}
+
+			@Override
+			public void onComplete() {
+				if (failure != null) {
+					response.completeExceptionally(failure);
+				}
+				else {
+					response.complete(PutObjectResponse.builder().build());
+				}
+			}
+
+		});
+		return response;
+	}
+
+}
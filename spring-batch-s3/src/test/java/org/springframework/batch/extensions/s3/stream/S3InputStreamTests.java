@@ -19,19 +19,29 @@ package org.springframework.batch.extensions.s3.stream;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.ArgumentMatchers;
 import org.mockito.Mockito;
 import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.core.async.AsyncResponseTransformer;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.model.GetObjectRequest;
 import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.times;
 
 class S3InputStreamTests {
 
@@ -66,4 +76,105 @@ class S3InputStreamTests {
 		then(this.s3Client).should().getObject(any(GetObjectRequest.class));
 	}
 
+	@Test
+	void testBulkRead() throws IOException {
+		InputStream mockStream = new ByteArrayInputStream(this.data);
+		ResponseInputStream<GetObjectResponse> responseInputStream = new ResponseInputStream<>(
+				GetObjectResponse.builder().build(), mockStream);
+		// given
+		given(this.s3Client.getObject(any(GetObjectRequest.class))).willReturn(responseInputStream);
+
+		byte[] buffer = new byte[8];
+		// when
+		try (S3InputStream s3InputStream = new S3InputStream(this.s3Client, "test-bucket", "test-key")) {
+			assertThat(s3InputStream.read(buffer, 2, 6)).isEqualTo(this.data.length);
+			assertThat(s3InputStream.read(buffer, 0, 8)).isEqualTo(-1);
+		}
+
+		// then
+		assertThat(Arrays.copyOfRange(buffer, 2, 6)).isEqualTo(this.data);
+	}
+
+	@Test
+	void testSkipBeforeReadRequestsRange() throws IOException {
+		InputStream mockStream = new ByteArrayInputStream(new byte[] { 3, 4 });
+		ResponseInputStream<GetObjectResponse> responseInputStream = new ResponseInputStream<>(
+				GetObjectResponse.builder().build(), mockStream);
+		ArgumentCaptor<GetObjectRequest> captor = ArgumentCaptor.forClass(GetObjectRequest.class);
+		// given
+		given(this.s3Client.getObject(captor.capture())).willReturn(responseInputStream);
+
+		// when
+		try (S3InputStream s3InputStream = new S3InputStream(this.s3Client, "test-bucket", "test-key")) {
+			s3InputStream.skipNBytes(2L);
+			assertThat(s3InputStream.readAllBytes()).containsExactly(3, 4);
+		}
+
+		// then
+		assertThat(captor.getValue().range()).isEqualTo("bytes=2-");
+	}
+
+	@Test
+	void testReadWithPrefetching() throws IOException {
+		byte[] object = "HelloWorld!".getBytes(); // 11 bytes, 3 ranges of 4, 4 and 3 bytes
+		// given
+		given(this.s3Client.headObject(any(HeadObjectRequest.class)))
+			.willReturn(HeadObjectResponse.builder().contentLength((long) object.length).eTag("etag").build());
+		given(this.s3Client.getObject(any(GetObjectRequest.class))).willAnswer((invocation) -> {
+			GetObjectRequest request = invocation.getArgument(0);
+			String[] range = request.range().substring("bytes=".length()).split("-");
+			byte[] slice = Arrays.copyOfRange(object, Integer.parseInt(range[0]), Integer.parseInt(range[1]) + 1);
+			return new ResponseInputStream<>(GetObjectResponse.builder().build(), new ByteArrayInputStream(slice));
+		});
+
+		// when
+		byte[] result;
+		try (S3InputStream s3InputStream = new S3InputStream(this.s3Client, "test-bucket", "test-key")) {
+			s3InputStream.setConcurrency(2);
+			s3InputStream.setPartSize(4);
+			result = s3InputStream.readAllBytes();
+		}
+
+		// then
+		assertThat(result).isEqualTo(object);
+		then(this.s3Client).should().headObject(any(HeadObjectRequest.class));
+		then(this.s3Client).should(times(3)).getObject(any(GetObjectRequest.class));
+	}
+
+	@Test
+	void testReadWithAsyncClient() throws IOException {
+		S3AsyncClient s3AsyncClient = Mockito.mock(S3AsyncClient.class);
+		// given
+		given(s3AsyncClient.getObject(any(GetObjectRequest.class),
+				ArgumentMatchers
+					.<AsyncResponseTransformer<GetObjectResponse, ResponseInputStream<GetObjectResponse>>>any()))
+			.willAnswer((invocation) -> CompletableFuture.completedFuture(new ResponseInputStream<>(
+					GetObjectResponse.builder().build(), new ByteArrayInputStream(this.data))));
+		given(s3AsyncClient.headObject(any(HeadObjectRequest.class)))
+			.willReturn(CompletableFuture.completedFuture(HeadObjectResponse.builder().contentEncoding("gzip").build()));
+
+		// when
+		byte[] result;
+		String contentEncoding;
+		try (S3InputStream s3InputStream = new S3InputStream(s3AsyncClient, "test-bucket", "test-key")) {
+			contentEncoding = s3InputStream.getContentEncoding();
+			result = s3InputStream.readAllBytes();
+		}
+
+		// then
+		assertThat(result).isEqualTo(this.data);
+		assertThat(contentEncoding).isEqualTo("gzip");
+		then(this.s3Client).shouldHaveNoInteractions();
+	}
+
+	@Test
+	void testInvalidPrefetchingSettings() {
+		S3InputStream s3InputStream = new S3InputStream(this.s3Client, "test-bucket", "test-key");
+
+		assertThatIllegalArgumentException().isThrownBy(() -> s3InputStream.setConcurrency(0))
+			.withMessage("Concurrency must be at least 1");
+		assertThatIllegalArgumentException().isThrownBy(() -> s3InputStream.setPartSize(0))
+			.withMessage("Part size must be positive");
+	}
+
 }
@@ -58,6 +58,7 @@ class S3MultipartOutputStreamTests {
 		try (S3MultipartOutputStream out = new S3MultipartOutputStream(this.multipartUploadMock)) {
 			// when
 			out.write(testByte);
+			out.flush();
 
 			ArgumentCaptor<InputStream> captor = ArgumentCaptor.forClass(InputStream.class);
 
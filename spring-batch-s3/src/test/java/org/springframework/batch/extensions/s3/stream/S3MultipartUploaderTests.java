@@ -17,25 +17,42 @@
 package org.springframework.batch.extensions.s3.stream;
 
 import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.util.Base64;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.CRC32C;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import software.amazon.awssdk.core.sync.RequestBody;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.ChecksumAlgorithm;
+import software.amazon.awssdk.services.s3.model.ChecksumType;
 import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
 import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
 import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
 import software.amazon.awssdk.services.s3.model.CreateMultipartUploadResponse;
 import software.amazon.awssdk.services.s3.model.UploadPartRequest;
 import software.amazon.awssdk.services.s3.model.UploadPartResponse;
 
+import org.springframework.batch.extensions.s3.metrics.S3Metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 
 class S3MultipartUploaderTests {
@@ -76,7 +93,7 @@ class S3MultipartUploaderTests {
 		then(this.s3Client).should().createMultipartUpload(any(CreateMultipartUploadRequest.class));
 		then(this.s3Client).should(times(3)).uploadPart(any(UploadPartRequest.class), any(RequestBody.class));
 		then(this.s3Client).should().completeMultipartUpload(any(CompleteMultipartUploadRequest.class));
-		then(this.s3Client).should().close();
+		then(this.s3Client).should(never()).close();
 	}
 
 	@Test
@@ -95,7 +112,254 @@ class S3MultipartUploaderTests {
 		assertThatThrownBy(() -> this.s3MultipartUploader.upload(inputStream))
 			.isInstanceOf(RuntimeException.class);
 		then(this.s3Client).should().abortMultipartUpload(any(AbortMultipartUploadRequest.class));
-		then(this.s3Client).should().close();
+		then(this.s3Client).should(never()).close();
+	}
+
+	@Test
+	void testUpload_ConcurrentUploadCompletesPartsInOrder() throws IOException {
+		byte[] data = "HelloConcurrentWorld!".getBytes(); // 21 bytes, 5 parts
+		ByteArrayInputStream inputStream = new ByteArrayInputStream(data);
+		this.s3MultipartUploader.setConcurrency(3);
+		Map<Integer, byte[]> uploadedParts = new ConcurrentHashMap<>();
+
+		// given
+		given(this.s3Client.createMultipartUpload(any(CreateMultipartUploadRequest.class)))
+			.willReturn(CreateMultipartUploadResponse.builder().uploadId("uploadId").build());
+
+		given(this.s3Client.uploadPart(any(UploadPartRequest.class), any(RequestBody.class)))
+			.willAnswer((invocation) -> {
+				UploadPartRequest request = invocation.getArgument(0);
+				RequestBody body = invocation.getArgument(1);
+				uploadedParts.put(request.partNumber(), body.contentStreamProvider().newStream().readAllBytes());
+				// Make earlier parts slower so that they complete out of order
+				Thread.sleep(10L * (6 - request.partNumber()));
+				return UploadPartResponse.builder().eTag("etag" + request.partNumber()).build();
+			});
+
+		ArgumentCaptor<CompleteMultipartUploadRequest> captor = ArgumentCaptor
+			.forClass(CompleteMultipartUploadRequest.class);
+		given(this.s3Client.completeMultipartUpload(captor.capture()))
+			.willReturn(CompleteMultipartUploadResponse.builder().location("url").build());
+
+		// when
+		long uploaded = this.s3MultipartUploader.upload(inputStream);
+
+		// then
+		assertThat(uploaded).isEqualTo(data.length);
+		then(this.s3Client).should(times(5)).uploadPart(any(UploadPartRequest.class), any(RequestBody.class));
+		assertThat(captor.getValue().multipartUpload().parts()).extracting(CompletedPart::partNumber)
+			.containsExactly(1, 2, 3, 4, 5);
+		assertThat(captor.getValue().multipartUpload().parts()).extracting(CompletedPart::eTag)
+			.containsExactly("etag1", "etag2", "etag3", "etag4", "etag5");
+		ByteArrayOutputStream uploadedData = new ByteArrayOutputStream();
+		for (int partNumber = 1; partNumber <= 5; partNumber++) {
+			uploadedData.write(uploadedParts.get(partNumber));
+		}
+		assertThat(uploadedData.toByteArray()).isEqualTo(data);
+	}
+
+	@Test
+	void testUpload_GrowsPartsWithPolicy() throws IOException {
+		byte[] data = "HelloGrowingWorld!".getBytes(); // 18 bytes, parts of 2, 4, 8 and 4 bytes (of 16)
+		ByteArrayInputStream inputStream = new ByteArrayInputStream(data);
+		this.s3MultipartUploader.setPartSizePolicy((partNumber) -> 1 << partNumber);
+		Map<Integer, byte[]> uploadedParts = new ConcurrentHashMap<>();
+
+		// given
+		given(this.s3Client.createMultipartUpload(any(CreateMultipartUploadRequest.class)))
+			.willReturn(CreateMultipartUploadResponse.builder().uploadId("uploadId").build());
+		given(this.s3Client.uploadPart(any(UploadPartRequest.class), any(RequestBody.class)))
+			.willAnswer((invocation) -> {
+				UploadPartRequest request = invocation.getArgument(0);
+				RequestBody body = invocation.getArgument(1);
+				uploadedParts.put(request.partNumber(), body.contentStreamProvider().newStream().readAllBytes());
+				return UploadPartResponse.builder().eTag("etag" + request.partNumber()).build();
+			});
+		given(this.s3Client.completeMultipartUpload(any(CompleteMultipartUploadRequest.class)))
+			.willReturn(CompleteMultipartUploadResponse.builder().location("url").build());
+
+		// when
+		this.s3MultipartUploader.upload(inputStream);
+
+		// then
+		assertThat(this.s3MultipartUploader.getPartCount()).isEqualTo(4);
+		assertThat(new String(uploadedParts.get(1))).isEqualTo("He");
+		assertThat(new String(uploadedParts.get(2))).isEqualTo("lloG");
+		assertThat(new String(uploadedParts.get(3))).isEqualTo("rowingWo");
+		assertThat(new String(uploadedParts.get(4))).isEqualTo("rld!");
+	}
+
+	@Test
+	void testUpload_AbortsWhenPartLimitIsExceeded() {
+		ByteArrayInputStream inputStream = new ByteArrayInputStream(new byte[S3PartSizePolicy.MAX_PART_COUNT + 1]);
+		// the default policy keeps every part at partSize
+		this.s3MultipartUploader.setPartSize(1);
+
+		// given
+		given(this.s3Client.createMultipartUpload(any(CreateMultipartUploadRequest.class)))
+			.willReturn(CreateMultipartUploadResponse.builder().uploadId("uploadId").build());
+		given(this.s3Client.uploadPart(any(UploadPartRequest.class), any(RequestBody.class)))
+			.willReturn(UploadPartResponse.builder().eTag("etag").build());
+
+		// when/then
+		assertThatThrownBy(() -> this.s3MultipartUploader.upload(inputStream)).isInstanceOf(IOException.class)
+			.hasMessageContaining("exceeds 10000 parts");
+		then(this.s3Client).should(times(S3PartSizePolicy.MAX_PART_COUNT))
+			.uploadPart(any(UploadPartRequest.class), any(RequestBody.class));
+		then(this.s3Client).should().abortMultipartUpload(any(AbortMultipartUploadRequest.class));
+	}
+
+	@Test
+	void testUpload_WithMappedFileBuffers() throws IOException {
+		byte[] data = "HelloMappedWorld!".getBytes(); // 17 bytes, 4 parts
+		ByteArrayInputStream inputStream = new ByteArrayInputStream(data);
+		this.s3MultipartUploader.setPartBufferType(S3PartBufferType.MAPPED_FILE);
+		this.s3MultipartUploader.setConcurrency(2);
+		Map<Integer, byte[]> uploadedParts = new ConcurrentHashMap<>();
+
+		// given
+		given(this.s3Client.createMultipartUpload(any(CreateMultipartUploadRequest.class)))
+			.willReturn(CreateMultipartUploadResponse.builder().uploadId("uploadId").build());
+		given(this.s3Client.uploadPart(any(UploadPartRequest.class), any(RequestBody.class)))
+			.willAnswer((invocation) -> {
+				UploadPartRequest request = invocation.getArgument(0);
+				RequestBody body = invocation.getArgument(1);
+				uploadedParts.put(request.partNumber(), body.contentStreamProvider().newStream().readAllBytes());
+				return UploadPartResponse.builder().eTag("etag" + request.partNumber()).build();
+			});
+		given(this.s3Client.completeMultipartUpload(any(CompleteMultipartUploadRequest.class)))
+			.willReturn(CompleteMultipartUploadResponse.builder().location("url").build());
+
+		// when
+		this.s3MultipartUploader.upload(inputStream);
+
+		// then
+		ByteArrayOutputStream uploadedData = new ByteArrayOutputStream();
+		for (int partNumber = 1; partNumber <= 4; partNumber++) {
+			uploadedData.write(uploadedParts.get(partNumber));
+		}
+		assertThat(uploadedData.toByteArray()).isEqualTo(data);
+	}
+
+	@Test
+	void testUpload_RecordsMetrics() throws IOException {
+		byte[] data = "HelloWorld!".getBytes(); // 11 bytes, 3 parts
+		ByteArrayInputStream inputStream = new ByteArrayInputStream(data);
+		SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+		this.s3MultipartUploader.setMeterRegistry(meterRegistry);
+
+		// given
+		given(this.s3Client.createMultipartUpload(any(CreateMultipartUploadRequest.class)))
+			.willReturn(CreateMultipartUploadResponse.builder().uploadId("uploadId").build());
+		given(this.s3Client.uploadPart(any(UploadPartRequest.class), any(RequestBody.class)))
+			.willReturn(UploadPartResponse.builder().eTag("etag").build());
+		given(this.s3Client.completeMultipartUpload(any(CompleteMultipartUploadRequest.class)))
+			.willReturn(CompleteMultipartUploadResponse.builder().location("url").build());
+
+		// when
+		this.s3MultipartUploader.upload(inputStream);
+
+		// then
+		assertThat(meterRegistry.get(S3Metrics.BYTES).tag(S3Metrics.TAG_DIRECTION, "upload").counter().count())
+			.isEqualTo(11.0);
+		assertThat(meterRegistry.get(S3Metrics.REQUESTS)
+			.tag(S3Metrics.TAG_OPERATION, "UploadPart")
+			.tag(S3Metrics.TAG_OUTCOME, "success")
+			.timer()
+			.count()).isEqualTo(3);
+		assertThat(meterRegistry.get(S3Metrics.REQUESTS_ACTIVE).longTaskTimer().activeTasks()).isZero();
+		assertThat(meterRegistry.get(S3Metrics.UPLOAD_PARTS).tag(S3Metrics.TAG_BUCKET, "bucket").summary().count())
+			.isEqualTo(1);
+		assertThat(meterRegistry.get(S3Metrics.UPLOAD_PARTS).summary().totalAmount()).isEqualTo(3.0);
+	}
+
+	@Test
+	void testUpload_SendsFullObjectChecksum() throws Exception {
+		byte[] data = "HelloWorld!".getBytes(); // 11 bytes, 3 parts
+		ByteArrayInputStream inputStream = new ByteArrayInputStream(data);
+		this.s3MultipartUploader.setChecksumAlgorithm(ChecksumAlgorithm.CRC32_C);
+
+		// given
+		given(this.s3Client.createMultipartUpload(any(CreateMultipartUploadRequest.class)))
+			.willReturn(CreateMultipartUploadResponse.builder().uploadId("uploadId").build());
+		given(this.s3Client.uploadPart(any(UploadPartRequest.class), any(RequestBody.class)))
+			.willReturn(UploadPartResponse.builder().eTag("etag").build());
+		given(this.s3Client.completeMultipartUpload(any(CompleteMultipartUploadRequest.class)))
+			.willReturn(CompleteMultipartUploadResponse.builder().location("url").build());
+
+		// when
+		this.s3MultipartUploader.upload(inputStream);
+
+		// then
+		ArgumentCaptor<CreateMultipartUploadRequest> createCaptor = ArgumentCaptor
+			.forClass(CreateMultipartUploadRequest.class);
+		then(this.s3Client).should().createMultipartUpload(createCaptor.capture());
+		assertThat(createCaptor.getValue().checksumAlgorithm()).isEqualTo(ChecksumAlgorithm.CRC32_C);
+		assertThat(createCaptor.getValue().checksumType()).isEqualTo(ChecksumType.FULL_OBJECT);
+
+		ArgumentCaptor<UploadPartRequest> partCaptor = ArgumentCaptor.forClass(UploadPartRequest.class);
+		then(this.s3Client).should(times(3)).uploadPart(partCaptor.capture(), any(RequestBody.class));
+		assertThat(partCaptor.getAllValues()).extracting(UploadPartRequest::checksumCRC32C)
+			.containsExactly(crc32c("Hello"), crc32c("World"), crc32c("!"));
+
+		ArgumentCaptor<CompleteMultipartUploadRequest> completeCaptor = ArgumentCaptor
+			.forClass(CompleteMultipartUploadRequest.class);
+		then(this.s3Client).should().completeMultipartUpload(completeCaptor.capture());
+		CompleteMultipartUploadRequest completeRequest = completeCaptor.getValue();
+		assertThat(completeRequest.checksumType()).isEqualTo(ChecksumType.FULL_OBJECT);
+		assertThat(completeRequest.checksumCRC32C()).isEqualTo(crc32c("HelloWorld!"));
+		assertThat(completeRequest.multipartUpload().parts()).extracting(CompletedPart::checksumCRC32C)
+			.containsExactly(crc32c("Hello"), crc32c("World"), crc32c("!"));
+		assertThat(this.s3MultipartUploader.getChecksum()).isEqualTo(crc32c("HelloWorld!"));
+	}
+
+	@Test
+	void testUpload_ComputesCompositeChecksum() throws Exception {
+		byte[] data = "HelloWorld!".getBytes(); // 11 bytes, 3 parts
+		ByteArrayInputStream inputStream = new ByteArrayInputStream(data);
+		this.s3MultipartUploader.setChecksumAlgorithm(ChecksumAlgorithm.SHA256);
+
+		// given
+		given(this.s3Client.createMultipartUpload(any(CreateMultipartUploadRequest.class)))
+			.willReturn(CreateMultipartUploadResponse.builder().uploadId("uploadId").build());
+		given(this.s3Client.uploadPart(any(UploadPartRequest.class), any(RequestBody.class)))
+			.willReturn(UploadPartResponse.builder().eTag("etag").build());
+		given(this.s3Client.completeMultipartUpload(any(CompleteMultipartUploadRequest.class)))
+			.willReturn(CompleteMultipartUploadResponse.builder().location("url").build());
+
+		// when
+		this.s3MultipartUploader.upload(inputStream);
+
+		// then
+		ArgumentCaptor<CompleteMultipartUploadRequest> completeCaptor = ArgumentCaptor
+			.forClass(CompleteMultipartUploadRequest.class);
+		then(this.s3Client).should().completeMultipartUpload(completeCaptor.capture());
+		assertThat(completeCaptor.getValue().checksumType()).isEqualTo(ChecksumType.COMPOSITE);
+		assertThat(completeCaptor.getValue().multipartUpload().parts()).extracting(CompletedPart::checksumSHA256)
+			.containsExactly(sha256("Hello"), sha256("World"), sha256("!"));
+
+		MessageDigest composite = MessageDigest.getInstance("SHA-256");
+		for (String part : new String[] { "Hello", "World", "!" }) {
+			composite.update(MessageDigest.getInstance("SHA-256").digest(part.getBytes()));
+		}
+		assertThat(this.s3MultipartUploader.getChecksum())
+			.isEqualTo(Base64.getEncoder().encodeToString(composite.digest()) + "-3");
+	}
+
+	@Test
+	void testSetChecksumAlgorithm_RejectsUnsupportedAlgorithm() {
+		assertThatIllegalArgumentException()
+			.isThrownBy(() -> this.s3MultipartUploader.setChecksumAlgorithm(ChecksumAlgorithm.CRC64_NVME));
+	}
+
+	private static String crc32c(String value) {
+		CRC32C crc32c = new CRC32C();
+		crc32c.update(value.getBytes());
+		return Base64.getEncoder().encodeToString(ByteBuffer.allocate(4).putInt((int) crc32c.getValue()).array());
+	}
+
+	private static String sha256(String value) throws Exception {
+		return Base64.getEncoder().encodeToString(MessageDigest.getInstance("SHA-256").digest(value.getBytes()));
 	}
 
 }
@@ -0,0 +1,85 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.batch.extensions.s3.stream;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.util.unit.DataSize;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class S3PartSizePolicyTests {
+
+	private static final int MIB = (int) DataSize.ofMegabytes(1).toBytes();
+
+	private static final long MAX_OBJECT_SIZE = DataSize.ofTerabytes(5).toBytes();
+
+	@Test
+	void testFixed() {
+		S3PartSizePolicy policy = S3PartSizePolicy.fixed(5 * MIB);
+
+		assertThat(policy.getPartSize(1)).isEqualTo(5 * MIB);
+		assertThat(policy.getPartSize(10_000)).isEqualTo(5 * MIB);
+	}
+
+	@Test
+	void testAdaptiveDoublesEveryStep() {
+		S3PartSizePolicy policy = S3PartSizePolicy.adaptive(5 * MIB);
+
+		assertThat(policy.getPartSize(1)).isEqualTo(5 * MIB);
+		assertThat(policy.getPartSize(900)).isEqualTo(5 * MIB);
+		assertThat(policy.getPartSize(901)).isEqualTo(10 * MIB);
+		assertThat(policy.getPartSize(10_000)).isEqualTo(S3PartSizePolicy.MAX_PART_SIZE);
+	}
+
+	@Test
+	void testAdaptiveFitsMaximumObjectSize() {
+		assertThat(capacity(S3PartSizePolicy.adaptive(5 * MIB))).isGreaterThanOrEqualTo(MAX_OBJECT_SIZE);
+	}
+
+	@Test
+	void testForExpectedSize() {
+		S3PartSizePolicy policy = S3PartSizePolicy.forExpectedSize(DataSize.ofGigabytes(100).toBytes(), 5 * MIB);
+
+		// 100 GiB in 10,000 parts is 10.24 MiB per part, rounded up to 11 MiB
+		assertThat(policy.getPartSize(1)).isEqualTo(11 * MIB);
+		assertThat(policy.getPartSize(9_310)).isEqualTo(11 * MIB);
+		assertThat(policy.getPartSize(9_311)).isEqualTo(22 * MIB);
+	}
+
+	@Test
+	void testForExpectedSizeKeepsMinimumPartSize() {
+		S3PartSizePolicy policy = S3PartSizePolicy.forExpectedSize(DataSize.ofMegabytes(100).toBytes(), 5 * MIB);
+
+		assertThat(policy.getPartSize(1)).isEqualTo(5 * MIB);
+	}
+
+	@Test
+	void testForExpectedSizeFitsMaximumObjectSize() {
+		assertThat(capacity(S3PartSizePolicy.forExpectedSize(MAX_OBJECT_SIZE, 5 * MIB)))
+			.isGreaterThanOrEqualTo(MAX_OBJECT_SIZE);
+	}
+
+	private static long capacity(S3PartSizePolicy policy) {
+		long capacity = 0;
+		for (int partNumber = 1; partNumber <= S3PartSizePolicy.MAX_PART_COUNT; partNumber++) {
+			capacity += policy.getPartSize(partNumber);
+		}
+		return capacity;
+	}
+
+}
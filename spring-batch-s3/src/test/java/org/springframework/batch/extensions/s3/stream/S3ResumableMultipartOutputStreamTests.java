@@ -0,0 +1,256 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.batch.extensions.s3.stream;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import software.amazon.awssdk.core.ResponseBytes;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.ListPartsRequest;
+import software.amazon.awssdk.services.s3.model.ListPartsResponse;
+import software.amazon.awssdk.services.s3.model.Part;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectResponse;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willCallRealMethod;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+class S3ResumableMultipartOutputStreamTests {
+
+	private static final int MB = 1024 * 1024;
+
+	private S3Client s3Client;
+
+	private List<byte[]> uploadedParts;
+
+	private List<byte[]> checkpoints;
+
+	@BeforeEach
+	void setUp() {
+		this.s3Client = mock(S3Client.class);
+		this.uploadedParts = new ArrayList<>();
+		this.checkpoints = new ArrayList<>();
+		given(this.s3Client.createMultipartUpload(any(CreateMultipartUploadRequest.class)))
+			.willReturn(CreateMultipartUploadResponse.builder().uploadId("upload-id").build());
+		given(this.s3Client.uploadPart(any(UploadPartRequest.class), any(RequestBody.class)))
+			.willAnswer((invocation) -> {
+				UploadPartRequest request = invocation.getArgument(0);
+				RequestBody body = invocation.getArgument(1);
+				this.uploadedParts.add(body.contentStreamProvider().newStream().readAllBytes());
+				return UploadPartResponse.builder().eTag("etag-" + request.partNumber()).build();
+			});
+		given(this.s3Client.putObject(any(PutObjectRequest.class), any(RequestBody.class)))
+			.willAnswer((invocation) -> {
+				RequestBody body = invocation.getArgument(1);
+				this.checkpoints.add(body.contentStreamProvider().newStream().readAllBytes());
+				return PutObjectResponse.builder().eTag("checkpoint-etag-" + this.checkpoints.size()).build();
+			});
+		willCallRealMethod().given(this.s3Client).listPartsPaginator(any(ListPartsRequest.class));
+	}
+
+	@Test
+	void testCheckpointUploadsPartOnlyOnceMinimumSizeIsBuffered() throws IOException {
+		// given
+		S3ResumableMultipartOutputStream out = new S3ResumableMultipartOutputStream(this.s3Client, "bucket", "key");
+		out.setPartSize(8 * MB);
+
+		// when
+		out.write(new byte[MB]);
+		out.checkpoint();
+		byte[] bufferedAfterFirstCheckpoint = out.getBufferedBytes();
+		out.write(new byte[5 * MB]);
+		out.checkpoint();
+
+		// then
+		assertThat(bufferedAfterFirstCheckpoint).hasSize(MB);
+		assertThat(this.uploadedParts).hasSize(1);
+		assertThat(this.uploadedParts.get(0)).hasSize(6 * MB);
+		assertThat(out.getUploadId()).isEqualTo("upload-id");
+		assertThat(out.getPartETags()).containsExactly("etag-1");
+		assertThat(out.getBufferedBytes()).isEmpty();
+		assertThat(out.getBytesWritten()).isEqualTo(6 * MB);
+	}
+
+	@Test
+	void testCheckpointStagesBufferedBytesInCheckpointObject() throws IOException {
+		// given
+		S3ResumableMultipartOutputStream out = new S3ResumableMultipartOutputStream(this.s3Client, "bucket", "key");
+
+		// when
+		out.write(new byte[] { 1, 2, 3 });
+		out.checkpoint();
+		out.checkpoint();
+		out.write(new byte[5 * MB]);
+		out.close();
+
+		// then
+		ArgumentCaptor<PutObjectRequest> captor = ArgumentCaptor.forClass(PutObjectRequest.class);
+		then(this.s3Client).should().putObject(captor.capture(), any(RequestBody.class));
+		assertThat(captor.getValue().key()).isEqualTo("key.checkpoint");
+		assertThat(this.checkpoints).containsExactly(new byte[] { 1, 2, 3 });
+		ArgumentCaptor<DeleteObjectRequest> deleteCaptor = ArgumentCaptor.forClass(DeleteObjectRequest.class);
+		then(this.s3Client).should().deleteObject(deleteCaptor.capture());
+		assertThat(deleteCaptor.getValue().key()).isEqualTo("key.checkpoint");
+	}
+
+	@Test
+	void testResumeReadsBufferedBytesFromCheckpointObject() throws IOException {
+		// given
+		given(this.s3Client.listParts(any(ListPartsRequest.class))).willReturn(ListPartsResponse.builder()
+			.parts(Part.builder().partNumber(1).eTag("etag-1").build())
+			.build());
+		given(this.s3Client.getObjectAsBytes(any(GetObjectRequest.class)))
+			.willReturn(ResponseBytes.fromByteArray(GetObjectResponse.builder().build(), new byte[] { 1, 2, 3 }));
+		S3ResumableMultipartOutputStream out = new S3ResumableMultipartOutputStream(this.s3Client, "bucket", "key");
+
+		// when
+		out.resume("upload-id", List.of("etag-1"), 5 * MB + 3, 3, "checkpoint-etag");
+		out.close();
+
+		// then
+		ArgumentCaptor<GetObjectRequest> captor = ArgumentCaptor.forClass(GetObjectRequest.class);
+		then(this.s3Client).should().getObjectAsBytes(captor.capture());
+		assertThat(captor.getValue().key()).isEqualTo("key.checkpoint");
+		assertThat(captor.getValue().ifMatch()).isEqualTo("checkpoint-etag");
+		assertThat(this.uploadedParts).containsExactly(new byte[] { 1, 2, 3 });
+		then(this.s3Client).should().deleteObject(any(DeleteObjectRequest.class));
+	}
+
+	@Test
+	void testResumeFailsWhenCheckpointObjectIsIncomplete() {
+		// given
+		given(this.s3Client.getObjectAsBytes(any(GetObjectRequest.class)))
+			.willReturn(ResponseBytes.fromByteArray(GetObjectResponse.builder().build(), new byte[] { 1 }));
+		S3ResumableMultipartOutputStream out = new S3ResumableMultipartOutputStream(this.s3Client, "bucket", "key");
+
+		// when/then
+		assertThatThrownBy(() -> out.resume(null, List.of(), 3, 3, "checkpoint-etag")).isInstanceOf(IOException.class)
+			.hasMessageContaining("key.checkpoint");
+	}
+
+	@Test
+	void testCloseCompletesUploadWithLastPart() throws IOException {
+		// given
+		S3ResumableMultipartOutputStream out = new S3ResumableMultipartOutputStream(this.s3Client, "bucket", "key");
+
+		// when
+		out.write(new byte[5 * MB + 10]);
+		out.close();
+
+		// then
+		assertThat(this.uploadedParts).extracting((part) -> part.length).containsExactly(5 * MB, 10);
+		ArgumentCaptor<CompleteMultipartUploadRequest> captor = ArgumentCaptor
+			.forClass(CompleteMultipartUploadRequest.class);
+		then(this.s3Client).should().completeMultipartUpload(captor.capture());
+		assertThat(captor.getValue().multipartUpload().parts()).extracting((part) -> part.eTag())
+			.containsExactly("etag-1", "etag-2");
+	}
+
+	@Test
+	void testCloseUploadsSmallObjectWithSingleRequest() throws IOException {
+		// given
+		S3ResumableMultipartOutputStream out = new S3ResumableMultipartOutputStream(this.s3Client, "bucket", "key");
+
+		// when
+		out.write("data".getBytes());
+		out.close();
+
+		// then
+		then(this.s3Client).should().putObject(any(PutObjectRequest.class), any(RequestBody.class));
+		then(this.s3Client).should(never()).createMultipartUpload(any(CreateMultipartUploadRequest.class));
+	}
+
+	@Test
+	void testResumeContinuesUploadFromSavedState() throws IOException {
+		// given
+		given(this.s3Client.listParts(any(ListPartsRequest.class))).willReturn(ListPartsResponse.builder()
+			.parts(Part.builder().partNumber(1).eTag("etag-1").build(),
+					Part.builder().partNumber(2).eTag("etag-from-failed-attempt").build())
+			.build());
+		S3ResumableMultipartOutputStream out = new S3ResumableMultipartOutputStream(this.s3Client, "bucket", "key");
+
+		// when
+		out.resume("upload-id", List.of("etag-1"), 5 * MB + 3, new byte[] { 1, 2, 3 });
+		out.write(new byte[] { 4 });
+		out.close();
+
+		// then
+		then(this.s3Client).should(never()).createMultipartUpload(any(CreateMultipartUploadRequest.class));
+		ArgumentCaptor<UploadPartRequest> partCaptor = ArgumentCaptor.forClass(UploadPartRequest.class);
+		then(this.s3Client).should().uploadPart(partCaptor.capture(), any(RequestBody.class));
+		assertThat(partCaptor.getValue().partNumber()).isEqualTo(2);
+		assertThat(this.uploadedParts.get(0)).containsExactly(1, 2, 3, 4);
+		assertThat(out.getBytesWritten()).isEqualTo(5 * MB + 4);
+		ArgumentCaptor<CompleteMultipartUploadRequest> captor = ArgumentCaptor
+			.forClass(CompleteMultipartUploadRequest.class);
+		then(this.s3Client).should().completeMultipartUpload(captor.capture());
+		assertThat(captor.getValue().uploadId()).isEqualTo("upload-id");
+		assertThat(captor.getValue().multipartUpload().parts()).extracting((part) -> part.eTag())
+			.containsExactly("etag-1", "etag-2");
+	}
+
+	@Test
+	void testResumeFailsWhenPartIsMissing() {
+		// given
+		given(this.s3Client.listParts(any(ListPartsRequest.class))).willReturn(ListPartsResponse.builder().build());
+		S3ResumableMultipartOutputStream out = new S3ResumableMultipartOutputStream(this.s3Client, "bucket", "key");
+
+		// when/then
+		assertThatThrownBy(() -> out.resume("upload-id", List.of("etag-1"), 5 * MB, new byte[0]))
+			.isInstanceOf(IOException.class)
+			.hasMessageContaining("Part 1");
+	}
+
+	@Test
+	void testSuspendLeavesUploadOpen() throws IOException {
+		// given
+		S3ResumableMultipartOutputStream out = new S3ResumableMultipartOutputStream(this.s3Client, "bucket", "key");
+		out.write(new byte[5 * MB]);
+
+		// when
+		out.suspend();
+		out.close();
+
+		// then
+		then(this.s3Client).should(times(1)).uploadPart(any(UploadPartRequest.class), any(RequestBody.class));
+		then(this.s3Client).should(never()).completeMultipartUpload(any(CompleteMultipartUploadRequest.class));
+		then(this.s3Client).should(never()).abortMultipartUpload(any(AbortMultipartUploadRequest.class));
+	}
+
+}
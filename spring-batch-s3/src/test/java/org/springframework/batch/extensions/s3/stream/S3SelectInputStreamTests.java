@@ -0,0 +1,193 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.batch.extensions.s3.stream;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.core.SdkBytes;
+import software.amazon.awssdk.core.async.SdkPublisher;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.model.ExpressionType;
+import software.amazon.awssdk.services.s3.model.FileHeaderInfo;
+import software.amazon.awssdk.services.s3.model.SelectObjectContentEventStream;
+import software.amazon.awssdk.services.s3.model.SelectObjectContentRequest;
+import software.amazon.awssdk.services.s3.model.SelectObjectContentResponseHandler;
+
+import org.springframework.batch.extensions.s3.S3ItemReader;
+import org.springframework.batch.extensions.s3.serializer.S3StringDeserializer;
+import org.springframework.batch.infrastructure.item.ExecutionContext;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+
+class S3SelectInputStreamTests {
+
+	private static final String EXPRESSION = "SELECT s.name FROM S3Object s WHERE s.country = 'IT'";
+
+	private S3AsyncClient s3AsyncClient;
+
+	@BeforeEach
+	void setUp() {
+		this.s3AsyncClient = mock(S3AsyncClient.class);
+	}
+
+	@Test
+	void testReadSelectedRecords() throws IOException {
+		// given
+		givenEvents(records("alice\nbob\n"), SelectObjectContentEventStream.statsBuilder().build(),
+				records("carol\n"), SelectObjectContentEventStream.endBuilder().build());
+
+		// when
+		byte[] content;
+		try (S3SelectInputStream in = new S3SelectInputStream(this.s3AsyncClient, "bucket", "key", EXPRESSION)) {
+			content = in.readAllBytes();
+		}
+
+		// then
+		assertThat(new String(content, StandardCharsets.UTF_8)).isEqualTo("alice\nbob\ncarol\n");
+		ArgumentCaptor<SelectObjectContentRequest> captor = ArgumentCaptor.forClass(SelectObjectContentRequest.class);
+		then(this.s3AsyncClient).should()
+			.selectObjectContent(captor.capture(), any(SelectObjectContentResponseHandler.class));
+		assertThat(captor.getValue().bucket()).isEqualTo("bucket");
+		assertThat(captor.getValue().key()).isEqualTo("key");
+		assertThat(captor.getValue().expression()).isEqualTo(EXPRESSION);
+		assertThat(captor.getValue().expressionType()).isEqualTo(ExpressionType.SQL);
+		assertThat(captor.getValue().inputSerialization().csv().fileHeaderInfo()).isEqualTo(FileHeaderInfo.USE);
+	}
+
+	@Test
+	void testReadFailsWithoutEndEvent() {
+		// given
+		givenEvents(records("alice\n"));
+
+		// when/then
+		S3SelectInputStream in = new S3SelectInputStream(this.s3AsyncClient, "bucket", "key", EXPRESSION);
+		assertThatThrownBy(in::readAllBytes).isInstanceOf(IOException.class).hasMessageContaining("ended");
+	}
+
+	@Test
+	void testReadFailsWhenRequestFails() {
+		// given
+		given(this.s3AsyncClient.selectObjectContent(any(SelectObjectContentRequest.class),
+				any(SelectObjectContentResponseHandler.class)))
+			.willReturn(CompletableFuture.failedFuture(new IllegalStateException("Access denied")));
+
+		// when/then
+		S3SelectInputStream in = new S3SelectInputStream(this.s3AsyncClient, "bucket", "key", EXPRESSION);
+		assertThatThrownBy(in::read).isInstanceOf(IOException.class).hasRootCauseMessage("Access denied");
+	}
+
+	@Test
+	void testItemReaderResumesBySkippingSelectedRecords() throws Exception {
+		// given
+		givenEvents(records("alice\nbob\n"), records("carol\n"), SelectObjectContentEventStream.endBuilder().build());
+		ExecutionContext executionContext = new ExecutionContext();
+		executionContext.putLong("reader.read.offset", 6L);
+
+		// when
+		S3ItemReader<String> reader = new S3ItemReader<>(
+				new S3SelectInputStream(this.s3AsyncClient, "bucket", "key", EXPRESSION), new S3StringDeserializer());
+		reader.setName("reader");
+		reader.open(executionContext);
+
+		// then
+		assertThat(reader.read()).isEqualTo("bob");
+		assertThat(reader.read()).isEqualTo("carol");
+		assertThat(reader.read()).isNull();
+		reader.close();
+	}
+
+	private void givenEvents(SelectObjectContentEventStream... events) {
+		given(this.s3AsyncClient.selectObjectContent(any(SelectObjectContentRequest.class),
+				any(SelectObjectContentResponseHandler.class)))
+			.willAnswer((invocation) -> {
+				SelectObjectContentResponseHandler handler = invocation.getArgument(1);
+				handler.onEventStream(SdkPublisher.adapt(new EventPublisher(List.of(events))));
+				return CompletableFuture.completedFuture(null);
+			});
+	}
+
+	private static SelectObjectContentEventStream records(String records) {
+		return SelectObjectContentEventStream.recordsBuilder().payload(SdkBytes.fromUtf8String(records)).build();
+	}
+
+	/**
+	 * A local stand-in of the event stream of S3, emitting the given events as they are
+	 * requested.
+	 */
+	private static final class EventPublisher implements Publisher<SelectObjectContentEventStream> {
+
+		private final Deque<SelectObjectContentEventStream> events;
+
+		EventPublisher(List<SelectObjectContentEventStream> events) {
+			this.events = new ArrayDeque<>(events);
+		}
+
+		@Override
+		public void subscribe(Subscriber<? super SelectObjectContentEventStream> subscriber) {
+			subscriber.onSubscribe(new Subscription() {
+
+				private long demand;
+
+				private boolean emitting;
+
+				private boolean done;
+
+				@Override
+				public void request(long n) {
+					this.demand += n;
+					if (this.emitting) {
+						return;
+					}
+					this.emitting = true;
+					while (this.demand > 0 && !EventPublisher.this.events.isEmpty()) {
+						this.demand--;
+						subscriber.onNext(EventPublisher.this.events.poll());
+					}
+					if (EventPublisher.this.events.isEmpty() && !this.done) {
+						this.done = true;
+						subscriber.onComplete();
+					}
+					this.emitting = false;
+				}
+
+				@Override
+				public void cancel() {
+					EventPublisher.this.events.clear();
+				}
+
+			});
+		}
+
+	}
+
+}